@@ -0,0 +1,75 @@
+package teammates.common.datatransfer;
+
+/**
+ * Represents how far the deletion of the data of a course has progressed.
+ *
+ * <p>The data of a course is deleted one {@link Stage} at a time, in the order of the stages,
+ * and each stage is deleted in batches. The progress is the stage being deleted together with the cursor
+ * at which the next batch of that stage starts.
+ *
+ * <p>Deleting a stage only removes entities which still exist, so restarting the deletion from
+ * {@link #start()} is always safe.
+ */
+public class CourseDeletionProgress {
+
+    /**
+     * The kinds of course data, in the order in which they are deleted.
+     *
+     * <p>The course itself is deleted last so that it stays around (in the Recycle Bin)
+     * until all its data is gone, which prevents another course from being created with the same ID
+     * while the deletion is still in progress.
+     */
+    public enum Stage {
+        RESPONSE_COMMENTS,
+        RESPONSES,
+        QUESTIONS,
+        SESSIONS,
+        STUDENTS,
+        INSTRUCTORS,
+        COURSE
+    }
+
+    private final Stage stage;
+    private final String cursor;
+
+    public CourseDeletionProgress(Stage stage, String cursor) {
+        this.stage = stage;
+        this.cursor = cursor;
+    }
+
+    /**
+     * Returns the progress at the very beginning of the deletion.
+     */
+    public static CourseDeletionProgress start() {
+        return new CourseDeletionProgress(Stage.values()[0], null);
+    }
+
+    public Stage getStage() {
+        return stage;
+    }
+
+    /**
+     * Returns the cursor at which the next batch of the current stage starts, or null to start from the beginning.
+     */
+    public String getCursor() {
+        return cursor;
+    }
+
+    /**
+     * Returns the progress for continuing the current stage from {@code nextCursor},
+     * or the progress at the beginning of the next stage if {@code nextCursor} is null.
+     *
+     * @return null if the current stage is the last one and it has been completed
+     */
+    public CourseDeletionProgress advance(String nextCursor) {
+        if (nextCursor != null) {
+            return new CourseDeletionProgress(stage, nextCursor);
+        }
+        Stage[] stages = Stage.values();
+        if (stage.ordinal() == stages.length - 1) {
+            return null;
+        }
+        return new CourseDeletionProgress(stages[stage.ordinal() + 1], null);
+    }
+
+}
@@ -0,0 +1,109 @@
+package teammates.common.datatransfer;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
+
+/**
+ * Represents the section and team structure of a course, computed in a single pass over its students.
+ * <br> Contains:
+ * <br> * The sections of the course with their teams and students (as {@link SectionDetailsBundle} objects).
+ * <br> * The teams of the course with their students (as {@link TeamDetailsBundle} objects).
+ * <br> * The names of the sections other than the default section.
+ * <br> * The {@link CourseStats statistics} of the course.
+ *
+ * <p>Sections are ordered by name, teams by name and students by name within their team,
+ * i.e. the same order as {@link StudentAttributes#sortBySectionName(List)}.
+ */
+public class CourseStructure {
+
+    private final List<SectionDetailsBundle> sections = new ArrayList<>();
+    private final List<TeamDetailsBundle> teams = new ArrayList<>();
+    private final List<String> sectionNames = new ArrayList<>();
+    private final CourseStats stats = new CourseStats();
+
+    public CourseStructure(List<StudentAttributes> students) {
+        List<StudentAttributes> sortedStudents = new ArrayList<>(students);
+        StudentAttributes.sortBySectionName(sortedStudents);
+
+        Map<String, TeamDetailsBundle> teamsByName = new LinkedHashMap<>();
+        SectionDetailsBundle currentSection = null;
+        TeamDetailsBundle currentTeam = null;
+
+        for (StudentAttributes student : sortedStudents) {
+            stats.studentsTotal++;
+            if (!student.isRegistered()) {
+                stats.unregisteredTotal++;
+            }
+
+            if (currentSection == null || !student.section.equals(currentSection.name)) {
+                currentSection = new SectionDetailsBundle();
+                currentSection.name = student.section;
+                sections.add(currentSection);
+                if (!student.section.equals(Const.DEFAULT_SECTION)) {
+                    stats.sectionsTotal++;
+                    sectionNames.add(student.section);
+                }
+                currentTeam = null;
+            }
+
+            if (currentTeam == null || !student.team.equals(currentTeam.name)) {
+                currentTeam = new TeamDetailsBundle();
+                currentTeam.name = student.team;
+                currentSection.teams.add(currentTeam);
+                stats.teamsTotal++;
+            }
+            currentTeam.students.add(student);
+
+            teamsByName.computeIfAbsent(student.team, teamName -> {
+                TeamDetailsBundle team = new TeamDetailsBundle();
+                team.name = teamName;
+                return team;
+            }).students.add(student);
+        }
+
+        teams.addAll(teamsByName.values());
+        teams.sort((team1, team2) -> team1.name.compareTo(team2.name));
+        for (TeamDetailsBundle team : teams) {
+            // a team normally belongs to one section only, in which case its students are already sorted by name
+            StudentAttributes.sortByTeamName(team.students);
+        }
+    }
+
+    /**
+     * Returns the sections of the course, including the default section if it has students.
+     */
+    public List<SectionDetailsBundle> getSections() {
+        return sections;
+    }
+
+    /**
+     * Returns the teams of the course, regardless of sections.
+     */
+    public List<TeamDetailsBundle> getTeams() {
+        return teams;
+    }
+
+    /**
+     * Returns the sorted names of the sections of the course, excluding the default section.
+     */
+    public List<String> getSectionNames() {
+        return sectionNames;
+    }
+
+    /**
+     * Returns true if any student of the course is in a section other than the default section.
+     */
+    public boolean hasIndicatedSections() {
+        return !sectionNames.isEmpty();
+    }
+
+    public CourseStats getStats() {
+        return stats;
+    }
+
+}
@@ -0,0 +1,42 @@
+package teammates.common.datatransfer;
+
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+
+/**
+ * Which students and instructors of a course have completed a feedback session, computed for all of them at once
+ * so that each of them can be looked up without further reads.
+ */
+public class FeedbackSessionCompletionIndex {
+
+    private final FeedbackSessionAttributes session;
+    private final boolean hasQuestionsForStudents;
+    private final boolean hasQuestionsForInstructors;
+    private final boolean hasQuestionsForCreator;
+
+    public FeedbackSessionCompletionIndex(FeedbackSessionAttributes session, boolean hasQuestionsForStudents,
+                                          boolean hasQuestionsForInstructors, boolean hasQuestionsForCreator) {
+        this.session = session;
+        this.hasQuestionsForStudents = hasQuestionsForStudents;
+        this.hasQuestionsForInstructors = hasQuestionsForInstructors;
+        this.hasQuestionsForCreator = hasQuestionsForCreator;
+    }
+
+    /**
+     * Returns true if the student has responded to the session, or there is no question for students to answer.
+     */
+    public boolean isCompletedByStudent(String studentEmail) {
+        return session.getRespondingStudentList().contains(studentEmail) || !hasQuestionsForStudents;
+    }
+
+    /**
+     * Returns true if the instructor has responded to the session, or there is no question for the instructor
+     * to answer.
+     */
+    public boolean isCompletedByInstructor(String instructorEmail) {
+        if (session.getRespondingInstructorList().contains(instructorEmail)) {
+            return true;
+        }
+        return session.isCreator(instructorEmail) ? !hasQuestionsForCreator : !hasQuestionsForInstructors;
+    }
+
+}
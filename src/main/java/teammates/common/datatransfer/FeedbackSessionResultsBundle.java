@@ -60,6 +60,12 @@ public class FeedbackSessionResultsBundle {
     public Map<String, Map<String, StudentResultSummary>> contributionQuestionStudentResultSummary = new HashMap<>();
     // Key is questionId, value is a map of team name to TeamEvalResult
     public Map<String, Map<String, TeamEvalResult>> contributionQuestionTeamEvalResults = new HashMap<>();
+    // Positions of the members of each team in the roster, built on first use
+    private TeamMembershipIndex teamMembershipIndex;
+    // Anonymised name of each participant hidden from the current user, by participant type and name
+    private final Map<FeedbackParticipantType, Map<String, String>> anonNameTable = new HashMap<>();
+    // Anonymised names without the hash which tells the participants of the same type apart
+    private final Map<String, String> anonNameWithoutHashTable = new HashMap<>();
 
     /*
      * sectionTeamNameTable takes into account the section viewing privileges of the logged-in instructor
@@ -338,8 +344,8 @@ public class FeedbackSessionResultsBundle {
             }
 
             if (!isRecipientVisible(response)) {
-                String anonEmail = getAnonEmail(participantType, name);
-                name = getAnonName(participantType, name);
+                name = getAnonymisedName(participantType, name);
+                String anonEmail = getAnonEmailFromAnonName(name);
 
                 emailNameTable.put(anonEmail, name);
                 emailTeamNameTable.put(anonEmail, name + Const.TEAM_OF_EMAIL_OWNER);
@@ -352,8 +358,8 @@ public class FeedbackSessionResultsBundle {
             participantType = question.giverType;
 
             if (!isGiverVisible(response)) {
-                String anonEmail = getAnonEmail(participantType, name);
-                name = getAnonName(participantType, name);
+                name = getAnonymisedName(participantType, name);
+                String anonEmail = getAnonEmailFromAnonName(name);
 
                 emailNameTable.put(anonEmail, name);
                 emailTeamNameTable.put(anonEmail, name + Const.TEAM_OF_EMAIL_OWNER);
@@ -403,13 +409,37 @@ public class FeedbackSessionResultsBundle {
     }
 
     public static String getAnonEmail(FeedbackParticipantType type, String name) {
-        String anonName = getAnonName(type, name);
+        return getAnonEmailFromAnonName(getAnonName(type, name));
+    }
+
+    private static String getAnonEmailFromAnonName(String anonName) {
         return anonName + "@@" + anonName + ".com";
     }
 
     public String getAnonEmailFromStudentEmail(String studentEmail) {
         String name = roster.getStudentForEmail(studentEmail).name;
-        return getAnonEmail(FeedbackParticipantType.STUDENTS, name);
+        return getAnonEmailFromAnonName(getAnonymisedName(FeedbackParticipantType.STUDENTS, name));
+    }
+
+    /**
+     * Returns the anonymised name of a participant, the same as {@link #getAnonName(FeedbackParticipantType, String)}.
+     * The name is encrypted only once for each participant of the bundle.
+     */
+    public String getAnonymisedName(FeedbackParticipantType type, String name) {
+        return anonNameTable.computeIfAbsent(type, key -> new HashMap<>()).computeIfAbsent(name, key -> {
+            String anonName = getAnonName(type, name);
+            anonNameWithoutHashTable.put(anonName,
+                    Const.DISPLAYED_NAME_FOR_ANONYMOUS_PARTICIPANT + " " + type.toSingularFormString());
+            return anonName;
+        });
+    }
+
+    /**
+     * Returns the name without the hash if it is an anonymised name of the bundle,
+     * e.g. "Anonymous student" for "Anonymous student 1234", or the name itself otherwise.
+     */
+    public String getNameWithoutAnonymousHash(String name) {
+        return anonNameWithoutHashTable.getOrDefault(name, name);
     }
 
     public static String getAnonName(FeedbackParticipantType type, String name) {
@@ -1533,6 +1563,16 @@ public class FeedbackSessionResultsBundle {
         return false;
     }
 
+    /**
+     * Returns the index of the members of each team in the roster, which is built on the first call.
+     */
+    public TeamMembershipIndex getTeamMembershipIndex() {
+        if (teamMembershipIndex == null) {
+            teamMembershipIndex = new TeamMembershipIndex(rosterTeamNameMembersTable);
+        }
+        return teamMembershipIndex;
+    }
+
     private Map<String, Set<String>> getTeamNameToEmailsTableFromRoster(CourseRoster courseroster) {
         List<StudentAttributes> students = courseroster.getStudents();
         Map<String, Set<String>> teamNameToEmails = new HashMap<>();
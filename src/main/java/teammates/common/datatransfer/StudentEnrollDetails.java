@@ -8,6 +8,8 @@ public class StudentEnrollDetails {
     public String newTeam;
     public String oldSection;
     public String newSection;
+    /** The reason why the student could not be enrolled, if the update status is {@link StudentUpdateStatus#ERROR}. */
+    public String errorMessage;
 
     public StudentEnrollDetails() {
         updateStatus = StudentUpdateStatus.UNKNOWN;
@@ -17,6 +19,7 @@ public class StudentEnrollDetails {
         newTeam = null;
         oldSection = null;
         newSection = null;
+        errorMessage = null;
     }
 
     public StudentEnrollDetails(StudentUpdateStatus updateStatus, String course,
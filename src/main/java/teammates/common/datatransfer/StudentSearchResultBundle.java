@@ -16,4 +16,10 @@ public class StudentSearchResultBundle extends SearchResultBundle {
     public List<StudentAttributes> studentList = new ArrayList<>();
     public Map<String, InstructorAttributes> courseIdInstructorMap = new HashMap<>();
 
+    /**
+     * The keys of the search documents which no longer match any student.
+     * They should be removed from the index, which need not be done before the results are shown.
+     */
+    public List<String> staleDocumentKeys = new ArrayList<>();
+
 }
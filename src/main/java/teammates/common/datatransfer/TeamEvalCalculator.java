@@ -0,0 +1,228 @@
+package teammates.common.datatransfer;
+
+import static teammates.common.datatransfer.TeamEvalResult.NA;
+import static teammates.common.datatransfer.TeamEvalResult.NSB;
+import static teammates.common.datatransfer.TeamEvalResult.NSU;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import teammates.common.util.Logger;
+
+/**
+ * Calculates the {@link TeamEvalResult} of teams for a feedback contribution question.
+ *
+ * <p>The intermediate values of the calculation are kept in working arrays which are reused
+ * for all the teams calculated by the same calculator, so that only the results themselves are allocated.
+ * The calculation gives the same results as the step-by-step methods of {@link TeamEvalResult}.
+ *
+ * <p>A calculator is not thread-safe.
+ */
+public final class TeamEvalCalculator {
+
+    private static final Logger log = Logger.getLogger();
+
+    /** peer contribution ratios of the team, in the format [giverIndex][recipientIndex]. */
+    private double[][] peerContributionRatio = new double[0][0];
+    /** normalized average perception of each member of the team. */
+    private double[] normalizedAveragePerceived = new double[0];
+
+    /**
+     * Calculates the results of all the given teams.
+     *
+     * @param submissionValuesByTeam submission values of each team, in the format [giverIndex][recipientIndex]
+     * @return the results of each team, in the same order as the given teams
+     */
+    public Map<String, TeamEvalResult> calculateAll(Map<String, int[][]> submissionValuesByTeam) {
+        Map<String, TeamEvalResult> results = new LinkedHashMap<>();
+        submissionValuesByTeam.forEach((team, submissionValues) -> results.put(team, calculate(submissionValues)));
+        return results;
+    }
+
+    /**
+     * Calculates the result of a team.
+     *
+     * @param submissionValues submission values of the team, in the format [giverIndex][recipientIndex]
+     */
+    public TeamEvalResult calculate(int[][] submissionValues) {
+        TeamEvalResult result = new TeamEvalResult();
+        calculate(submissionValues, result);
+        return result;
+    }
+
+    /**
+     * Calculates the result of a team into the public fields of {@code result}.
+     */
+    void calculate(int[][] submissionValues, TeamEvalResult result) {
+        if (log.isFineEnabled()) {
+            log.fine("==================\n" + "starting result calculation for\n"
+                    + TeamEvalResult.pointsToString(submissionValues));
+        }
+
+        int teamSize = submissionValues.length;
+        ensureCapacity(teamSize);
+
+        result.claimed = submissionValues;
+        result.normalizedClaimed = new int[teamSize][];
+        for (int i = 0; i < teamSize; i++) {
+            double[] row = peerContributionRatio[i];
+            for (int j = 0; j < teamSize; j++) {
+                row[j] = submissionValues[i][j];
+            }
+            normalize(row, teamSize);
+            result.normalizedClaimed[i] = round(row, teamSize);
+
+            // the same, with missing points replaced by NA and then without the self rating
+            for (int j = 0; j < teamSize; j++) {
+                row[j] = submissionValues[i][j] == NSB ? NA : submissionValues[i][j];
+            }
+            normalize(row, teamSize);
+            row[i] = NA;
+            normalize(row, teamSize);
+        }
+
+        for (int j = 0; j < teamSize; j++) {
+            normalizedAveragePerceived[j] = averageColumn(j, teamSize);
+        }
+        // the factor normalizing the average perception also adjusts the ratios to tally with it
+        double factor = calculateFactor(normalizedAveragePerceived, teamSize);
+        multiplyByFactor(factor, normalizedAveragePerceived, teamSize);
+
+        result.normalizedPeerContributionRatio = new int[teamSize][];
+        for (int i = 0; i < teamSize; i++) {
+            multiplyByFactor(factor, peerContributionRatio[i], teamSize);
+            result.normalizedPeerContributionRatio[i] = round(peerContributionRatio[i], teamSize);
+        }
+
+        result.denormalizedAveragePerceived = new int[teamSize][];
+        for (int i = 0; i < teamSize; i++) {
+            result.denormalizedAveragePerceived[i] = calculatePerceivedForStudent(submissionValues[i], teamSize);
+        }
+
+        result.normalizedAveragePerceived = round(normalizedAveragePerceived, teamSize);
+
+        if (log.isFineEnabled()) {
+            log.fine("Final result:\n" + result.toString());
+            log.fine("==================");
+        }
+    }
+
+    private void ensureCapacity(int teamSize) {
+        if (normalizedAveragePerceived.length < teamSize) {
+            peerContributionRatio = new double[teamSize][teamSize];
+            normalizedAveragePerceived = new double[teamSize];
+        }
+    }
+
+    /**
+     * Returns the average of the given column of the peer contribution ratios, or NA if it has no value.
+     */
+    private double averageColumn(int columnIndex, int teamSize) {
+        double sum = 0;
+        int count = 0;
+        for (int i = 0; i < teamSize; i++) {
+            double value = peerContributionRatio[i][columnIndex];
+            if (isValidSpecialValue(value)) {
+                continue;
+            }
+            sum += value;
+            count++;
+        }
+        return count == 0 ? NA : sum / count;
+    }
+
+    /**
+     * Returns the perception of the team denormalized to match the claims of the student.
+     *
+     * @see TeamEvalResult#calculatePerceivedForStudent(int[], double[])
+     */
+    private int[] calculatePerceivedForStudent(int[] claimedRow, int teamSize) {
+        // sum each of the claims and the perception, without values matching special values in the other
+        double sumOfPerceived = NA;
+        double sumOfClaimed = NA;
+        for (int j = 0; j < teamSize; j++) {
+            int claimed = claimedRow[j] == NSB ? NA : claimedRow[j];
+            double perceived = isSpecialValue(claimed) ? filteredValue(claimed) : normalizedAveragePerceived[j];
+            sumOfPerceived = addToSum(sumOfPerceived, perceived);
+
+            int perceivedAsInt = (int) normalizedAveragePerceived[j];
+            double claimedValue = isSpecialValue(perceivedAsInt) ? filteredValue(perceivedAsInt) : claimed;
+            sumOfClaimed = addToSum(sumOfClaimed, claimedValue);
+        }
+        // sums of claims are whole numbers
+        double sumOfActual = (int) sumOfClaimed;
+
+        // if the student did not submit
+        if (sumOfActual == NA) {
+            sumOfActual = sumOfPerceived;
+        }
+
+        double factor = sumOfActual / sumOfPerceived;
+
+        int[] perceivedForStudent = new int[teamSize];
+        for (int j = 0; j < teamSize; j++) {
+            perceivedForStudent[j] = (int) Math.round(multiplyByFactor(factor, normalizedAveragePerceived[j]));
+        }
+        return perceivedForStudent;
+    }
+
+    private static double filteredValue(int specialValue) {
+        return specialValue == NSU ? NSU : NA;
+    }
+
+    private static double addToSum(double sum, double value) {
+        if (isValidSpecialValue(value)) {
+            return sum;
+        }
+        return sum == NA ? value : sum + value;
+    }
+
+    private static void normalize(double[] values, int length) {
+        multiplyByFactor(calculateFactor(values, length), values, length);
+    }
+
+    private static double calculateFactor(double[] values, int length) {
+        double actualSum = 0;
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            if (isSpecialValue((int) values[i])) {
+                continue;
+            }
+            actualSum += values[i];
+            count++;
+        }
+
+        double idealSum = count * 100.0;
+        return actualSum == 0 ? 0 : idealSum / actualSum;
+    }
+
+    private static void multiplyByFactor(double factor, double[] values, int length) {
+        for (int i = 0; i < length; i++) {
+            values[i] = multiplyByFactor(factor, values[i]);
+        }
+    }
+
+    private static double multiplyByFactor(double factor, double value) {
+        if (isSpecialValue((int) value)) {
+            return value;
+        }
+        return factor == 0 ? value : value * factor;
+    }
+
+    private static int[] round(double[] values, int length) {
+        int[] rounded = new int[length];
+        for (int i = 0; i < length; i++) {
+            rounded[i] = (int) Math.round(values[i]);
+        }
+        return rounded;
+    }
+
+    private static boolean isSpecialValue(int value) {
+        return value == NA || value == NSU || value == NSB;
+    }
+
+    private static boolean isValidSpecialValue(double value) {
+        return value == NA || value == NSU;
+    }
+
+}
@@ -43,102 +43,14 @@ public class TeamEvalResult {
         /*This is the only method that should be public. However, many of the
          * other methods are set as public for the ease of testing.
          */
-
-        log.fine("==================\n" + "starting result calculation for\n"
-                + pointsToString(submissionValues));
-
-        claimed = submissionValues;
-
-        normalizedClaimed = normalizeValues(claimed);
-
-        int[][] claimedSanitized = sanitizeInput(submissionValues);
-        log.fine("claimed values sanitized :\n"
-                + pointsToString(claimedSanitized));
-
-        double[][] claimedSanitizedNormalized = normalizeValues(intToDouble(claimedSanitized));
-        log.fine("claimed values sanitized and normalized :\n"
-                + pointsToString(claimedSanitizedNormalized));
-
-        double[][] peerContributionRatioAsDouble = calculatePeerContributionRatio(claimedSanitizedNormalized);
-        log.fine("peerContributionRatio as double :\n"
-                + pointsToString(peerContributionRatioAsDouble));
-
-        double[] averagePerceivedAsDouble = averageColumns(peerContributionRatioAsDouble);
-        log.fine("averagePerceived as double:\n"
-                + replaceMagicNumbers(Arrays.toString(averagePerceivedAsDouble)));
-
-        double[] normalizedAveragePerceivedAsDouble = normalizeValues(averagePerceivedAsDouble);
-        log.fine("normalizedAveragePerceivedAsDouble as double:\n"
-                + replaceMagicNumbers(Arrays
-                        .toString(normalizedAveragePerceivedAsDouble)));
-
-        double[][] normalizedPeerContributionRatioAsDouble =
-                adjustPeerContributionRatioToTallyNormalizedAveragePerceived(peerContributionRatioAsDouble);
-        log.fine("normalizedPeerContributionRatio as double :\n"
-                + pointsToString(peerContributionRatioAsDouble));
-
-        normalizedPeerContributionRatio = doubleToInt(normalizedPeerContributionRatioAsDouble);
-        log.fine("normalizedUnbiasedClaimed as int :\n"
-                + pointsToString(normalizedPeerContributionRatio));
-
-        denormalizedAveragePerceived = calculatePerceivedForStudents(
-                claimedSanitized, normalizedAveragePerceivedAsDouble);
-        log.fine("perceived to students :\n"
-                + pointsToString(denormalizedAveragePerceived));
-
-        normalizedAveragePerceived = doubleToInt(normalizedAveragePerceivedAsDouble);
-
-        log.fine("Final result:\n" + this.toString());
-
-        log.fine("==================");
+        new TeamEvalCalculator().calculate(submissionValues, this);
     }
 
     /**
-     * Replaces all missing points ('not sure' with NSU and 'did not submit' with NA).
+     * Creates an empty result, to be filled in by a {@link TeamEvalCalculator}.
      */
-    private int[][] sanitizeInput(int[][] input) {
-        int teamSize = input.length;
-        int[][] output = new int[teamSize][teamSize];
-        for (int i = 0; i < teamSize; i++) {
-            for (int j = 0; j < teamSize; j++) {
-                int points = input[i][j];
-                boolean pointsNotGiven = points == Const.POINTS_NOT_SUBMITTED;
-                output[i][j] = pointsNotGiven ? NA : points;
-            }
-        }
-        return output;
-    }
-
-    private static double[][] calculatePeerContributionRatio(double[][] input) {
-
-        int teamSize = input.length;
-
-        double[][] selfRatingsRemoved = removeSelfRatings(input);
-
-        double[][] selfRatingRemovedAndNormalized = new double[teamSize][teamSize];
-        for (int i = 0; i < teamSize; i++) {
-            selfRatingRemovedAndNormalized[i] = normalizeValues(selfRatingsRemoved[i]);
-        }
-
-        return selfRatingRemovedAndNormalized;
-    }
-
-    private static double[][] adjustPeerContributionRatioToTallyNormalizedAveragePerceived(
-            double[][] peerContributionRatio) {
-        double[] columnsAveraged = averageColumns(peerContributionRatio);
-        double factor = calculateFactor(columnsAveraged);
-        return multiplyByFactor(factor, peerContributionRatio);
-    }
-
-    private int[][] calculatePerceivedForStudents(int[][] claimedSanitized,
-            double[] normalizedAveragePerceivedAsDouble) {
-        int teamSize = claimedSanitized.length;
-        int[][] output = new int[teamSize][teamSize];
-        for (int k = 0; k < teamSize; k++) {
-            output[k] = calculatePerceivedForStudent(claimedSanitized[k],
-                    normalizedAveragePerceivedAsDouble);
-        }
-        return output;
+    TeamEvalResult() {
+        // fields are set by the calculator
     }
 
     public static int[] calculatePerceivedForStudent(int[] claimedSanitizedRow,
@@ -189,15 +101,6 @@ public class TeamEvalResult {
         return value == NA || value == NSU;
     }
 
-    private static double[][] multiplyByFactor(double factor, double[][] input) {
-        int teamSize = input.length;
-        double[][] output = new double[teamSize][teamSize];
-        for (int i = 0; i < teamSize; i++) {
-            output[i] = multiplyByFactor(factor, input[i]);
-        }
-        return output;
-    }
-
     private static double[] multiplyByFactor(double factor, double[] input) {
         int teamSize = input.length;
         double[] output = new double[teamSize];
@@ -231,8 +134,9 @@ public class TeamEvalResult {
             return 0;
         }
 
-        verify("Unsanitized value in " + Arrays.toString(input),
-                isSanitized(doubleToInt(input)));
+        if (!isSanitized(doubleToInt(input))) {
+            verify("Unsanitized value in " + Arrays.toString(input), false);
+        }
 
         double sum = NA;
         for (double value : input) {
@@ -295,7 +199,9 @@ public class TeamEvalResult {
 
         double idealSum = count * 100.0;
         double factor = actualSum == 0 ? 0 : idealSum / actualSum;
-        log.fine("Factor = " + idealSum + "/" + actualSum + " = " + factor);
+        if (log.isFineEnabled()) {
+            log.fine("Factor = " + idealSum + "/" + actualSum + " = " + factor);
+        }
         return factor;
     }
 
@@ -320,23 +226,23 @@ public class TeamEvalResult {
         double[] output = new double[input.length];
 
         for (int i = 0; i < input.length; i++) {
-            verify("Unsanitized value in " + Arrays.toString(input[i]),
-                    isSanitized(doubleToInt(input[i])));
+            if (!isSanitized(doubleToInt(input[i]))) {
+                verify("Unsanitized value in " + Arrays.toString(input[i]), false);
+            }
             output[i] = averageColumn(input, i);
         }
-        log.fine("Column averages: "
-                + replaceMagicNumbers(Arrays.toString(output)));
+        if (log.isFineEnabled()) {
+            log.fine("Column averages: "
+                    + replaceMagicNumbers(Arrays.toString(output)));
+        }
         return output;
     }
 
     private static double averageColumn(double[][] arrayOfArrays, int columnIndex) {
         double sum = 0;
         int count = 0;
-        StringBuilder values = new StringBuilder();
         for (double[] array : arrayOfArrays) {
             double value = array[columnIndex];
-
-            values.append(value).append(' ');
             if (isValidSpecialValue(value)) {
                 continue;
             }
@@ -346,8 +252,14 @@ public class TeamEvalResult {
         // omit calculation if no data points
         double average = count == 0 ? NA : (double) (sum / count);
 
-        String logMessage = "Average(" + values.toString().trim() + ") = " + average;
-        log.fine(replaceMagicNumbers(logMessage));
+        if (log.isFineEnabled()) {
+            StringBuilder values = new StringBuilder();
+            for (double[] array : arrayOfArrays) {
+                values.append(array[columnIndex]).append(' ');
+            }
+            String logMessage = "Average(" + values.toString().trim() + ") = " + average;
+            log.fine(replaceMagicNumbers(logMessage));
+        }
 
         return average;
     }
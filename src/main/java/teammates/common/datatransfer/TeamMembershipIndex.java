@@ -0,0 +1,59 @@
+package teammates.common.datatransfer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The members of each team, sorted by email, and the position of each member within the team.
+ *
+ * <p>The positions are the indexes of the members in the submission matrices of contribution questions,
+ * so that a response can be placed in the matrix of its team without searching the list of members.
+ */
+public class TeamMembershipIndex {
+
+    private final Map<String, List<String>> membersByTeam = new HashMap<>();
+    private final Map<String, Map<String, Integer>> positionsByTeam = new HashMap<>();
+
+    /**
+     * Builds the index of the teams in {@code teamNameMembersTable}, which maps each team name
+     * to the emails of the members of the team.
+     */
+    public TeamMembershipIndex(Map<String, Set<String>> teamNameMembersTable) {
+        teamNameMembersTable.forEach((team, members) -> {
+            List<String> sortedMembers = new ArrayList<>(members);
+            sortedMembers.sort(null);
+
+            Map<String, Integer> positions = new HashMap<>();
+            for (int i = 0; i < sortedMembers.size(); i++) {
+                positions.put(sortedMembers.get(i), i);
+            }
+
+            membersByTeam.put(team, Collections.unmodifiableList(sortedMembers));
+            positionsByTeam.put(team, positions);
+        });
+    }
+
+    /**
+     * Returns the emails of the members of the team sorted, or null if there is no such team.
+     */
+    public List<String> getMembers(String team) {
+        return membersByTeam.get(team);
+    }
+
+    /**
+     * Returns the position of the member among the sorted members of the team,
+     * or -1 if {@code email} is not the email of a member of the team.
+     */
+    public int getPosition(String team, String email) {
+        Map<String, Integer> positions = positionsByTeam.get(team);
+        if (positions == null) {
+            return -1;
+        }
+        return positions.getOrDefault(email, -1);
+    }
+
+}
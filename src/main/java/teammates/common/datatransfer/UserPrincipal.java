@@ -0,0 +1,41 @@
+package teammates.common.datatransfer;
+
+import java.io.Serializable;
+
+/**
+ * Represents the roles of a user, i.e. whether the user has an instructor account,
+ * and whether the user is a student of any course.
+ */
+public class UserPrincipal implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String googleId;
+    private final boolean isInstructor;
+    private final boolean isStudent;
+
+    public UserPrincipal(String googleId, boolean isInstructor, boolean isStudent) {
+        this.googleId = googleId;
+        this.isInstructor = isInstructor;
+        this.isStudent = isStudent;
+    }
+
+    public String getGoogleId() {
+        return googleId;
+    }
+
+    /**
+     * Returns true if the account of the user has instructor privileges.
+     */
+    public boolean isInstructor() {
+        return isInstructor;
+    }
+
+    /**
+     * Returns true if the user is a student of at least one course.
+     */
+    public boolean isStudent() {
+        return isStudent;
+    }
+
+}
@@ -0,0 +1,193 @@
+package teammates.common.datatransfer.attributes;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import teammates.common.datatransfer.StudentUpdateStatus;
+import teammates.common.util.Assumption;
+import teammates.common.util.FieldValidator;
+import teammates.common.util.JsonUtils;
+import teammates.storage.entity.EnrollmentJob;
+
+/**
+ * The data transfer object for {@link EnrollmentJob} entities.
+ *
+ * <p>The students of the job are enrolled in batches, in the order of the enrollment lines.
+ * The results of the students enrolled so far are kept in {@link #getUpdateStatuses()} and {@link #getErrorMessages()}.
+ */
+public class EnrollmentJobAttributes extends EntityAttributes<EnrollmentJob> {
+
+    private static final String ENROLLMENT_JOB_BACKUP_LOG_MSG = "Recently modified enrollment job::";
+    private static final String ATTRIBUTE_NAME = "Enrollment Job";
+
+    private String id;
+    private String courseId;
+    private String enrollLines;
+    private int numberOfStudents;
+    private List<StudentUpdateStatus> updateStatuses;
+    private List<String> errorMessages;
+    private Instant createdAt;
+
+    private EnrollmentJobAttributes(String courseId, String enrollLines, int numberOfStudents) {
+        this.courseId = courseId;
+        this.enrollLines = enrollLines;
+        this.numberOfStudents = numberOfStudents;
+        this.updateStatuses = new ArrayList<>();
+        this.errorMessages = new ArrayList<>();
+        this.createdAt = Instant.now();
+    }
+
+    /**
+     * Returns new builder instance with default values for optional fields.
+     *
+     * <p>Following default values are set to corresponding attributes:
+     * <ul>
+     * <li>{@code updateStatuses = []}</li>
+     * <li>{@code errorMessages = []}</li>
+     * <li>{@code createdAt = current date}</li>
+     * </ul>
+     *
+     * @param courseId the course to enroll the students to
+     * @param enrollLines the enrollment lines entered by the instructor, including the header line
+     * @param numberOfStudents the number of students in the enrollment lines
+     */
+    public static Builder builder(String courseId, String enrollLines, int numberOfStudents) {
+        return new Builder(courseId, enrollLines, numberOfStudents);
+    }
+
+    /**
+     * Gets the {@link EnrollmentJobAttributes} instance of the given {@link EnrollmentJob}.
+     */
+    public static EnrollmentJobAttributes valueOf(EnrollmentJob job) {
+        return builder(job.getCourseId(), job.getEnrollLines(), job.getNumberOfStudents())
+                .withId(String.valueOf(job.getEnrollmentJobId()))
+                .withUpdateStatuses(job.getUpdateStatuses())
+                .withErrorMessages(job.getErrorMessages())
+                .withCreatedAt(job.getCreatedAt())
+                .build();
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public String getEnrollLines() {
+        return enrollLines;
+    }
+
+    public int getNumberOfStudents() {
+        return numberOfStudents;
+    }
+
+    public int getNumberOfProcessedStudents() {
+        return updateStatuses.size();
+    }
+
+    public boolean isCompleted() {
+        return getNumberOfProcessedStudents() >= numberOfStudents;
+    }
+
+    public List<StudentUpdateStatus> getUpdateStatuses() {
+        return updateStatuses;
+    }
+
+    public List<String> getErrorMessages() {
+        return errorMessages;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    @Override
+    public List<String> getInvalidityInfo() {
+        List<String> errors = new ArrayList<>();
+
+        addNonEmptyError(FieldValidator.getInvalidityInfoForCourseId(courseId), errors);
+
+        return errors;
+    }
+
+    @Override
+    public EnrollmentJob toEntity() {
+        return new EnrollmentJob(courseId, enrollLines, numberOfStudents, updateStatuses, errorMessages, createdAt);
+    }
+
+    @Override
+    public String toString() {
+        return "[" + EnrollmentJobAttributes.class.getSimpleName() + "] id: " + id + " courseId: " + courseId
+                + " processed: " + getNumberOfProcessedStudents() + "/" + numberOfStudents;
+    }
+
+    @Override
+    public String getIdentificationString() {
+        return id + "/" + courseId;
+    }
+
+    @Override
+    public String getEntityTypeAsString() {
+        return ATTRIBUTE_NAME;
+    }
+
+    @Override
+    public String getBackupIdentifier() {
+        return ENROLLMENT_JOB_BACKUP_LOG_MSG + getIdentificationString();
+    }
+
+    @Override
+    public String getJsonString() {
+        return JsonUtils.toJson(this, EnrollmentJobAttributes.class);
+    }
+
+    @Override
+    public void sanitizeForSaving() {
+        // no additional sanitization required
+    }
+
+    /**
+     * A builder for {@link EnrollmentJobAttributes}.
+     */
+    public static class Builder {
+        private static final String REQUIRED_FIELD_CANNOT_BE_NULL = "Non-null value expected";
+        private final EnrollmentJobAttributes jobAttributes;
+
+        private Builder(String courseId, String enrollLines, int numberOfStudents) {
+            Assumption.assertNotNull(REQUIRED_FIELD_CANNOT_BE_NULL, courseId, enrollLines);
+            jobAttributes = new EnrollmentJobAttributes(courseId, enrollLines, numberOfStudents);
+        }
+
+        public Builder withId(String id) {
+            jobAttributes.id = id;
+            return this;
+        }
+
+        public Builder withUpdateStatuses(List<StudentUpdateStatus> updateStatuses) {
+            Assumption.assertNotNull(REQUIRED_FIELD_CANNOT_BE_NULL, updateStatuses);
+            jobAttributes.updateStatuses = new ArrayList<>(updateStatuses);
+            return this;
+        }
+
+        public Builder withErrorMessages(List<String> errorMessages) {
+            Assumption.assertNotNull(REQUIRED_FIELD_CANNOT_BE_NULL, errorMessages);
+            jobAttributes.errorMessages = new ArrayList<>(errorMessages);
+            return this;
+        }
+
+        public Builder withCreatedAt(Instant createdAt) {
+            if (createdAt != null) {
+                jobAttributes.createdAt = createdAt;
+            }
+            return this;
+        }
+
+        public EnrollmentJobAttributes build() {
+            return jobAttributes;
+        }
+    }
+
+}
@@ -47,10 +47,9 @@ public class FeedbackQuestionAttributes extends EntityAttributes<FeedbackQuestio
     }
 
     public static FeedbackQuestionAttributes valueOf(FeedbackQuestion fq) {
-        return builder()
+        FeedbackQuestionAttributes fqa = builder()
                 .withFeedbackSessionName(fq.getFeedbackSessionName())
                 .withCourseId(fq.getCourseId())
-                .withQuestionDetails(deserializeFeedbackQuestionDetails(fq.getQuestionMetaData(), fq.getQuestionType()))
                 .withQuestionDescription(fq.getQuestionDescription())
                 .withQuestionNumber(fq.getQuestionNumber())
                 .withGiverType(fq.getGiverType())
@@ -63,7 +62,9 @@ public class FeedbackQuestionAttributes extends EntityAttributes<FeedbackQuestio
                 .withUpdatedAt(fq.getUpdatedAt())
                 .withFeedbackQuestionId(fq.getId())
                 .build();
-
+        // the details are freshly deserialized and not referenced elsewhere, so they need not be copied
+        fqa.questionDetails = deserializeFeedbackQuestionDetails(fq.getQuestionMetaData(), fq.getQuestionType());
+        return fqa;
     }
 
     public Instant getCreatedAt() {
@@ -93,10 +94,9 @@ public class FeedbackQuestionAttributes extends EntityAttributes<FeedbackQuestio
     }
 
     public FeedbackQuestionAttributes getCopy() {
-        return builder()
+        FeedbackQuestionAttributes copy = builder()
                 .withFeedbackSessionName(getFeedbackSessionName())
                 .withCourseId(getCourseId())
-                .withQuestionDetails(getQuestionDetails())
                 .withQuestionDescription(getQuestionDescription())
                 .withQuestionNumber(getQuestionNumber())
                 .withGiverType(getGiverType())
@@ -109,6 +109,9 @@ public class FeedbackQuestionAttributes extends EntityAttributes<FeedbackQuestio
                 .withUpdatedAt(getUpdatedAt())
                 .withFeedbackQuestionId(getId())
                 .build();
+        // the details are never modified in place, so the copy can share them
+        copy.questionDetails = questionDetails;
+        return copy;
     }
 
     @Override
@@ -427,7 +430,7 @@ public class FeedbackQuestionAttributes extends EntityAttributes<FeedbackQuestio
         newAttributes.courseId = this.courseId;
 
         if (newAttributes.questionDetails == null) {
-            newAttributes.questionDetails = getQuestionDetails();
+            newAttributes.questionDetails = questionDetails;
         }
 
         if (newAttributes.questionDescription == null) {
@@ -508,12 +511,21 @@ public class FeedbackQuestionAttributes extends EntityAttributes<FeedbackQuestio
         this.questionDescription = SanitizationHelper.sanitizeForRichText(this.questionDescription);
     }
 
+    /**
+     * Replaces the question details with a copy of {@code newQuestionDetails}.
+     */
     public void setQuestionDetails(FeedbackQuestionDetails newQuestionDetails) {
         this.questionDetails = newQuestionDetails.getDeepCopy();
     }
 
+    /**
+     * Returns the question details.
+     *
+     * <p>The returned details are shared, e.g. with copies of this object, and must not be modified;
+     * use {@link FeedbackQuestionDetails#getDeepCopy()} to obtain a modifiable copy.
+     */
     public FeedbackQuestionDetails getQuestionDetails() {
-        return questionDetails.getDeepCopy();
+        return questionDetails;
     }
 
     public String getSerializedQuestionDetails() {
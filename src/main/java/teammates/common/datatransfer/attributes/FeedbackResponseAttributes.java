@@ -37,6 +37,9 @@ public class FeedbackResponseAttributes extends EntityAttributes<FeedbackRespons
      * Don't use directly unless for storing/loading from data store <br>
      * To get the answer text use {@code getResponseDetails().getAnswerString()}
      *
+     * <p>The details may be shared with copies of this object and must not be modified in place;
+     * use {@link #setResponseDetails(FeedbackResponseDetails)} to change them.
+     *
      * <p>This is set to null to represent a missing response.
      */
     public FeedbackResponseDetails responseDetails;
@@ -89,7 +92,8 @@ public class FeedbackResponseAttributes extends EntityAttributes<FeedbackRespons
         this.recipientSection = copy.recipientSection;
         this.createdAt = copy.createdAt;
         this.updatedAt = copy.updatedAt;
-        this.responseDetails = copy.getResponseDetails();
+        // the details are never modified in place, so the copy can share them
+        this.responseDetails = copy.responseDetails;
     }
 
     public FeedbackQuestionType getFeedbackQuestionType() {
@@ -175,10 +179,19 @@ public class FeedbackResponseAttributes extends EntityAttributes<FeedbackRespons
         return responseDetails.getJsonString();
     }
 
+    /**
+     * Returns the response details.
+     *
+     * <p>The returned details are shared, e.g. with copies of this object, and must not be modified;
+     * use {@link FeedbackResponseDetails#getDeepCopy()} to obtain a modifiable copy.
+     */
     public FeedbackResponseDetails getResponseDetails() {
-        return responseDetails.getDeepCopy();
+        return responseDetails;
     }
 
+    /**
+     * Replaces the response details with a copy of {@code newFeedbackResponseDetails}.
+     */
     public void setResponseDetails(FeedbackResponseDetails newFeedbackResponseDetails) {
         responseDetails = newFeedbackResponseDetails.getDeepCopy();
     }
@@ -61,6 +61,7 @@ public class FeedbackSessionAttributes extends EntityAttributes<FeedbackSession>
     // Optional fields
     private String instructions;
     private Instant createdTime;
+    private transient Instant updatedAt;
     private Instant deletedTime;
     private Instant startTime;
     private Instant endTime;
@@ -95,6 +96,7 @@ public class FeedbackSessionAttributes extends EntityAttributes<FeedbackSession>
         return builder(fs.getFeedbackSessionName(), fs.getCourseId(), fs.getCreatorEmail())
                 .withInstructions(fs.getInstructions())
                 .withCreatedTime(fs.getCreatedTime())
+                .withUpdatedAt(fs.getUpdatedAt())
                 .withDeletedTime(fs.getDeletedTime())
                 .withStartTime(fs.getStartTime())
                 .withEndTime(fs.getEndTime())
@@ -490,6 +492,13 @@ public class FeedbackSessionAttributes extends EntityAttributes<FeedbackSession>
         this.createdTime = createdTime;
     }
 
+    /**
+     * Gets the time the session is last saved, which includes changes to its questions.
+     */
+    public Instant getUpdatedAt() {
+        return updatedAt == null ? Const.TIME_REPRESENTS_DEFAULT_TIMESTAMP : updatedAt;
+    }
+
     public Instant getDeletedTime() {
         return deletedTime;
     }
@@ -721,6 +730,13 @@ public class FeedbackSessionAttributes extends EntityAttributes<FeedbackSession>
             return this;
         }
 
+        public Builder withUpdatedAt(Instant updatedAt) {
+            if (updatedAt != null) {
+                feedbackSessionAttributes.updatedAt = updatedAt;
+            }
+            return this;
+        }
+
         public Builder withDeletedTime(Instant deletedTime) {
             if (deletedTime != null) {
                 feedbackSessionAttributes.setDeletedTime(deletedTime);
@@ -11,7 +11,9 @@ import java.util.Set;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
 import teammates.common.datatransfer.StudentResultSummary;
+import teammates.common.datatransfer.TeamEvalCalculator;
 import teammates.common.datatransfer.TeamEvalResult;
+import teammates.common.datatransfer.TeamMembershipIndex;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
@@ -178,25 +180,21 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
         //Each team's member(email) list
         Map<String, List<String>> teamMembersEmail = getTeamMembersEmail(bundle, teamNames);
 
-        //Each team's responses
-        Map<String, List<FeedbackResponseAttributes>> teamResponses = getTeamResponses(
-                actualResponses, bundle, teamNames);
-
         //Get each team's submission array. -> int[teamSize][teamSize]
         //Where int[0][1] refers points from student 0 to student 1
         //Where student 0 is the 0th student in the list in teamMembersEmail
         Map<String, int[][]> teamSubmissionArray = getTeamSubmissionArray(
-                teamNames, teamMembersEmail, teamResponses);
+                teamNames, teamMembersEmail, actualResponses, bundle);
 
         //Each team's contribution question results.
-        Map<String, TeamEvalResult> teamResults = getTeamResults(teamNames, teamSubmissionArray, teamMembersEmail);
+        Map<String, TeamEvalResult> teamResults = getTeamResults(teamSubmissionArray, teamMembersEmail);
 
         TeamEvalResult currentUserTeamResults = teamResults.get(currentUserTeam);
         if (currentUserTeamResults == null) {
             return "";
         }
 
-        int currentUserIndex = teamMembersEmail.get(currentUserTeam).indexOf(studentEmail);
+        int currentUserIndex = bundle.getTeamMembershipIndex().getPosition(currentUserTeam, studentEmail);
         int selfClaim = currentUserTeamResults.claimed[currentUserIndex][currentUserIndex];
         int teamClaim = currentUserTeamResults.denormalizedAveragePerceived[currentUserIndex][currentUserIndex];
 
@@ -237,18 +235,14 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
         //Each team's member(email) list
         Map<String, List<String>> teamMembersEmail = getTeamMembersEmail(bundle, teamNames);
 
-        //Each team's responses
-        Map<String, List<FeedbackResponseAttributes>> teamResponses = getTeamResponses(
-                actualResponses, bundle, teamNames);
-
         //Get each team's submission array. -> int[teamSize][teamSize]
         //Where int[0][1] refers points from student 0 to student 1
         //Where student 0 is the 0th student in the list in teamMembersEmail
         Map<String, int[][]> teamSubmissionArray = getTeamSubmissionArray(
-                teamNames, teamMembersEmail, teamResponses);
+                teamNames, teamMembersEmail, actualResponses, bundle);
 
         //Each team's eval results.
-        Map<String, TeamEvalResult> teamResults = getTeamResults(teamNames, teamSubmissionArray, teamMembersEmail);
+        Map<String, TeamEvalResult> teamResults = getTeamResults(teamSubmissionArray, teamMembersEmail);
 
         //Each person's results summary
         Map<String, StudentResultSummary> studentResults = getStudentResults(
@@ -273,15 +267,14 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
             String name = bundle.roster.getStudentForEmail(email).name;
             String team = bundle.roster.getStudentForEmail(email).team;
 
-            List<String> teamEmails = teamMembersEmail.get(team);
             TeamEvalResult teamResult = teamResults.get(team);
-            int studentIndx = teamEmails.indexOf(email);
+            int studentIndx = bundle.getTeamMembershipIndex().getPosition(team, email);
 
             String displayName = name;
             String displayTeam = team;
 
             if (hideRecipient) {
-                displayName = FeedbackSessionResultsBundle.getAnonName(type, name);
+                displayName = bundle.getAnonymisedName(type, name);
                 displayTeam = displayName + Const.TEAM_OF_EMAIL_OWNER;
             }
             int[] incomingPoints = new int[teamResult.normalizedPeerContributionRatio.length];
@@ -334,18 +327,14 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
         //Each team's member(email) list
         Map<String, List<String>> teamMembersEmail = getTeamMembersEmail(bundle, teamNames);
 
-        //Each team's responses
-        Map<String, List<FeedbackResponseAttributes>> teamResponses = getTeamResponses(
-                actualResponses, bundle, teamNames);
-
         //Get each team's submission array. -> int[teamSize][teamSize]
         //Where int[0][1] refers points from student 0 to student 1
         //Where student 0 is the 0th student in the list in teamMembersEmail
         Map<String, int[][]> teamSubmissionArray = getTeamSubmissionArray(
-                teamNames, teamMembersEmail, teamResponses);
+                teamNames, teamMembersEmail, actualResponses, bundle);
 
         //Each team's eval results.
-        Map<String, TeamEvalResult> teamResults = getTeamResults(teamNames, teamSubmissionArray, teamMembersEmail);
+        Map<String, TeamEvalResult> teamResults = getTeamResults(teamSubmissionArray, teamMembersEmail);
 
         //Each person's results summary
         Map<String, StudentResultSummary> studentResults = getStudentResults(
@@ -373,15 +362,14 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
             String name = bundle.roster.getStudentForEmail(email).name;
             String team = bundle.roster.getStudentForEmail(email).team;
 
-            List<String> teamEmails = teamMembersEmail.get(team);
             TeamEvalResult teamResult = teamResults.get(team);
-            int studentIndx = teamEmails.indexOf(email);
+            int studentIndx = bundle.getTeamMembershipIndex().getPosition(team, email);
 
             String displayName;
             String displayTeam;
             String displayEmail;
             if (hideRecipient) {
-                displayName = FeedbackSessionResultsBundle.getAnonName(type, name);
+                displayName = bundle.getAnonymisedName(type, name);
                 displayTeam = displayName + Const.TEAM_OF_EMAIL_OWNER;
                 displayEmail = Const.USER_NOBODY_TEXT;
             } else {
@@ -448,13 +436,10 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
 
         Map<String, List<String>> teamMembersEmail = getTeamMembersEmail(bundle, teamNames);
 
-        Map<String, List<FeedbackResponseAttributes>> teamResponses = getTeamResponses(
-                responses, bundle, teamNames);
-
         Map<String, int[][]> teamSubmissionArray = getTeamSubmissionArray(
-                teamNames, teamMembersEmail, teamResponses);
+                teamNames, teamMembersEmail, responses, bundle);
 
-        Map<String, TeamEvalResult> teamResults = getTeamResults(teamNames, teamSubmissionArray, teamMembersEmail);
+        Map<String, TeamEvalResult> teamResults = getTeamResults(teamSubmissionArray, teamMembersEmail);
 
         return getStudentResults(teamMembersEmail, teamResults);
     }
@@ -491,82 +476,61 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
 
         Map<String, List<String>> teamMembersEmail = getTeamMembersEmail(bundle, teamNames);
 
-        Map<String, List<FeedbackResponseAttributes>> teamResponses = getTeamResponses(
-                responses, bundle, teamNames);
-
         Map<String, int[][]> teamSubmissionArray = getTeamSubmissionArray(
-                teamNames, teamMembersEmail, teamResponses);
+                teamNames, teamMembersEmail, responses, bundle);
 
-        return getTeamResults(teamNames, teamSubmissionArray, teamMembersEmail);
+        return getTeamResults(teamSubmissionArray, teamMembersEmail);
     }
 
-    private Map<String, TeamEvalResult> getTeamResults(List<String> teamNames,
+    private Map<String, TeamEvalResult> getTeamResults(
             Map<String, int[][]> teamSubmissionArray, Map<String, List<String>> teamMembersEmail) {
-        Map<String, TeamEvalResult> teamResults = new LinkedHashMap<>();
-        for (String team : teamNames) {
-            TeamEvalResult teamEvalResult = new TeamEvalResult(teamSubmissionArray.get(team));
-            teamEvalResult.studentEmails = teamMembersEmail.get(team);
-            teamResults.put(team, teamEvalResult);
-        }
+        Map<String, TeamEvalResult> teamResults = new TeamEvalCalculator().calculateAll(teamSubmissionArray);
+        teamResults.forEach((team, teamEvalResult) -> teamEvalResult.studentEmails = teamMembersEmail.get(team));
         return teamResults;
     }
 
     private Map<String, int[][]> getTeamSubmissionArray(List<String> teamNames,
             Map<String, List<String>> teamMembersEmail,
-            Map<String, List<FeedbackResponseAttributes>> teamResponses) {
+            List<FeedbackResponseAttributes> responses, FeedbackSessionResultsBundle bundle) {
         Map<String, int[][]> teamSubmissionArray = new LinkedHashMap<>();
         for (String team : teamNames) {
             int teamSize = teamMembersEmail.get(team).size();
-            teamSubmissionArray.put(team, new int[teamSize][teamSize]);
+            int[][] submissionArray = new int[teamSize][teamSize];
             //Initialize all as not submitted.
-            for (int i = 0; i < teamSize; i++) {
-                for (int j = 0; j < teamSize; j++) {
-                    teamSubmissionArray.get(team)[i][j] = Const.POINTS_NOT_SUBMITTED;
-                }
-            }
-            //Fill in submitted points
-            List<FeedbackResponseAttributes> teamResponseList = teamResponses.get(team);
-            List<String> memberEmailList = teamMembersEmail.get(team);
-            for (FeedbackResponseAttributes response : teamResponseList) {
-                int giverIndx = memberEmailList.indexOf(response.giver);
-                int recipientIndx = memberEmailList.indexOf(response.recipient);
-                if (giverIndx == -1 || recipientIndx == -1) {
-                    continue;
-                }
-                int points = ((FeedbackContributionResponseDetails) response.getResponseDetails()).getAnswer();
-                teamSubmissionArray.get(team)[giverIndx][recipientIndx] = points;
+            for (int[] submissions : submissionArray) {
+                Arrays.fill(submissions, Const.POINTS_NOT_SUBMITTED);
             }
+            teamSubmissionArray.put(team, submissionArray);
         }
-        return teamSubmissionArray;
-    }
-
-    private Map<String, List<FeedbackResponseAttributes>> getTeamResponses(
-            List<FeedbackResponseAttributes> responses,
-            FeedbackSessionResultsBundle bundle, List<String> teamNames) {
-        Map<String, List<FeedbackResponseAttributes>> teamResponses = new LinkedHashMap<>();
-        for (String teamName : teamNames) {
-            teamResponses.put(teamName, new ArrayList<>());
-        }
+        //Fill in submitted points, in one pass over the responses of all the teams
+        TeamMembershipIndex teamMembershipIndex = bundle.getTeamMembershipIndex();
         for (FeedbackResponseAttributes response : responses) {
             String team = bundle.emailTeamNameTable.get(response.giver);
-            if (teamResponses.containsKey(team)) {
-                teamResponses.get(team).add(response);
+            int[][] submissionArray = teamSubmissionArray.get(team);
+            if (submissionArray == null) {
+                continue;
+            }
+            int giverIndx = teamMembershipIndex.getPosition(team, response.giver);
+            int recipientIndx = teamMembershipIndex.getPosition(team, response.recipient);
+            if (giverIndx == -1 || recipientIndx == -1) {
+                continue;
             }
+            int points = ((FeedbackContributionResponseDetails) response.getResponseDetails()).getAnswer();
+            submissionArray[giverIndx][recipientIndx] = points;
         }
-        return teamResponses;
+        return teamSubmissionArray;
     }
 
     private Map<String, List<String>> getTeamMembersEmail(
             FeedbackSessionResultsBundle bundle, List<String> teamNames) {
+        TeamMembershipIndex teamMembershipIndex = bundle.getTeamMembershipIndex();
         Map<String, List<String>> teamMembersEmail = new LinkedHashMap<>();
         for (String teamName : teamNames) {
             if (Const.USER_TEAM_FOR_INSTRUCTOR.equals(teamName)) {
                 // skip instructors team (contrib questions should only have responses from student teams)
                 continue;
             }
-            List<String> memberEmails = new ArrayList<>(bundle.rosterTeamNameMembersTable.get(teamName));
-            memberEmails.sort(null);
-            teamMembersEmail.put(teamName, memberEmails);
+            teamMembersEmail.put(teamName, teamMembershipIndex.getMembers(teamName));
         }
         return teamMembersEmail;
     }
@@ -8,6 +8,7 @@ import java.util.Map;
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
 import teammates.common.datatransfer.StudentResultSummary;
 import teammates.common.datatransfer.TeamEvalResult;
+import teammates.common.datatransfer.TeamMembershipIndex;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.util.Const;
@@ -85,8 +86,9 @@ public class FeedbackContributionResponseDetails extends FeedbackResponseDetails
         String giverTeamName = feedbackSessionResultsBundle.emailTeamNameTable.get(actualResponse.giver);
         TeamEvalResult teamResult = teamResults.get(giverTeamName);
 
-        int giverIndex = teamResult.studentEmails.indexOf(actualResponse.giver);
-        int recipientIndex = teamResult.studentEmails.indexOf(actualResponse.recipient);
+        TeamMembershipIndex teamMembershipIndex = feedbackSessionResultsBundle.getTeamMembershipIndex();
+        int giverIndex = teamMembershipIndex.getPosition(giverTeamName, actualResponse.giver);
+        int recipientIndex = teamMembershipIndex.getPosition(giverTeamName, actualResponse.recipient);
 
         String responseAnswerCsv = "";
 
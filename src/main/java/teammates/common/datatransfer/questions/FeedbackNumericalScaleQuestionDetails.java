@@ -3,7 +3,7 @@ package teammates.common.datatransfer.questions;
 import java.math.RoundingMode;
 import java.text.DecimalFormat;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -16,6 +16,7 @@ import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const;
 import teammates.common.util.HttpRequestHelper;
+import teammates.common.util.JsonUtils;
 import teammates.common.util.SanitizationHelper;
 import teammates.common.util.StringHelper;
 import teammates.common.util.Templates;
@@ -164,73 +165,56 @@ public class FeedbackNumericalScaleQuestionDetails extends FeedbackQuestionDetai
     private String getInstructorQuestionResultsStatisticsHtml(
             List<FeedbackResponseAttributes> responses,
             FeedbackQuestionAttributes question, FeedbackSessionResultsBundle bundle) {
-        Map<String, Double> min = new HashMap<>();
-        Map<String, Double> max = new HashMap<>();
-        Map<String, Double> average = new HashMap<>();
-        Map<String, Double> averageExcludingSelf = new HashMap<>();
-        Map<String, Double> total = new HashMap<>();
-        Map<String, Double> totalExcludingSelf = new HashMap<>();
-        Map<String, Integer> numResponses = new HashMap<>();
-        Map<String, Integer> numResponsesExcludingSelf = new HashMap<>();
+        RecipientValueStatistics statistics = getStatistics(responses);
+        List<RecipientStatisticsOutput> recipientStatistics =
+                getInstructorRecipientStatistics(statistics, responses, question, bundle);
 
-        // need to know which recipients are hidden since anonymised recipients will not appear in the summary table
-        List<String> hiddenRecipients = getHiddenRecipients(responses, question, bundle);
-
-        populateSummaryStatisticsFromResponses(responses, min, max, average, averageExcludingSelf, total,
-                                               totalExcludingSelf, numResponses, numResponsesExcludingSelf);
+        boolean shouldShowAvgExcludingSelf = shouldShowAverageExcludingSelf(question, statistics);
+        String fragmentHtml = getStatisticsFragmentsHtml(recipientStatistics, shouldShowAvgExcludingSelf);
 
-        boolean shouldShowAvgExcludingSelf = shouldShowAverageExcludingSelf(question, averageExcludingSelf);
+        if (fragmentHtml.isEmpty()) {
+            return "";
+        }
 
-        String fragmentTemplateToUse = shouldShowAvgExcludingSelf
-                                     ? FormTemplates.NUMSCALE_RESULTS_STATS_FRAGMENT_WITH_SELF_RESPONSE
-                                     : FormTemplates.NUMSCALE_RESULTS_STATS_FRAGMENT;
+        String statsTitle = "Response Summary";
+        String templateToUse = shouldShowAvgExcludingSelf
+                             ? FormTemplates.NUMSCALE_RESULT_STATS_WITH_SELF_RESPONSE
+                             : FormTemplates.NUMSCALE_RESULT_STATS;
+        return Templates.populateTemplate(
+                        templateToUse,
+                        Slots.SUMMARY_TITLE, statsTitle,
+                        Slots.STATS_FRAGMENTS, fragmentHtml);
+    }
 
-        DecimalFormat df = getProperDecimalFormat();
-        StringBuilder fragmentHtml = new StringBuilder();
+    /**
+     * Returns the statistics of each recipient visible to instructors, i.e. recipients who are not hidden.
+     */
+    private List<RecipientStatisticsOutput> getInstructorRecipientStatistics(RecipientValueStatistics statistics,
+            List<FeedbackResponseAttributes> responses, FeedbackQuestionAttributes question,
+            FeedbackSessionResultsBundle bundle) {
+        // need to know which recipients are hidden since anonymised recipients will not appear in the summary table
+        Set<String> hiddenRecipients = getHiddenRecipients(responses, question, bundle);
 
-        for (String recipient : numResponses.keySet()) {
+        List<RecipientStatisticsOutput> recipientStatistics = new ArrayList<>();
+        for (String recipient : statistics.getRecipients()) {
             // hidden recipients do not appear in the summary table, so ignore responses with hidden recipients
             if (hiddenRecipients.contains(recipient)) {
                 continue;
             }
 
-            Double userAverageExcludingSelf = averageExcludingSelf.get(recipient);
-            String userAverageExcludingSelfText =
-                    getAverageExcludingSelfText(shouldShowAvgExcludingSelf, df, userAverageExcludingSelf);
-
             String recipientName = recipient.equals(Const.GENERAL_QUESTION) ? "General" : bundle.getNameForEmail(recipient);
             String recipientTeam = bundle.getTeamNameForEmail(recipient);
-
-            fragmentHtml.append(Templates.populateTemplate(
-                                    fragmentTemplateToUse,
-                                    Slots.RECIPIENT_TEAM, SanitizationHelper.sanitizeForHtml(recipientTeam),
-                                    Slots.RECIPIENT_NAME, SanitizationHelper.sanitizeForHtml(recipientName),
-                                    Slots.AVERAGE, df.format(average.get(recipient)),
-                                    Slots.MAX, df.format(max.get(recipient)),
-                                    Slots.MIN, df.format(min.get(recipient)),
-                                    Slots.AVERAGE_EXCLUDING_SELF_RESPONSE, userAverageExcludingSelfText));
-        }
-
-        if (fragmentHtml.length() == 0) {
-            return "";
+            recipientStatistics.add(new RecipientStatisticsOutput(recipientName, recipientTeam, statistics.get(recipient)));
         }
-
-        String statsTitle = "Response Summary";
-        String templateToUse = shouldShowAvgExcludingSelf
-                             ? FormTemplates.NUMSCALE_RESULT_STATS_WITH_SELF_RESPONSE
-                             : FormTemplates.NUMSCALE_RESULT_STATS;
-        return Templates.populateTemplate(
-                        templateToUse,
-                        Slots.SUMMARY_TITLE, statsTitle,
-                        Slots.STATS_FRAGMENTS, fragmentHtml.toString());
+        return recipientStatistics;
     }
 
     /**
      * Returns the recipient list for the student results page.
      */
-    private List<String> getStudentQuestionResultsRecipientList(Map<String, Integer> numResponses,
+    private List<String> getStudentQuestionResultsRecipientList(RecipientValueStatistics statistics,
             String currentUserIdentifier) {
-        Set<String> recipientSet = numResponses.keySet();
+        Set<String> recipientSet = statistics.getRecipients();
         List<String> recipientList = new ArrayList<>();
 
         boolean hasCurrentUserReceivedAnyResponse = recipientSet.contains(currentUserIdentifier);
@@ -252,59 +236,74 @@ public class FeedbackNumericalScaleQuestionDetails extends FeedbackQuestionDetai
     private String getStudentQuestionResultsStatisticsHtml(
             List<FeedbackResponseAttributes> responses, String studentEmail,
             FeedbackQuestionAttributes question, FeedbackSessionResultsBundle bundle) {
-
-        Map<String, Double> min = new HashMap<>();
-        Map<String, Double> max = new HashMap<>();
-        Map<String, Double> average = new HashMap<>();
-        Map<String, Double> averageExcludingSelf = new HashMap<>();
-        Map<String, Double> total = new HashMap<>();
-        Map<String, Double> totalExcludingSelf = new HashMap<>();
-        Map<String, Integer> numResponses = new HashMap<>();
-        Map<String, Integer> numResponsesExcludingSelf = new HashMap<>();
+        RecipientValueStatistics statistics = getStatistics(responses);
 
         // need to know which recipients are hidden since anonymised recipients will not appear in the summary table
-        List<String> hiddenRecipients = getHiddenRecipients(responses, question, bundle);
+        Set<String> hiddenRecipients = getHiddenRecipients(responses, question, bundle);
+
+        List<RecipientStatisticsOutput> recipientStatistics =
+                getStudentRecipientStatistics(statistics, hiddenRecipients, studentEmail, question, bundle);
+
+        boolean shouldShowAvgExcludingSelf = shouldShowAverageExcludingSelf(question, statistics);
+        String fragmentHtml = getStatisticsFragmentsHtml(recipientStatistics, shouldShowAvgExcludingSelf);
 
-        populateSummaryStatisticsFromResponses(responses, min, max, average, averageExcludingSelf, total,
-                                               totalExcludingSelf, numResponses, numResponsesExcludingSelf);
+        if (fragmentHtml.isEmpty()) {
+            return "";
+        }
 
+        boolean isRecipientTypeGeneral = question.recipientType == FeedbackParticipantType.NONE;
+        boolean isRecipientTypeTeam = question.recipientType == FeedbackParticipantType.TEAMS
+                                      || question.recipientType == FeedbackParticipantType.OWN_TEAM;
+        String currentUserIdentifier = getCurrentUserIdentifier(statistics, studentEmail, question, bundle);
+        String statsTitle = getStatsTitle(
+                isRecipientTypeGeneral, isRecipientTypeTeam,
+                hasAtLeastTwoResponsesOtherThanCurrentUser(statistics, currentUserIdentifier, hiddenRecipients));
+        String templateToUse = shouldShowAvgExcludingSelf
+                             ? FormTemplates.NUMSCALE_RESULT_STATS_WITH_SELF_RESPONSE
+                             : FormTemplates.NUMSCALE_RESULT_STATS;
+        return Templates.populateTemplate(templateToUse,
+                Slots.SUMMARY_TITLE, statsTitle,
+                Slots.STATS_FRAGMENTS, fragmentHtml);
+    }
+
+    /**
+     * Returns the statistics of each recipient which the student can see, starting with the student's own.
+     */
+    private List<RecipientStatisticsOutput> getStudentRecipientStatistics(RecipientValueStatistics statistics,
+            Set<String> hiddenRecipients, String studentEmail,
+            FeedbackQuestionAttributes question, FeedbackSessionResultsBundle bundle) {
         boolean isRecipientTypeGeneral = question.recipientType == FeedbackParticipantType.NONE;
         boolean isRecipientTypeTeam = question.recipientType == FeedbackParticipantType.TEAMS
                                       || question.recipientType == FeedbackParticipantType.OWN_TEAM;
         boolean isRecipientTypeStudent = !isRecipientTypeGeneral && !isRecipientTypeTeam;
 
         String currentUserTeam = bundle.getTeamNameForEmail(studentEmail);
-        String currentUserIdentifier = getCurrentUserIdentifier(numResponses,
-                                                                isRecipientTypeStudent, studentEmail,
-                                                                isRecipientTypeTeam, currentUserTeam);
+        String currentUserIdentifier = getCurrentUserIdentifier(statistics, studentEmail, question, bundle);
 
-        List<String> recipientList = getStudentQuestionResultsRecipientList(numResponses, currentUserIdentifier);
+        List<String> recipientList = getStudentQuestionResultsRecipientList(statistics, currentUserIdentifier);
 
-        StringBuilder fragmentHtml = new StringBuilder();
+        boolean hasAtLeastTwoResponses = hasAtLeastTwoResponses(statistics, currentUserIdentifier);
+        boolean hasAtLeastTwoResponsesOtherThanCurrentUser =
+                hasAtLeastTwoResponsesOtherThanCurrentUser(statistics, currentUserIdentifier, hiddenRecipients);
+
+        List<RecipientStatisticsOutput> recipientStatistics = new ArrayList<>();
         for (String recipient : recipientList) {
 
             // hidden recipients do not appear in the summary table, so ignore responses with hidden recipients
-            boolean isHiddenRecipient = false;
-            if (hiddenRecipients.contains(recipient)) {
-                isHiddenRecipient = true;
-            }
+            boolean isHiddenRecipient = hiddenRecipients.contains(recipient);
 
             boolean isRecipientCurrentUser = recipient.equalsIgnoreCase(currentUserIdentifier);
             boolean isRecipientGeneral = recipient.equalsIgnoreCase(Const.GENERAL_QUESTION);
 
             String recipientName = getDisplayableRecipientName(isHiddenRecipient,
-                            isRecipientCurrentUser, hasAtLeastTwoResponses(numResponses, currentUserIdentifier),
-                            isRecipientTypeStudent, hasAtLeastTwoResponsesOtherThanCurrentUser(
-                                                            numResponses, currentUserIdentifier, hiddenRecipients),
+                            isRecipientCurrentUser, hasAtLeastTwoResponses,
+                            isRecipientTypeStudent, hasAtLeastTwoResponsesOtherThanCurrentUser,
                             isRecipientGeneral, bundle.getNameForEmail(recipient), currentUserTeam);
 
             String recipientTeam = getDisplayableRecipientTeam(isHiddenRecipient,
-                                                        isRecipientCurrentUser,
-                                                        hasAtLeastTwoResponses(numResponses, currentUserIdentifier),
+                                                        isRecipientCurrentUser, hasAtLeastTwoResponses,
                                                         isRecipientTypeStudent,
-                                                        hasAtLeastTwoResponsesOtherThanCurrentUser(numResponses,
-                                                                                                   currentUserIdentifier,
-                                                                                                   hiddenRecipients),
+                                                        hasAtLeastTwoResponsesOtherThanCurrentUser,
                                                         bundle.getTeamNameForEmail(recipient), currentUserTeam);
 
             boolean isRecipientDetailsAvailable = recipientName != null && recipientTeam != null;
@@ -312,54 +311,33 @@ public class FeedbackNumericalScaleQuestionDetails extends FeedbackQuestionDetai
                 continue;
             }
 
-            String recipientFragmentHtml = getStudentResultsRecipientFragmentHtml(question, recipient,
-                    recipientName, recipientTeam, min, max, average, averageExcludingSelf);
-
-            fragmentHtml.append(recipientFragmentHtml);
+            recipientStatistics.add(new RecipientStatisticsOutput(recipientName, recipientTeam, statistics.get(recipient)));
         }
-
-        if (fragmentHtml.length() == 0) {
-            return "";
-        }
-
-        boolean shouldShowAvgExcludingSelf = shouldShowAverageExcludingSelf(question, averageExcludingSelf);
-        String statsTitle = getStatsTitle(
-                isRecipientTypeGeneral, isRecipientTypeTeam,
-                hasAtLeastTwoResponsesOtherThanCurrentUser(numResponses, currentUserIdentifier, hiddenRecipients));
-        String templateToUse = shouldShowAvgExcludingSelf
-                             ? FormTemplates.NUMSCALE_RESULT_STATS_WITH_SELF_RESPONSE
-                             : FormTemplates.NUMSCALE_RESULT_STATS;
-        return Templates.populateTemplate(templateToUse,
-                Slots.SUMMARY_TITLE, statsTitle,
-                Slots.STATS_FRAGMENTS, fragmentHtml.toString());
+        return recipientStatistics;
     }
 
-    private String getStudentResultsRecipientFragmentHtml(FeedbackQuestionAttributes question,
-            String recipient, String recipientName, String recipientTeam, Map<String, Double> min,
-            Map<String, Double> max, Map<String, Double> average, Map<String, Double> averageExcludingSelf) {
-
-        boolean shouldShowAvgExcludingSelf = shouldShowAverageExcludingSelf(question, averageExcludingSelf);
+    private String getStatisticsFragmentsHtml(List<RecipientStatisticsOutput> recipientStatistics,
+            boolean shouldShowAvgExcludingSelf) {
         String fragmentTemplateToUse = shouldShowAvgExcludingSelf
                 ? FormTemplates.NUMSCALE_RESULTS_STATS_FRAGMENT_WITH_SELF_RESPONSE
                 : FormTemplates.NUMSCALE_RESULTS_STATS_FRAGMENT;
         DecimalFormat df = getProperDecimalFormat();
 
-        Double minScore = min.get(recipient);
-        Double maxScore = max.get(recipient);
-        Double averageScore = average.get(recipient);
-        Double averageScoreExcludingSelf = averageExcludingSelf.get(recipient);
-
-        String averageScoreExcludingSelfText =
-                getAverageExcludingSelfText(shouldShowAvgExcludingSelf, df, averageScoreExcludingSelf);
+        StringBuilder fragmentHtml = new StringBuilder();
+        for (RecipientStatisticsOutput statistics : recipientStatistics) {
+            String averageScoreExcludingSelfText =
+                    getAverageExcludingSelfText(shouldShowAvgExcludingSelf, df, statistics.averageExcludingSelf);
 
-        return Templates.populateTemplate(
-                fragmentTemplateToUse,
-                Slots.RECIPIENT_TEAM, SanitizationHelper.sanitizeForHtml(recipientTeam),
-                Slots.RECIPIENT_NAME, SanitizationHelper.sanitizeForHtml(recipientName),
-                Slots.AVERAGE, df.format(averageScore),
-                Slots.MAX, df.format(maxScore),
-                Slots.MIN, df.format(minScore),
-                Slots.AVERAGE_EXCLUDING_SELF_RESPONSE, averageScoreExcludingSelfText);
+            fragmentHtml.append(Templates.populateTemplate(
+                    fragmentTemplateToUse,
+                    Slots.RECIPIENT_TEAM, SanitizationHelper.sanitizeForHtml(statistics.recipientTeam),
+                    Slots.RECIPIENT_NAME, SanitizationHelper.sanitizeForHtml(statistics.recipientName),
+                    Slots.AVERAGE, df.format(statistics.average),
+                    Slots.MAX, df.format(statistics.max),
+                    Slots.MIN, df.format(statistics.min),
+                    Slots.AVERAGE_EXCLUDING_SELF_RESPONSE, averageScoreExcludingSelfText));
+        }
+        return fragmentHtml.toString();
     }
 
     private String getDisplayableRecipientName(boolean isHiddenRecipient,
@@ -396,28 +374,24 @@ public class FeedbackNumericalScaleQuestionDetails extends FeedbackQuestionDetai
         return null;
     }
 
-    private String getCurrentUserIdentifier(Map<String, Integer> numResponses,
-            boolean isRecipientStudent, String currentUserEmail,
-            boolean isRecipientTeam, String currentUserTeam) {
+    private String getCurrentUserIdentifier(RecipientValueStatistics statistics, String currentUserEmail,
+            FeedbackQuestionAttributes question, FeedbackSessionResultsBundle bundle) {
+        boolean isRecipientTeam = question.recipientType == FeedbackParticipantType.TEAMS
+                                  || question.recipientType == FeedbackParticipantType.OWN_TEAM;
+        boolean isRecipientStudent = question.recipientType != FeedbackParticipantType.NONE && !isRecipientTeam;
 
-        if (isRecipientStudent && numResponses.containsKey(currentUserEmail)
-                && numResponses.get(currentUserEmail) >= 1) {
+        if (isRecipientStudent && statistics.getCount(currentUserEmail) >= 1) {
             return currentUserEmail;
-        } else if (isRecipientTeam && numResponses.containsKey(currentUserTeam)
-                   && numResponses.get(currentUserTeam) >= 1) {
+        }
+        String currentUserTeam = bundle.getTeamNameForEmail(currentUserEmail);
+        if (isRecipientTeam && statistics.getCount(currentUserTeam) >= 1) {
             return currentUserTeam;
-        } else {
-            return "";
         }
+        return "";
     }
 
-    private boolean hasAtLeastTwoResponses(Map<String, Integer> numResponses,
-            String recipient) {
-        if (numResponses == null) {
-            return false;
-        }
-        Integer numOfResponses = numResponses.get(recipient);
-        return numOfResponses != null && numOfResponses >= 2;
+    private boolean hasAtLeastTwoResponses(RecipientValueStatistics statistics, String recipient) {
+        return statistics.getCount(recipient) >= 2;
     }
 
     private String getAverageExcludingSelfText(boolean showAvgExcludingSelf, DecimalFormat df, Double averageExcludingSelf) {
@@ -432,8 +406,19 @@ public class FeedbackNumericalScaleQuestionDetails extends FeedbackQuestionDetai
     public String getQuestionResultStatisticsJson(
             List<FeedbackResponseAttributes> responses, FeedbackQuestionAttributes question,
             String userEmail, FeedbackSessionResultsBundle bundle, boolean isStudent) {
-        // TODO
-        return "";
+        if (responses.isEmpty()) {
+            return "";
+        }
+
+        RecipientValueStatistics statistics = getStatistics(responses);
+
+        NumericalScaleStatisticsOutput output = new NumericalScaleStatisticsOutput();
+        output.hasAverageExcludingSelf = shouldShowAverageExcludingSelf(question, statistics);
+        output.recipients = isStudent
+                ? getStudentRecipientStatistics(statistics, getHiddenRecipients(responses, question, bundle),
+                                                userEmail, question, bundle)
+                : getInstructorRecipientStatistics(statistics, responses, question, bundle);
+        return JsonUtils.toJson(output);
     }
 
     @Override
@@ -445,22 +430,11 @@ public class FeedbackNumericalScaleQuestionDetails extends FeedbackQuestionDetai
             return "";
         }
 
-        Map<String, Double> min = new HashMap<>();
-        Map<String, Double> max = new HashMap<>();
-        Map<String, Double> average = new HashMap<>();
-        Map<String, Double> averageExcludingSelf = new HashMap<>();
-        Map<String, Double> total = new HashMap<>();
-        Map<String, Double> totalExcludingSelf = new HashMap<>();
-        Map<String, Integer> numResponses = new HashMap<>();
-        Map<String, Integer> numResponsesExcludingSelf = new HashMap<>();
-
-        // need to know which recipients are hidden since anonymised recipients will not appear in the summary table
-        List<String> hiddenRecipients = getHiddenRecipients(responses, question, bundle);
-
-        populateSummaryStatisticsFromResponses(responses, min, max, average, averageExcludingSelf, total,
-                                               totalExcludingSelf, numResponses, numResponsesExcludingSelf);
+        RecipientValueStatistics statistics = getStatistics(responses);
+        List<RecipientStatisticsOutput> recipientStatistics =
+                getInstructorRecipientStatistics(statistics, responses, question, bundle);
 
-        boolean shouldShowAvgExcludingSelf = shouldShowAverageExcludingSelf(question, averageExcludingSelf);
+        boolean shouldShowAvgExcludingSelf = shouldShowAverageExcludingSelf(question, statistics);
 
         DecimalFormat df = getProperDecimalFormat();
         String csvHeader = "Team, Recipient, Average, Minimum, Maximum"
@@ -468,27 +442,16 @@ public class FeedbackNumericalScaleQuestionDetails extends FeedbackQuestionDetai
                          + System.lineSeparator();
 
         StringBuilder csvBody = new StringBuilder();
-        for (String recipient : numResponses.keySet()) {
-            // hidden recipients do not appear in the summary table, so ignore responses with hidden recipients
-            if (hiddenRecipients.contains(recipient)) {
-                continue;
-            }
-
-            String recipientTeam = bundle.getTeamNameForEmail(recipient);
-            boolean isRecipientGeneral = recipient.equals(Const.GENERAL_QUESTION);
-
-            Double averageScoreExcludingSelf = averageExcludingSelf.get(recipient);
-            String averageScoreExcludingSelfText =
-                    getAverageExcludingSelfText(shouldShowAvgExcludingSelf, df, averageScoreExcludingSelf);
+        for (RecipientStatisticsOutput recipientStatistic : recipientStatistics) {
+            String averageScoreExcludingSelfText = getAverageExcludingSelfText(
+                    shouldShowAvgExcludingSelf, df, recipientStatistic.averageExcludingSelf);
 
-            csvBody.append(SanitizationHelper.sanitizeForCsv(recipientTeam) + ','
-                           + SanitizationHelper.sanitizeForCsv(isRecipientGeneral
-                                                      ? "General"
-                                                      : bundle.getNameForEmail(recipient))
+            csvBody.append(SanitizationHelper.sanitizeForCsv(recipientStatistic.recipientTeam) + ','
+                           + SanitizationHelper.sanitizeForCsv(recipientStatistic.recipientName)
                            + ','
-                           + df.format(average.get(recipient)) + ','
-                           + df.format(min.get(recipient)) + ','
-                           + df.format(max.get(recipient))
+                           + df.format(recipientStatistic.average) + ','
+                           + df.format(recipientStatistic.min) + ','
+                           + df.format(recipientStatistic.max)
                            + (shouldShowAvgExcludingSelf ? ',' + averageScoreExcludingSelfText : "")
                            + System.lineSeparator());
         }
@@ -497,7 +460,7 @@ public class FeedbackNumericalScaleQuestionDetails extends FeedbackQuestionDetai
     }
 
     private boolean shouldShowAverageExcludingSelf(
-            FeedbackQuestionAttributes question, Map<String, Double> averageExcludingSelf) {
+            FeedbackQuestionAttributes question, RecipientValueStatistics statistics) {
 
         if (question.recipientType == FeedbackParticipantType.NONE) {
             // General recipient type would not give self response
@@ -505,87 +468,34 @@ public class FeedbackNumericalScaleQuestionDetails extends FeedbackQuestionDetai
             return false;
         }
 
-        for (Double average : averageExcludingSelf.values()) {
-            // There exists at least one average score exclude self
-            if (average != null) {
-                return true;
-            }
-        }
-        return false;
+        // There exists at least one average score exclude self
+        return statistics.hasValueExcludingSelf();
     }
 
-    private void populateSummaryStatisticsFromResponses(
-            List<FeedbackResponseAttributes> responses,
-            Map<String, Double> min, Map<String, Double> max,
-            Map<String, Double> average, Map<String, Double> averageExcludingSelf,
-            Map<String, Double> total, Map<String, Double> totalExcludingSelf,
-            Map<String, Integer> numResponses,
-            Map<String, Integer> numResponsesExcludingSelf) {
-
+    /**
+     * Returns the statistics of the scores received by each recipient of the responses.
+     */
+    private RecipientValueStatistics getStatistics(List<FeedbackResponseAttributes> responses) {
+        RecipientValueStatistics statistics = new RecipientValueStatistics(false);
         for (FeedbackResponseAttributes response : responses) {
             FeedbackNumericalScaleResponseDetails responseDetails =
                     (FeedbackNumericalScaleResponseDetails) response.getResponseDetails();
-            double answer = responseDetails.getAnswer();
-            String giverEmail = response.giver;
-            String recipientEmail = response.recipient;
-
-            // Compute number of responses including user's self response
-            int numOfResponses = numResponses.getOrDefault(recipientEmail, 0) + 1;
-            numResponses.put(recipientEmail, numOfResponses);
-
-            // Compute number of responses excluding user's self response
-            boolean isSelfResponse = giverEmail.equalsIgnoreCase(recipientEmail);
-            if (!isSelfResponse) {
-                int numOfResponsesExcludingSelf = numResponsesExcludingSelf.getOrDefault(recipientEmail, 0) + 1;
-                numResponsesExcludingSelf.put(recipientEmail, numOfResponsesExcludingSelf);
-            }
-
-            // Compute minimum score received
-            double minScoreReceived = Math.min(answer, min.getOrDefault(recipientEmail, answer));
-            min.put(recipientEmail, minScoreReceived);
-
-            // Compute maximum score received
-            double maxScoreReceived = Math.max(answer, max.getOrDefault(recipientEmail, answer));
-            max.put(recipientEmail, maxScoreReceived);
-
-            // Compute total score received
-            double totalScore = total.getOrDefault(recipientEmail, 0.0) + answer;
-            total.put(recipientEmail, totalScore);
-
-            // Compute total score received excluding self
-            if (!isSelfResponse) {
-                Double totalScoreExcludingSelf = totalExcludingSelf.getOrDefault(recipientEmail, null);
-
-                // totalScoreExcludingSelf == null when the user has only self response
-                totalExcludingSelf.put(recipientEmail,
-                                       totalScoreExcludingSelf == null ? answer : totalScoreExcludingSelf + answer);
-            }
-
-            // Compute average score received
-            double averageReceived = total.get(recipientEmail) / numResponses.get(recipientEmail);
-            average.put(recipientEmail, averageReceived);
-
-            // Compute average score received excluding self
-            averageExcludingSelf.putIfAbsent(recipientEmail, null);
-            if (!isSelfResponse && totalExcludingSelf.get(recipientEmail) != null) {
-                double averageReceivedExcludingSelf =
-                        totalExcludingSelf.get(recipientEmail) / numResponsesExcludingSelf.get(recipientEmail);
-                averageExcludingSelf.put(recipientEmail, averageReceivedExcludingSelf);
-            }
+            statistics.addValue(response.giver, response.recipient, responseDetails.getAnswer());
         }
+        return statistics;
     }
 
-    private List<String> getHiddenRecipients(
+    private Set<String> getHiddenRecipients(
             List<FeedbackResponseAttributes> responses,
             FeedbackQuestionAttributes question,
             FeedbackSessionResultsBundle bundle) {
-        List<String> hiddenRecipients = new ArrayList<>(); // List of recipients to hide
+        Set<String> hiddenRecipients = new HashSet<>(); // Set of recipients to hide
         FeedbackParticipantType type = question.recipientType;
+        if (type == FeedbackParticipantType.SELF || type == FeedbackParticipantType.NONE) {
+            return hiddenRecipients;
+        }
         for (FeedbackResponseAttributes response : responses) {
-            if (!bundle.visibilityTable.get(response.getId())[1]
-                    && type != FeedbackParticipantType.SELF
-                    && type != FeedbackParticipantType.NONE) {
-
+            if (!bundle.visibilityTable.get(response.getId())[1]) {
                 hiddenRecipients.add(response.recipient);
             }
         }
@@ -621,23 +531,19 @@ public class FeedbackNumericalScaleQuestionDetails extends FeedbackQuestionDetai
      * Return false otherwise.
      */
     private boolean hasAtLeastTwoResponsesOtherThanCurrentUser(
-            Map<String, Integer> numResponses, String currentUserIdentifier, List<String> hiddenRecipients) {
-        boolean isAtLeastTwoResponsesOtherThanCurrentUser = false;
-
+            RecipientValueStatistics statistics, String currentUserIdentifier, Set<String> hiddenRecipients) {
         // At least 2 responses are given to any recipient other than current user
-        for (String recipient : numResponses.keySet()) {
+        for (String recipient : statistics.getRecipients()) {
             if (hiddenRecipients.contains(recipient)) {
                 continue;
             }
 
-            if (hasAtLeastTwoResponses(numResponses, recipient)
+            if (hasAtLeastTwoResponses(statistics, recipient)
                     && !recipient.equals(currentUserIdentifier)) {
-
-                isAtLeastTwoResponsesOtherThanCurrentUser = true;
-                break;
+                return true;
             }
         }
-        return isAtLeastTwoResponsesOtherThanCurrentUser;
+        return false;
     }
 
     @Override
@@ -757,4 +663,33 @@ public class FeedbackNumericalScaleQuestionDetails extends FeedbackQuestionDetai
         return step;
     }
 
+    /**
+     * Statistics of the scores of a numerical scale question.
+     */
+    private static class NumericalScaleStatisticsOutput {
+        boolean hasAverageExcludingSelf;
+        List<RecipientStatisticsOutput> recipients;
+    }
+
+    /**
+     * Statistics of the scores received by a recipient of a numerical scale question.
+     */
+    private static class RecipientStatisticsOutput {
+        String recipientName;
+        String recipientTeam;
+        double average;
+        double min;
+        double max;
+        Double averageExcludingSelf;
+
+        RecipientStatisticsOutput(String recipientName, String recipientTeam, RecipientValueStatistics.Values values) {
+            this.recipientName = recipientName;
+            this.recipientTeam = recipientTeam;
+            this.average = values.getAverage();
+            this.min = values.getMin();
+            this.max = values.getMax();
+            this.averageExcludingSelf = values.getAverageExcludingSelf();
+        }
+    }
+
 }
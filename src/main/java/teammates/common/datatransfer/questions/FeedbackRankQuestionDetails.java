@@ -158,12 +158,22 @@ public abstract class FeedbackRankQuestionDetails extends FeedbackQuestionDetail
      * @return a map of recipients/options with their corresponding overall rank after normalization
      */
     protected Map<String, Integer> generateNormalizedOverallRankMapping(Map<String, List<Integer>> recipientRanks) {
+        Map<String, Double> recipientAverageRank = new HashMap<>();
+        recipientRanks.forEach((recipientIdentifier, ranks) ->
+                recipientAverageRank.put(recipientIdentifier, computeAverage(ranks)));
+        return generateNormalizedOverallRankMappingFromAverages(recipientAverageRank);
+    }
+
+    /**
+     * Generates the normalized overall ranking of the recipients or options from their average ranks.
+     * @see #generateNormalizedOverallRankMapping(Map)
+     */
+    protected Map<String, Integer> generateNormalizedOverallRankMappingFromAverages(
+            Map<String, Double> averageRanks) {
         Map<Double, List<String>> recipientAverageRank = new TreeMap<>();
-        recipientRanks.forEach((recipientIdentifier, ranks) -> {
-            double average = computeAverage(ranks);
-            recipientAverageRank.computeIfAbsent(average, key -> new ArrayList<>())
-                    .add(recipientIdentifier);
-        });
+        averageRanks.forEach((recipientIdentifier, average) ->
+                recipientAverageRank.computeIfAbsent(average, key -> new ArrayList<>())
+                        .add(recipientIdentifier));
 
         Map<String, Integer> normalizedOverallRanking = new HashMap<>();
         int currentRank = 1;
@@ -1,6 +1,7 @@
 package teammates.common.datatransfer.questions;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -18,6 +19,7 @@ import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.util.Const;
 import teammates.common.util.HttpRequestHelper;
+import teammates.common.util.JsonUtils;
 import teammates.common.util.SanitizationHelper;
 import teammates.common.util.StringHelper;
 import teammates.common.util.Templates;
@@ -230,21 +232,41 @@ public class FeedbackRankRecipientsQuestionDetails extends FeedbackRankQuestionD
      */
     private String getStudentQuestionResultsStatisticsHtml(String studentEmail, FeedbackQuestionAttributes question,
             FeedbackSessionResultsBundle bundle) {
+        RecipientStatisticsOutput recipientStatistics = getStudentRecipientStatistics(studentEmail, question, bundle);
+        if (recipientStatistics == null) {
+            return "";
+        }
+
+        boolean isRecipientTypeTeam = question.recipientType == FeedbackParticipantType.TEAMS
+                || question.recipientType == FeedbackParticipantType.OWN_TEAM;
+        String statsTitle = isRecipientTypeTeam ? "Summary of responses received by your team"
+                : "Summary of responses received by you";
+        return Templates.populateTemplate(FormTemplates.RANK_RESULT_RECIPIENT_STATS,
+                Slots.SUMMARY_TITLE, statsTitle,
+                Slots.RANK_OPTION_RECIPIENT_DISPLAY_NAME, "Recipient",
+                Slots.FRAGMENTS, getStatisticsFragmentHtml(recipientStatistics));
+    }
+
+    /**
+     * Returns the statistics of the ranks received by the student or the student's team,
+     * or null if the student is not shown any statistics.
+     */
+    private RecipientStatisticsOutput getStudentRecipientStatistics(String studentEmail,
+            FeedbackQuestionAttributes question, FeedbackSessionResultsBundle bundle) {
         // at least should be able to be viewed by other students for team recipient
         if (question.recipientType.isTeam()
                     && (!question.showResponsesTo.contains(FeedbackParticipantType.RECEIVER)
                     || !question.showResponsesTo.contains(FeedbackParticipantType.STUDENTS))) {
-            return "";
+            return null;
         }
         // at least should be able to be viewed by own team members for non-team recipient
         if (!question.recipientType.isTeam()
                     && (!question.showResponsesTo.contains(FeedbackParticipantType.RECEIVER)
                     || !question.showResponsesTo.contains(FeedbackParticipantType.OWN_TEAM_MEMBERS))) {
-            return "";
+            return null;
         }
 
-        List<FeedbackResponseAttributes> allResponses = bundle.getActualUnsortedResponses(question);
-        Map<String, List<Integer>> recipientRanks = generateOptionRanksMapping(allResponses);
+        RankRecipientsStatistics statistics = new RankRecipientsStatistics(bundle.getActualUnsortedResponses(question));
 
         boolean isRecipientTypeTeam = question.recipientType == FeedbackParticipantType.TEAMS
                 || question.recipientType == FeedbackParticipantType.OWN_TEAM;
@@ -252,44 +274,13 @@ public class FeedbackRankRecipientsQuestionDetails extends FeedbackRankQuestionD
         String currentUserTeam = bundle.roster.getStudentForEmail(studentEmail).getTeam();
         String currentUserIdentifier = isRecipientTypeTeam ? currentUserTeam : studentEmail;
 
-        List<Integer> ranksReceived = recipientRanks.get(currentUserIdentifier);
         // If response recipient is instructor, responses for current student/team will not exist.
-        if (ranksReceived == null) {
-            return "";
+        if (statistics.ranks.get(currentUserIdentifier) == null) {
+            return null;
         }
 
-        Map<String, Integer> recipientOverallRank = generateNormalizedOverallRankMapping(recipientRanks);
-
-        Map<String, List<Integer>> recipientRanksExcludingSelf = getRecipientRanksExcludingSelf(allResponses);
-
-        Map<String, Integer> recipientOverallRankExceptSelf =
-                generateNormalizedOverallRankMapping(recipientRanksExcludingSelf);
-
-        Map<String, Integer> recipientSelfRanks = generateSelfRankForEachRecipient(allResponses);
-
-        String ranksReceivedAsString = getListOfRanksReceivedAsString(ranksReceived);
-        String overallRank = Integer.toString(recipientOverallRank.get(currentUserIdentifier));
-        String name = bundle.getNameForEmail(currentUserIdentifier);
-
-        String overallRankExceptSelf = recipientOverallRankExceptSelf.containsKey(currentUserIdentifier)
-                ? Integer.toString(recipientOverallRankExceptSelf.get(currentUserIdentifier)) : "-";
-        String selfRank = recipientSelfRanks.containsKey(currentUserIdentifier)
-                ? Integer.toString(recipientSelfRanks.get(currentUserIdentifier)) : "-";
-
-        String fragments = Templates.populateTemplate(FormTemplates.RANK_RESULT_STATS_RECIPIENTFRAGMENT,
-                Slots.RANK_OPTION_VALUE, SanitizationHelper.sanitizeForHtml(name),
-                Slots.TEAM, SanitizationHelper.sanitizeForHtml(currentUserTeam),
-                Slots.RANK_RECIEVED, ranksReceivedAsString,
-                Slots.RANK_SELF, selfRank,
-                Slots.RANK_OVERALL, overallRank,
-                Slots.RANK_EXCLUDING_SELF_OVERALL, overallRankExceptSelf);
-
-        String statsTitle = isRecipientTypeTeam ? "Summary of responses received by your team"
-                : "Summary of responses received by you";
-        return Templates.populateTemplate(FormTemplates.RANK_RESULT_RECIPIENT_STATS,
-                Slots.SUMMARY_TITLE, statsTitle,
-                Slots.RANK_OPTION_RECIPIENT_DISPLAY_NAME, "Recipient",
-                Slots.FRAGMENTS, fragments);
+        return statistics.getRecipientStatistics(currentUserIdentifier,
+                bundle.getNameForEmail(currentUserIdentifier), currentUserTeam);
     }
 
     @Override
@@ -313,55 +304,71 @@ public class FeedbackRankRecipientsQuestionDetails extends FeedbackRankQuestionD
             List<FeedbackResponseAttributes> responses,
             FeedbackSessionResultsBundle bundle) {
         StringBuilder fragments = new StringBuilder();
+        for (RecipientStatisticsOutput recipientStatistics : getInstructorRecipientStatistics(responses, bundle)) {
+            fragments.append(getStatisticsFragmentHtml(recipientStatistics));
+        }
 
-        Map<String, List<Integer>> recipientRanks = generateOptionRanksMapping(responses);
-
-        Map<String, Integer> recipientOverallRank = generateNormalizedOverallRankMapping(recipientRanks);
-
-        Map<String, List<Integer>> recipientRanksExcludingSelf = getRecipientRanksExcludingSelf(responses);
-
-        Map<String, Integer> recipientOverallRankExceptSelf =
-                generateNormalizedOverallRankMapping(recipientRanksExcludingSelf);
-
-        Map<String, Integer> recipientSelfRanks = generateSelfRankForEachRecipient(responses);
-
-        String fragmentTemplateToUse = FormTemplates.RANK_RESULT_STATS_RECIPIENTFRAGMENT;
-        String templateToUse = FormTemplates.RANK_RESULT_RECIPIENT_STATS;
-
-        recipientRanks.forEach((participantIdentifier, ranks) -> {
-
-            String ranksReceived = getListOfRanksReceivedAsString(ranks);
-            String overallRank = Integer.toString(recipientOverallRank.get(participantIdentifier));
-            String name = bundle.getNameForEmail(participantIdentifier);
-            String teamName = bundle.getTeamNameForEmail(participantIdentifier);
-            String overallRankExceptSelf = recipientOverallRankExceptSelf.containsKey(participantIdentifier)
-                    ? Integer.toString(recipientOverallRankExceptSelf.get(participantIdentifier)) : "-";
-            String selfRank = recipientSelfRanks.containsKey(participantIdentifier)
-                    ? Integer.toString(recipientSelfRanks.get(participantIdentifier)) : "-";
-
-            fragments.append(Templates.populateTemplate(fragmentTemplateToUse,
-                    Slots.RANK_OPTION_VALUE, SanitizationHelper.sanitizeForHtml(name),
-                    Slots.TEAM, SanitizationHelper.sanitizeForHtml(teamName),
-                    Slots.RANK_RECIEVED, ranksReceived,
-                    Slots.RANK_SELF, selfRank,
-                    Slots.RANK_OVERALL, overallRank,
-                    Slots.RANK_EXCLUDING_SELF_OVERALL, overallRankExceptSelf));
-
-        });
-
-        return Templates.populateTemplate(templateToUse,
+        return Templates.populateTemplate(FormTemplates.RANK_RESULT_RECIPIENT_STATS,
                 Slots.SUMMARY_TITLE, "Response Summary",
                 Slots.RANK_OPTION_RECIPIENT_DISPLAY_NAME, "Recipient",
                 Slots.FRAGMENTS, fragments.toString());
 
     }
 
+    /**
+     * Returns the statistics of the ranks received by each recipient of the responses.
+     */
+    private List<RecipientStatisticsOutput> getInstructorRecipientStatistics(
+            List<FeedbackResponseAttributes> responses, FeedbackSessionResultsBundle bundle) {
+        RankRecipientsStatistics statistics = new RankRecipientsStatistics(responses);
+
+        List<RecipientStatisticsOutput> recipientStatistics = new ArrayList<>();
+        for (String participantIdentifier : statistics.ranks.getRecipients()) {
+            recipientStatistics.add(statistics.getRecipientStatistics(participantIdentifier,
+                    bundle.getNameForEmail(participantIdentifier), bundle.getTeamNameForEmail(participantIdentifier)));
+        }
+        return recipientStatistics;
+    }
+
+    private String getStatisticsFragmentHtml(RecipientStatisticsOutput recipientStatistics) {
+        // the ranks are displayed in ascending order
+        String ranksReceived = getListOfRanksReceivedAsString(new ArrayList<>(recipientStatistics.ranksReceived));
+
+        return Templates.populateTemplate(FormTemplates.RANK_RESULT_STATS_RECIPIENTFRAGMENT,
+                Slots.RANK_OPTION_VALUE, SanitizationHelper.sanitizeForHtml(recipientStatistics.recipientName),
+                Slots.TEAM, SanitizationHelper.sanitizeForHtml(recipientStatistics.recipientTeam),
+                Slots.RANK_RECIEVED, ranksReceived,
+                Slots.RANK_SELF, toRankText(recipientStatistics.selfRank),
+                Slots.RANK_OVERALL, Integer.toString(recipientStatistics.overallRank),
+                Slots.RANK_EXCLUDING_SELF_OVERALL, toRankText(recipientStatistics.overallRankExcludingSelf));
+    }
+
+    /**
+     * Returns the rank to display, or a dash if there is no such rank.
+     */
+    private static String toRankText(Integer rank) {
+        return rank == null ? "-" : Integer.toString(rank);
+    }
+
     @Override
     public String getQuestionResultStatisticsJson(
             List<FeedbackResponseAttributes> responses, FeedbackQuestionAttributes question,
             String userEmail, FeedbackSessionResultsBundle bundle, boolean isStudent) {
-        // TODO
-        return "";
+        if (responses.isEmpty()) {
+            return "";
+        }
+
+        RankRecipientsStatisticsOutput output = new RankRecipientsStatisticsOutput();
+        if (isStudent) {
+            RecipientStatisticsOutput recipientStatistics = getStudentRecipientStatistics(userEmail, question, bundle);
+            if (recipientStatistics == null) {
+                return "";
+            }
+            output.recipients = Collections.singletonList(recipientStatistics);
+        } else {
+            output.recipients = getInstructorRecipientStatistics(responses, bundle);
+        }
+        return JsonUtils.toJson(output);
     }
 
     @Override
@@ -374,112 +381,24 @@ public class FeedbackRankRecipientsQuestionDetails extends FeedbackRankQuestionD
         }
 
         StringBuilder fragments = new StringBuilder();
-
-        Map<String, List<Integer>> recipientRanks = generateOptionRanksMapping(responses);
-
-        Map<String, Integer> recipientOverallRank = generateNormalizedOverallRankMapping(recipientRanks);
-
-        Map<String, List<Integer>> recipientRanksExcludingSelf = getRecipientRanksExcludingSelf(responses);
-
-        Map<String, Integer> recipientOverallRankExceptSelf =
-                generateNormalizedOverallRankMapping(recipientRanksExcludingSelf);
-
-        Map<String, Integer> recipientSelfRanks = generateSelfRankForEachRecipient(responses);
-
-        recipientRanks.forEach((participantIdentifier, ranks) -> {
-
-            String teamName = bundle.getTeamNameForEmail(participantIdentifier);
-            String recipientName = bundle.getNameForEmail(participantIdentifier);
-            String option = SanitizationHelper.sanitizeForCsv(teamName)
+        for (RecipientStatisticsOutput recipientStatistics : getInstructorRecipientStatistics(responses, bundle)) {
+            String option = SanitizationHelper.sanitizeForCsv(recipientStatistics.recipientTeam)
                             + ","
-                            + SanitizationHelper.sanitizeForCsv(recipientName);
-
-            String overallRankExceptSelf = recipientOverallRankExceptSelf.containsKey(participantIdentifier)
-                    ? Integer.toString(recipientOverallRankExceptSelf.get(participantIdentifier)) : "-";
-            String overallRank = Integer.toString(recipientOverallRank.get(participantIdentifier));
-            String selfRank = recipientSelfRanks.containsKey(participantIdentifier)
-                    ? Integer.toString(recipientSelfRanks.get(participantIdentifier)) : "-";
+                            + SanitizationHelper.sanitizeForCsv(recipientStatistics.recipientName);
 
             fragments.append(option);
-            fragments.append(',').append(selfRank);
-            fragments.append(',').append(overallRank);
-            fragments.append(',').append(overallRankExceptSelf);
+            fragments.append(',').append(toRankText(recipientStatistics.selfRank));
+            fragments.append(',').append(recipientStatistics.overallRank);
+            fragments.append(',').append(toRankText(recipientStatistics.overallRankExcludingSelf));
             fragments.append(',');
-            fragments.append(StringHelper.join(",", ranks));
+            fragments.append(StringHelper.join(",", recipientStatistics.ranksReceived));
             fragments.append(System.lineSeparator());
-        });
+        }
 
         return "Team, Recipient, Self Rank, Overall Rank, Overall Rank Excluding Self, Ranks Received"
                 + System.lineSeparator() + fragments + System.lineSeparator();
     }
 
-    /**
-     * From the feedback responses, generate a mapping of the option to a list of
-     * ranks received for that option.
-     * The key of the map returned is the recipient's participant identifier.
-     * The values of the map are list of ranks received by the recipient.
-     * @param responses  a list of responses
-     */
-    private Map<String, List<Integer>> generateOptionRanksMapping(List<FeedbackResponseAttributes> responses) {
-
-        Map<FeedbackResponseAttributes, Integer> normalisedRankOfResponse = getNormalisedRankForEachResponse(responses);
-
-        Map<String, List<Integer>> optionRanks = new HashMap<>();
-        for (FeedbackResponseAttributes response : responses) {
-            updateOptionRanksMapping(optionRanks, response.recipient, normalisedRankOfResponse.get(response));
-        }
-
-        return optionRanks;
-    }
-
-    /**
-     * Generates a key, value mapping. Each key corresponds to a recipient and its value is the normalised self rank.
-     * @param responses  a list of responses
-     */
-    private Map<String, Integer> generateSelfRankForEachRecipient(List<FeedbackResponseAttributes> responses) {
-        Map<FeedbackResponseAttributes, Integer> normalisedRankOfResponse = getNormalisedRankForEachResponse(responses);
-        Map<String, Integer> recipientToSelfRank = new HashMap<>();
-
-        for (FeedbackResponseAttributes response : responses) {
-            if (response.recipient.equalsIgnoreCase(response.giver)) {
-                recipientToSelfRank.put(response.recipient, normalisedRankOfResponse.get(response));
-            }
-        }
-
-        return recipientToSelfRank;
-    }
-
-    /**
-     * Returns a map of response to the normalised rank by resolving ties for each giver's set of responses.
-     * @see FeedbackRankQuestionDetails#obtainMappingToNormalisedRanksForRanking(Map, List) for how ties are resolved
-     */
-    private Map<FeedbackResponseAttributes, Integer> getNormalisedRankForEachResponse(
-                                                            List<FeedbackResponseAttributes> responses) {
-
-        // collect each giver's responses
-        Map<String, List<FeedbackResponseAttributes>> responsesGivenByPerson = new HashMap<>();
-        for (FeedbackResponseAttributes response : responses) {
-            responsesGivenByPerson.computeIfAbsent(response.giver, key -> new ArrayList<>())
-                                  .add(response);
-        }
-
-        // generate response-responseDetails pair
-        Map<FeedbackResponseAttributes, Integer> rankOfResponse = new HashMap<>();
-        for (FeedbackResponseAttributes res : responses) {
-            FeedbackRankRecipientsResponseDetails frd = (FeedbackRankRecipientsResponseDetails) res.getResponseDetails();
-            rankOfResponse.put(res, frd.answer);
-        }
-
-        // resolve ties for each giver's responses
-        Map<FeedbackResponseAttributes, Integer> normalisedRankOfResponse = new HashMap<>();
-        responsesGivenByPerson.forEach((key, feedbackResponseAttributesList) -> {
-            normalisedRankOfResponse.putAll(obtainMappingToNormalisedRanksForRanking(rankOfResponse,
-                    feedbackResponseAttributesList));
-        });
-
-        return normalisedRankOfResponse;
-    }
-
     /**
      * Returns list of responses excluding responses given to self.
      *
@@ -497,14 +416,71 @@ public class FeedbackRankRecipientsQuestionDetails extends FeedbackRankQuestionD
     }
 
     /**
-     * Returns map of recipient ranks excluding self.
+     * The ranks received by each recipient of a set of responses, together with the overall ranks of the recipients.
      *
-     * @param responses list of all the responses for a question
-     * @return map of recipient ranks excluding self responses
+     * <p>The ranks given by each giver are normalised once, both with and without the giver's self response,
+     * and the ranks of all the recipients are then aggregated in one pass over the responses.
+     * @see FeedbackRankQuestionDetails#obtainMappingToNormalisedRanksForRanking(Map, List) for how ties are resolved
      */
-    private Map<String, List<Integer>> getRecipientRanksExcludingSelf(List<FeedbackResponseAttributes> responses) {
-        List<FeedbackResponseAttributes> responsesExcludingSelf = getResponsesExcludingSelf(responses);
-        return generateOptionRanksMapping(responsesExcludingSelf);
+    private class RankRecipientsStatistics {
+
+        final RecipientValueStatistics ranks = new RecipientValueStatistics(true);
+        final Map<String, Integer> overallRanks;
+        final Map<String, Integer> overallRanksExcludingSelf;
+
+        RankRecipientsStatistics(List<FeedbackResponseAttributes> responses) {
+            // collect each giver's responses
+            Map<String, List<FeedbackResponseAttributes>> responsesGivenByPerson = new HashMap<>();
+            Map<FeedbackResponseAttributes, Integer> rankOfResponse = new HashMap<>();
+            for (FeedbackResponseAttributes response : responses) {
+                responsesGivenByPerson.computeIfAbsent(response.giver, key -> new ArrayList<>())
+                                      .add(response);
+                FeedbackRankRecipientsResponseDetails frd =
+                        (FeedbackRankRecipientsResponseDetails) response.getResponseDetails();
+                rankOfResponse.put(response, frd.answer);
+            }
+
+            // resolve ties for each giver's responses, and again for the responses to others only
+            Map<FeedbackResponseAttributes, Integer> normalisedRankOfResponse = new HashMap<>();
+            Map<FeedbackResponseAttributes, Integer> normalisedRankExcludingSelfOfResponse = new HashMap<>();
+            responsesGivenByPerson.forEach((giver, responsesGiven) -> {
+                Map<FeedbackResponseAttributes, Integer> normalisedRanks =
+                        obtainMappingToNormalisedRanksForRanking(rankOfResponse, responsesGiven);
+                normalisedRankOfResponse.putAll(normalisedRanks);
+
+                List<FeedbackResponseAttributes> responsesGivenToOthers = getResponsesExcludingSelf(responsesGiven);
+                normalisedRankExcludingSelfOfResponse.putAll(responsesGivenToOthers.size() == responsesGiven.size()
+                        ? normalisedRanks
+                        : obtainMappingToNormalisedRanksForRanking(rankOfResponse, responsesGivenToOthers));
+            });
+
+            for (FeedbackResponseAttributes response : responses) {
+                int normalisedRank = normalisedRankOfResponse.get(response);
+                ranks.addValue(response.giver, response.recipient, normalisedRank,
+                        normalisedRankExcludingSelfOfResponse.getOrDefault(response, normalisedRank));
+            }
+
+            overallRanks = generateNormalizedOverallRankMappingFromAverages(ranks.getAverages(false));
+            overallRanksExcludingSelf = generateNormalizedOverallRankMappingFromAverages(ranks.getAverages(true));
+        }
+
+        RecipientStatisticsOutput getRecipientStatistics(String recipient, String recipientName, String recipientTeam) {
+            RecipientValueStatistics.Values ranksOfRecipient = ranks.get(recipient);
+
+            RecipientStatisticsOutput recipientStatistics = new RecipientStatisticsOutput();
+            recipientStatistics.recipientName = recipientName;
+            recipientStatistics.recipientTeam = recipientTeam;
+            recipientStatistics.ranksReceived = new ArrayList<>();
+            for (double rank : ranksOfRecipient.getValues()) {
+                recipientStatistics.ranksReceived.add((int) rank);
+            }
+            recipientStatistics.selfRank =
+                    ranksOfRecipient.getSelfValue() == null ? null : ranksOfRecipient.getSelfValue().intValue();
+            recipientStatistics.overallRank = overallRanks.get(recipient);
+            recipientStatistics.overallRankExcludingSelf = overallRanksExcludingSelf.get(recipient);
+            return recipientStatistics;
+        }
+
     }
 
     @Override
@@ -566,4 +542,24 @@ public class FeedbackRankRecipientsQuestionDetails extends FeedbackRankQuestionD
     public String validateGiverRecipientVisibility(FeedbackQuestionAttributes feedbackQuestionAttributes) {
         return "";
     }
+
+    /**
+     * Statistics of the ranks of a rank recipients question.
+     */
+    private static class RankRecipientsStatisticsOutput {
+        List<RecipientStatisticsOutput> recipients;
+    }
+
+    /**
+     * Statistics of the ranks received by a recipient of a rank recipients question.
+     */
+    private static class RecipientStatisticsOutput {
+        String recipientName;
+        String recipientTeam;
+        List<Integer> ranksReceived;
+        Integer selfRank;
+        int overallRank;
+        Integer overallRankExcludingSelf;
+    }
+
 }
@@ -2,12 +2,13 @@ package teammates.common.datatransfer.questions;
 
 import java.text.DecimalFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
@@ -17,6 +18,7 @@ import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const;
 import teammates.common.util.HttpRequestHelper;
+import teammates.common.util.JsonUtils;
 import teammates.common.util.Logger;
 import teammates.common.util.SanitizationHelper;
 import teammates.common.util.StringHelper;
@@ -583,12 +585,13 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
                                                   FeedbackQuestionAttributes question, String studentEmail,
                                                   FeedbackSessionResultsBundle bundle, String view) {
 
-        List<FeedbackResponseAttributes> responsesForStatistics =
-                filterResponsesForStatistics(responses, question, studentEmail, bundle, view);
-
         FeedbackRubricQuestionDetails fqd =
                 (FeedbackRubricQuestionDetails) question.getQuestionDetails();
 
+        RubricStatistics statistics = new RubricStatistics(fqd, responses);
+        RubricStatistics statisticsForView =
+                getStatisticsForView(statistics, question, studentEmail, bundle, "student".equals(view));
+
         FeedbackParticipantType recipientType = question.getRecipientType();
         boolean isExcludingSelfOptionAvailable =
                 recipientType.equals(FeedbackParticipantType.OWN_TEAM_MEMBERS_INCLUDING_SELF);
@@ -612,8 +615,8 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
             tableHeaderFragmentHtml.append(tableHeaderAverageCell).append(System.lineSeparator());
         }
 
-        int[][] responseFrequency = calculateResponseFrequency(responsesForStatistics, fqd);
-        float[][] rubricStats = calculatePercentageFrequencyAndAverage(fqd, responseFrequency);
+        int[][] responseFrequency = statisticsForView.getResponseFrequency(false);
+        float[][] rubricStats = statisticsForView.getPercentageFrequencyAndAverage(false);
 
         StringBuilder tableBodyHtml = getQuestionResultsStatisticsBodyHtml(fqd, responseFrequency, rubricStats);
 
@@ -621,10 +624,8 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
 
         if (isExcludingSelfOptionAvailable) {
 
-            int[][] responseFrequencyExcludingSelf =
-                    calculateResponseFrequencyExcludingSelf(responsesForStatistics, fqd);
-            float[][] rubricStatsExcludingSelf = calculatePercentageFrequencyAndAverage(fqd,
-                    responseFrequencyExcludingSelf);
+            int[][] responseFrequencyExcludingSelf = statisticsForView.getResponseFrequency(true);
+            float[][] rubricStatsExcludingSelf = statisticsForView.getPercentageFrequencyAndAverage(true);
             tableBodyExcludingSelfHtml = getQuestionResultsStatisticsBodyHtml(fqd,
                     responseFrequencyExcludingSelf, rubricStatsExcludingSelf);
         } else {
@@ -635,7 +636,7 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
         String statsTitle = "Response Summary";
 
         if ("student".equals(view)) {
-            if (responses.size() == responsesForStatistics.size()) {
+            if (statistics.getNumOfResponses() == statisticsForView.getNumOfResponses()) {
                 statsTitle = "Response Summary (of visible responses)";
             } else {
                 statsTitle = "Response Summary (of received responses)";
@@ -646,7 +647,7 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
 
         if (hasAssignedWeights) {
             List<Map.Entry<String, RubricRecipientStatistics>> recipientStatsList =
-                    getPerRecipientStatisticsSorted(responses, bundle);
+                    getPerRecipientStatisticsSorted(statistics, bundle);
             StringBuilder bodyBuilder = new StringBuilder(100);
 
             for (Map.Entry<String, RubricRecipientStatistics> entry : recipientStatsList) {
@@ -721,16 +722,15 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
     }
 
     /**
-     * Returns a list of FeedbackResponseAttributes filtered according to view, question recipient type
-     * for the Statistics Table.
+     * Returns the statistics of the responses to be shown in the statistics table according to the view:
+     * a student sees the statistics of the responses received by the student (or the team of the student),
+     * unless the question is not about other students or teams.
      */
-    private List<FeedbackResponseAttributes> filterResponsesForStatistics(
-            List<FeedbackResponseAttributes> responses, FeedbackQuestionAttributes question,
-            String studentEmail, FeedbackSessionResultsBundle bundle, String view) {
+    private RubricStatistics getStatisticsForView(RubricStatistics statistics, FeedbackQuestionAttributes question,
+            String studentEmail, FeedbackSessionResultsBundle bundle, boolean isViewedByStudent) {
 
-        boolean isViewedByStudent = "student".equals(view);
         if (!isViewedByStudent) {
-            return responses;
+            return statistics;
         }
 
         FeedbackParticipantType recipientType = question.getRecipientType();
@@ -740,23 +740,15 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
                 || recipientType.equals(FeedbackParticipantType.SELF);
 
         if (isFilteringSkipped) {
-            return responses;
+            return statistics;
         }
 
         boolean isFilteringByTeams = recipientType.equals(FeedbackParticipantType.OWN_TEAM)
                 || recipientType.equals(FeedbackParticipantType.TEAMS);
 
-        List<FeedbackResponseAttributes> receivedResponses = new ArrayList<>();
         String recipientString = isFilteringByTeams ? bundle.getTeamNameForEmail(studentEmail) : studentEmail;
 
-        for (FeedbackResponseAttributes response : responses) {
-            boolean isReceivedResponse = response.recipient.equals(recipientString);
-            if (isReceivedResponse) {
-                receivedResponses.add(response);
-            }
-        }
-
-        return receivedResponses;
+        return statistics.getRecipientStatistics(recipientString);
     }
 
     /**
@@ -779,8 +771,65 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
     public String getQuestionResultStatisticsJson(
             List<FeedbackResponseAttributes> responses, FeedbackQuestionAttributes question,
             String userEmail, FeedbackSessionResultsBundle bundle, boolean isStudent) {
-        // TODO
-        return "";
+        if (responses.isEmpty()) {
+            return "";
+        }
+
+        RubricStatistics statistics = new RubricStatistics(this, responses);
+        RubricStatistics statisticsForView = getStatisticsForView(statistics, question, userEmail, bundle, isStudent);
+
+        RubricStatisticsOutput output = new RubricStatisticsOutput();
+        output.subQuestions = getSubQuestionStatisticsOutput(statisticsForView, false);
+        if (question.getRecipientType().equals(FeedbackParticipantType.OWN_TEAM_MEMBERS_INCLUDING_SELF)) {
+            output.subQuestionsExcludingSelf = getSubQuestionStatisticsOutput(statisticsForView, true);
+        }
+        if (hasAssignedWeights) {
+            output.perRecipient = new ArrayList<>();
+            for (Map.Entry<String, RubricRecipientStatistics> entry
+                    : getPerRecipientStatisticsSorted(statistics, bundle)) {
+                RubricRecipientStatistics recipientStatistics = entry.getValue();
+                RecipientStatisticsOutput recipientOutput = new RecipientStatisticsOutput();
+                recipientOutput.recipientName = recipientStatistics.recipientName;
+                recipientOutput.recipientTeam = recipientStatistics.recipientTeam;
+                recipientOutput.subQuestions = new ArrayList<>();
+                for (int i = 0; i < numOfRubricSubQuestions; i++) {
+                    SubQuestionStatisticsOutput subQuestionOutput = new SubQuestionStatisticsOutput();
+                    subQuestionOutput.subQuestion = rubricSubQuestions.get(i);
+                    subQuestionOutput.answerCounts = Arrays.copyOf(
+                            recipientStatistics.numOfResponsesPerSubQuestionPerChoice[i], numOfRubricChoices);
+                    subQuestionOutput.numOfResponses = recipientStatistics.respondentsPerSubQuestion[i];
+                    subQuestionOutput.total = recipientStatistics.totalPerSubQuestion[i];
+                    subQuestionOutput.average = recipientStatistics.respondentsPerSubQuestion[i] == 0 ? 0
+                            : recipientStatistics.totalPerSubQuestion[i] / recipientStatistics.respondentsPerSubQuestion[i];
+                    recipientOutput.subQuestions.add(subQuestionOutput);
+                }
+                output.perRecipient.add(recipientOutput);
+            }
+        }
+        return JsonUtils.toJson(output);
+    }
+
+    private List<SubQuestionStatisticsOutput> getSubQuestionStatisticsOutput(RubricStatistics statistics,
+                                                                             boolean isExcludingSelf) {
+        int[][] responseFrequency = statistics.getResponseFrequency(isExcludingSelf);
+        float[][] rubricStats = statistics.getPercentageFrequencyAndAverage(isExcludingSelf);
+
+        List<SubQuestionStatisticsOutput> subQuestionOutputs = new ArrayList<>();
+        for (int i = 0; i < numOfRubricSubQuestions; i++) {
+            SubQuestionStatisticsOutput subQuestionOutput = new SubQuestionStatisticsOutput();
+            subQuestionOutput.subQuestion = rubricSubQuestions.get(i);
+            subQuestionOutput.answerCounts = Arrays.copyOf(responseFrequency[i], numOfRubricChoices);
+            subQuestionOutput.numOfResponses = responseFrequency[i][numOfRubricChoices];
+            subQuestionOutput.percentages = new float[numOfRubricChoices];
+            for (int j = 0; j < numOfRubricChoices; j++) {
+                subQuestionOutput.percentages[j] = rubricStats[i][j] * 100;
+            }
+            if (hasAssignedWeights && subQuestionOutput.numOfResponses > 0) {
+                subQuestionOutput.average = (double) rubricStats[i][numOfRubricChoices];
+            }
+            subQuestionOutputs.add(subQuestionOutput);
+        }
+        return subQuestionOutputs;
     }
 
     @Override
@@ -808,9 +857,9 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
         // table body
         DecimalFormat dfAverage = new DecimalFormat("0.00");
 
-        int[][] responseFrequency = calculateResponseFrequency(responses, this);
-        float[][] rubricStats = calculatePercentageFrequencyAndAverage(this,
-                responseFrequency);
+        RubricStatistics statistics = new RubricStatistics(this, responses);
+        int[][] responseFrequency = statistics.getResponseFrequency(false);
+        float[][] rubricStats = statistics.getPercentageFrequencyAndAverage(false);
 
         for (int i = 0; i < rubricSubQuestions.size(); i++) {
             String alphabeticalIndex = StringHelper.integerToLowerCaseAlphabeticalIndex(i + 1);
@@ -837,24 +886,22 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
             csv.append(System.lineSeparator())
                 .append("Per Recipient Statistics").append(System.lineSeparator())
                 .append(getPerRecipientStatisticsHeader())
-                .append(getPerRecipientStatisticsCsv(responses, bundle));
+                .append(getPerRecipientStatisticsCsv(statistics, bundle));
         }
 
         return csv.toString();
     }
 
-    public List<Map.Entry<String, RubricRecipientStatistics>> getPerRecipientStatisticsSorted(
-            List<FeedbackResponseAttributes> responses,
+    private List<Map.Entry<String, RubricRecipientStatistics>> getPerRecipientStatisticsSorted(
+            RubricStatistics statistics,
             FeedbackSessionResultsBundle bundle) {
         Map<String, RubricRecipientStatistics> recipientToRecipientStats = new HashMap<>();
 
-        for (FeedbackResponseAttributes response : responses) {
-            recipientToRecipientStats.computeIfAbsent(response.recipient, recipient -> {
-                String recipientTeam = bundle.getTeamNameForEmail(recipient);
-                String recipientName = bundle.getNameForEmail(recipient);
-                return new RubricRecipientStatistics(recipient, recipientName, recipientTeam);
-            })
-                .addResponseToRecipientStats(response);
+        for (String recipient : statistics.getRecipients()) {
+            String recipientTeam = bundle.getTeamNameForEmail(recipient);
+            String recipientName = bundle.getNameForEmail(recipient);
+            recipientToRecipientStats.put(recipient, new RubricRecipientStatistics(recipient, recipientName,
+                    recipientTeam, statistics.getRecipientStatistics(recipient)));
         }
 
         List<Map.Entry<String, RubricRecipientStatistics>> recipientStatsList =
@@ -865,11 +912,11 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
         return recipientStatsList;
     }
 
-    public String getPerRecipientStatisticsCsv(List<FeedbackResponseAttributes> responses,
+    private String getPerRecipientStatisticsCsv(RubricStatistics statistics,
             FeedbackSessionResultsBundle bundle) {
         StringBuilder csv = new StringBuilder(100);
         List<Map.Entry<String, RubricRecipientStatistics>> recipientStatsList =
-                getPerRecipientStatisticsSorted(responses, bundle);
+                getPerRecipientStatisticsSorted(statistics, bundle);
 
         for (Map.Entry<String, RubricRecipientStatistics> entry : recipientStatsList) {
             csv.append(entry.getValue().getCsvForAllSubQuestions());
@@ -1094,50 +1141,6 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
         return rubricSubQuestions;
     }
 
-    /**
-     * Returns the frequency of being selected for each choice of each sub-question
-     * and the total number of responses for each sub-question.
-     *
-     * <p>Last element in each row stores the total number of responses for the sub-question.
-     *
-     * <p>e.g.<br>
-     * responseFrequency[subQuestionIndex][choiceIndex]
-     * -> is the number of times choiceIndex is chosen for subQuestionIndex.<br>
-     * responseFrequency[subQuestionIndex][numOfRubricChoices]
-     * -> is the total number of the responses for the given sub-question.
-     */
-    private static int[][] calculateResponseFrequency(List<FeedbackResponseAttributes> responses,
-            FeedbackRubricQuestionDetails questionDetails) {
-        int numOfRubricSubQuestions = questionDetails.getNumOfRubricSubQuestions();
-        int numOfRubricChoices = questionDetails.getNumOfRubricChoices();
-
-        int[][] responseFrequency = new int[numOfRubricSubQuestions][numOfRubricChoices + 1];
-        // count frequencies
-        for (FeedbackResponseAttributes response : responses) {
-            FeedbackRubricResponseDetails frd = (FeedbackRubricResponseDetails) response.getResponseDetails();
-            for (int i = 0; i < numOfRubricSubQuestions; i++) {
-                int chosenChoice = frd.getAnswer(i);
-                if (chosenChoice != -1) {
-                    responseFrequency[i][chosenChoice] += 1;
-                    responseFrequency[i][numOfRubricChoices] += 1;
-                }
-            }
-        }
-        return responseFrequency;
-    }
-
-    /**
-     * Returns the frequency of being selected for each choice of each sub-question
-     * and the total number of responses for each sub-question for excluding self.
-     */
-    private static int[][] calculateResponseFrequencyExcludingSelf(
-            List<FeedbackResponseAttributes> responses, FeedbackRubricQuestionDetails questionDetails) {
-
-        List<FeedbackResponseAttributes> responsesExcludingSelf = responses.stream()
-                .filter(response -> !response.giver.equals(response.recipient)).collect(Collectors.toList());
-        return calculateResponseFrequency(responsesExcludingSelf, questionDetails);
-    }
-
     /**
      * Returns the calculated percentage frequencies for each choice and average value for each sub-question
      * The percentage value between [0,1] of each choice being selected for the sub-question.
@@ -1187,6 +1190,159 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
         return percentageFrequencyAndAverage;
     }
 
+    /**
+     * Statistics of the responses to a rubric question: the number of times each choice is chosen
+     * for each sub-question, in all the responses, in the responses excluding self-responses,
+     * and in the responses to each recipient.
+     *
+     * <p>The statistics are collected in a single pass over the responses.
+     */
+    public static class RubricStatistics {
+
+        private final FeedbackRubricQuestionDetails questionDetails;
+        private final int[][] responseFrequency;
+        private final int[][] responseFrequencyExcludingSelf;
+        private int numOfResponses;
+        /** Whether the statistics of each recipient are collected; false in the statistics of a recipient. */
+        private final boolean isCollectingPerRecipient;
+        private final Map<String, RubricStatistics> recipientStatistics = new HashMap<>();
+
+        public RubricStatistics(FeedbackRubricQuestionDetails questionDetails,
+                                List<FeedbackResponseAttributes> responses) {
+            this(questionDetails, true);
+            for (FeedbackResponseAttributes response : responses) {
+                addResponse(response);
+            }
+        }
+
+        private RubricStatistics(FeedbackRubricQuestionDetails questionDetails, boolean isCollectingPerRecipient) {
+            this.questionDetails = questionDetails;
+            int numOfRubricSubQuestions = questionDetails.getNumOfRubricSubQuestions();
+            int numOfRubricChoices = questionDetails.getNumOfRubricChoices();
+            this.responseFrequency = new int[numOfRubricSubQuestions][numOfRubricChoices + 1];
+            this.responseFrequencyExcludingSelf = new int[numOfRubricSubQuestions][numOfRubricChoices + 1];
+            this.isCollectingPerRecipient = isCollectingPerRecipient;
+        }
+
+        private void addResponse(FeedbackResponseAttributes response) {
+            FeedbackRubricResponseDetails frd = (FeedbackRubricResponseDetails) response.getResponseDetails();
+            boolean isSelfResponse = response.giver.equals(response.recipient);
+
+            countChoices(frd, isSelfResponse);
+            if (isCollectingPerRecipient) {
+                recipientStatistics.computeIfAbsent(response.recipient,
+                        recipient -> new RubricStatistics(questionDetails, false))
+                        .countChoices(frd, isSelfResponse);
+            }
+        }
+
+        private void countChoices(FeedbackRubricResponseDetails frd, boolean isSelfResponse) {
+            int numOfRubricChoices = questionDetails.getNumOfRubricChoices();
+            numOfResponses++;
+            for (int i = 0; i < responseFrequency.length; i++) {
+                int chosenChoice = frd.getAnswer(i);
+                if (chosenChoice == -1) {
+                    continue;
+                }
+                responseFrequency[i][chosenChoice]++;
+                responseFrequency[i][numOfRubricChoices]++;
+                if (!isSelfResponse) {
+                    responseFrequencyExcludingSelf[i][chosenChoice]++;
+                    responseFrequencyExcludingSelf[i][numOfRubricChoices]++;
+                }
+            }
+        }
+
+        public int getNumOfResponses() {
+            return numOfResponses;
+        }
+
+        /**
+         * Returns the frequency of being selected for each choice of each sub-question
+         * and the total number of responses for each sub-question.
+         *
+         * <p>Last element in each row stores the total number of responses for the sub-question.
+         *
+         * <p>e.g.<br>
+         * responseFrequency[subQuestionIndex][choiceIndex]
+         * -> is the number of times choiceIndex is chosen for subQuestionIndex.<br>
+         * responseFrequency[subQuestionIndex][numOfRubricChoices]
+         * -> is the total number of the responses for the given sub-question.
+         *
+         * @param isExcludingSelf whether responses given by the recipients to themselves are left out
+         */
+        public int[][] getResponseFrequency(boolean isExcludingSelf) {
+            return isExcludingSelf ? responseFrequencyExcludingSelf : responseFrequency;
+        }
+
+        /**
+         * Returns the percentage frequency of each choice and the average value of each sub-question.
+         *
+         * @see #getResponseFrequency(boolean)
+         */
+        public float[][] getPercentageFrequencyAndAverage(boolean isExcludingSelf) {
+            return calculatePercentageFrequencyAndAverage(questionDetails, getResponseFrequency(isExcludingSelf));
+        }
+
+        /**
+         * Returns the sum of the weights of the choices chosen for the sub-question.
+         */
+        public double getWeightedTotal(int subQuestion) {
+            List<Double> weights = questionDetails.getRubricWeights().get(subQuestion);
+            double total = 0;
+            for (int i = 0; i < questionDetails.getNumOfRubricChoices(); i++) {
+                total += responseFrequency[subQuestion][i] * weights.get(i);
+            }
+            return total;
+        }
+
+        /**
+         * Returns the recipients of the responses; empty for the statistics of a recipient.
+         */
+        public Set<String> getRecipients() {
+            return recipientStatistics.keySet();
+        }
+
+        /**
+         * Returns the statistics of the responses to the recipient;
+         * empty statistics for the statistics of a recipient.
+         */
+        public RubricStatistics getRecipientStatistics(String recipient) {
+            RubricStatistics statistics = recipientStatistics.get(recipient);
+            return statistics == null ? new RubricStatistics(questionDetails, false) : statistics;
+        }
+    }
+
+    /**
+     * Statistics of a rubric question in the format returned in the session results.
+     */
+    private static class RubricStatisticsOutput {
+        List<SubQuestionStatisticsOutput> subQuestions;
+        List<SubQuestionStatisticsOutput> subQuestionsExcludingSelf;
+        List<RecipientStatisticsOutput> perRecipient;
+    }
+
+    /**
+     * Statistics of a sub-question of a rubric question.
+     */
+    private static class SubQuestionStatisticsOutput {
+        String subQuestion;
+        int[] answerCounts;
+        float[] percentages;
+        int numOfResponses;
+        Double total;
+        Double average;
+    }
+
+    /**
+     * Statistics of the responses to a recipient of a rubric question.
+     */
+    private static class RecipientStatisticsOutput {
+        String recipientName;
+        String recipientTeam;
+        List<SubQuestionStatisticsOutput> subQuestions;
+    }
+
     /**
      * Class to store any stats related to a recipient.
      */
@@ -1199,33 +1355,21 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
         int[] respondentsPerSubQuestion;
         List<List<Double>> weights;
 
-        RubricRecipientStatistics(String recipientEmail, String recipientName, String recipientTeam) {
+        RubricRecipientStatistics(String recipientEmail, String recipientName, String recipientTeam,
+                                  RubricStatistics statisticsOfRecipient) {
             Assumption.assertTrue("Per Recipient Stats is only available when weights are enabled", hasAssignedWeights);
             this.recipientEmail = recipientEmail;
             this.recipientName = recipientName;
             this.recipientTeam = recipientTeam;
-            numOfResponsesPerSubQuestionPerChoice = new int[getNumOfRubricSubQuestions()][getNumOfRubricChoices()];
+            // the last element of each row, the number of responses to the sub-question, is not a choice
+            numOfResponsesPerSubQuestionPerChoice = statisticsOfRecipient.getResponseFrequency(false);
             totalPerSubQuestion = new double[getNumOfRubricSubQuestions()];
             respondentsPerSubQuestion = new int[getNumOfRubricSubQuestions()];
-            weights = getRubricWeights();
-        }
-
-        public void addResponseToRecipientStats(FeedbackResponseAttributes response) {
-            if (!response.recipient.equalsIgnoreCase(recipientEmail)) {
-                return;
-            }
-
-            FeedbackRubricResponseDetails rubricResponse = (FeedbackRubricResponseDetails) response.getResponseDetails();
-
             for (int i = 0; i < getNumOfRubricSubQuestions(); i++) {
-                int choice = rubricResponse.getAnswer(i);
-
-                if (choice >= 0) {
-                    ++numOfResponsesPerSubQuestionPerChoice[i][choice];
-                    totalPerSubQuestion[i] += weights.get(i).get(choice);
-                    respondentsPerSubQuestion[i]++;
-                }
+                totalPerSubQuestion[i] = statisticsOfRecipient.getWeightedTotal(i);
+                respondentsPerSubQuestion[i] = numOfResponsesPerSubQuestionPerChoice[i][getNumOfRubricChoices()];
             }
+            weights = getRubricWeights();
         }
 
         /**
@@ -0,0 +1,183 @@
+package teammates.common.datatransfer.questions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Statistics of the values received by each recipient of a question, e.g. the scores of a numerical scale question
+ * or the ranks of a rank recipients question, accumulated in one pass over the responses.
+ *
+ * <p>The statistics of a set of responses are computed once and then used for every output built from them.
+ */
+public class RecipientValueStatistics {
+
+    private final boolean isKeepingValues;
+    private final Map<String, Values> valuesByRecipient = new HashMap<>();
+    private boolean hasValueExcludingSelf;
+
+    /**
+     * Creates empty statistics.
+     *
+     * @param isKeepingValues whether each value added is kept, in addition to the aggregates of the values
+     */
+    public RecipientValueStatistics(boolean isKeepingValues) {
+        this.isKeepingValues = isKeepingValues;
+    }
+
+    /**
+     * Adds a value given by {@code giver} to {@code recipient}.
+     */
+    public void addValue(String giver, String recipient, double value) {
+        addValue(giver, recipient, value, value);
+    }
+
+    /**
+     * Adds a value given by {@code giver} to {@code recipient}.
+     *
+     * @param valueExcludingSelf the value aggregated in the statistics excluding self responses, which differs from
+     *                           {@code value} when a value depends on the other values given by the same giver
+     */
+    public void addValue(String giver, String recipient, double value, double valueExcludingSelf) {
+        Values values = valuesByRecipient.computeIfAbsent(recipient, key -> new Values(isKeepingValues));
+        boolean isSelfResponse = giver.equalsIgnoreCase(recipient);
+        values.add(value, isSelfResponse ? null : valueExcludingSelf, isSelfResponse);
+        hasValueExcludingSelf |= !isSelfResponse;
+    }
+
+    public boolean isEmpty() {
+        return valuesByRecipient.isEmpty();
+    }
+
+    /**
+     * Returns the recipients who received at least one value.
+     */
+    public Set<String> getRecipients() {
+        return Collections.unmodifiableSet(valuesByRecipient.keySet());
+    }
+
+    /**
+     * Returns the statistics of the values received by {@code recipient}, or null if there is none.
+     */
+    public Values get(String recipient) {
+        return valuesByRecipient.get(recipient);
+    }
+
+    /**
+     * Returns the number of values received by {@code recipient}.
+     */
+    public int getCount(String recipient) {
+        Values values = valuesByRecipient.get(recipient);
+        return values == null ? 0 : values.count;
+    }
+
+    /**
+     * Returns true if any recipient received a value from someone other than the recipient.
+     */
+    public boolean hasValueExcludingSelf() {
+        return hasValueExcludingSelf;
+    }
+
+    /**
+     * Returns the average value received by each recipient.
+     * Recipients without any value from others are left out when {@code isExcludingSelf} is true.
+     */
+    public Map<String, Double> getAverages(boolean isExcludingSelf) {
+        Map<String, Double> averages = new HashMap<>();
+        valuesByRecipient.forEach((recipient, values) -> {
+            Double average = isExcludingSelf ? values.getAverageExcludingSelf() : Double.valueOf(values.getAverage());
+            if (average != null) {
+                averages.put(recipient, average);
+            }
+        });
+        return averages;
+    }
+
+    /**
+     * Statistics of the values received by a recipient.
+     */
+    public static class Values {
+
+        private final List<Double> allValues;
+        private int count;
+        private double min;
+        private double max;
+        private double total;
+        private int countExcludingSelf;
+        private double totalExcludingSelf;
+        private Double selfValue;
+
+        Values(boolean isKeepingValues) {
+            this.allValues = isKeepingValues ? new ArrayList<>() : null;
+        }
+
+        void add(double value, Double valueExcludingSelf, boolean isSelfResponse) {
+            min = count == 0 ? value : Math.min(min, value);
+            max = count == 0 ? value : Math.max(max, value);
+            total += value;
+            count++;
+            if (allValues != null) {
+                allValues.add(value);
+            }
+
+            if (isSelfResponse) {
+                selfValue = value;
+            } else {
+                totalExcludingSelf += valueExcludingSelf;
+                countExcludingSelf++;
+            }
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public double getMin() {
+            return min;
+        }
+
+        public double getMax() {
+            return max;
+        }
+
+        public double getTotal() {
+            return total;
+        }
+
+        public double getAverage() {
+            return total / count;
+        }
+
+        public int getCountExcludingSelf() {
+            return countExcludingSelf;
+        }
+
+        /**
+         * Returns the average value received from others, or null if the recipient only received a self response.
+         */
+        public Double getAverageExcludingSelf() {
+            return countExcludingSelf == 0 ? null : totalExcludingSelf / countExcludingSelf;
+        }
+
+        /**
+         * Returns the value the recipient gave to itself, or null if there is no self response.
+         * If there are several self responses, the last one added is returned.
+         */
+        public Double getSelfValue() {
+            return selfValue;
+        }
+
+        /**
+         * Returns the values received, in the order they were added.
+         * Only available if the statistics are keeping the values.
+         */
+        public List<Double> getValues() {
+            return allValues == null ? null : Collections.unmodifiableList(allValues);
+        }
+
+    }
+
+}
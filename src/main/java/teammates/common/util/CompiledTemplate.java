@@ -0,0 +1,126 @@
+package teammates.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A template which has been parsed into literal text and {@code ${...}} placeholders, so that it can be
+ * populated many times with a single pass over it.
+ *
+ * <p>Unlike {@link Templates#populateTemplate(String, String...)}, which replaces the keys one after another,
+ * the values are inserted as they are: a placeholder appearing in a value is not replaced.
+ * Placeholders without a given value are kept as they are.
+ */
+public final class CompiledTemplate {
+
+    private static final String PLACEHOLDER_START = "${";
+    private static final String PLACEHOLDER_END = "}";
+
+    /** The literal text around the placeholders; there is one more literal than there are placeholders. */
+    private final String[] literals;
+    private final String[] placeholders;
+    private final int literalsLength;
+
+    private CompiledTemplate(List<String> literals, List<String> placeholders) {
+        this.literals = literals.toArray(new String[0]);
+        this.placeholders = placeholders.toArray(new String[0]);
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalsLength = length;
+    }
+
+    /**
+     * Parses the template, whose placeholders are of the form {@code ${name}}.
+     */
+    public static CompiledTemplate compile(String template) {
+        List<String> literals = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+
+        int literalStart = 0;
+        int placeholderStart = template.indexOf(PLACEHOLDER_START);
+        while (placeholderStart != -1) {
+            int placeholderEnd = template.indexOf(PLACEHOLDER_END, placeholderStart + PLACEHOLDER_START.length());
+            if (placeholderEnd == -1) {
+                break;
+            }
+            placeholderEnd += PLACEHOLDER_END.length();
+            literals.add(template.substring(literalStart, placeholderStart));
+            placeholders.add(template.substring(placeholderStart, placeholderEnd));
+            literalStart = placeholderEnd;
+            placeholderStart = template.indexOf(PLACEHOLDER_START, literalStart);
+        }
+        literals.add(template.substring(literalStart));
+
+        return new CompiledTemplate(literals, placeholders);
+    }
+
+    /**
+     * Returns a template in which the given placeholders are replaced by their values
+     * and the other placeholders are kept, e.g. to fill in the values shared by all the recipients of an email.
+     *
+     * @param keyValuePairs even number of placeholder-value pairs: { "${key1}", "val1", "${key2}", "val2", ... }
+     */
+    public CompiledTemplate fill(String... keyValuePairs) {
+        assertKeyValuePairs(keyValuePairs);
+
+        List<String> newLiterals = new ArrayList<>();
+        List<String> newPlaceholders = new ArrayList<>();
+        StringBuilder literal = new StringBuilder(literals[0]);
+        for (int i = 0; i < placeholders.length; i++) {
+            String value = getValue(placeholders[i], keyValuePairs);
+            if (value == null) {
+                newLiterals.add(literal.toString());
+                newPlaceholders.add(placeholders[i]);
+                literal.setLength(0);
+            } else {
+                literal.append(value);
+            }
+            literal.append(literals[i + 1]);
+        }
+        newLiterals.add(literal.toString());
+
+        return new CompiledTemplate(newLiterals, newPlaceholders);
+    }
+
+    /**
+     * Populates the template by replacing its placeholders with the given values.
+     *
+     * @param keyValuePairs even number of placeholder-value pairs: { "${key1}", "val1", "${key2}", "val2", ... }
+     * @return the populated template
+     */
+    public String populate(String... keyValuePairs) {
+        assertKeyValuePairs(keyValuePairs);
+
+        String[] values = new String[placeholders.length];
+        int length = literalsLength;
+        for (int i = 0; i < placeholders.length; i++) {
+            String value = getValue(placeholders[i], keyValuePairs);
+            values[i] = value == null ? placeholders[i] : value;
+            length += values[i].length();
+        }
+
+        StringBuilder populated = new StringBuilder(length);
+        populated.append(literals[0]);
+        for (int i = 0; i < placeholders.length; i++) {
+            populated.append(values[i]).append(literals[i + 1]);
+        }
+        return populated.toString();
+    }
+
+    private static void assertKeyValuePairs(String... keyValuePairs) {
+        Assumption.assertTrue("The number of elements in keyValuePairs passed in must be even",
+                keyValuePairs.length % 2 == 0);
+    }
+
+    private static String getValue(String placeholder, String... keyValuePairs) {
+        for (int i = 0; i < keyValuePairs.length; i += 2) {
+            if (keyValuePairs[i].equals(placeholder)) {
+                return keyValuePairs[i + 1];
+            }
+        }
+        return null;
+    }
+
+}
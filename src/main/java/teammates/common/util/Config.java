@@ -75,6 +75,12 @@ public final class Config {
     /** The value of the "app.enable.datastore.backup" in build.properties file. */
     public static final boolean ENABLE_DATASTORE_BACKUP;
 
+    /** The value of the "app.search.backend" in build.properties file. */
+    public static final String SEARCH_BACKEND;
+
+    /** The value of the "app.search.index.directory" in build.properties file. */
+    public static final String SEARCH_INDEX_DIRECTORY;
+
     static {
         APP_URL = readAppUrl();
         Properties properties = new Properties();
@@ -102,6 +108,8 @@ public final class Config {
         MAILJET_APIKEY = properties.getProperty("app.mailjet.apikey");
         MAILJET_SECRETKEY = properties.getProperty("app.mailjet.secretkey");
         ENABLE_DATASTORE_BACKUP = Boolean.parseBoolean(properties.getProperty("app.enable.datastore.backup", "false"));
+        SEARCH_BACKEND = properties.getProperty("app.search.backend");
+        SEARCH_INDEX_DIRECTORY = properties.getProperty("app.search.index.directory");
     }
 
     private Config() {
@@ -180,4 +188,8 @@ public final class Config {
                 && MAILJET_SECRETKEY != null && !MAILJET_SECRETKEY.isEmpty();
     }
 
+    public static boolean isUsingInProcessSearch() {
+        return "inprocess".equalsIgnoreCase(SEARCH_BACKEND);
+    }
+
 }
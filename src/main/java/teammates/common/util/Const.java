@@ -56,7 +56,6 @@ public final class Const {
 
     public static final String ACTION_RESULT_FAILURE = "Servlet Action Failure";
 
-    public static final int SIZE_LIMIT_PER_ENROLLMENT = 150;
     public static final int INSTRUCTOR_VIEW_RESPONSE_LIMIT = 8000;
 
     public static final String DEFAULT_SECTION = "None";
@@ -116,6 +115,9 @@ public final class Const {
          * Must be within the range of int */
         public static final int MAX_PROFILE_PIC_SIZE = 5000000;
 
+        /** The length of the sides of the square thumbnails of profile pictures, in pixels. */
+        public static final int PROFILE_PICTURE_THUMBNAIL_SIZE = 150;
+
         /** e.g. "2014-04-01 11:59 PM UTC" */
         public static final String DEFAULT_DATE_TIME_FORMAT = "yyyy-MM-dd h:mm a Z";
 
@@ -562,6 +564,7 @@ public final class Const {
         public static final String IS_INSTRUCTOR_REJOINING = "isinstructorrejoining";
 
         public static final String BLOB_KEY = "blob-key";
+        public static final String PROFILE_PICTURE_THUMBNAIL = "thumbnail";
         public static final String SESSION_TOKEN = "token";
 
         public static final String COPIED_FEEDBACK_SESSION_NAME = "copiedfsname";
@@ -575,6 +578,10 @@ public final class Const {
         public static final String COURSE_INDEX = "courseidx";
         public static final String COURSE_TIME_ZONE = "coursetimezone";
         public static final String COURSE_EDIT_MAIN_INDEX = "courseeditmainindex";
+        public static final String COURSE_DELETION_STAGE = "coursedeletionstage";
+        public static final String COURSE_DELETION_CURSOR = "coursedeletioncursor";
+        public static final String STUDENT_SEARCH_DOCUMENT_KEYS = "studentsearchdocumentkeys";
+        public static final String ENROLLMENT_JOB_ID = "enrollmentjobid";
         public static final String INSTRUCTOR_ID = "instructorid";
         public static final String INSTRUCTOR_EMAIL = "instructoremail";
         public static final String INSTRUCTOR_INSTITUTION = "instructorinstitution";
@@ -844,6 +851,7 @@ public final class Const {
         public static final String FEEDBACK_RESPONSE_RECEIVER_NAME = "feedbackResponseReceiverName";
         public static final String SEARCHABLE_TEXT = "searchableText";
         public static final String COURSE_ID = "courseId";
+        public static final String STUDENT_EMAIL = "studentEmail";
     }
 
     public static class EntityType {
@@ -928,6 +936,7 @@ public final class Const {
         public static final String ACCOUNTS_SEARCH = "/accounts/search";
         public static final String ACCOUNT_RESET = "/account/reset";
         public static final String ACCOUNT_DOWNGRADE = "/account/downgrade";
+        public static final String ACTION_METRICS = "/metrics/actions";
         public static final String RESPONSE_COMMENT = "/responsecomment";
         public static final String COURSE = "/course";
         public static final String COURSE_ARCHIVE = "/course/archive";
@@ -992,6 +1001,7 @@ public final class Const {
         public static final String COURSE_ENROLL_PAGE_DATA = "/course/enroll/pageData";
         public static final String STUDENT_RECORDS = "/students/records";
         public static final String COURSE_ENROLL_STUDENTS = "/course/enroll/students";
+        public static final String COURSE_ENROLL_JOB = "/course/enroll/job";
     }
 
     @Deprecated
@@ -1022,6 +1032,7 @@ public final class Const {
         public static final String AUTOMATED_EXCEPTION_TEST = "/auto/exception";
         public static final String AUTOMATED_LOG_COMPILATION = "/auto/compileLogs";
         public static final String AUTOMATED_DATASTORE_BACKUP = "/auto/datastoreBackup";
+        public static final String AUTOMATED_ENROLLMENT_JOBS_CLEANUP = "/auto/enrollmentJobsCleanup";
         public static final String AUTOMATED_FEEDBACK_OPENING_REMINDERS = "/auto/feedbackSessionOpeningReminders";
         public static final String AUTOMATED_FEEDBACK_CLOSED_REMINDERS = "/auto/feedbackSessionClosedReminders";
         public static final String AUTOMATED_FEEDBACK_CLOSING_REMINDERS = "/auto/feedbackSessionClosingReminders";
@@ -1033,6 +1044,15 @@ public final class Const {
      */
     public static class TaskQueue {
 
+        public static final String COURSE_DATA_DELETION_QUEUE_NAME = "course-data-deletion-queue";
+        public static final String COURSE_DATA_DELETION_WORKER_URL = "/worker/courseDataDeletion";
+
+        public static final String ENROLLMENT_QUEUE_NAME = "enrollment-queue";
+        public static final String ENROLLMENT_WORKER_URL = "/worker/enrollment";
+
+        public static final String STUDENT_SEARCH_DOCUMENT_DELETION_QUEUE_NAME = "student-search-document-deletion-queue";
+        public static final String STUDENT_SEARCH_DOCUMENT_DELETION_WORKER_URL = "/worker/studentSearchDocumentDeletion";
+
         public static final String FEEDBACK_SESSION_PUBLISHED_EMAIL_QUEUE_NAME =
                 "feedback-session-published-email-queue";
         public static final String FEEDBACK_SESSION_PUBLISHED_EMAIL_WORKER_URL =
@@ -1155,9 +1175,6 @@ public final class Const {
         public static final String SECTION_QUOTA_EXCEED =
                 "You are trying enroll more than 100 students in section \"%s\". "
                 + "To avoid performance problems, please do not enroll more than 100 students in a single section.<br>";
-        public static final String QUOTA_PER_ENROLLMENT_EXCEED =
-                "You are trying to enroll more than 100 students. "
-                + "To avoid performance problems, please enroll no more than 100 students at a time.";
 
         public static final String COURSE_INSTRUCTOR_ADDED = "The instructor %s has been added successfully. "
                 + "An email containing how to 'join' this course will be sent to %s in a few minutes.";
@@ -0,0 +1,42 @@
+package teammates.common.util;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * The result of an operation which has been started without waiting for it, e.g. a datastore read.
+ *
+ * <p>The value is computed once, when it is first read.
+ */
+public final class DeferredResult<T> {
+
+    private Supplier<T> supplier;
+    private T value;
+
+    /**
+     * Creates a result whose value is computed by {@code supplier} when the result is first read.
+     */
+    public DeferredResult(Supplier<T> supplier) {
+        this.supplier = supplier;
+    }
+
+    /**
+     * Gets the value of the result, waiting for the operation if it has not finished.
+     */
+    public T now() {
+        if (supplier != null) {
+            value = supplier.get();
+            supplier = null;
+        }
+        return value;
+    }
+
+    /**
+     * Returns a result whose value is {@code mapper} applied to the value of this result,
+     * computed when the returned result is first read.
+     */
+    public <R> DeferredResult<R> map(Function<? super T, ? extends R> mapper) {
+        return new DeferredResult<>(() -> mapper.apply(now()));
+    }
+
+}
@@ -0,0 +1,163 @@
+package teammates.common.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.appengine.api.log.AppLogLine;
+import com.google.appengine.api.log.LogService.LogLevel;
+
+/**
+ * Aggregates error logs into groups of logs with the same signature, as they are read.
+ *
+ * <p>The signature of a log with a stack trace is the class of the exception and the top
+ * {@value #NUMBER_OF_SIGNATURE_FRAMES} frames of the stack trace; the signature of any other log is its first line.
+ * Only the number of logs and the first {@value #MAX_SAMPLES_PER_GROUP} logs of each group are kept, and at most
+ * {@value #MAX_GROUPS} groups are kept, so that a burst of errors takes a bounded amount of memory.
+ */
+public class ErrorLogAggregator {
+
+    static final int NUMBER_OF_SIGNATURE_FRAMES = 3;
+    static final int MAX_SAMPLES_PER_GROUP = 3;
+    static final int MAX_GROUPS = 50;
+    static final int MAX_SAMPLE_LENGTH = 5000;
+    static final int MAX_FIRST_LINE_LENGTH = 200;
+
+    private static final String STACK_FRAME_PREFIX = "at ";
+
+    private final Map<String, ErrorLogGroup> groups = new LinkedHashMap<>();
+    private int numberOfLogs;
+    private int numberOfUngroupedLogs;
+
+    /**
+     * Adds the log to the group of its signature.
+     * The log is only counted if there are too many groups already.
+     */
+    public void add(AppLogLine logLine) {
+        numberOfLogs++;
+
+        String message = logLine.getLogMessage() == null ? "" : logLine.getLogMessage();
+        String signature = getSignature(message);
+        ErrorLogGroup group = groups.get(signature);
+        if (group == null) {
+            if (groups.size() >= MAX_GROUPS) {
+                numberOfUngroupedLogs++;
+                return;
+            }
+            group = new ErrorLogGroup(signature, logLine.getLogLevel());
+            groups.put(signature, group);
+        }
+        group.add(logLine.getLogLevel(), message);
+    }
+
+    public boolean isEmpty() {
+        return numberOfLogs == 0;
+    }
+
+    public int getNumberOfLogs() {
+        return numberOfLogs;
+    }
+
+    /**
+     * Returns the number of logs which are not in any group because there were too many groups.
+     */
+    public int getNumberOfUngroupedLogs() {
+        return numberOfUngroupedLogs;
+    }
+
+    /**
+     * Returns the groups, the largest group first.
+     */
+    public List<ErrorLogGroup> getGroups() {
+        List<ErrorLogGroup> sortedGroups = new ArrayList<>(groups.values());
+        sortedGroups.sort(Comparator.comparingInt(ErrorLogGroup::getCount).reversed());
+        return sortedGroups;
+    }
+
+    /**
+     * Returns the signature of the log message.
+     *
+     * <p>A stack trace is recognised by its frames, i.e. lines starting with {@value #STACK_FRAME_PREFIX};
+     * the line before the first frame names the exception.
+     */
+    static String getSignature(String message) {
+        String[] lines = message.trim().split("\\R");
+        for (int i = 1; i < lines.length; i++) {
+            if (!isStackFrame(lines[i])) {
+                continue;
+            }
+
+            String exceptionLine = lines[i - 1].trim();
+            int endOfExceptionClass = exceptionLine.indexOf(':');
+            StringBuilder signature = new StringBuilder(
+                    endOfExceptionClass == -1 ? exceptionLine : exceptionLine.substring(0, endOfExceptionClass));
+            for (int j = i; j < lines.length && j < i + NUMBER_OF_SIGNATURE_FRAMES && isStackFrame(lines[j]); j++) {
+                signature.append(' ').append(lines[j].trim());
+            }
+            return signature.toString();
+        }
+        return truncate(lines[0], MAX_FIRST_LINE_LENGTH);
+    }
+
+    private static boolean isStackFrame(String line) {
+        return line.trim().startsWith(STACK_FRAME_PREFIX);
+    }
+
+    private static String truncate(String text, int maxLength) {
+        return text.length() <= maxLength ? text : text.substring(0, maxLength) + "...";
+    }
+
+    /**
+     * A group of error logs with the same signature.
+     */
+    public static class ErrorLogGroup {
+
+        private final String signature;
+        private LogLevel logLevel;
+        private int count;
+        private final List<String> sampleMessages = new ArrayList<>();
+
+        ErrorLogGroup(String signature, LogLevel logLevel) {
+            this.signature = signature;
+            this.logLevel = logLevel;
+        }
+
+        void add(LogLevel logLevel, String message) {
+            count++;
+            if (logLevel == LogLevel.FATAL) {
+                this.logLevel = logLevel;
+            }
+            if (sampleMessages.size() < MAX_SAMPLES_PER_GROUP) {
+                sampleMessages.add(truncate(message, MAX_SAMPLE_LENGTH));
+            }
+        }
+
+        public String getSignature() {
+            return signature;
+        }
+
+        /**
+         * Returns the most severe level of the logs in the group.
+         */
+        public LogLevel getLogLevel() {
+            return logLevel;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        /**
+         * Returns the messages of the first few logs in the group, each truncated to
+         * {@value ErrorLogAggregator#MAX_SAMPLE_LENGTH} characters.
+         */
+        public List<String> getSampleMessages() {
+            return Collections.unmodifiableList(sampleMessages);
+        }
+
+    }
+
+}
@@ -14,12 +14,15 @@ import com.google.appengine.tools.cloudstorage.GcsFilename;
 import com.google.appengine.tools.cloudstorage.GcsOutputChannel;
 import com.google.appengine.tools.cloudstorage.GcsServiceFactory;
 import com.google.appengine.tools.cloudstorage.RetryParams;
+import com.google.common.hash.Hashing;
 
 /**
  * Holds functions for operations related to Google Cloud Storage.
  */
 public final class GoogleCloudStorageHelper {
 
+    private static final String THUMBNAIL_PREFIX = "thumbnail/";
+
     private static final Logger log = Logger.getLogger();
 
     private GoogleCloudStorageHelper() {
@@ -56,20 +59,46 @@ public final class GoogleCloudStorageHelper {
 
     /**
      * Writes a byte array {@code imageData} as image to the Google Cloud Storage,
-     * with the {@code googleId} as the identifier name for the image.
+     * with the {@code googleId} and the hash of {@code imageData} as the identifier name for the image.
+     *
+     * <p>As the identifier depends on the content, the content of the image identified by the returned key never changes.
      *
      * @return the {@link BlobKey} used as the image's identifier in Google Cloud Storage
      */
     public static String writeImageDataToGcs(String googleId, byte[] imageData, String contentType) throws IOException {
-        GcsFilename gcsFilename = new GcsFilename(Config.PRODUCTION_GCS_BUCKETNAME, googleId);
+        String identifier = googleId + "/" + Hashing.sha256().hashBytes(imageData).toString();
+        writeDataToGcs(identifier, imageData, contentType);
+        return createBlobKey(identifier);
+    }
+
+    /**
+     * Writes a byte array {@code thumbnailData} as the thumbnail of the image with the specified {@code imageKey}.
+     *
+     * @return the {@link BlobKey} used as the thumbnail's identifier in Google Cloud Storage
+     * @see #getThumbnailKey(String)
+     */
+    public static String writeThumbnailDataToGcs(String imageKey, byte[] thumbnailData, String contentType)
+            throws IOException {
+        writeDataToGcs(THUMBNAIL_PREFIX + imageKey, thumbnailData, contentType);
+        return getThumbnailKey(imageKey);
+    }
+
+    /**
+     * Returns the key of the thumbnail of the image with the specified {@code imageKey}.
+     * The thumbnail does not necessarily exist, e.g. if the image was stored before thumbnails were generated.
+     */
+    public static String getThumbnailKey(String imageKey) {
+        return createBlobKey(THUMBNAIL_PREFIX + imageKey);
+    }
+
+    private static void writeDataToGcs(String identifier, byte[] data, String contentType) throws IOException {
+        GcsFilename gcsFilename = new GcsFilename(Config.PRODUCTION_GCS_BUCKETNAME, identifier);
         try (GcsOutputChannel outputChannel =
                 GcsServiceFactory.createGcsService(RetryParams.getDefaultInstance())
                 .createOrReplace(gcsFilename, new GcsFileOptions.Builder().mimeType(contentType).build())) {
 
-            outputChannel.write(ByteBuffer.wrap(imageData));
+            outputChannel.write(ByteBuffer.wrap(data));
         }
-
-        return createBlobKey(googleId);
     }
 
     /**
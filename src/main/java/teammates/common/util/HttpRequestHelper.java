@@ -29,13 +29,6 @@ public final class HttpRequestHelper {
         return paramMap.getOrDefault(key, new String[] { null })[0];
     }
 
-    /**
-     * Gets the parameters of the given HTTP request as key-value (possibly multi-values) mapping string.
-     */
-    public static String getRequestParametersAsString(HttpServletRequest req) {
-        return getDisplayedJsonInOneLine(req.getParameterMap());
-    }
-
     /**
      * Gets the headers of the given HTTP request as key-value (possibly multi-values) mapping string.
      */
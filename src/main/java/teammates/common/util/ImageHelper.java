@@ -0,0 +1,89 @@
+package teammates.common.util;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+/**
+ * Holds functions for processing images.
+ */
+public final class ImageHelper {
+
+    /** The content type of the thumbnails created by {@link #createThumbnail(byte[], int)}. */
+    public static final String THUMBNAIL_CONTENT_TYPE = "image/jpeg";
+
+    private static final String THUMBNAIL_FORMAT = "jpg";
+
+    private ImageHelper() {
+        // utility class
+    }
+
+    /**
+     * Creates a square thumbnail of {@code size} by {@code size} pixels from the center of the given image.
+     *
+     * <p>The image is decoded with subsampling, so that only the pixels which are needed for the thumbnail
+     * are ever held in memory rather than the whole image at its full resolution.
+     *
+     * @return the thumbnail encoded in {@link #THUMBNAIL_CONTENT_TYPE}, or null if the image cannot be decoded
+     * @throws IOException if the image is corrupted
+     */
+    public static byte[] createThumbnail(byte[] imageData, int size) throws IOException {
+        BufferedImage image;
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(imageData))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int shorterSide = Math.min(reader.getWidth(0), reader.getHeight(0));
+
+                // the shorter side of the subsampled image is still at least as long as the thumbnail
+                int subsampling = Math.max(1, shorterSide / size);
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                image = reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+
+        BufferedImage thumbnail = cropAndScale(image, size);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        if (!ImageIO.write(thumbnail, THUMBNAIL_FORMAT, output)) {
+            return null;
+        }
+        return output.toByteArray();
+    }
+
+    private static BufferedImage cropAndScale(BufferedImage image, int size) {
+        int side = Math.min(image.getWidth(), image.getHeight());
+        int left = (image.getWidth() - side) / 2;
+        int top = (image.getHeight() - side) / 2;
+
+        BufferedImage thumbnail = new BufferedImage(size, size, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = thumbnail.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            // transparent parts of the image are shown on white, as the thumbnail has no transparency
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, size, size);
+            graphics.drawImage(image, 0, 0, size, size, left, top, left + side, top + side, null);
+        } finally {
+            graphics.dispose();
+        }
+        return thumbnail;
+    }
+
+}
@@ -1,5 +1,8 @@
 package teammates.common.util;
 
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
 /**
  * Allows any component of the application to log messages at appropriate levels.
  */
@@ -16,6 +19,16 @@ public final class Logger {
         return new Logger();
     }
 
+    /**
+     * Returns true if messages at FINE level are logged,
+     * e.g. to skip building debugging messages which would be discarded.
+     *
+     * @see java.util.logging.Logger#isLoggable(Level)
+     */
+    public boolean isFineEnabled() {
+        return log.isLoggable(Level.FINE);
+    }
+
     /**
      * Logs a message at FINE level.
      *
@@ -34,6 +47,15 @@ public final class Logger {
         log.info(msg);
     }
 
+    /**
+     * Logs a message at INFO level, building the message only if it is logged.
+     *
+     * @see java.util.logging.Logger#info(Supplier)
+     */
+    public void info(Supplier<String> msgSupplier) {
+        log.info(msgSupplier);
+    }
+
     /**
      * Logs a message at WARNING level.
      *
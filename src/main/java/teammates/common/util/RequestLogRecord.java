@@ -0,0 +1,124 @@
+package teammates.common.util;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * A compact log record of {@code key=value} pairs separated by spaces,
+ * e.g. {@code method=GET uri=/webapi/session param.courseid=CS1101 status=200}.
+ *
+ * <p>Values containing spaces, quotes, equal signs or control characters are quoted. The values of parameters
+ * which give access to an account or a session, and values longer than {@value #MAX_VALUE_LENGTH} characters,
+ * are replaced by a placeholder so that the record stays small and does not leak credentials. For the same reason,
+ * the URLs in headers are recorded without their query string, which may contain such parameters.
+ */
+public final class RequestLogRecord {
+
+    static final int MAX_VALUE_LENGTH = 100;
+
+    static final String REDACTED_VALUE = "<redacted>";
+
+    private static final Set<String> REDACTED_PARAMS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            Const.ParamsNames.REGKEY,
+            Const.ParamsNames.SESSION_TOKEN)));
+
+    private static final String[] LOGGED_HEADERS = { "Origin", "Referer", "User-Agent" };
+
+    private static final Set<String> URL_HEADERS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            "Origin",
+            "Referer")));
+
+    private final StringBuilder record = new StringBuilder();
+
+    /**
+     * Creates a record of the method, URI, parameters and a few identifying headers of the request.
+     */
+    public static RequestLogRecord forRequest(HttpServletRequest req) {
+        RequestLogRecord record = new RequestLogRecord()
+                .add("method", req.getMethod())
+                .add("uri", req.getRequestURI());
+        record.addParams(req.getParameterMap());
+        for (String header : LOGGED_HEADERS) {
+            String value = req.getHeader(header);
+            if (value != null) {
+                record.add("header." + header, URL_HEADERS.contains(header) ? stripQueryString(value) : value);
+            }
+        }
+        return record;
+    }
+
+    /**
+     * Adds a pair to the record. Null values are recorded as {@code null}.
+     */
+    public RequestLogRecord add(String key, Object value) {
+        if (record.length() > 0) {
+            record.append(' ');
+        }
+        record.append(key).append('=');
+        appendValue(String.valueOf(value));
+        return this;
+    }
+
+    /**
+     * Adds each parameter as a pair keyed by {@code param.<name>}, with the values of a multi-valued
+     * parameter joined by commas. Credentials and large values are redacted.
+     */
+    public RequestLogRecord addParams(Map<String, String[]> params) {
+        params.forEach((name, values) -> {
+            if (values.length == 0) {
+                return;
+            }
+            String value = values.length == 1 ? values[0] : String.join(",", values);
+            add("param." + name, redact(name, value));
+        });
+        return this;
+    }
+
+    private static String redact(String paramName, String value) {
+        if (REDACTED_PARAMS.contains(paramName)) {
+            return REDACTED_VALUE;
+        }
+        if (value.length() > MAX_VALUE_LENGTH) {
+            return "<" + value.length() + " chars>";
+        }
+        return value;
+    }
+
+    private static String stripQueryString(String url) {
+        return url.split("[?#]", 2)[0];
+    }
+
+    private void appendValue(String value) {
+        boolean isQuoted = value.isEmpty() || value.chars().anyMatch(RequestLogRecord::isQuotedChar);
+        if (!isQuoted) {
+            record.append(value);
+            return;
+        }
+        record.append('"');
+        for (char c : value.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                record.append('\\').append(c);
+            } else if (Character.isISOControl(c)) {
+                record.append(' ');
+            } else {
+                record.append(c);
+            }
+        }
+        record.append('"');
+    }
+
+    private static boolean isQuotedChar(int c) {
+        return c == ' ' || c == '"' || c == '=' || c == '\\' || Character.isISOControl(c);
+    }
+
+    @Override
+    public String toString() {
+        return record.toString();
+    }
+
+}
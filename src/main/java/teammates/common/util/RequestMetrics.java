@@ -0,0 +1,310 @@
+package teammates.common.util;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * Records the cost of the request being handled by the current thread: its wall time, the datastore reads and
+ * writes it issues, the entities it loads, the size of its response, its task queue and search calls, and its
+ * lookups in the memcache-backed caches of the storage layer.
+ *
+ * <p>Recording is started with {@link #start()} and finished with {@link #stop()} on the same thread.
+ * The {@code record...} methods can be called from anywhere and do nothing when no recording is active.
+ *
+ * <p>The storage methods issuing the datastore operations are found by walking the call stack, which is costly,
+ * so they are only recorded for one in {@value #DB_METHOD_SAMPLING_RATE} requests.
+ */
+public final class RequestMetrics {
+
+    /**
+     * One in this many requests has the storage methods of its datastore operations recorded.
+     */
+    public static final int DB_METHOD_SAMPLING_RATE = 20;
+
+    private static final ThreadLocal<RequestMetrics> CURRENT = new ThreadLocal<>();
+
+    private final long startTimeNanos;
+    private final boolean isRecordingDbMethods;
+
+    private String actionName;
+    private long wallTimeMillis;
+    private int datastoreReads;
+    private int datastoreWrites;
+    private int entitiesLoaded;
+    private long payloadBytes;
+    private int taskQueueCalls;
+    private int searchCalls;
+    private int cacheHits;
+    private int cacheMisses;
+    private final Map<String, Integer> readsByKind = new TreeMap<>();
+    private final Map<String, Integer> writesByKind = new TreeMap<>();
+    private final Map<String, Integer> callsByDbMethod = new TreeMap<>();
+
+    private RequestMetrics(boolean isRecordingDbMethods) {
+        this.startTimeNanos = System.nanoTime();
+        this.isRecordingDbMethods = isRecordingDbMethods;
+    }
+
+    /**
+     * Starts recording the request handled by the current thread, replacing any unfinished recording.
+     * The storage methods are recorded if the request is sampled.
+     */
+    public static void start() {
+        start(ThreadLocalRandom.current().nextInt(DB_METHOD_SAMPLING_RATE) == 0);
+    }
+
+    /**
+     * Starts recording the request handled by the current thread, replacing any unfinished recording.
+     *
+     * @param isRecordingDbMethods whether the storage methods issuing the datastore operations are recorded
+     */
+    public static void start(boolean isRecordingDbMethods) {
+        CURRENT.set(new RequestMetrics(isRecordingDbMethods));
+    }
+
+    /**
+     * Finishes recording the request handled by the current thread.
+     *
+     * @return the metrics of the request, or null if no recording was started
+     */
+    public static RequestMetrics stop() {
+        RequestMetrics metrics = CURRENT.get();
+        CURRENT.remove();
+        if (metrics != null) {
+            metrics.wallTimeMillis = (System.nanoTime() - metrics.startTimeNanos) / 1_000_000;
+        }
+        return metrics;
+    }
+
+    /**
+     * Returns true if the request handled by the current thread is being recorded.
+     *
+     * <p>Callers can check this to skip computing values which are only needed for recording.
+     */
+    public static boolean isRecording() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * Returns true if the storage methods issuing the datastore operations of the request handled
+     * by the current thread are being recorded.
+     *
+     * <p>Callers should check this before finding the storage method, which is costly.
+     */
+    public static boolean isRecordingDbMethods() {
+        RequestMetrics metrics = CURRENT.get();
+        return metrics != null && metrics.isRecordingDbMethods;
+    }
+
+    /**
+     * Sets the name of the action handling the request.
+     */
+    public static void recordActionName(String actionName) {
+        RequestMetrics metrics = CURRENT.get();
+        if (metrics != null) {
+            metrics.actionName = actionName;
+        }
+    }
+
+    /**
+     * Records a datastore read (a get or a query) of entities of the given kind.
+     *
+     * @param dbMethod the storage method issuing the read, e.g. {@code StudentsDb.getStudentForEmail},
+     *                 or null if it is not recorded
+     */
+    public static void recordDatastoreRead(String kind, String dbMethod) {
+        RequestMetrics metrics = CURRENT.get();
+        if (metrics != null) {
+            metrics.datastoreReads++;
+            metrics.readsByKind.merge(kind, 1, Integer::sum);
+            if (dbMethod != null) {
+                metrics.callsByDbMethod.merge(dbMethod, 1, Integer::sum);
+            }
+        }
+    }
+
+    /**
+     * Records the number of entities returned by a datastore read.
+     */
+    public static void recordEntitiesLoaded(int numberOfEntities) {
+        RequestMetrics metrics = CURRENT.get();
+        if (metrics != null) {
+            metrics.entitiesLoaded += numberOfEntities;
+        }
+    }
+
+    /**
+     * Records a datastore write (save or delete) of entities of the given kind.
+     *
+     * @param dbMethod the storage method issuing the write, or null if it is not recorded
+     */
+    public static void recordDatastoreWrite(String kind, String dbMethod) {
+        RequestMetrics metrics = CURRENT.get();
+        if (metrics != null) {
+            metrics.datastoreWrites++;
+            metrics.writesByKind.merge(kind, 1, Integer::sum);
+            if (dbMethod != null) {
+                metrics.callsByDbMethod.merge(dbMethod, 1, Integer::sum);
+            }
+        }
+    }
+
+    /**
+     * Records a call to the task queue service.
+     */
+    public static void recordTaskQueueCall() {
+        RequestMetrics metrics = CURRENT.get();
+        if (metrics != null) {
+            metrics.taskQueueCalls++;
+        }
+    }
+
+    /**
+     * Records a call to the search service.
+     */
+    public static void recordSearchCall() {
+        RequestMetrics metrics = CURRENT.get();
+        if (metrics != null) {
+            metrics.searchCalls++;
+        }
+    }
+
+    /**
+     * Records a lookup in a memcache-backed cache.
+     *
+     * @param isHit whether the value was served from the cache, i.e. without reading the datastore
+     */
+    public static void recordCacheLookup(boolean isHit) {
+        RequestMetrics metrics = CURRENT.get();
+        if (metrics == null) {
+            return;
+        }
+        if (isHit) {
+            metrics.cacheHits++;
+        } else {
+            metrics.cacheMisses++;
+        }
+    }
+
+    /**
+     * Records the size of (a part of) the response payload.
+     */
+    public static void recordPayload(long numberOfBytes) {
+        RequestMetrics metrics = CURRENT.get();
+        if (metrics != null) {
+            metrics.payloadBytes += numberOfBytes;
+        }
+    }
+
+    /**
+     * Records the size of (a part of) the response payload, which is sent UTF-8 encoded.
+     */
+    public static void recordPayload(String payload) {
+        if (isRecording()) {
+            recordPayload(getUtf8Length(payload));
+        }
+    }
+
+    private static long getUtf8Length(String text) {
+        long length = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c)) {
+                // the surrogate pair is encoded as a single 4-byte sequence
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    public String getActionName() {
+        return actionName;
+    }
+
+    public long getWallTimeMillis() {
+        return wallTimeMillis;
+    }
+
+    public int getDatastoreReads() {
+        return datastoreReads;
+    }
+
+    public int getDatastoreWrites() {
+        return datastoreWrites;
+    }
+
+    public int getEntitiesLoaded() {
+        return entitiesLoaded;
+    }
+
+    public long getPayloadBytes() {
+        return payloadBytes;
+    }
+
+    public int getTaskQueueCalls() {
+        return taskQueueCalls;
+    }
+
+    public int getSearchCalls() {
+        return searchCalls;
+    }
+
+    public int getCacheHits() {
+        return cacheHits;
+    }
+
+    public int getCacheMisses() {
+        return cacheMisses;
+    }
+
+    public Map<String, Integer> getReadsByKind() {
+        return Collections.unmodifiableMap(readsByKind);
+    }
+
+    public Map<String, Integer> getWritesByKind() {
+        return Collections.unmodifiableMap(writesByKind);
+    }
+
+    /**
+     * Returns the number of datastore operations by storage method; empty if the storage methods are not recorded.
+     */
+    public Map<String, Integer> getCallsByDbMethod() {
+        return Collections.unmodifiableMap(callsByDbMethod);
+    }
+
+    /**
+     * Returns the metrics as a single line of {@code key=value} pairs, to be logged.
+     */
+    public String toLogLine() {
+        return "action=" + actionName
+                + " wallTimeMillis=" + wallTimeMillis
+                + " datastoreReads=" + datastoreReads
+                + " datastoreWrites=" + datastoreWrites
+                + " entitiesLoaded=" + entitiesLoaded
+                + " payloadBytes=" + payloadBytes
+                + " taskQueueCalls=" + taskQueueCalls
+                + " searchCalls=" + searchCalls
+                + " cacheHits=" + cacheHits
+                + " cacheMisses=" + cacheMisses
+                + " readsByKind=" + toLogValue(readsByKind)
+                + " writesByKind=" + toLogValue(writesByKind)
+                + " callsByDbMethod=" + toLogValue(callsByDbMethod);
+    }
+
+    private static String toLogValue(Map<String, Integer> counts) {
+        return counts.entrySet().stream()
+                .map(count -> count.getKey() + ":" + count.getValue())
+                .collect(Collectors.joining(",", "{", "}"));
+    }
+
+}
@@ -54,8 +54,10 @@ public final class Templates {
                 FileHelper.readResourceFile("userEmailTemplateFragment-feedbackSessionResendAllLinks.html");
         public static final String USER_FEEDBACK_SESSION_RESEND_ALL_LINKS =
                 FileHelper.readResourceFile("userEmailTemplate-feedbackSessionResendAllLinks.html");
-        public static final String SEVERE_ERROR_LOG_LINE =
-                FileHelper.readResourceFile("severeErrorLogLine.html");
+        public static final String SEVERE_ERROR_LOG_GROUP =
+                FileHelper.readResourceFile("severeErrorLogGroup.html");
+        public static final String FRAGMENT_SEVERE_ERROR_LOG_GROUP_SAMPLE =
+                FileHelper.readResourceFile("severeErrorLogGroupSample.html");
         public static final String NEW_INSTRUCTOR_ACCOUNT_WELCOME =
                 FileHelper.readResourceFile("newInstructorAccountWelcome.html");
         public static final String FRAGMENT_SESSION_ADDITIONAL_CONTACT_INFORMATION =
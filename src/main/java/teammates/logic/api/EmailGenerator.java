@@ -3,9 +3,9 @@ package teammates.logic.api;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
-import com.google.appengine.api.log.AppLogLine;
-
+import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.attributes.AccountAttributes;
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
@@ -13,10 +13,13 @@ import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.util.AppUrl;
+import teammates.common.util.CompiledTemplate;
 import teammates.common.util.Config;
 import teammates.common.util.Const;
 import teammates.common.util.EmailType;
 import teammates.common.util.EmailWrapper;
+import teammates.common.util.ErrorLogAggregator;
+import teammates.common.util.ErrorLogAggregator.ErrorLogGroup;
 import teammates.common.util.Logger;
 import teammates.common.util.SanitizationHelper;
 import teammates.common.util.StringHelper;
@@ -50,6 +53,14 @@ public class EmailGenerator {
     private static final String HTML_NO_ACTION_REQUIRED =
             "<p>No action is required if you have already submitted.</p>" + System.lineSeparator();
 
+    // templates of the emails sent to all the students and instructors of a course, parsed once
+    private static final CompiledTemplate FEEDBACK_SESSION_TEMPLATE =
+            CompiledTemplate.compile(EmailTemplates.USER_FEEDBACK_SESSION);
+    private static final CompiledTemplate FEEDBACK_SESSION_PUBLISHED_TEMPLATE =
+            CompiledTemplate.compile(EmailTemplates.USER_FEEDBACK_SESSION_PUBLISHED);
+    private static final CompiledTemplate FEEDBACK_SESSION_UNPUBLISHED_TEMPLATE =
+            CompiledTemplate.compile(EmailTemplates.USER_FEEDBACK_SESSION_UNPUBLISHED);
+
     private static final Logger log = Logger.getLogger();
     private static final CoursesLogic coursesLogic = CoursesLogic.inst();
     private static final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
@@ -61,7 +72,7 @@ public class EmailGenerator {
      */
     public List<EmailWrapper> generateFeedbackSessionOpeningEmails(FeedbackSessionAttributes session) {
 
-        String template = EmailTemplates.USER_FEEDBACK_SESSION;
+        CompiledTemplate template = FEEDBACK_SESSION_TEMPLATE.fill("${status}", FEEDBACK_STATUS_SESSION_OPENING);
 
         CourseAttributes course = coursesLogic.getCourse(session.getCourseId());
         boolean isEmailNeeded = fsLogic.isFeedbackSessionForStudentsToAnswer(session);
@@ -72,12 +83,8 @@ public class EmailGenerator {
                                            ? studentsLogic.getStudentsForCourse(session.getCourseId())
                                            : new ArrayList<>();
 
-        List<EmailWrapper> emails = generateFeedbackSessionEmailBases(course, session, students, instructors, template,
-                                                                      EmailType.FEEDBACK_OPENING.getSubject());
-        for (EmailWrapper email : emails) {
-            email.setContent(email.getContent().replace("${status}", FEEDBACK_STATUS_SESSION_OPENING));
-        }
-        return emails;
+        return generateFeedbackSessionEmailBases(course, session, students, instructors, template,
+                                                 EmailType.FEEDBACK_OPENING.getSubject());
     }
 
     /**
@@ -89,7 +96,7 @@ public class EmailGenerator {
             List<InstructorAttributes> instructorsToRemind, InstructorAttributes instructorToNotify) {
 
         CourseAttributes course = coursesLogic.getCourse(session.getCourseId());
-        String template = EmailTemplates.USER_FEEDBACK_SESSION.replace("${status}", FEEDBACK_STATUS_SESSION_OPEN);
+        CompiledTemplate template = FEEDBACK_SESSION_TEMPLATE.fill("${status}", FEEDBACK_STATUS_SESSION_OPEN);
         String additionalContactInformation = HTML_NO_ACTION_REQUIRED + getAdditionalContactInformationFragment(course);
         List<InstructorAttributes> instructorToNotifyAsList = new ArrayList<>();
         instructorToNotifyAsList.add(instructorToNotify);
@@ -125,6 +132,7 @@ public class EmailGenerator {
         }
 
         StringBuffer linksFragmentValue = new StringBuffer(1000);
+        String encryptedKey = StringHelper.encrypt(student.key);
         String joinUrl = Config.getFrontEndAppUrl(student.getRegistrationUrl()).toAbsoluteString();
 
         String joinFragmentValue = isYetToJoinCourse(student)
@@ -143,7 +151,7 @@ public class EmailGenerator {
                 String submitUrl = Config.getFrontEndAppUrl(Const.WebPageURIs.SESSION_SUBMISSION_PAGE)
                         .withCourseId(course.getId())
                         .withSessionName(fsa.getFeedbackSessionName())
-                        .withRegistrationKey(StringHelper.encrypt(student.key))
+                        .withRegistrationKey(encryptedKey)
                         .withStudentEmail(student.email)
                         .toAbsoluteString();
                 submitUrlHtml = "<a href=\"" + submitUrl + "\">" + submitUrl + "</a>";
@@ -153,7 +161,7 @@ public class EmailGenerator {
                 String reportUrl = Config.getFrontEndAppUrl(Const.WebPageURIs.SESSION_RESULTS_PAGE)
                         .withCourseId(course.getId())
                         .withSessionName(fsa.getFeedbackSessionName())
-                        .withRegistrationKey(StringHelper.encrypt(student.key))
+                        .withRegistrationKey(encryptedKey)
                         .withStudentEmail(student.email)
                         .toAbsoluteString();
                 reportUrlHtml = "<a href=\"" + reportUrl + "\">" + reportUrl + "</a>";
@@ -216,12 +224,15 @@ public class EmailGenerator {
 
     private List<EmailWrapper> generateFeedbackSessionEmailBasesForInstructorReminders(
             CourseAttributes course, FeedbackSessionAttributes session, List<InstructorAttributes> instructors,
-            String template, String subject, String additionalContactInformation) {
+            CompiledTemplate template, String subject, String additionalContactInformation) {
 
+        CompiledTemplate sessionTemplate = fillUpFeedbackSessionDetails(template, course, session,
+                FEEDBACK_ACTION_SUBMIT_EDIT_OR_VIEW, additionalContactInformation);
+        SessionLinkTable links = new SessionLinkTable(session);
         List<EmailWrapper> emails = new ArrayList<>();
         for (InstructorAttributes instructor : instructors) {
             emails.add(generateFeedbackSessionEmailBaseForInstructorReminders(course, session, instructor,
-                    template, subject, additionalContactInformation));
+                    sessionTemplate, links, subject));
         }
         return emails;
     }
@@ -252,30 +263,13 @@ public class EmailGenerator {
 
     private EmailWrapper generateFeedbackSessionEmailBaseForInstructorReminders(
             CourseAttributes course, FeedbackSessionAttributes session, InstructorAttributes instructor,
-            String template, String subject, String additionalContactInformation) {
+            CompiledTemplate sessionTemplate, SessionLinkTable links, String subject) {
 
-        String submitUrl = Config.getFrontEndAppUrl(Const.WebPageURIs.INSTRUCTOR_SESSION_SUBMISSION_PAGE)
-                .withCourseId(course.getId())
-                .withSessionName(session.getFeedbackSessionName())
-                .toAbsoluteString();
-
-        String reportUrl = Config.getFrontEndAppUrl(Const.ActionURIs.INSTRUCTOR_FEEDBACK_RESULTS_PAGE)
-                .withCourseId(course.getId())
-                .withSessionName(session.getFeedbackSessionName())
-                .toAbsoluteString();
-
-        String emailBody = Templates.populateTemplate(template,
+        String emailBody = sessionTemplate.populate(
                 "${userName}", SanitizationHelper.sanitizeForHtml(instructor.name),
-                "${courseName}", SanitizationHelper.sanitizeForHtml(course.getName()),
-                "${courseId}", SanitizationHelper.sanitizeForHtml(course.getId()),
-                "${feedbackSessionName}", SanitizationHelper.sanitizeForHtml(session.getFeedbackSessionName()),
-                "${deadline}", SanitizationHelper.sanitizeForHtml(session.getEndTimeString()),
                 "${instructorFragment}", "",
-                "${sessionInstructions}", session.getInstructionsString(),
-                "${submitUrl}", submitUrl,
-                "${reportUrl}", reportUrl,
-                "${feedbackAction}", FEEDBACK_ACTION_SUBMIT_EDIT_OR_VIEW,
-                "${additionalContactInformation}", additionalContactInformation);
+                "${submitUrl}", links.getInstructorSubmitUrl(),
+                "${reportUrl}", links.getInstructorReportUrl());
 
         EmailWrapper email = getEmptyEmailAddressedToEmail(instructor.email);
         email.setSubject(String.format(subject, course.getName(), session.getFeedbackSessionName()));
@@ -290,31 +284,25 @@ public class EmailGenerator {
 
         List<StudentAttributes> students = new ArrayList<>();
         boolean isEmailNeeded = fsLogic.isFeedbackSessionForStudentsToAnswer(session);
+        List<InstructorAttributes> instructors = isEmailNeeded
+                                                 ? instructorsLogic.getInstructorsForCourse(session.getCourseId())
+                                                 : new ArrayList<>();
 
         if (isEmailNeeded) {
             List<StudentAttributes> studentsForCourse = studentsLogic.getStudentsForCourse(session.getCourseId());
+            // the completion of all the students is checked with one read of the questions and responses
+            Set<String> studentsWhoFullyCompleted = fsLogic.getStudentsWhoFullyCompletedFeedbackSession(
+                    session, new CourseRoster(studentsForCourse, instructors));
 
             for (StudentAttributes student : studentsForCourse) {
-                try {
-                    if (!fsLogic.isFeedbackSessionFullyCompletedByStudent(session.getFeedbackSessionName(),
-                            session.getCourseId(), student.email)) {
-                        students.add(student);
-                    }
-                } catch (EntityDoesNotExistException e) {
-                    log.severe("Course " + session.getCourseId() + " does not exist or "
-                               + "session " + session.getFeedbackSessionName() + " does not exist");
-                    // Course or session cannot be found for one student => it will be the case for all students
-                    // Do not waste time looping through all students
-                    break;
+                if (!studentsWhoFullyCompleted.contains(student.email)) {
+                    students.add(student);
                 }
             }
         }
 
-        String template = EmailTemplates.USER_FEEDBACK_SESSION.replace("${status}", FEEDBACK_STATUS_SESSION_CLOSING);
+        CompiledTemplate template = FEEDBACK_SESSION_TEMPLATE.fill("${status}", FEEDBACK_STATUS_SESSION_CLOSING);
         CourseAttributes course = coursesLogic.getCourse(session.getCourseId());
-        List<InstructorAttributes> instructors = isEmailNeeded
-                                                 ? instructorsLogic.getInstructorsForCourse(session.getCourseId())
-                                                 : new ArrayList<>();
         String additionalContactInformation = HTML_NO_ACTION_REQUIRED + getAdditionalContactInformationFragment(course);
         return generateFeedbackSessionEmailBases(course, session, students, instructors, template,
                 EmailType.FEEDBACK_CLOSING.getSubject(), FEEDBACK_ACTION_SUBMIT_EDIT_OR_VIEW, additionalContactInformation);
@@ -341,7 +329,7 @@ public class EmailGenerator {
                                            ? studentsLogic.getStudentsForCourse(session.getCourseId())
                                            : new ArrayList<>();
 
-        String template = EmailTemplates.USER_FEEDBACK_SESSION.replace("${status}", FEEDBACK_STATUS_SESSION_CLOSED);
+        CompiledTemplate template = FEEDBACK_SESSION_TEMPLATE.fill("${status}", FEEDBACK_STATUS_SESSION_CLOSED);
         String additionalContactInformation = getAdditionalContactInformationFragment(course);
         return generateFeedbackSessionEmailBases(course, session, students, instructors, template,
                 EmailType.FEEDBACK_CLOSED.getSubject(), FEEDBACK_ACTION_VIEW, additionalContactInformation);
@@ -369,7 +357,7 @@ public class EmailGenerator {
     public List<EmailWrapper> generateFeedbackSessionPublishedEmails(FeedbackSessionAttributes session,
             List<StudentAttributes> students, List<InstructorAttributes> instructors) {
 
-        String template = EmailTemplates.USER_FEEDBACK_SESSION_PUBLISHED;
+        CompiledTemplate template = FEEDBACK_SESSION_PUBLISHED_TEMPLATE;
 
         CourseAttributes course = coursesLogic.getCourse(session.getCourseId());
 
@@ -383,7 +371,7 @@ public class EmailGenerator {
      */
     public List<EmailWrapper> generateFeedbackSessionUnpublishedEmails(FeedbackSessionAttributes session) {
 
-        String template = EmailTemplates.USER_FEEDBACK_SESSION_UNPUBLISHED;
+        CompiledTemplate template = FEEDBACK_SESSION_UNPUBLISHED_TEMPLATE;
 
         CourseAttributes course = coursesLogic.getCourse(session.getCourseId());
         boolean isEmailNeeded = fsLogic.isFeedbackSessionViewableToStudents(session);
@@ -400,7 +388,7 @@ public class EmailGenerator {
 
     private List<EmailWrapper> generateFeedbackSessionEmailBases(
             CourseAttributes course, FeedbackSessionAttributes session, List<StudentAttributes> students,
-            List<InstructorAttributes> instructors, String template, String subject) {
+            List<InstructorAttributes> instructors, CompiledTemplate template, String subject) {
         String additionalContactInformation = getAdditionalContactInformationFragment(course);
         return generateFeedbackSessionEmailBases(course, session, students, instructors, template, subject,
                 FEEDBACK_ACTION_SUBMIT_EDIT_OR_VIEW, additionalContactInformation);
@@ -408,51 +396,53 @@ public class EmailGenerator {
 
     private List<EmailWrapper> generateFeedbackSessionEmailBases(
             CourseAttributes course, FeedbackSessionAttributes session, List<StudentAttributes> students,
-            List<InstructorAttributes> instructors, String template, String subject, String feedbackAction,
+            List<InstructorAttributes> instructors, CompiledTemplate template, String subject, String feedbackAction,
             String addtionalContactInformation) {
 
+        // the details shared by all the recipients are filled in once; only the recipient details are per email
+        CompiledTemplate sessionTemplate = fillUpFeedbackSessionDetails(template, course, session,
+                feedbackAction, addtionalContactInformation);
+        SessionLinkTable links = new SessionLinkTable(session);
         List<EmailWrapper> emails = new ArrayList<>();
         for (StudentAttributes student : students) {
             emails.add(generateFeedbackSessionEmailBaseForStudents(course, session, student,
-                    template, subject, feedbackAction, addtionalContactInformation));
+                    sessionTemplate, links.getStudentLinks(student), subject));
         }
-        for (InstructorAttributes instructor : instructors) {
-            emails.add(generateFeedbackSessionEmailBaseForInstructors(course, session, instructor,
-                    template, subject, feedbackAction, addtionalContactInformation));
+        if (!instructors.isEmpty()) {
+            CompiledTemplate instructorTemplate = sessionTemplate.fill(
+                    "${instructorFragment}", generateInstructorPreamble(course.getId(), course.getName()),
+                    "${submitUrl}", "{in the actual email sent to the students, this will be the unique link}",
+                    "${reportUrl}", "{in the actual email sent to the students, this will be the unique link}");
+            for (InstructorAttributes instructor : instructors) {
+                emails.add(generateFeedbackSessionEmailBaseForInstructors(course, session, instructor,
+                        instructorTemplate, subject));
+            }
         }
         return emails;
     }
 
-    private EmailWrapper generateFeedbackSessionEmailBaseForStudents(
-            CourseAttributes course, FeedbackSessionAttributes session, StudentAttributes student, String template,
-            String subject, String feedbackAction, String additionalContactInformation) {
-
-        String submitUrl = Config.getFrontEndAppUrl(Const.WebPageURIs.SESSION_SUBMISSION_PAGE)
-                .withCourseId(course.getId())
-                .withSessionName(session.getFeedbackSessionName())
-                .withRegistrationKey(StringHelper.encrypt(student.key))
-                .withStudentEmail(student.email)
-                .toAbsoluteString();
-
-        String reportUrl = Config.getFrontEndAppUrl(Const.WebPageURIs.SESSION_RESULTS_PAGE)
-                .withCourseId(course.getId())
-                .withSessionName(session.getFeedbackSessionName())
-                .withRegistrationKey(StringHelper.encrypt(student.key))
-                .withStudentEmail(student.email)
-                .toAbsoluteString();
-
-        String emailBody = Templates.populateTemplate(template,
-                "${userName}", SanitizationHelper.sanitizeForHtml(student.name),
+    private CompiledTemplate fillUpFeedbackSessionDetails(
+            CompiledTemplate template, CourseAttributes course, FeedbackSessionAttributes session,
+            String feedbackAction, String additionalContactInformation) {
+        return template.fill(
                 "${courseName}", SanitizationHelper.sanitizeForHtml(course.getName()),
                 "${courseId}", SanitizationHelper.sanitizeForHtml(course.getId()),
                 "${feedbackSessionName}", SanitizationHelper.sanitizeForHtml(session.getFeedbackSessionName()),
                 "${deadline}", SanitizationHelper.sanitizeForHtml(session.getEndTimeString()),
-                "${instructorFragment}", "",
                 "${sessionInstructions}", session.getInstructionsString(),
-                "${submitUrl}", submitUrl,
-                "${reportUrl}", reportUrl,
                 "${feedbackAction}", feedbackAction,
                 "${additionalContactInformation}", additionalContactInformation);
+    }
+
+    private EmailWrapper generateFeedbackSessionEmailBaseForStudents(
+            CourseAttributes course, FeedbackSessionAttributes session, StudentAttributes student,
+            CompiledTemplate sessionTemplate, SessionLinkTable.StudentLinks links, String subject) {
+
+        String emailBody = sessionTemplate.populate(
+                "${userName}", SanitizationHelper.sanitizeForHtml(student.name),
+                "${instructorFragment}", "",
+                "${submitUrl}", links.submitUrl,
+                "${reportUrl}", links.reportUrl);
 
         EmailWrapper email = getEmptyEmailAddressedToEmail(student.email);
         email.setSubject(String.format(subject, course.getName(), session.getFeedbackSessionName()));
@@ -477,22 +467,10 @@ public class EmailGenerator {
 
     private EmailWrapper generateFeedbackSessionEmailBaseForInstructors(
             CourseAttributes course, FeedbackSessionAttributes session, InstructorAttributes instructor,
-            String template, String subject, String feedbackAction, String additionalContactInformation) {
+            CompiledTemplate instructorTemplate, String subject) {
 
-        String instructorFragment = generateInstructorPreamble(course.getId(), course.getName());
-
-        String emailBody = Templates.populateTemplate(template,
-                "${userName}", SanitizationHelper.sanitizeForHtml(instructor.name),
-                "${courseName}", SanitizationHelper.sanitizeForHtml(course.getName()),
-                "${courseId}", SanitizationHelper.sanitizeForHtml(course.getId()),
-                "${feedbackSessionName}", SanitizationHelper.sanitizeForHtml(session.getFeedbackSessionName()),
-                "${deadline}", SanitizationHelper.sanitizeForHtml(session.getEndTimeString()),
-                "${instructorFragment}", instructorFragment,
-                "${sessionInstructions}", session.getInstructionsString(),
-                "${submitUrl}", "{in the actual email sent to the students, this will be the unique link}",
-                "${reportUrl}", "{in the actual email sent to the students, this will be the unique link}",
-                "${feedbackAction}", feedbackAction,
-                "${additionalContactInformation}", additionalContactInformation);
+        String emailBody = instructorTemplate.populate(
+                "${userName}", SanitizationHelper.sanitizeForHtml(instructor.name));
 
         EmailWrapper email = getEmptyEmailAddressedToEmail(instructor.email);
         email.setSubject(String.format(subject, course.getName(), session.getFeedbackSessionName()));
@@ -667,12 +645,18 @@ public class EmailGenerator {
     }
 
     /**
-     * Generates the logs compilation email for the given {@code logs}.
+     * Generates the logs compilation email for the logs aggregated by {@code aggregator}, with one entry per group
+     * of logs with the same signature.
      */
-    public EmailWrapper generateCompiledLogsEmail(List<AppLogLine> logs) {
+    public EmailWrapper generateCompiledLogsEmail(ErrorLogAggregator aggregator) {
         StringBuilder emailBody = new StringBuilder();
-        for (int i = 0; i < logs.size(); i++) {
-            emailBody.append(generateSevereErrorLogLine(i, logs.get(i)));
+        List<ErrorLogGroup> groups = aggregator.getGroups();
+        for (int i = 0; i < groups.size(); i++) {
+            emailBody.append(generateSevereErrorLogGroup(i, groups.get(i)));
+        }
+        if (aggregator.getNumberOfUngroupedLogs() > 0) {
+            emailBody.append("<p>").append(aggregator.getNumberOfUngroupedLogs())
+                     .append(" more error logs with other signatures are not shown.</p>");
         }
 
         EmailWrapper email = getEmptyEmailAddressedToEmail(Config.SUPPORT_EMAIL);
@@ -681,12 +665,20 @@ public class EmailGenerator {
         return email;
     }
 
-    private String generateSevereErrorLogLine(int index, AppLogLine logLine) {
+    private String generateSevereErrorLogGroup(int index, ErrorLogGroup group) {
+        StringBuilder sampleMessages = new StringBuilder();
+        for (String message : group.getSampleMessages()) {
+            sampleMessages.append(Templates.populateTemplate(
+                    EmailTemplates.FRAGMENT_SEVERE_ERROR_LOG_GROUP_SAMPLE,
+                    "${errorMessage}", SanitizationHelper.sanitizeForHtml(message).replace("\n", "<br>")));
+        }
         return Templates.populateTemplate(
-                EmailTemplates.SEVERE_ERROR_LOG_LINE,
+                EmailTemplates.SEVERE_ERROR_LOG_GROUP,
                 "${index}", String.valueOf(index),
-                "${errorType}", logLine.getLogLevel().toString(),
-                "${errorMessage}", logLine.getLogMessage().replace("\n", "<br>"));
+                "${errorType}", group.getLogLevel().toString(),
+                "${count}", String.valueOf(group.getCount()),
+                "${signature}", SanitizationHelper.sanitizeForHtml(group.getSignature()),
+                "${sampleMessages}", sampleMessages.toString());
     }
 
     private EmailWrapper getEmptyEmailAddressedToEmail(String recipient) {
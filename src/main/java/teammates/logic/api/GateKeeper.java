@@ -6,6 +6,7 @@ import com.google.appengine.api.users.UserServiceFactory;
 
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.UserInfo;
+import teammates.common.datatransfer.UserPrincipal;
 import teammates.common.datatransfer.attributes.AccountAttributes;
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
@@ -46,18 +47,11 @@ public class GateKeeper {
         }
 
         UserInfo userInfo = new UserInfo(user);
+        userInfo.isAdmin = isAdministrator();
 
-        if (isAdministrator()) {
-            userInfo.isAdmin = true;
-        }
-
-        if (isInstructor()) {
-            userInfo.isInstructor = true;
-        }
-
-        if (isStudent()) {
-            userInfo.isStudent = true;
-        }
+        UserPrincipal principal = accountsLogic.getUserPrincipal(user.getNickname());
+        userInfo.isInstructor = principal.isInstructor();
+        userInfo.isStudent = principal.isStudent();
 
         return userInfo;
     }
@@ -70,8 +64,9 @@ public class GateKeeper {
     public UserInfo getMasqueradeUser(String googleId) {
         UserInfo userInfo = new UserInfo(googleId);
         userInfo.isAdmin = false;
-        userInfo.isInstructor = accountsLogic.isAccountAnInstructor(googleId);
-        userInfo.isStudent = studentsLogic.isStudentInAnyCourse(googleId);
+        UserPrincipal principal = accountsLogic.getUserPrincipal(googleId);
+        userInfo.isInstructor = principal.isInstructor();
+        userInfo.isStudent = principal.isStudent();
         return userInfo;
     }
 
@@ -379,19 +374,6 @@ public class GateKeeper {
         return userService.isUserAdmin();
     }
 
-    private boolean isInstructor() {
-        User user = userService.getCurrentUser();
-        Assumption.assertNotNull(user);
-        return accountsLogic.isAccountAnInstructor(user.getNickname());
-    }
-
-    private boolean isStudent() {
-        User user = userService.getCurrentUser();
-        Assumption.assertNotNull(user);
-
-        return studentsLogic.isStudentInAnyCourse(user.getNickname());
-    }
-
     /**
      * Verifies that the action is accessible when the user is either an instructor of the course, a student of the course
      * or his/her team member, or an admin.
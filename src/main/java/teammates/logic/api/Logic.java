@@ -1,15 +1,18 @@
 package teammates.logic.api;
 
+import java.io.PrintWriter;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.List;
 import java.util.Map;
 
+import teammates.common.datatransfer.CourseDeletionProgress;
 import teammates.common.datatransfer.CourseDetailsBundle;
 import teammates.common.datatransfer.CourseEnrollmentResult;
 import teammates.common.datatransfer.CourseSummaryBundle;
 import teammates.common.datatransfer.DataBundle;
 import teammates.common.datatransfer.FeedbackResponseCommentSearchResultBundle;
+import teammates.common.datatransfer.FeedbackSessionCompletionIndex;
 import teammates.common.datatransfer.FeedbackSessionDetailsBundle;
 import teammates.common.datatransfer.FeedbackSessionQuestionsBundle;
 import teammates.common.datatransfer.FeedbackSessionResponseStatus;
@@ -22,6 +25,7 @@ import teammates.common.datatransfer.StudentSearchResultBundle;
 import teammates.common.datatransfer.TeamDetailsBundle;
 import teammates.common.datatransfer.attributes.AccountAttributes;
 import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.datatransfer.attributes.EnrollmentJobAttributes;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
@@ -38,11 +42,13 @@ import teammates.common.util.Assumption;
 import teammates.logic.core.AccountsLogic;
 import teammates.logic.core.CoursesLogic;
 import teammates.logic.core.DataBundleLogic;
+import teammates.logic.core.EnrollmentJobsLogic;
 import teammates.logic.core.FeedbackQuestionsLogic;
 import teammates.logic.core.FeedbackResponseCommentsLogic;
 import teammates.logic.core.FeedbackResponsesLogic;
 import teammates.logic.core.FeedbackSessionsLogic;
 import teammates.logic.core.InstructorsLogic;
+import teammates.logic.core.LogCheckpointsLogic;
 import teammates.logic.core.ProfilesLogic;
 import teammates.logic.core.StudentsLogic;
 
@@ -64,6 +70,8 @@ public class Logic {
             FeedbackResponseCommentsLogic.inst();
     private static final ProfilesLogic profilesLogic = ProfilesLogic.inst();
     private static final DataBundleLogic dataBundleLogic = DataBundleLogic.inst();
+    private static final EnrollmentJobsLogic enrollmentJobsLogic = EnrollmentJobsLogic.inst();
+    private static final LogCheckpointsLogic logCheckpointsLogic = LogCheckpointsLogic.inst();
 
     /**
      * Preconditions: <br>
@@ -594,24 +602,38 @@ public class Logic {
     }
 
     /**
-     * Permanently deletes a course and all data related to the course
-     * (instructors, students, feedback sessions) from Recycle Bin.
-     * Fails silently if no such account. <br>
+     * Makes a course inaccessible so that its data can be deleted in the background
+     * with {@link #deleteCourseDataInBatch(String, CourseDeletionProgress)}.
      * Preconditions: <br>
      * * All parameters are non-null.
      */
-    public void deleteCourse(String courseId) {
+    public void prepareCourseForDeletion(String courseId) {
         Assumption.assertNotNull(courseId);
-        coursesLogic.deleteCourseCascade(courseId);
+        coursesLogic.prepareCourseForDeletion(courseId);
     }
 
     /**
-     * Permanently deletes all courses and all data related to these courses
-     * (instructors, students, feedback sessions) from Recycle Bin.
+     * Makes all courses in Recycle Bin of the given instructors inaccessible so that their data can be deleted
+     * in the background with {@link #deleteCourseDataInBatch(String, CourseDeletionProgress)}.
+     *
+     * @return the IDs of the courses whose data is to be deleted
      */
-    public void deleteAllCourses(List<InstructorAttributes> instructorList) {
+    public List<String> prepareAllSoftDeletedCoursesForDeletion(List<InstructorAttributes> instructorList) {
         Assumption.assertNotNull(instructorList);
-        coursesLogic.deleteAllCoursesCascade(instructorList);
+        return coursesLogic.prepareAllSoftDeletedCoursesForDeletion(instructorList);
+    }
+
+    /**
+     * Deletes the next batch of the data of a course.
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @return where to continue the deletion from, or null if all the data of the course has been deleted
+     */
+    public CourseDeletionProgress deleteCourseDataInBatch(String courseId, CourseDeletionProgress progress) {
+        Assumption.assertNotNull(courseId);
+        Assumption.assertNotNull(progress);
+        return coursesLogic.deleteCourseDataInBatch(courseId, progress);
     }
 
     /**
@@ -695,6 +717,19 @@ public class Logic {
         return studentsLogic.searchStudentsInWholeSystem(queryString);
     }
 
+    /**
+     * Removes the student search documents with the given keys.
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @see StudentSearchResultBundle#staleDocumentKeys
+     */
+    public void deleteStudentSearchDocuments(List<String> unencryptedRegistrationKeys) {
+        Assumption.assertNotNull(unencryptedRegistrationKeys);
+
+        studentsLogic.deleteStudentSearchDocuments(unencryptedRegistrationKeys);
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -911,6 +946,85 @@ public class Logic {
 
     }
 
+    /**
+     * Checks the enrollment lines and creates a job to enroll the students in them in the background
+     * with {@link #enrollNextBatchOfEnrollmentJob(String)}.
+     * The students are enrolled as in {@link #enrollStudents(String, String)}.<br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     * @return the created job
+     */
+    public EnrollmentJobAttributes createEnrollmentJob(String enrollLines, String courseId)
+            throws EnrollException, EntityDoesNotExistException, InvalidParametersException {
+
+        Assumption.assertNotNull(courseId);
+        Assumption.assertNotNull(enrollLines);
+
+        return enrollmentJobsLogic.createEnrollmentJob(enrollLines.trim(), courseId);
+    }
+
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     * @return null if there is no such job
+     */
+    public EnrollmentJobAttributes getEnrollmentJob(String jobId) {
+        Assumption.assertNotNull(jobId);
+        return enrollmentJobsLogic.getEnrollmentJob(jobId);
+    }
+
+    /**
+     * Enrolls the next batch of students of an enrollment job.
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     * @return the updated job
+     */
+    public EnrollmentJobAttributes enrollNextBatchOfEnrollmentJob(String jobId) throws EntityDoesNotExistException {
+        Assumption.assertNotNull(jobId);
+        return enrollmentJobsLogic.enrollNextBatch(jobId);
+    }
+
+    /**
+     * Gets the result of a completed enrollment job, in the same form as {@link #enrollStudents(String, String)}.
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public CourseEnrollmentResult getEnrollmentResult(EnrollmentJobAttributes job) {
+        Assumption.assertNotNull(job);
+        return enrollmentJobsLogic.getEnrollmentResult(job);
+    }
+
+    /**
+     * Deletes the enrollment jobs which are old enough that their results are no longer needed.
+     */
+    public void deleteExpiredEnrollmentJobs() {
+        enrollmentJobsLogic.deleteExpiredEnrollmentJobs();
+    }
+
+    /**
+     * Gets the end (exclusive) of the time range of the logs processed so far by the job.
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     * @return null if the job has not processed any logs
+     */
+    public Instant getLogsProcessedUntil(String jobName) {
+        Assumption.assertNotNull(jobName);
+        return logCheckpointsLogic.getLogsProcessedUntil(jobName);
+    }
+
+    /**
+     * Records that the job has processed the logs up to {@code processedUntil}, unless another run of the job
+     * has already moved the checkpoint from {@code expectedProcessedUntil}.
+     * Preconditions: <br>
+     * * All parameters except {@code expectedProcessedUntil} are non-null.
+     * @return true if the checkpoint is moved
+     */
+    public boolean advanceLogsProcessedUntil(String jobName, Instant expectedProcessedUntil, Instant processedUntil) {
+        Assumption.assertNotNull(jobName);
+        Assumption.assertNotNull(processedUntil);
+        return logCheckpointsLogic.advanceLogsProcessedUntil(jobName, expectedProcessedUntil, processedUntil);
+    }
+
     public List<StudentAttributes> getUnregisteredStudentsForCourse(String courseId) {
         Assumption.assertNotNull(courseId);
         return studentsLogic.getUnregisteredStudentsForCourse(courseId);
@@ -929,6 +1043,15 @@ public class Logic {
         return feedbackSessionsLogic.isFeedbackSessionCompletedByStudent(fsa, userEmail);
     }
 
+    /**
+     * Returns which students and instructors of the course have completed the session,
+     * loading the questions of the session once for all of them.
+     */
+    public FeedbackSessionCompletionIndex getFeedbackSessionCompletionIndex(FeedbackSessionAttributes fsa) {
+        Assumption.assertNotNull(fsa);
+        return feedbackSessionsLogic.getFeedbackSessionCompletionIndex(fsa);
+    }
+
     /**
      * Deletes the student from the course including any submissions to/from
      * for this student in this course.
@@ -1027,6 +1150,19 @@ public class Logic {
         return coursesLogic.getCourseStudentListAsCsv(courseId, googleId);
     }
 
+    /**
+     * Writes the students list of a course in CSV format to {@code writer}, reading the students in batches.
+     * Preconditions: <br>
+     * * All parameters are non-null. <br>
+     */
+    public void writeCourseStudentListAsCsv(CourseAttributes course, PrintWriter writer) {
+
+        Assumption.assertNotNull(course);
+        Assumption.assertNotNull(writer);
+
+        coursesLogic.writeCourseStudentListAsCsv(course, writer);
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
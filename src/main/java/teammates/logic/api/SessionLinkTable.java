@@ -0,0 +1,86 @@
+package teammates.logic.api;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Config;
+import teammates.common.util.Const;
+import teammates.common.util.StringHelper;
+import teammates.common.util.Url;
+
+/**
+ * The links to a feedback session which are put in the emails about the session, computed once for all
+ * the emails generated together.
+ *
+ * <p>The part of the URLs shared by all the recipients is built once, and the registration key of each student
+ * is encrypted once for both the submission and the result links of the student.
+ */
+final class SessionLinkTable {
+
+    private final String studentSubmitUrlBase;
+    private final String studentReportUrlBase;
+    private final String instructorSubmitUrl;
+    private final String instructorReportUrl;
+    private final Map<String, StudentLinks> linksByStudentEmail = new HashMap<>();
+
+    SessionLinkTable(FeedbackSessionAttributes session) {
+        this.studentSubmitUrlBase = Config.getFrontEndAppUrl(Const.WebPageURIs.SESSION_SUBMISSION_PAGE)
+                .withCourseId(session.getCourseId())
+                .withSessionName(session.getFeedbackSessionName())
+                .toAbsoluteString();
+        this.studentReportUrlBase = Config.getFrontEndAppUrl(Const.WebPageURIs.SESSION_RESULTS_PAGE)
+                .withCourseId(session.getCourseId())
+                .withSessionName(session.getFeedbackSessionName())
+                .toAbsoluteString();
+        this.instructorSubmitUrl = Config.getFrontEndAppUrl(Const.WebPageURIs.INSTRUCTOR_SESSION_SUBMISSION_PAGE)
+                .withCourseId(session.getCourseId())
+                .withSessionName(session.getFeedbackSessionName())
+                .toAbsoluteString();
+        this.instructorReportUrl = Config.getFrontEndAppUrl(Const.ActionURIs.INSTRUCTOR_FEEDBACK_RESULTS_PAGE)
+                .withCourseId(session.getCourseId())
+                .withSessionName(session.getFeedbackSessionName())
+                .toAbsoluteString();
+    }
+
+    /**
+     * Returns the submission and result links of the student, computing them on the first call for the student.
+     */
+    StudentLinks getStudentLinks(StudentAttributes student) {
+        return linksByStudentEmail.computeIfAbsent(student.email, email -> {
+            String encryptedKey = StringHelper.encrypt(student.key);
+            return new StudentLinks(withStudentParams(studentSubmitUrlBase, encryptedKey, email),
+                    withStudentParams(studentReportUrlBase, encryptedKey, email));
+        });
+    }
+
+    private static String withStudentParams(String urlBase, String encryptedKey, String email) {
+        String url = Url.addParamToUrl(urlBase, Const.ParamsNames.REGKEY, encryptedKey);
+        return Url.addParamToUrl(url, Const.ParamsNames.STUDENT_EMAIL, email);
+    }
+
+    String getInstructorSubmitUrl() {
+        return instructorSubmitUrl;
+    }
+
+    String getInstructorReportUrl() {
+        return instructorReportUrl;
+    }
+
+    /**
+     * The links of a student to the session.
+     */
+    static final class StudentLinks {
+
+        final String submitUrl;
+        final String reportUrl;
+
+        StudentLinks(String submitUrl, String reportUrl) {
+            this.submitUrl = submitUrl;
+            this.reportUrl = reportUrl;
+        }
+
+    }
+
+}
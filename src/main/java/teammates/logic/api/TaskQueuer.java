@@ -4,6 +4,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import teammates.common.datatransfer.CourseDeletionProgress;
 import teammates.common.util.Const.ParamsNames;
 import teammates.common.util.Const.TaskQueue;
 import teammates.common.util.EmailWrapper;
@@ -64,6 +65,48 @@ public class TaskQueuer {
 
     // The following methods are the actual API methods to be used by the client classes
 
+    /**
+     * Schedules for the next batch of the data of a course to be deleted.
+     *
+     * @param courseId the ID of the course
+     * @param progress where the deletion is to continue from
+     */
+    public void scheduleCourseDataDeletion(String courseId, CourseDeletionProgress progress) {
+        Map<String, String> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.COURSE_ID, courseId);
+        paramMap.put(ParamsNames.COURSE_DELETION_STAGE, progress.getStage().name());
+        if (progress.getCursor() != null) {
+            paramMap.put(ParamsNames.COURSE_DELETION_CURSOR, progress.getCursor());
+        }
+
+        addTask(TaskQueue.COURSE_DATA_DELETION_QUEUE_NAME, TaskQueue.COURSE_DATA_DELETION_WORKER_URL, paramMap);
+    }
+
+    /**
+     * Schedules for the next batch of students of an enrollment job to be enrolled.
+     *
+     * @param jobId the ID of the enrollment job
+     */
+    public void scheduleEnrollment(String jobId) {
+        Map<String, String> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.ENROLLMENT_JOB_ID, jobId);
+
+        addTask(TaskQueue.ENROLLMENT_QUEUE_NAME, TaskQueue.ENROLLMENT_WORKER_URL, paramMap);
+    }
+
+    /**
+     * Schedules for the stale student search documents found during a search to be removed.
+     *
+     * @param unencryptedRegistrationKeys the keys of the search documents
+     */
+    public void scheduleStudentSearchDocumentsDeletion(List<String> unencryptedRegistrationKeys) {
+        Map<String, String[]> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.STUDENT_SEARCH_DOCUMENT_KEYS, unencryptedRegistrationKeys.toArray(new String[0]));
+
+        addTaskMultisetParam(TaskQueue.STUDENT_SEARCH_DOCUMENT_DELETION_QUEUE_NAME,
+                             TaskQueue.STUDENT_SEARCH_DOCUMENT_DELETION_WORKER_URL, paramMap);
+    }
+
     /**
      * Schedules for feedback session reminders (i.e. student has not submitted responses yet)
      * for the specified feedback session.
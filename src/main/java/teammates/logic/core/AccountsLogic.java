@@ -2,6 +2,7 @@ package teammates.logic.core;
 
 import java.util.List;
 
+import teammates.common.datatransfer.UserPrincipal;
 import teammates.common.datatransfer.attributes.AccountAttributes;
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
@@ -62,6 +63,15 @@ public final class AccountsLogic {
         return accountsDb.getAccount(googleId) != null;
     }
 
+    /**
+     * Gets the roles of the user with the given Google ID, from the cache if possible.
+     *
+     * @see AccountsDb#getUserPrincipal(String)
+     */
+    public UserPrincipal getUserPrincipal(String googleId) {
+        return accountsDb.getUserPrincipal(googleId);
+    }
+
     public boolean isAccountAnInstructor(String googleId) {
         AccountAttributes a = accountsDb.getAccount(googleId);
         return a != null && a.isInstructor;
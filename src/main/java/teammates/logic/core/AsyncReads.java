@@ -0,0 +1,60 @@
+package teammates.logic.core;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import teammates.common.util.DeferredResult;
+
+/**
+ * Joins reads which have been started without waiting for them, e.g. by the {@code ...Async} methods
+ * of the storage API.
+ *
+ * <p>All the independent reads needed by an operation should be started before any of them is joined,
+ * so that they run concurrently and the operation waits for the slowest read instead of all the reads in turn.
+ */
+public final class AsyncReads {
+
+    private AsyncReads() {
+        // utility class
+    }
+
+    /**
+     * Waits for all the results.
+     *
+     * @return the values of the results, in the same order
+     */
+    public static <T> List<T> joinAll(List<? extends DeferredResult<T>> results) {
+        List<T> values = new ArrayList<>();
+        for (DeferredResult<T> result : results) {
+            values.add(result.now());
+        }
+        return values;
+    }
+
+    /**
+     * Waits for all the results.
+     *
+     * @return the values of the results, by the same keys and in the same order
+     */
+    public static <K, T> Map<K, T> joinAll(Map<K, ? extends DeferredResult<T>> results) {
+        Map<K, T> values = new LinkedHashMap<>();
+        results.forEach((key, result) -> values.put(key, result.now()));
+        return values;
+    }
+
+    /**
+     * Waits for all the results, which are lists.
+     *
+     * @return the elements of all the lists, in order
+     */
+    public static <T> List<T> joinAllFlattened(List<? extends DeferredResult<List<T>>> results) {
+        List<T> values = new ArrayList<>();
+        for (DeferredResult<List<T>> result : results) {
+            values.addAll(result.now());
+        }
+        return values;
+    }
+
+}
@@ -1,16 +1,18 @@
 package teammates.logic.core;
 
+import java.io.PrintWriter;
+import java.io.StringWriter;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.stream.Collectors;
 
+import teammates.common.datatransfer.CourseDeletionProgress;
 import teammates.common.datatransfer.CourseDetailsBundle;
+import teammates.common.datatransfer.CourseStructure;
 import teammates.common.datatransfer.CourseSummaryBundle;
 import teammates.common.datatransfer.FeedbackSessionDetailsBundle;
 import teammates.common.datatransfer.InstructorPrivileges;
@@ -43,6 +45,16 @@ public final class CoursesLogic {
 
     private static final Logger log = Logger.getLogger();
 
+    /**
+     * The maximum number of entities deleted by one call of {@link #deleteCourseDataInBatch}.
+     */
+    private static final int COURSE_DATA_DELETION_BATCH_SIZE = 500;
+
+    /**
+     * The number of students read at a time by {@link #writeCourseStudentListAsCsv}.
+     */
+    private static final int STUDENT_LIST_CSV_BATCH_SIZE = 500;
+
     private static CoursesLogic instance = new CoursesLogic();
 
     /* Explanation: This class depends on CoursesDb class but no other *Db classes.
@@ -56,6 +68,10 @@ public final class CoursesLogic {
     private static final CoursesDb coursesDb = new CoursesDb();
 
     private static final AccountsLogic accountsLogic = AccountsLogic.inst();
+    private static final EnrollmentJobsLogic enrollmentJobsLogic = EnrollmentJobsLogic.inst();
+    private static final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
+    private static final FeedbackResponseCommentsLogic frcLogic = FeedbackResponseCommentsLogic.inst();
+    private static final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
     private static final FeedbackSessionsLogic feedbackSessionsLogic = FeedbackSessionsLogic.inst();
     private static final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
     private static final StudentsLogic studentsLogic = StudentsLogic.inst();
@@ -156,13 +172,18 @@ public final class CoursesLogic {
             throw new EntityDoesNotExistException("Student with Google ID " + googleId + " does not exist");
         }
 
+        Map<String, StudentAttributes> studentsByCourse = new HashMap<>();
+        for (StudentAttributes student : studentDataList) {
+            studentsByCourse.put(student.course, student);
+        }
+
         List<CourseAttributes> courseList = getCoursesForStudentAccount(googleId);
         CourseAttributes.sortById(courseList);
-        List<CourseDetailsBundle> courseDetailsList = new ArrayList<>();
 
+        Map<String, String> studentEmails = new HashMap<>();
         for (CourseAttributes c : courseList) {
 
-            StudentAttributes s = studentsLogic.getStudentForCourseIdAndGoogleId(c.getId(), googleId);
+            StudentAttributes s = studentsByCourse.get(c.getId());
 
             if (s == null) {
                 //TODO Remove excessive logging after the reason why s can be null is found
@@ -182,14 +203,19 @@ public final class CoursesLogic {
                 Assumption.fail("Student should not be null at this point.");
             }
 
-            // Skip the course existence check since the course ID is obtained from a
-            // valid CourseAttributes resulting from query
-            List<FeedbackSessionAttributes> feedbackSessionList =
-                    feedbackSessionsLogic.getFeedbackSessionsForUserInCourseSkipCheck(c.getId(), s.email);
+            studentEmails.put(c.getId(), s.email);
+        }
+
+        // Skip the course existence check since the course IDs are obtained from
+        // valid CourseAttributes resulting from query
+        Map<String, List<FeedbackSessionAttributes>> feedbackSessionLists =
+                feedbackSessionsLogic.getFeedbackSessionsForUsersInCoursesSkipCheck(studentEmails);
 
+        List<CourseDetailsBundle> courseDetailsList = new ArrayList<>();
+        for (CourseAttributes c : courseList) {
             CourseDetailsBundle cdd = new CourseDetailsBundle(c);
 
-            for (FeedbackSessionAttributes fs : feedbackSessionList) {
+            for (FeedbackSessionAttributes fs : feedbackSessionLists.get(c.getId())) {
                 cdd.feedbackSessions.add(new FeedbackSessionDetailsBundle(fs));
             }
 
@@ -198,6 +224,17 @@ public final class CoursesLogic {
         return courseDetailsList;
     }
 
+    /**
+     * Returns the {@link CourseStructure} of the course with valid ID courseId, i.e. its sections, teams and
+     * statistics computed from a single read of its students.
+     *
+     * <p>Callers which need more than one of sections, teams or section names should obtain them from the same
+     * {@link CourseStructure} instead of calling the individual getters.
+     */
+    public CourseStructure getCourseStructure(String courseId) {
+        return new CourseStructure(studentsLogic.getStudentsForCourse(courseId));
+    }
+
     /**
      * Returns a list of section names for the course with valid ID courseId.
      *
@@ -206,19 +243,7 @@ public final class CoursesLogic {
     public List<String> getSectionsNameForCourse(String courseId) throws EntityDoesNotExistException {
         verifyCourseIsPresent(courseId);
 
-        List<StudentAttributes> studentDataList = studentsLogic.getStudentsForCourse(courseId);
-
-        Set<String> sectionNameSet = new HashSet<>();
-        for (StudentAttributes sd : studentDataList) {
-            if (!sd.section.equals(Const.DEFAULT_SECTION)) {
-                sectionNameSet.add(sd.section);
-            }
-        }
-
-        List<String> sectionNameList = new ArrayList<>(sectionNameSet);
-        sectionNameList.sort(null);
-
-        return sectionNameList;
+        return getCourseStructure(courseId).getSectionNames();
     }
 
     /**
@@ -231,63 +256,10 @@ public final class CoursesLogic {
     public List<SectionDetailsBundle> getSectionsForCourse(CourseAttributes course, CourseDetailsBundle cdd) {
         Assumption.assertNotNull("Course is null", course);
 
-        List<StudentAttributes> students = studentsLogic.getStudentsForCourse(course.getId());
-        StudentAttributes.sortBySectionName(students);
-
-        List<SectionDetailsBundle> sections = new ArrayList<>();
-
-        SectionDetailsBundle section = null;
-        int teamIndexWithinSection = 0;
-
-        for (int i = 0; i < students.size(); i++) {
+        CourseStructure courseStructure = getCourseStructure(course.getId());
+        cdd.stats = courseStructure.getStats();
 
-            StudentAttributes s = students.get(i);
-            cdd.stats.studentsTotal++;
-            if (!s.isRegistered()) {
-                cdd.stats.unregisteredTotal++;
-            }
-
-            if (section == null) { // First student of first section
-                section = new SectionDetailsBundle();
-                section.name = s.section;
-                section.teams.add(new TeamDetailsBundle());
-                cdd.stats.teamsTotal++;
-                section.teams.get(teamIndexWithinSection).name = s.team;
-                section.teams.get(teamIndexWithinSection).students.add(s);
-            } else if (s.section.equals(section.name)) {
-                if (s.team.equals(section.teams.get(teamIndexWithinSection).name)) {
-                    section.teams.get(teamIndexWithinSection).students.add(s);
-                } else {
-                    teamIndexWithinSection++;
-                    section.teams.add(new TeamDetailsBundle());
-                    cdd.stats.teamsTotal++;
-                    section.teams.get(teamIndexWithinSection).name = s.team;
-                    section.teams.get(teamIndexWithinSection).students.add(s);
-                }
-            } else { // first student of subsequent section
-                sections.add(section);
-                if (!section.name.equals(Const.DEFAULT_SECTION)) {
-                    cdd.stats.sectionsTotal++;
-                }
-                teamIndexWithinSection = 0;
-                section = new SectionDetailsBundle();
-                section.name = s.section;
-                section.teams.add(new TeamDetailsBundle());
-                cdd.stats.teamsTotal++;
-                section.teams.get(teamIndexWithinSection).name = s.team;
-                section.teams.get(teamIndexWithinSection).students.add(s);
-            }
-
-            boolean isLastStudent = i == students.size() - 1;
-            if (isLastStudent) {
-                sections.add(section);
-                if (!section.name.equals(Const.DEFAULT_SECTION)) {
-                    cdd.stats.sectionsTotal++;
-                }
-            }
-        }
-
-        return sections;
+        return courseStructure.getSections();
     }
 
     /**
@@ -298,49 +270,7 @@ public final class CoursesLogic {
 
         verifyCourseIsPresent(courseId);
 
-        List<StudentAttributes> students = studentsLogic.getStudentsForCourse(courseId);
-        StudentAttributes.sortBySectionName(students);
-
-        List<SectionDetailsBundle> sections = new ArrayList<>();
-
-        SectionDetailsBundle section = null;
-        int teamIndexWithinSection = 0;
-
-        for (int i = 0; i < students.size(); i++) {
-            StudentAttributes s = students.get(i);
-
-            if (section == null) { // First student of first section
-                section = new SectionDetailsBundle();
-                section.name = s.section;
-                section.teams.add(new TeamDetailsBundle());
-                section.teams.get(teamIndexWithinSection).name = s.team;
-                section.teams.get(teamIndexWithinSection).students.add(s);
-            } else if (s.section.equals(section.name)) {
-                if (s.team.equals(section.teams.get(teamIndexWithinSection).name)) {
-                    section.teams.get(teamIndexWithinSection).students.add(s);
-                } else {
-                    teamIndexWithinSection++;
-                    section.teams.add(new TeamDetailsBundle());
-                    section.teams.get(teamIndexWithinSection).name = s.team;
-                    section.teams.get(teamIndexWithinSection).students.add(s);
-                }
-            } else { // first student of subsequent section
-                sections.add(section);
-                teamIndexWithinSection = 0;
-                section = new SectionDetailsBundle();
-                section.name = s.section;
-                section.teams.add(new TeamDetailsBundle());
-                section.teams.get(teamIndexWithinSection).name = s.team;
-                section.teams.get(teamIndexWithinSection).students.add(s);
-            }
-
-            boolean isLastStudent = i == students.size() - 1;
-            if (isLastStudent) {
-                sections.add(section);
-            }
-        }
-
-        return sections;
+        return getCourseStructure(courseId).getSections();
     }
 
     /**
@@ -356,38 +286,7 @@ public final class CoursesLogic {
             throw new EntityDoesNotExistException("The course " + courseId + " does not exist");
         }
 
-        List<StudentAttributes> students = studentsLogic.getStudentsForCourse(courseId);
-        StudentAttributes.sortByTeamName(students);
-
-        List<TeamDetailsBundle> teams = new ArrayList<>();
-
-        TeamDetailsBundle team = null;
-
-        for (int i = 0; i < students.size(); i++) {
-
-            StudentAttributes s = students.get(i);
-
-            // first student of first team
-            if (team == null) {
-                team = new TeamDetailsBundle();
-                team.name = s.team;
-                team.students.add(s);
-            } else if (s.team.equals(team.name)) { // student in the same team as the previous student
-                team.students.add(s);
-            } else { // first student of subsequent teams (not the first team)
-                teams.add(team);
-                team = new TeamDetailsBundle();
-                team.name = s.team;
-                team.students.add(s);
-            }
-
-            // if last iteration
-            if (i == students.size() - 1) {
-                teams.add(team);
-            }
-        }
-
-        return teams;
+        return getCourseStructure(courseId).getTeams();
     }
 
     /**
@@ -645,6 +544,7 @@ public final class CoursesLogic {
         studentsLogic.deleteStudentsForCourse(courseId);
         instructorsLogic.deleteInstructorsForCourse(courseId);
         feedbackSessionsLogic.deleteFeedbackSessionsForCourseCascade(courseId);
+        enrollmentJobsLogic.deleteEnrollmentJobsForCourse(courseId);
         coursesDb.deleteCourse(courseId);
     }
 
@@ -665,6 +565,98 @@ public final class CoursesLogic {
         }
     }
 
+    /**
+     * Makes a course inaccessible in preparation for permanently deleting it with
+     * {@link #deleteCourseDataInBatch(String, CourseDeletionProgress)}.
+     *
+     * <p>The course is moved to Recycle Bin (if it is not already there) and its instructors are deleted,
+     * so that the course is hidden from its students and cannot be restored.
+     * The course itself is kept until all its data is deleted.
+     */
+    public void prepareCourseForDeletion(String courseId) {
+        Assumption.assertNotNull("Supplied parameter was null", courseId);
+
+        CourseAttributes course = coursesDb.getCourse(courseId);
+        if (course != null && !course.isCourseDeleted()) {
+            try {
+                coursesDb.softDeleteCourse(courseId);
+            } catch (EntityDoesNotExistException e) {
+                // the course has been deleted concurrently; there is nothing left to hide
+                log.info("Course " + courseId + " was deleted before it could be moved to Recycle Bin");
+            }
+        }
+        instructorsLogic.deleteInstructorsForCourse(courseId);
+    }
+
+    /**
+     * Prepares all courses in Recycle Bin of the given instructors for permanent deletion.
+     *
+     * @return the IDs of the courses whose data is to be deleted
+     * @see #prepareCourseForDeletion(String)
+     */
+    public List<String> prepareAllSoftDeletedCoursesForDeletion(List<InstructorAttributes> instructorList) {
+        Assumption.assertNotNull("Supplied parameter was null", instructorList);
+
+        List<String> softDeletedCourseIdList = instructorList.stream()
+                .filter(instructor -> coursesDb.getCourse(instructor.courseId).isCourseDeleted())
+                .map(InstructorAttributes::getCourseId)
+                .collect(Collectors.toList());
+
+        for (String courseId : softDeletedCourseIdList) {
+            prepareCourseForDeletion(courseId);
+        }
+        return softDeletedCourseIdList;
+    }
+
+    /**
+     * Deletes the next batch of the data of a course, i.e. its feedback sessions (together with their questions,
+     * responses and comments), students, instructors and finally the course itself and its enrollment jobs.
+     *
+     * @param progress where to continue the deletion from; use {@link CourseDeletionProgress#start()} to start
+     *                 (or safely restart) the deletion
+     * @return where to continue the deletion from, or null if all the data of the course has been deleted
+     */
+    public CourseDeletionProgress deleteCourseDataInBatch(String courseId, CourseDeletionProgress progress) {
+        Assumption.assertNotNull("Supplied parameter was null", courseId, progress);
+
+        String cursor = progress.getCursor();
+        String nextCursor = null;
+        switch (progress.getStage()) {
+        case RESPONSE_COMMENTS:
+            nextCursor = frcLogic.deleteFeedbackResponseCommentsForCourseInBatch(
+                    courseId, cursor, COURSE_DATA_DELETION_BATCH_SIZE);
+            break;
+        case RESPONSES:
+            nextCursor = frLogic.deleteFeedbackResponsesForCourseInBatch(
+                    courseId, cursor, COURSE_DATA_DELETION_BATCH_SIZE);
+            break;
+        case QUESTIONS:
+            nextCursor = fqLogic.deleteFeedbackQuestionsForCourseInBatch(
+                    courseId, cursor, COURSE_DATA_DELETION_BATCH_SIZE);
+            break;
+        case SESSIONS:
+            nextCursor = feedbackSessionsLogic.deleteFeedbackSessionsForCourseInBatch(
+                    courseId, cursor, COURSE_DATA_DELETION_BATCH_SIZE);
+            break;
+        case STUDENTS:
+            nextCursor = studentsLogic.deleteStudentsForCourseInBatch(
+                    courseId, cursor, COURSE_DATA_DELETION_BATCH_SIZE);
+            break;
+        case INSTRUCTORS:
+            nextCursor = instructorsLogic.deleteInstructorsForCourseInBatch(
+                    courseId, cursor, COURSE_DATA_DELETION_BATCH_SIZE);
+            break;
+        case COURSE:
+            enrollmentJobsLogic.deleteEnrollmentJobsForCourse(courseId);
+            coursesDb.deleteCourse(courseId);
+            break;
+        default:
+            Assumption.fail("Unknown course deletion stage: " + progress.getStage());
+            break;
+        }
+        return progress.advance(nextCursor);
+    }
+
     /**
      * Moves a course to Recycle Bin by its given corresponding ID.
      * @return the time when the course is moved to the recycle bin
@@ -728,57 +720,92 @@ public final class CoursesLogic {
 
     /**
      * Returns a CSV for the details (name, email, status) of all students belonging to a given course.
+     *
+     * @see #writeCourseStudentListAsCsv(CourseAttributes, PrintWriter)
      */
     public String getCourseStudentListAsCsv(String courseId, String googleId) throws EntityDoesNotExistException {
+        CourseAttributes course = getCourseForInstructor(courseId, googleId);
 
-        Map<String, CourseDetailsBundle> courses = getCourseSummariesForInstructor(googleId, false);
-        CourseDetailsBundle course = courses.get(courseId);
-        boolean hasSection = hasIndicatedSections(courseId);
-
-        StringBuilder export = new StringBuilder(100);
-        String courseInfo = "Course ID," + SanitizationHelper.sanitizeForCsv(courseId) + System.lineSeparator()
-                      + "Course Name," + SanitizationHelper.sanitizeForCsv(course.course.getName())
-                      + System.lineSeparator() + System.lineSeparator() + System.lineSeparator();
-        export.append(courseInfo);
-
-        String header = (hasSection ? "Section," : "") + "Team,Full Name,Last Name,Status,Email" + System.lineSeparator();
-        export.append(header);
-
-        for (SectionDetailsBundle section : course.sections) {
-            for (TeamDetailsBundle team : section.teams) {
-                for (StudentAttributes student : team.students) {
-                    String studentStatus = null;
-                    if (student.googleId == null || student.googleId.isEmpty()) {
-                        studentStatus = Const.STUDENT_COURSE_STATUS_YET_TO_JOIN;
-                    } else {
-                        studentStatus = Const.STUDENT_COURSE_STATUS_JOINED;
-                    }
-
-                    if (hasSection) {
-                        export.append(SanitizationHelper.sanitizeForCsv(section.name)).append(',');
-                    }
-
-                    export.append(SanitizationHelper.sanitizeForCsv(team.name) + ','
-                            + SanitizationHelper.sanitizeForCsv(StringHelper.removeExtraSpace(student.name)) + ','
-                            + SanitizationHelper.sanitizeForCsv(StringHelper.removeExtraSpace(student.lastName)) + ','
-                            + SanitizationHelper.sanitizeForCsv(studentStatus) + ','
-                            + SanitizationHelper.sanitizeForCsv(student.email) + System.lineSeparator());
-                }
-            }
-        }
+        StringWriter export = new StringWriter();
+        writeCourseStudentListAsCsv(course, new PrintWriter(export));
         return export.toString();
     }
 
+    /**
+     * Returns the course if the user is an instructor of it.
+     *
+     * @throws EntityDoesNotExistException if the instructor or the course does not exist,
+     *         or the user is not an instructor of the course
+     */
+    private CourseAttributes getCourseForInstructor(String courseId, String googleId)
+            throws EntityDoesNotExistException {
+        instructorsLogic.verifyInstructorExists(googleId);
+
+        if (instructorsLogic.getInstructorForGoogleId(courseId, googleId) == null) {
+            throw new EntityDoesNotExistException(
+                    "Instructor " + googleId + " of course " + courseId + " does not exist");
+        }
+        CourseAttributes course = getCourse(courseId);
+        if (course == null) {
+            throw new EntityDoesNotExistException("Course does not exist: " + courseId);
+        }
+        return course;
+    }
+
+    /**
+     * Writes the details (name, email, status) of all students belonging to the course to {@code writer},
+     * in CSV format.
+     *
+     * <p>The students are read in batches of {@value #STUDENT_LIST_CSV_BATCH_SIZE}, in the order of their section
+     * and team, and each batch is written before the next one is read. Hence, the memory used does not grow
+     * with the size of the course.
+     */
+    public void writeCourseStudentListAsCsv(CourseAttributes course, PrintWriter writer) {
+        boolean hasSection = studentsLogic.hasStudentsInIndicatedSections(course.getId());
+
+        writer.append("Course ID,").append(SanitizationHelper.sanitizeForCsv(course.getId()))
+                .append(System.lineSeparator())
+                .append("Course Name,").append(SanitizationHelper.sanitizeForCsv(course.getName()))
+                .append(System.lineSeparator()).append(System.lineSeparator()).append(System.lineSeparator());
+
+        writer.append(hasSection ? "Section," : "").append("Team,Full Name,Last Name,Status,Email")
+                .append(System.lineSeparator());
+
+        String cursor = null;
+        do {
+            cursor = studentsLogic.processStudentsForCourseInBatch(course.getId(), cursor,
+                    STUDENT_LIST_CSV_BATCH_SIZE, students -> {
+                        for (StudentAttributes student : students) {
+                            writeStudentAsCsv(student, hasSection, writer);
+                        }
+                        writer.flush();
+                    });
+        } while (cursor != null);
+    }
+
+    private void writeStudentAsCsv(StudentAttributes student, boolean hasSection, PrintWriter writer) {
+        String studentStatus = null;
+        if (student.googleId == null || student.googleId.isEmpty()) {
+            studentStatus = Const.STUDENT_COURSE_STATUS_YET_TO_JOIN;
+        } else {
+            studentStatus = Const.STUDENT_COURSE_STATUS_JOINED;
+        }
+
+        if (hasSection) {
+            writer.append(SanitizationHelper.sanitizeForCsv(student.section)).append(',');
+        }
+
+        writer.append(SanitizationHelper.sanitizeForCsv(student.team) + ','
+                + SanitizationHelper.sanitizeForCsv(StringHelper.removeExtraSpace(student.name)) + ','
+                + SanitizationHelper.sanitizeForCsv(StringHelper.removeExtraSpace(student.lastName)) + ','
+                + SanitizationHelper.sanitizeForCsv(studentStatus) + ','
+                + SanitizationHelper.sanitizeForCsv(student.email) + System.lineSeparator());
+    }
+
     public boolean hasIndicatedSections(String courseId) throws EntityDoesNotExistException {
         verifyCourseIsPresent(courseId);
 
-        List<StudentAttributes> studentList = studentsLogic.getStudentsForCourse(courseId);
-        for (StudentAttributes student : studentList) {
-            if (!student.section.equals(Const.DEFAULT_SECTION)) {
-                return true;
-            }
-        }
-        return false;
+        return getCourseStructure(courseId).hasIndicatedSections();
     }
 
     /**
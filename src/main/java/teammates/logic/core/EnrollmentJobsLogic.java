@@ -0,0 +1,195 @@
+package teammates.logic.core;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import teammates.common.datatransfer.CourseEnrollmentResult;
+import teammates.common.datatransfer.StudentEnrollDetails;
+import teammates.common.datatransfer.StudentUpdateStatus;
+import teammates.common.datatransfer.attributes.EnrollmentJobAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.exception.EnrollException;
+import teammates.common.exception.EntityDoesNotExistException;
+import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.common.util.StringHelper;
+import teammates.common.util.TimeHelper;
+import teammates.storage.api.EnrollmentJobsDb;
+
+/**
+ * Handles operations related to enrollment jobs, i.e. enrollments of students which are processed
+ * in the background in batches.
+ *
+ * @see EnrollmentJobAttributes
+ * @see EnrollmentJobsDb
+ */
+public final class EnrollmentJobsLogic {
+
+    private static final int ENROLLMENT_BATCH_SIZE = 100;
+
+    private static final int ENROLLMENT_JOB_RETENTION_DAYS = 7;
+
+    private static EnrollmentJobsLogic instance = new EnrollmentJobsLogic();
+
+    private static final EnrollmentJobsDb enrollmentJobsDb = new EnrollmentJobsDb();
+
+    private static final CoursesLogic coursesLogic = CoursesLogic.inst();
+    private static final StudentsLogic studentsLogic = StudentsLogic.inst();
+
+    private EnrollmentJobsLogic() {
+        // prevent initialization
+    }
+
+    public static EnrollmentJobsLogic inst() {
+        return instance;
+    }
+
+    /**
+     * Checks all the enrollment lines and creates a job to enroll the students in them.
+     *
+     * <p>The lines are checked as in {@link StudentsLogic#enrollStudents(String, String)},
+     * so no job is created if any of the lines is invalid.
+     *
+     * @return the created job
+     * @throws EnrollException if the enrollment lines are empty or invalid
+     */
+    public EnrollmentJobAttributes createEnrollmentJob(String enrollLines, String courseId)
+            throws EntityDoesNotExistException, EnrollException, InvalidParametersException {
+        if (!coursesLogic.isCoursePresent(courseId)) {
+            throw new EntityDoesNotExistException("Course does not exist :" + courseId);
+        }
+
+        if (enrollLines.isEmpty()) {
+            throw new EnrollException(Const.StatusMessages.ENROLL_LINE_EMPTY);
+        }
+
+        List<StudentAttributes> students = studentsLogic.createStudents(enrollLines, courseId);
+        studentsLogic.validateSectionsAndTeams(students, courseId);
+
+        return enrollmentJobsDb.createEnrollmentJob(
+                EnrollmentJobAttributes.builder(courseId, enrollLines, students.size()).build());
+    }
+
+    /**
+     * Gets an enrollment job.
+     *
+     * @return null if there is no such job
+     */
+    public EnrollmentJobAttributes getEnrollmentJob(String jobId) {
+        return enrollmentJobsDb.getEnrollmentJob(jobId);
+    }
+
+    /**
+     * Enrolls the next batch of students of the job and records their results in the job.
+     *
+     * <p>If the batch is interrupted, enrolling it again is safe, but the students which were already enrolled
+     * by the interrupted attempt will be reported as unmodified.
+     *
+     * @return the updated job
+     * @throws EntityDoesNotExistException if the job cannot be found, or its course does not exist
+     *         or is in Recycle Bin
+     */
+    public EnrollmentJobAttributes enrollNextBatch(String jobId) throws EntityDoesNotExistException {
+        EnrollmentJobAttributes job = getEnrollmentJob(jobId);
+        if (job == null) {
+            throw new EntityDoesNotExistException("Enrollment job does not exist: " + jobId);
+        }
+
+        if (job.isCompleted()) {
+            return job;
+        }
+
+        int startIndex = job.getNumberOfProcessedStudents();
+        int endIndex = Math.min(startIndex + ENROLLMENT_BATCH_SIZE, job.getNumberOfStudents());
+        List<StudentEnrollDetails> enrollmentList =
+                studentsLogic.enrollStudentsInBatch(job.getCourseId(), getStudents(job, startIndex, endIndex));
+
+        List<StudentUpdateStatus> updateStatuses = new ArrayList<>();
+        List<String> errorMessages = new ArrayList<>();
+        for (StudentEnrollDetails enrollmentDetails : enrollmentList) {
+            updateStatuses.add(enrollmentDetails.updateStatus);
+            errorMessages.add(enrollmentDetails.errorMessage == null ? "" : enrollmentDetails.errorMessage);
+        }
+
+        return enrollmentJobsDb.updateEnrollmentJobProgress(jobId, startIndex, updateStatuses, errorMessages);
+    }
+
+    /**
+     * Deletes all enrollment jobs of the course.
+     */
+    public void deleteEnrollmentJobsForCourse(String courseId) {
+        enrollmentJobsDb.deleteEnrollmentJobsForCourse(courseId);
+    }
+
+    /**
+     * Deletes the enrollment jobs created more than {@value #ENROLLMENT_JOB_RETENTION_DAYS} days ago.
+     * Their results are no longer shown by then, and their tasks have long stopped retrying.
+     */
+    public void deleteExpiredEnrollmentJobs() {
+        enrollmentJobsDb.deleteEnrollmentJobsCreatedBefore(
+                TimeHelper.getInstantDaysOffsetFromNow(-ENROLLMENT_JOB_RETENTION_DAYS));
+    }
+
+    /**
+     * Gets the result of a completed job, in the same form as {@link StudentsLogic#enrollStudents(String, String)}:
+     * the students in the enrollment lines with their update status, followed by the other students of the course.
+     */
+    public CourseEnrollmentResult getEnrollmentResult(EnrollmentJobAttributes job) {
+        Assumption.assertTrue("The enrollment job is not completed yet", job.isCompleted());
+
+        List<StudentAttributes> studentList = getStudents(job, 0, job.getNumberOfStudents());
+        List<StudentEnrollDetails> enrollmentList = new ArrayList<>();
+        Set<String> enrolledEmails = new HashSet<>();
+        for (int i = 0; i < studentList.size(); i++) {
+            StudentAttributes student = studentList.get(i);
+            student.updateStatus = job.getUpdateStatuses().get(i);
+            enrolledEmails.add(student.email);
+
+            StudentEnrollDetails enrollmentDetails = new StudentEnrollDetails();
+            enrollmentDetails.updateStatus = student.updateStatus;
+            enrollmentDetails.course = student.course;
+            enrollmentDetails.email = student.email;
+            enrollmentDetails.newTeam = student.team;
+            enrollmentDetails.newSection = student.section;
+            String errorMessage = job.getErrorMessages().get(i);
+            enrollmentDetails.errorMessage = errorMessage.isEmpty() ? null : errorMessage;
+            enrollmentList.add(enrollmentDetails);
+        }
+
+        for (StudentAttributes student : studentsLogic.getStudentsForCourse(job.getCourseId())) {
+            if (!enrolledEmails.contains(student.email)) {
+                student.updateStatus = StudentUpdateStatus.NOT_IN_ENROLL_LIST;
+                studentList.add(student);
+            }
+        }
+
+        return new CourseEnrollmentResult(studentList, enrollmentList);
+    }
+
+    /**
+     * Gets the students in the enrollment lines of the job from {@code fromIndex} (inclusive)
+     * to {@code toIndex} (exclusive), not counting the header line and empty lines.
+     */
+    private List<StudentAttributes> getStudents(EnrollmentJobAttributes job, int fromIndex, int toIndex) {
+        String[] lines = job.getEnrollLines().split(System.lineSeparator());
+        List<String> studentLines = new ArrayList<>();
+        for (int i = 1; i < lines.length; i++) {
+            if (!StringHelper.isWhiteSpace(lines[i])) {
+                studentLines.add(lines[i]);
+            }
+        }
+
+        String batchLines = lines[0] + System.lineSeparator()
+                + String.join(System.lineSeparator(), studentLines.subList(fromIndex, toIndex));
+        try {
+            return studentsLogic.createStudents(batchLines, job.getCourseId());
+        } catch (EnrollException e) {
+            Assumption.fail("Enrollment lines are checked when the job is created: " + e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+}
@@ -19,6 +19,7 @@ import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const;
+import teammates.common.util.DeferredResult;
 import teammates.common.util.Logger;
 import teammates.storage.api.FeedbackQuestionsDb;
 
@@ -82,7 +83,9 @@ public final class FeedbackQuestionsLogic {
             FeedbackQuestionAttributes fqa, int questionNumber) throws InvalidParametersException {
         fqa.questionNumber = questionNumber;
         fqa.removeIrrelevantVisibilityOptions();
-        return fqDb.createFeedbackQuestionWithoutExistenceCheck(fqa);
+        FeedbackQuestionAttributes createdQuestion = fqDb.createFeedbackQuestionWithoutExistenceCheck(fqa);
+        fsLogic.touchFeedbackSession(createdQuestion.feedbackSessionName, createdQuestion.courseId);
+        return createdQuestion;
     }
 
     public FeedbackQuestionAttributes copyFeedbackQuestion(
@@ -126,9 +129,22 @@ public final class FeedbackQuestionsLogic {
      */
     public List<FeedbackQuestionAttributes> getFeedbackQuestionsForSession(
             String feedbackSessionName, String courseId) {
+        return getFeedbackQuestionsForSessionAsync(feedbackSessionName, courseId).now();
+    }
 
-        List<FeedbackQuestionAttributes> questions =
-                fqDb.getFeedbackQuestionsForSession(feedbackSessionName, courseId);
+    /**
+     * Starts loading the questions of a session, without waiting for them.
+     *
+     * @see #getFeedbackQuestionsForSession(String, String)
+     */
+    public DeferredResult<List<FeedbackQuestionAttributes>> getFeedbackQuestionsForSessionAsync(
+            String feedbackSessionName, String courseId) {
+        return fqDb.getFeedbackQuestionsForSessionAsync(feedbackSessionName, courseId)
+                .map(questions -> sortFeedbackQuestions(questions, feedbackSessionName, courseId));
+    }
+
+    private List<FeedbackQuestionAttributes> sortFeedbackQuestions(
+            List<FeedbackQuestionAttributes> questions, String feedbackSessionName, String courseId) {
         questions.sort(null);
 
         // check whether the question numbers are consistent
@@ -162,16 +178,18 @@ public final class FeedbackQuestionsLogic {
      */
     public List<FeedbackQuestionAttributes> getCopiableFeedbackQuestionsForInstructor(String googleId) {
 
-        List<FeedbackQuestionAttributes> copiableQuestions = new ArrayList<>();
         List<CourseAttributes> courses = coursesLogic.getCoursesForInstructor(googleId);
+        List<DeferredResult<List<FeedbackSessionAttributes>>> sessionsOfCourses = new ArrayList<>();
         for (CourseAttributes course : courses) {
-            List<FeedbackSessionAttributes> sessions = fsLogic.getFeedbackSessionsForCourse(course.getId());
-            for (FeedbackSessionAttributes session : sessions) {
-                List<FeedbackQuestionAttributes> questions =
-                        getFeedbackQuestionsForSession(session.getFeedbackSessionName(), course.getId());
-                copiableQuestions.addAll(questions);
-            }
+            sessionsOfCourses.add(fsLogic.getFeedbackSessionsForCourseAsync(course.getId()));
+        }
+
+        List<DeferredResult<List<FeedbackQuestionAttributes>>> questionsOfSessions = new ArrayList<>();
+        for (FeedbackSessionAttributes session : AsyncReads.joinAllFlattened(sessionsOfCourses)) {
+            questionsOfSessions.add(
+                    fqDb.getFeedbackQuestionsForSessionAsync(session.getFeedbackSessionName(), session.getCourseId()));
         }
+        List<FeedbackQuestionAttributes> copiableQuestions = AsyncReads.joinAllFlattened(questionsOfSessions);
 
         copiableQuestions.sort(Comparator.comparing((FeedbackQuestionAttributes question) -> question.courseId)
                 .thenComparing(question -> question.feedbackSessionName)
@@ -543,15 +561,14 @@ public final class FeedbackQuestionsLogic {
     }
 
     public boolean areThereResponsesForQuestion(String feedbackQuestionId) {
-        return !frLogic.getFeedbackResponsesForQuestionWithinRange(feedbackQuestionId, 1)
-                       .isEmpty();
+        return frLogic.hasResponsesForQuestion(feedbackQuestionId);
     }
 
     public boolean isQuestionFullyAnsweredByUser(FeedbackQuestionAttributes question, String email)
             throws EntityDoesNotExistException {
 
         int numberOfResponsesGiven =
-                frLogic.getFeedbackResponsesFromGiverForQuestion(question.getId(), email).size();
+                frLogic.getFeedbackResponseCountFromGiverForQuestion(question.getId(), email);
         int numberOfResponsesNeeded =
                 question.numberOfEntitiesToGiveFeedbackTo;
 
@@ -606,6 +623,7 @@ public final class FeedbackQuestionsLogic {
             frLogic.deleteFeedbackResponsesForQuestionAndCascade(oldQuestion.getId(), true);
         }
 
+        fsLogic.touchFeedbackSession(updatedQuestion.feedbackSessionName, updatedQuestion.courseId);
         return updatedQuestion;
     }
 
@@ -708,6 +726,8 @@ public final class FeedbackQuestionsLogic {
         if (questionToDelete.questionNumber < questionsToShiftQnNumber.size()) {
             shiftQuestionNumbersDown(questionToDelete.questionNumber, questionsToShiftQnNumber);
         }
+
+        fsLogic.touchFeedbackSession(feedbackSessionName, courseId);
     }
 
     /**
@@ -720,6 +740,16 @@ public final class FeedbackQuestionsLogic {
         fqDb.deleteFeedbackQuestionsForCourse(courseId);
     }
 
+    /**
+     * Deletes the next batch of at most {@code batchSize} feedback questions of the course. This is a non-cascade delete.
+     *
+     * @return the cursor to continue from, or null if all questions of the course have been deleted
+     * @see #deleteFeedbackQuestionsForCourse(String)
+     */
+    public String deleteFeedbackQuestionsForCourseInBatch(String courseId, String cursor, int batchSize) {
+        return fqDb.deleteFeedbackQuestionsForCourseInBatch(courseId, cursor, batchSize);
+    }
+
     // Shifts all question numbers after questionNumberToShiftFrom down by one.
     private void shiftQuestionNumbersDown(int questionNumberToShiftFrom,
             List<FeedbackQuestionAttributes> questionsToShift) {
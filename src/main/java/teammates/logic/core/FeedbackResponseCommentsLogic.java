@@ -18,6 +18,7 @@ import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.DeferredResult;
 import teammates.storage.api.FeedbackResponseCommentsDb;
 
 /**
@@ -88,6 +89,15 @@ public final class FeedbackResponseCommentsLogic {
         return frcDb.getFeedbackResponseCommentsForSessionInSection(courseId, feedbackSessionName, section);
     }
 
+    /**
+     * Starts loading the comments of a session, or of a section in the session if {@code section} is not null,
+     * without waiting for them.
+     */
+    public DeferredResult<List<FeedbackResponseCommentAttributes>> getFeedbackResponseCommentForSessionInSectionAsync(
+            String courseId, String feedbackSessionName, String section) {
+        return frcDb.getFeedbackResponseCommentsForSessionInSectionAsync(courseId, feedbackSessionName, section);
+    }
+
     /*
      * Updates all email fields of feedback response comments with the new email
      */
@@ -153,6 +163,16 @@ public final class FeedbackResponseCommentsLogic {
         frcDb.deleteFeedbackResponseCommentsForCourse(courseId);
     }
 
+    /**
+     * Deletes the next batch of at most {@code batchSize} feedback response comments of the course.
+     *
+     * @return the cursor to continue from, or null if all comments of the course have been deleted
+     * @see #deleteFeedbackResponseCommentsForCourse(String)
+     */
+    public String deleteFeedbackResponseCommentsForCourseInBatch(String courseId, String cursor, int batchSize) {
+        return frcDb.deleteFeedbackResponseCommentsForCourseInBatch(courseId, cursor, batchSize);
+    }
+
     public void deleteFeedbackResponseCommentsForResponse(String responseId) {
         frcDb.deleteFeedbackResponseCommentsForResponse(responseId);
     }
@@ -19,6 +19,7 @@ import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.exception.TeammatesException;
 import teammates.common.util.Assumption;
+import teammates.common.util.DeferredResult;
 import teammates.common.util.Logger;
 import teammates.storage.api.FeedbackResponsesDb;
 
@@ -138,6 +139,42 @@ public final class FeedbackResponsesLogic {
         return frDb.getFeedbackResponsesForSessionToSectionWithinRange(feedbackSessionName, courseId, section, range);
     }
 
+    /**
+     * Starts loading the responses of a session which are given by or to the section within a given range,
+     * without waiting for them.
+     */
+    public DeferredResult<List<FeedbackResponseAttributes>> getFeedbackResponsesForSessionInSectionWithinRangeAsync(
+            String feedbackSessionName, String courseId, String section, int range) {
+        return frDb.getFeedbackResponsesForSessionInSectionWithinRangeAsync(feedbackSessionName, courseId, section, range);
+    }
+
+    /**
+     * Starts loading the responses of a session which are given by the section, to the section or to no section,
+     * without waiting for them.
+     */
+    public DeferredResult<List<FeedbackResponseAttributes>> getFeedbackResponsesForSessionInGiverAndRecipientSectionAsync(
+            String feedbackSessionName, String courseId, String section) {
+        return frDb.getFeedbackResponsesForSessionInGiverAndRecipientSectionAsync(feedbackSessionName, courseId, section);
+    }
+
+    /**
+     * Starts loading the responses of a session which are given by the section within a given range,
+     * without waiting for them.
+     */
+    public DeferredResult<List<FeedbackResponseAttributes>> getFeedbackResponsesForSessionFromSectionWithinRangeAsync(
+            String feedbackSessionName, String courseId, String section, int range) {
+        return frDb.getFeedbackResponsesForSessionFromSectionWithinRangeAsync(feedbackSessionName, courseId, section, range);
+    }
+
+    /**
+     * Starts loading the responses of a session which are given to the section within a given range,
+     * without waiting for them.
+     */
+    public DeferredResult<List<FeedbackResponseAttributes>> getFeedbackResponsesForSessionToSectionWithinRangeAsync(
+            String feedbackSessionName, String courseId, String section, int range) {
+        return frDb.getFeedbackResponsesForSessionToSectionWithinRangeAsync(feedbackSessionName, courseId, section, range);
+    }
+
     public List<FeedbackResponseAttributes> getFeedbackResponsesForQuestion(String feedbackQuestionId) {
         return frDb.getFeedbackResponsesForQuestion(feedbackQuestionId);
     }
@@ -147,6 +184,14 @@ public final class FeedbackResponsesLogic {
         return frDb.getFeedbackResponsesForQuestionWithinRange(feedbackQuestionId, range);
     }
 
+    /**
+     * Starts loading the responses for a question within a given range, without waiting for them.
+     */
+    public DeferredResult<List<FeedbackResponseAttributes>> getFeedbackResponsesForQuestionWithinRangeAsync(
+            String feedbackQuestionId, int range) {
+        return frDb.getFeedbackResponsesForQuestionWithinRangeAsync(feedbackQuestionId, range);
+    }
+
     public List<FeedbackResponseAttributes> getFeedbackResponsesForQuestionInSection(
             String feedbackQuestionId, String section, SectionDetail sectionDetail) {
         if (section == null) {
@@ -191,8 +236,15 @@ public final class FeedbackResponsesLogic {
     }
 
     public boolean hasGiverRespondedForSession(String userEmail, String feedbackSessionName, String courseId) {
+        return frDb.hasFeedbackResponseEntitiesFromGiverForSession(userEmail, feedbackSessionName, courseId);
+    }
+
+    public boolean hasResponsesForQuestion(String feedbackQuestionId) {
+        return frDb.hasFeedbackResponseEntitiesForQuestion(feedbackQuestionId);
+    }
 
-        return !getFeedbackResponsesFromGiverForSessionWithinRange(userEmail, feedbackSessionName, courseId, 1).isEmpty();
+    public int getFeedbackResponseCountFromGiverForQuestion(String feedbackQuestionId, String userEmail) {
+        return frDb.getFeedbackResponseCountFromGiverForQuestion(feedbackQuestionId, userEmail);
     }
 
     public List<FeedbackResponseAttributes> getFeedbackResponsesForReceiverForCourse(
@@ -675,6 +727,16 @@ public final class FeedbackResponsesLogic {
         frDb.deleteFeedbackResponsesForCourse(courseId);
     }
 
+    /**
+     * Deletes the next batch of at most {@code batchSize} feedback responses of the course. This is a non-cascade delete.
+     *
+     * @return the cursor to continue from, or null if all responses of the course have been deleted
+     * @see #deleteFeedbackResponsesForCourse(String)
+     */
+    public String deleteFeedbackResponsesForCourseInBatch(String courseId, String cursor, int batchSize) {
+        return frDb.deleteFeedbackResponsesForCourseInBatch(courseId, cursor, batchSize);
+    }
+
     /**
      * Adds {@link FeedbackResponseAttributes} in {@code newResponses} that are
      * not already in to {@code existingResponses} to {@code existingResponses}.
@@ -3,9 +3,11 @@ package teammates.logic.core;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -14,6 +16,7 @@ import java.util.stream.Collectors;
 
 import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.FeedbackSessionCompletionIndex;
 import teammates.common.datatransfer.FeedbackSessionDetailsBundle;
 import teammates.common.datatransfer.FeedbackSessionQuestionsBundle;
 import teammates.common.datatransfer.FeedbackSessionResponseStatus;
@@ -34,6 +37,7 @@ import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const;
 import teammates.common.util.Const.SystemParams;
+import teammates.common.util.DeferredResult;
 import teammates.common.util.Logger;
 import teammates.common.util.SanitizationHelper;
 import teammates.common.util.StringHelper;
@@ -133,6 +137,15 @@ public final class FeedbackSessionsLogic {
         return fsDb.getFeedbackSessionsForCourse(courseId);
     }
 
+    /**
+     * Starts loading the sessions of a course, without waiting for them.
+     *
+     * @see #getFeedbackSessionsForCourse(String)
+     */
+    public DeferredResult<List<FeedbackSessionAttributes>> getFeedbackSessionsForCourseAsync(String courseId) {
+        return fsDb.getFeedbackSessionsForCourseAsync(courseId);
+    }
+
     public FeedbackSessionAttributes copyFeedbackSession(String newFeedbackSessionName, String newCourseId,
             ZoneId newTimeZone, String feedbackSessionName, String courseId, String instructorEmail)
             throws InvalidParametersException, EntityAlreadyExistsException, EntityDoesNotExistException {
@@ -185,17 +198,47 @@ public final class FeedbackSessionsLogic {
             String courseId, String userEmail) {
         List<FeedbackSessionAttributes> sessions =
                 getFeedbackSessionsForCourse(courseId);
+        if (sessions.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        InstructorAttributes instructor = instructorsLogic.getInstructorForEmail(courseId, userEmail);
+        return getFeedbackSessionsViewableTo(sessions, instructor != null);
+    }
+
+    /**
+     * Returns viewable feedback sessions for the users in their courses, as in
+     * {@link #getFeedbackSessionsForUserInCourseSkipCheck(String, String)}. The reads for all the courses
+     * are issued at once.
+     *
+     * @param userEmails the email of the user in each course, by the ID of the course
+     * @return the viewable sessions, by the ID of the course
+     */
+    public Map<String, List<FeedbackSessionAttributes>> getFeedbackSessionsForUsersInCoursesSkipCheck(
+            Map<String, String> userEmails) {
+        Map<String, DeferredResult<List<FeedbackSessionAttributes>>> sessionsResults = new LinkedHashMap<>();
+        Map<String, DeferredResult<InstructorAttributes>> instructorResults = new HashMap<>();
+        userEmails.forEach((courseId, userEmail) -> {
+            sessionsResults.put(courseId, getFeedbackSessionsForCourseAsync(courseId));
+            instructorResults.put(courseId, instructorsLogic.getInstructorForEmailAsync(courseId, userEmail));
+        });
+
+        Map<String, List<FeedbackSessionAttributes>> viewableSessions = new LinkedHashMap<>();
+        AsyncReads.joinAll(sessionsResults).forEach((courseId, sessions) -> {
+            boolean isInstructorOfCourse = instructorResults.get(courseId).now() != null;
+            viewableSessions.put(courseId, getFeedbackSessionsViewableTo(sessions, isInstructorOfCourse));
+        });
+        return viewableSessions;
+    }
+
+    private List<FeedbackSessionAttributes> getFeedbackSessionsViewableTo(
+            List<FeedbackSessionAttributes> sessions, boolean isInstructorOfCourse) {
         List<FeedbackSessionAttributes> viewableSessions = new ArrayList<>();
-        if (!sessions.isEmpty()) {
-            InstructorAttributes instructor = instructorsLogic.getInstructorForEmail(courseId, userEmail);
-            boolean isInstructorOfCourse = instructor != null;
-            for (FeedbackSessionAttributes session : sessions) {
-                if (isFeedbackSessionViewableTo(session, isInstructorOfCourse)) {
-                    viewableSessions.add(session);
-                }
+        for (FeedbackSessionAttributes session : sessions) {
+            if (isFeedbackSessionViewableTo(session, isInstructorOfCourse)) {
+                viewableSessions.add(session);
             }
         }
-
         return viewableSessions;
     }
 
@@ -205,14 +248,7 @@ public final class FeedbackSessionsLogic {
      * @param courseId - ID of the course
      */
     public boolean isOpenOrPublishedEmailSentForTheCourse(String courseId) {
-        List<FeedbackSessionAttributes> sessions = getFeedbackSessionsForCourse(courseId);
-
-        for (FeedbackSessionAttributes session : sessions) {
-            if (session.isSentOpenEmail() || session.isSentPublishedEmail()) {
-                return true;
-            }
-        }
-        return false;
+        return fsDb.hasFeedbackSessionWithOpenOrPublishedEmailSentForCourse(courseId);
     }
 
     /**
@@ -1169,6 +1205,15 @@ public final class FeedbackSessionsLogic {
         return fsDb.updateFeedbackSession(newUpdateOptions.build());
     }
 
+    /**
+     * Marks a feedback session as updated after its questions are changed.
+     *
+     * <p>Silently fails if the session does not exist.
+     */
+    public void touchFeedbackSession(String feedbackSessionName, String courseId) {
+        fsDb.touchFeedbackSession(feedbackSessionName, courseId);
+    }
+
     /**
      * Updates all feedback sessions of {@code courseId} to have be in {@code courseTimeZone}.
      */
@@ -1415,6 +1460,16 @@ public final class FeedbackSessionsLogic {
         fsDb.deleteFeedbackSessionsForCourse(courseId);
     }
 
+    /**
+     * Deletes the next batch of at most {@code batchSize} feedback sessions of the course. This is a non-cascade delete.
+     *
+     * @return the cursor to continue from, or null if all sessions of the course have been deleted
+     * @see #deleteFeedbackSessionsForCourse(String)
+     */
+    public String deleteFeedbackSessionsForCourseInBatch(String courseId, String cursor, int batchSize) {
+        return fsDb.deleteFeedbackSessionsForCourseInBatch(courseId, cursor, batchSize);
+    }
+
     /**
      * Permanently deletes a specific feedback session in Recycle Bin, and all its questions and responses.
      */
@@ -1667,23 +1722,44 @@ public final class FeedbackSessionsLogic {
             UserRole role, CourseRoster roster, Map<String, String> params, SectionDetail sectionDetail)
             throws EntityDoesNotExistException {
 
-        FeedbackSessionAttributes session = fsDb.getFeedbackSession(courseId, feedbackSessionName);
+        String section = params.get(PARAM_SECTION);
+        String questionId = params.get(PARAM_QUESTION_ID);
+
+        String rangeString = params.get(PARAM_RANGE);
+        int range = rangeString == null ? -1 : Integer.parseInt(rangeString);
+
+        // issue the independent reads at once; the responses of all sections depend on the questions
+        DeferredResult<FeedbackSessionAttributes> sessionResult =
+                fsDb.getFeedbackSessionAsync(courseId, feedbackSessionName);
+        DeferredResult<List<FeedbackQuestionAttributes>> allQuestionsResult =
+                fqLogic.getFeedbackQuestionsForSessionAsync(feedbackSessionName, courseId);
+        DeferredResult<List<FeedbackResponseAttributes>> sectionResponsesResult = null;
+        DeferredResult<List<FeedbackResponseCommentAttributes>> allResponseCommentsResult = null;
+        DeferredResult<StudentAttributes> studentResult = null;
+        DeferredResult<InstructorAttributes> instructorResult = null;
+        if (questionId == null) {
+            sectionResponsesResult = section == null
+                    ? null
+                    : getResponsesInSectionAsync(feedbackSessionName, courseId, params, section, range);
+            allResponseCommentsResult =
+                    frcLogic.getFeedbackResponseCommentForSessionInSectionAsync(courseId, feedbackSessionName, section);
+            studentResult = isStudent(role) ? studentsLogic.getStudentForEmailAsync(courseId, userEmail) : null;
+            instructorResult = isInstructor(role) ? instructorsLogic.getInstructorForEmailAsync(courseId, userEmail) : null;
+        }
+
+        FeedbackSessionAttributes session = sessionResult.now();
 
         if (session == null) {
             throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_FS_VIEW + courseId + "/" + feedbackSessionName);
         }
 
-        List<FeedbackQuestionAttributes> allQuestions =
-                fqLogic.getFeedbackQuestionsForSession(feedbackSessionName, courseId);
+        List<FeedbackQuestionAttributes> allQuestions = allQuestionsResult.now();
 
         //Show all questions even if no responses, unless is an ajax request for a specific question.
         Map<String, FeedbackQuestionAttributes> relevantQuestions = getAllQuestions(role, params, allQuestions);
 
         boolean isIncludeResponseStatus = Boolean.parseBoolean(params.get(PARAM_IS_INCLUDE_RESPONSE_STATUS));
 
-        String section = params.get(PARAM_SECTION);
-        String questionId = params.get(PARAM_QUESTION_ID);
-
         if (questionId != null) {
             return getFeedbackSessionResultsForQuestionId(feedbackSessionName, courseId, userEmail, role, roster, session,
                     allQuestions, relevantQuestions, isIncludeResponseStatus, section, sectionDetail, questionId);
@@ -1692,10 +1768,22 @@ public final class FeedbackSessionsLogic {
         Map<String, FeedbackQuestionAttributes> allQuestionsMap = new HashMap<>();
         putQuestionsIntoMap(allQuestions, allQuestionsMap);
 
-        List<FeedbackResponseAttributes> allResponses = getAllResponses(feedbackSessionName, courseId, params, section);
-
-        String rangeString = params.get(PARAM_RANGE);
-        boolean isComplete = rangeString == null || allResponses.size() <= Integer.parseInt(rangeString);
+        List<FeedbackResponseAttributes> allResponses;
+        boolean isComplete;
+
+        if (section == null) {
+            // responses of all sections are loaded question by question, so the range applies to each question
+            List<List<FeedbackResponseAttributes>> responsesByQuestion = getAllResponsesByQuestion(allQuestions, range);
+            allResponses = new ArrayList<>();
+            isComplete = true;
+            for (List<FeedbackResponseAttributes> responsesForQuestion : responsesByQuestion) {
+                allResponses.addAll(responsesForQuestion);
+                isComplete = isComplete && (range < 0 || responsesForQuestion.size() <= range);
+            }
+        } else {
+            allResponses = sectionResponsesResult.now();
+            isComplete = range < 0 || allResponses.size() <= range;
+        }
 
         if (!isComplete) {
             putQuestionsIntoMap(allQuestions, relevantQuestions);
@@ -1712,10 +1800,10 @@ public final class FeedbackSessionsLogic {
                                                      ? getFeedbackSessionResponseStatus(session, roster, allQuestions)
                                                      : null;
 
-        StudentAttributes student = getStudent(courseId, userEmail, role);
+        StudentAttributes student = studentResult == null ? null : studentResult.now();
         Set<String> studentsEmailInTeam = getTeammateEmails(courseId, student);
 
-        InstructorAttributes instructor = getInstructor(courseId, userEmail, role);
+        InstructorAttributes instructor = instructorResult == null ? null : instructorResult.now();
 
         Map<String, FeedbackResponseAttributes> relevantResponse = new HashMap<>();
         for (FeedbackResponseAttributes response : allResponses) {
@@ -1735,7 +1823,7 @@ public final class FeedbackSessionsLogic {
             }
         }
         Map<String, List<FeedbackResponseCommentAttributes>> responseComments = getResponseComments(
-                feedbackSessionName, courseId, userEmail, role, roster, relevantQuestions, section, student,
+                allResponseCommentsResult.now(), userEmail, role, roster, relevantQuestions, student,
                 studentsEmailInTeam, relevantResponse);
 
         addSectionTeamNamesToTable(sectionTeamNameTable, roster, courseId, userEmail, role, feedbackSessionName, section);
@@ -1747,13 +1835,11 @@ public final class FeedbackSessionsLogic {
     }
 
     private Map<String, List<FeedbackResponseCommentAttributes>> getResponseComments(
-            String feedbackSessionName, String courseId, String userEmail, UserRole role, CourseRoster roster,
-            Map<String, FeedbackQuestionAttributes> relevantQuestions, String section, StudentAttributes student,
+            List<FeedbackResponseCommentAttributes> allResponseComments, String userEmail, UserRole role,
+            CourseRoster roster, Map<String, FeedbackQuestionAttributes> relevantQuestions, StudentAttributes student,
             Set<String> studentsEmailInTeam, Map<String, FeedbackResponseAttributes> relevantResponse) {
 
         Map<String, List<FeedbackResponseCommentAttributes>> responseComments = new HashMap<>();
-        List<FeedbackResponseCommentAttributes> allResponseComments =
-                frcLogic.getFeedbackResponseCommentForSessionInSection(courseId, feedbackSessionName, section);
         for (FeedbackResponseCommentAttributes frc : allResponseComments) {
             FeedbackResponseAttributes relatedResponse = relevantResponse.get(frc.feedbackResponseId);
             FeedbackQuestionAttributes relatedQuestion = relevantQuestions.get(frc.feedbackQuestionId);
@@ -1862,8 +1948,10 @@ public final class FeedbackSessionsLogic {
                             addVisibilityToTable(visibilityTable, question, response, userEmail, role, roster);
                         }
                     }
+                    List<FeedbackResponseCommentAttributes> allResponseComments =
+                            frcLogic.getFeedbackResponseCommentForSessionInSection(courseId, feedbackSessionName, section);
                     responseComments = getResponseComments(
-                            feedbackSessionName, courseId, userEmail, role, roster, relevantQuestions, section, student,
+                            allResponseComments, userEmail, role, roster, relevantQuestions, student,
                             studentsEmailInTeam, relevantResponse);
                 }
             }
@@ -1895,41 +1983,52 @@ public final class FeedbackSessionsLogic {
         return role == UserRole.INSTRUCTOR;
     }
 
-    private List<FeedbackResponseAttributes> getAllResponses(String feedbackSessionName, String courseId,
-            Map<String, String> params, String section) {
+    /**
+     * Starts loading the responses of a session which are given by and/or to the section,
+     * as indicated by {@code params}, without waiting for them.
+     *
+     * @param range the maximum number of responses to load from each query, or -1 for no limit
+     */
+    private DeferredResult<List<FeedbackResponseAttributes>> getResponsesInSectionAsync(String feedbackSessionName,
+            String courseId, Map<String, String> params, String section, int range) {
         boolean isInSection = Boolean.parseBoolean(params.get(PARAM_IN_SECTION));
         boolean isToSection = Boolean.parseBoolean(params.get(PARAM_TO_SECTION));
         boolean isFromSection = Boolean.parseBoolean(params.get(PARAM_FROM_SECTION));
 
-        if (params.get(PARAM_RANGE) == null) {
-            if (isFromSection && isToSection) {
-                return frLogic.getFeedbackResponsesForSessionInGiverAndRecipientSection(feedbackSessionName,
-                        courseId, section);
-            } else if (isInSection) {
-                return frLogic.getFeedbackResponsesForSessionInSection(feedbackSessionName, courseId, section);
-            } else if (isFromSection) {
-                return frLogic.getFeedbackResponsesForSessionFromSection(feedbackSessionName, courseId, section);
-            } else if (isToSection) {
-                return frLogic.getFeedbackResponsesForSessionToSection(feedbackSessionName, courseId, section);
-            } else {
-                Assumption.fail(ASSUMPTION_FAIL_RESPONSE_ORIGIN);
-            }
+        if (range < 0 && isFromSection && isToSection) {
+            return frLogic.getFeedbackResponsesForSessionInGiverAndRecipientSectionAsync(
+                    feedbackSessionName, courseId, section);
+        } else if (isInSection) {
+            return frLogic.getFeedbackResponsesForSessionInSectionWithinRangeAsync(
+                    feedbackSessionName, courseId, section, range);
+        } else if (isFromSection) {
+            return frLogic.getFeedbackResponsesForSessionFromSectionWithinRangeAsync(
+                    feedbackSessionName, courseId, section, range);
+        } else if (isToSection) {
+            return frLogic.getFeedbackResponsesForSessionToSectionWithinRangeAsync(
+                    feedbackSessionName, courseId, section, range);
         } else {
-            int range = Integer.parseInt(params.get(PARAM_RANGE));
-            if (isInSection) {
-                return frLogic.getFeedbackResponsesForSessionInSectionWithinRange(
-                        feedbackSessionName, courseId, section, range);
-            } else if (isFromSection) {
-                return frLogic.getFeedbackResponsesForSessionFromSectionWithinRange(
-                        feedbackSessionName, courseId, section, range);
-            } else if (isToSection) {
-                return frLogic.getFeedbackResponsesForSessionToSectionWithinRange(
-                        feedbackSessionName, courseId, section, range);
-            } else {
-                Assumption.fail(ASSUMPTION_FAIL_RESPONSE_ORIGIN);
-            }
+            Assumption.fail(ASSUMPTION_FAIL_RESPONSE_ORIGIN);
+        }
+        return new DeferredResult<>(ArrayList::new);
+    }
+
+    /**
+     * Gets the responses to each of the questions, in the same order as the questions.
+     *
+     * <p>The responses to all the questions are loaded concurrently. Responses are not filtered by section,
+     * so that responses from givers in any section, including sections no longer in the roster, are included.
+     *
+     * @param range the maximum number of responses to load for each question, or -1 for no limit;
+     *              one more response is loaded for a question with more responses than the range
+     */
+    private List<List<FeedbackResponseAttributes>> getAllResponsesByQuestion(
+            List<FeedbackQuestionAttributes> allQuestions, int range) {
+        List<DeferredResult<List<FeedbackResponseAttributes>>> responsesByQuestion = new ArrayList<>();
+        for (FeedbackQuestionAttributes question : allQuestions) {
+            responsesByQuestion.add(frLogic.getFeedbackResponsesForQuestionWithinRangeAsync(question.getId(), range));
         }
-        return new ArrayList<>();
+        return AsyncReads.joinAll(responsesByQuestion);
     }
 
     private void addSectionTeamNamesToTable(Map<String, Set<String>> sectionTeamNameTable,
@@ -2168,6 +2267,106 @@ public final class FeedbackSessionsLogic {
         return new String[] { giverRecipientName, giverRecipientLastName, teamName };
     }
 
+    /**
+     * Returns which students and instructors of the course have completed the session.
+     *
+     * <p>The questions of the session are loaded once for all the users, instead of once for each user
+     * as done by {@link #isFeedbackSessionCompletedByStudent} and {@link #isFeedbackSessionCompletedByInstructor}.
+     * The responses of the session are not loaded.
+     */
+    public FeedbackSessionCompletionIndex getFeedbackSessionCompletionIndex(FeedbackSessionAttributes session) {
+        List<FeedbackQuestionAttributes> questions =
+                fqLogic.getFeedbackQuestionsForSession(session.getFeedbackSessionName(), session.getCourseId());
+
+        return new FeedbackSessionCompletionIndex(session,
+                !fqLogic.getFeedbackQuestionsForStudents(questions).isEmpty(),
+                !fqLogic.getFeedbackQuestionsForInstructor(questions, false).isEmpty(),
+                !fqLogic.getFeedbackQuestionsForInstructor(questions, true).isEmpty());
+    }
+
+    /**
+     * Returns the emails of the students in the {@code roster} who have given all the responses needed
+     * for every question for students, i.e. every student if there is no question for students.
+     *
+     * <p>The questions and the responses of the session are each loaded once for all the students,
+     * instead of once for each student as done by {@link #isFeedbackSessionFullyCompletedByStudent}.
+     */
+    public Set<String> getStudentsWhoFullyCompletedFeedbackSession(
+            FeedbackSessionAttributes session, CourseRoster roster) {
+        List<FeedbackQuestionAttributes> studentQuestions = fqLogic.getFeedbackQuestionsForStudents(
+                fqLogic.getFeedbackQuestionsForSession(session.getFeedbackSessionName(), session.getCourseId()));
+
+        Set<String> studentsWhoAnsweredAllQuestions = new HashSet<>();
+        if (studentQuestions.isEmpty()) {
+            for (StudentAttributes student : roster.getStudents()) {
+                studentsWhoAnsweredAllQuestions.add(student.email);
+            }
+            return studentsWhoAnsweredAllQuestions;
+        }
+
+        // number of responses by question ID, then by giver
+        Map<String, Map<String, Integer>> responseCounts = new HashMap<>();
+        for (FeedbackResponseAttributes response : frLogic.getFeedbackResponsesForSession(
+                session.getFeedbackSessionName(), session.getCourseId())) {
+            responseCounts.computeIfAbsent(response.feedbackQuestionId, id -> new HashMap<>())
+                    .merge(response.giver, 1, Integer::sum);
+        }
+
+        Map<String, Integer> teamSizes = new HashMap<>();
+        for (StudentAttributes student : roster.getStudents()) {
+            teamSizes.merge(student.team, 1, Integer::sum);
+        }
+
+        for (StudentAttributes student : roster.getStudents()) {
+            boolean hasAnsweredAllQuestions = true;
+            for (FeedbackQuestionAttributes question : studentQuestions) {
+                int numberOfResponsesGiven = responseCounts
+                        .getOrDefault(question.getId(), Collections.emptyMap())
+                        .getOrDefault(student.email, 0);
+                if (numberOfResponsesGiven < getNumberOfResponsesNeeded(question, student, roster, teamSizes)) {
+                    hasAnsweredAllQuestions = false;
+                    break;
+                }
+            }
+            if (hasAnsweredAllQuestions) {
+                studentsWhoAnsweredAllQuestions.add(student.email);
+            }
+        }
+        return studentsWhoAnsweredAllQuestions;
+    }
+
+    /**
+     * Returns the number of responses the student needs to give to fully answer the question.
+     *
+     * <p>This is the number of recipients given by {@link FeedbackQuestionsLogic#getRecipientsForQuestion}
+     * when the question has no limit, counted from the roster instead of listing the recipients.
+     */
+    private int getNumberOfResponsesNeeded(FeedbackQuestionAttributes question, StudentAttributes student,
+                                           CourseRoster roster, Map<String, Integer> teamSizes) {
+        if (question.numberOfEntitiesToGiveFeedbackTo != Const.MAX_POSSIBLE_RECIPIENTS) {
+            return question.numberOfEntitiesToGiveFeedbackTo;
+        }
+
+        switch (question.recipientType) {
+        case SELF:
+        case OWN_TEAM:
+        case NONE:
+            return 1;
+        case STUDENTS:
+            return roster.getStudents().size() - 1;
+        case INSTRUCTORS:
+            return roster.getInstructors().size() - (roster.isInstructorOfCourse(student.email) ? 1 : 0);
+        case TEAMS:
+            return teamSizes.size() - 1;
+        case OWN_TEAM_MEMBERS:
+            return teamSizes.get(student.team) - 1;
+        case OWN_TEAM_MEMBERS_INCLUDING_SELF:
+            return teamSizes.get(student.team);
+        default:
+            return 0;
+        }
+    }
+
     public boolean isFeedbackSessionFullyCompletedByStudent(
             String feedbackSessionName,
             String courseId, String userEmail)
@@ -12,6 +12,7 @@ import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Assumption;
+import teammates.common.util.DeferredResult;
 import teammates.common.util.Logger;
 import teammates.common.util.StringHelper;
 import teammates.storage.api.InstructorsDb;
@@ -100,6 +101,13 @@ public final class InstructorsLogic {
         return instructorsDb.getInstructorForEmail(courseId, email);
     }
 
+    /**
+     * Starts loading the instructor with the given email in a course, without waiting for it.
+     */
+    public DeferredResult<InstructorAttributes> getInstructorForEmailAsync(String courseId, String email) {
+        return instructorsDb.getInstructorForEmailAsync(courseId, email);
+    }
+
     public InstructorAttributes getInstructorById(String courseId, String email) {
 
         return instructorsDb.getInstructorById(courseId, email);
@@ -322,6 +330,16 @@ public final class InstructorsLogic {
         instructorsDb.deleteInstructorsForCourse(courseId);
     }
 
+    /**
+     * Deletes the next batch of at most {@code batchSize} instructors of the course.
+     *
+     * @return the cursor to continue from, or null if all instructors of the course have been deleted
+     * @see #deleteInstructorsForCourse(String)
+     */
+    public String deleteInstructorsForCourseInBatch(String courseId, String cursor, int batchSize) {
+        return instructorsDb.deleteInstructorsForCourseInBatch(courseId, cursor, batchSize);
+    }
+
     public List<InstructorAttributes> getCoOwnersForCourse(String courseId) {
         List<InstructorAttributes> instructors = getInstructorsForCourse(courseId);
         List<InstructorAttributes> instructorsWithCoOwnerPrivileges = new ArrayList<>();
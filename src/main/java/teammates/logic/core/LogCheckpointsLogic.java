@@ -0,0 +1,43 @@
+package teammates.logic.core;
+
+import java.time.Instant;
+
+import teammates.storage.api.LogCheckpointsDb;
+
+/**
+ * Handles the logic related to the checkpoints of recurring jobs which process the application logs.
+ */
+public final class LogCheckpointsLogic {
+
+    private static LogCheckpointsLogic instance = new LogCheckpointsLogic();
+
+    private static final LogCheckpointsDb logCheckpointsDb = new LogCheckpointsDb();
+
+    private LogCheckpointsLogic() {
+        // prevent initialization
+    }
+
+    public static LogCheckpointsLogic inst() {
+        return instance;
+    }
+
+    /**
+     * Gets the end (exclusive) of the time range of the logs processed so far by the job.
+     *
+     * @return null if the job has not processed any logs
+     */
+    public Instant getLogsProcessedUntil(String jobName) {
+        return logCheckpointsDb.getProcessedUntil(jobName);
+    }
+
+    /**
+     * Records that the job has processed the logs up to {@code processedUntil}, unless another run of the job
+     * has moved the checkpoint from {@code expectedProcessedUntil} in the meantime.
+     *
+     * @return true if the checkpoint is moved
+     */
+    public boolean advanceLogsProcessedUntil(String jobName, Instant expectedProcessedUntil, Instant processedUntil) {
+        return logCheckpointsDb.advanceProcessedUntil(jobName, expectedProcessedUntil, processedUntil);
+    }
+
+}
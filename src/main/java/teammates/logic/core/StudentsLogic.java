@@ -1,7 +1,11 @@
 package teammates.logic.core;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 import teammates.common.datatransfer.CourseEnrollmentResult;
 import teammates.common.datatransfer.StudentAttributesFactory;
@@ -9,6 +13,7 @@ import teammates.common.datatransfer.StudentEnrollDetails;
 import teammates.common.datatransfer.StudentSearchResultBundle;
 import teammates.common.datatransfer.StudentUpdateStatus;
 import teammates.common.datatransfer.TeamDetailsBundle;
+import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.EnrollException;
@@ -17,6 +22,7 @@ import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const;
+import teammates.common.util.DeferredResult;
 import teammates.common.util.SanitizationHelper;
 import teammates.common.util.StringHelper;
 import teammates.storage.api.StudentsDb;
@@ -62,6 +68,13 @@ public final class StudentsLogic {
         return studentsDb.getStudentForEmail(courseId, email);
     }
 
+    /**
+     * Starts loading the student with the given email in a course, without waiting for it.
+     */
+    public DeferredResult<StudentAttributes> getStudentForEmailAsync(String courseId, String email) {
+        return studentsDb.getStudentForEmailAsync(courseId, email);
+    }
+
     public StudentAttributes getStudentForCourseIdAndGoogleId(String courseId, String googleId) {
         return studentsDb.getStudentForGoogleId(courseId, googleId);
     }
@@ -107,6 +120,13 @@ public final class StudentsLogic {
         return studentsDb.searchStudentsInWholeSystem(queryString);
     }
 
+    /**
+     * Removes the search documents with the given keys, e.g. the stale documents found during a search.
+     */
+    public void deleteStudentSearchDocuments(List<String> unencryptedRegistrationKeys) {
+        studentsDb.deleteDocumentsByStudentKeys(unencryptedRegistrationKeys);
+    }
+
     public String getEncryptedKeyForStudent(String courseId, String email) throws EntityDoesNotExistException {
 
         StudentAttributes studentData = getStudentForEmail(courseId, email);
@@ -225,7 +245,6 @@ public final class StudentsLogic {
         List<StudentAttributes> returnList = new ArrayList<>();
         List<StudentEnrollDetails> enrollmentList = new ArrayList<>();
 
-        verifyIsWithinSizeLimitPerEnrollment(studentList);
         validateSectionsAndTeams(studentList, courseId);
 
         // TODO: can we use a batch persist operation here?
@@ -252,12 +271,6 @@ public final class StudentsLogic {
         return new CourseEnrollmentResult(returnList, enrollmentList);
     }
 
-    private void verifyIsWithinSizeLimitPerEnrollment(List<StudentAttributes> students) throws EnrollException {
-        if (students.size() > Const.SIZE_LIMIT_PER_ENROLLMENT) {
-            throw new EnrollException(Const.StatusMessages.QUOTA_PER_ENROLLMENT_EXCEED);
-        }
-    }
-
     /**
      * Validates sections for any limit violations and teams for any team name violations.
      */
@@ -416,6 +429,31 @@ public final class StudentsLogic {
         studentsDb.deleteStudentsForCourse(courseId);
     }
 
+    /**
+     * Passes the next batch of at most {@code batchSize} students of the course to {@code batchProcessor},
+     * in the order of their section and team. Within each batch, the students of a team are ordered by name.
+     *
+     * @return the cursor to continue from, or null if all students of the course have been processed
+     */
+    public String processStudentsForCourseInBatch(String courseId, String cursor, int batchSize,
+                                                  Consumer<List<StudentAttributes>> batchProcessor) {
+        return studentsDb.processStudentsForCourseInBatch(courseId, cursor, batchSize, batchProcessor);
+    }
+
+    public boolean hasStudentsInIndicatedSections(String courseId) {
+        return studentsDb.hasStudentsInIndicatedSections(courseId);
+    }
+
+    /**
+     * Deletes the next batch of at most {@code batchSize} students of the course.
+     *
+     * @return the cursor to continue from, or null if all students of the course have been deleted
+     * @see #deleteStudentsForCourse(String)
+     */
+    public String deleteStudentsForCourseInBatch(String courseId, String cursor, int batchSize) {
+        return studentsDb.deleteStudentsForCourseInBatch(courseId, cursor, batchSize);
+    }
+
     /**
      * Batch creates or updates documents for the given students.
      */
@@ -423,41 +461,121 @@ public final class StudentsLogic {
         studentsDb.putDocuments(students);
     }
 
+    /**
+     * Enrolls a batch of students of a course, which have been checked with {@link #createStudents(String, String)}
+     * and {@link #validateSectionsAndTeams(List, String)}.
+     *
+     * <p>New students are created in a single batch. Unlike {@link #enrollStudents(String, String)}, a student who
+     * cannot be enrolled does not stop the enrollment of the others, but gets the {@link StudentUpdateStatus#ERROR}
+     * status together with the reason in {@link StudentEnrollDetails#errorMessage}.
+     *
+     * <p>The existing students are looked up by key, which is strongly consistent. Hence, students who were
+     * created by an interrupted attempt, or who joined the course in the meantime, are updated rather than
+     * overwritten as new students.
+     *
+     * @return the enrollment details of the students, in the same order as {@code students}
+     * @throws EntityDoesNotExistException if the course does not exist or is in Recycle Bin
+     */
+    public List<StudentEnrollDetails> enrollStudentsInBatch(String courseId, List<StudentAttributes> students)
+            throws EntityDoesNotExistException {
+        CourseAttributes course = coursesLogic.getCourse(courseId);
+        if (course == null || course.isCourseDeleted()) {
+            throw new EntityDoesNotExistException("Course does not exist :" + courseId);
+        }
+
+        List<StudentEnrollDetails> enrollmentList = new ArrayList<>();
+        if (students.isEmpty()) {
+            return enrollmentList;
+        }
+
+        List<String> emails = new ArrayList<>();
+        for (StudentAttributes student : students) {
+            emails.add(student.email);
+        }
+        Map<String, StudentAttributes> existingStudents = new HashMap<>();
+        for (StudentAttributes student
+                : studentsDb.getStudentsForEmails(Collections.singletonMap(courseId, emails))) {
+            existingStudents.put(student.email, student);
+        }
+
+        List<StudentAttributes> newStudents = new ArrayList<>();
+        for (StudentAttributes student : students) {
+            StudentAttributes originalStudent = existingStudents.get(student.email);
+            if (originalStudent == null) {
+                newStudents.add(student);
+                enrollmentList.add(makeEnrollmentDetails(student, StudentUpdateStatus.NEW));
+                continue;
+            }
+
+            try {
+                enrollmentList.add(enrollExistingStudent(student, originalStudent));
+            } catch (InvalidParametersException | EntityDoesNotExistException | EntityAlreadyExistsException e) {
+                StudentEnrollDetails enrollmentDetails = makeEnrollmentDetails(student, StudentUpdateStatus.ERROR);
+                enrollmentDetails.errorMessage = e.getMessage();
+                enrollmentList.add(enrollmentDetails);
+            }
+        }
+
+        try {
+            studentsDb.createStudentsWithoutExistenceCheck(newStudents);
+        } catch (InvalidParametersException e) {
+            for (StudentEnrollDetails enrollmentDetails : enrollmentList) {
+                if (enrollmentDetails.updateStatus == StudentUpdateStatus.NEW) {
+                    enrollmentDetails.updateStatus = StudentUpdateStatus.ERROR;
+                    enrollmentDetails.errorMessage = e.getMessage();
+                }
+            }
+        }
+
+        return enrollmentList;
+    }
+
     private StudentEnrollDetails enrollStudent(StudentAttributes validStudentAttributes)
             throws InvalidParametersException, EntityDoesNotExistException, EntityAlreadyExistsException {
         StudentAttributes originalStudentAttributes = getStudentForEmail(
                 validStudentAttributes.course, validStudentAttributes.email);
 
-        StudentEnrollDetails enrollmentDetails = new StudentEnrollDetails();
-        enrollmentDetails.course = validStudentAttributes.course;
-        enrollmentDetails.email = validStudentAttributes.email;
-        enrollmentDetails.newTeam = validStudentAttributes.team;
-        enrollmentDetails.newSection = validStudentAttributes.section;
+        if (originalStudentAttributes == null) {
+            createStudentCascade(validStudentAttributes);
+            return makeEnrollmentDetails(validStudentAttributes, StudentUpdateStatus.NEW);
+        }
+
+        return enrollExistingStudent(validStudentAttributes, originalStudentAttributes);
+    }
 
-        boolean isModifyingExistingStudent = originalStudentAttributes != null;
+    private StudentEnrollDetails enrollExistingStudent(StudentAttributes validStudentAttributes,
+            StudentAttributes originalStudentAttributes)
+            throws InvalidParametersException, EntityDoesNotExistException, EntityAlreadyExistsException {
         if (validStudentAttributes.isEnrollInfoSameAs(originalStudentAttributes)) {
-            enrollmentDetails.updateStatus = StudentUpdateStatus.UNMODIFIED;
-        } else if (isModifyingExistingStudent) {
-            updateStudentCascade(
-                    StudentAttributes.updateOptionsBuilder(originalStudentAttributes.course, originalStudentAttributes.email)
-                            .withName(validStudentAttributes.name)
-                            .withTeamName(validStudentAttributes.team)
-                            .withSectionName(validStudentAttributes.section)
-                            .withComment(validStudentAttributes.comments)
-                            .build());
-            enrollmentDetails.updateStatus = StudentUpdateStatus.MODIFIED;
+            return makeEnrollmentDetails(validStudentAttributes, StudentUpdateStatus.UNMODIFIED);
+        }
 
-            if (!originalStudentAttributes.team.equals(validStudentAttributes.team)) {
-                enrollmentDetails.oldTeam = originalStudentAttributes.team;
-            }
-            if (!originalStudentAttributes.section.equals(validStudentAttributes.section)) {
-                enrollmentDetails.oldSection = originalStudentAttributes.section;
-            }
-        } else {
-            createStudentCascade(validStudentAttributes);
-            enrollmentDetails.updateStatus = StudentUpdateStatus.NEW;
+        updateStudentCascade(
+                StudentAttributes.updateOptionsBuilder(originalStudentAttributes.course, originalStudentAttributes.email)
+                        .withName(validStudentAttributes.name)
+                        .withTeamName(validStudentAttributes.team)
+                        .withSectionName(validStudentAttributes.section)
+                        .withComment(validStudentAttributes.comments)
+                        .build());
+
+        StudentEnrollDetails enrollmentDetails =
+                makeEnrollmentDetails(validStudentAttributes, StudentUpdateStatus.MODIFIED);
+        if (!originalStudentAttributes.team.equals(validStudentAttributes.team)) {
+            enrollmentDetails.oldTeam = originalStudentAttributes.team;
+        }
+        if (!originalStudentAttributes.section.equals(validStudentAttributes.section)) {
+            enrollmentDetails.oldSection = originalStudentAttributes.section;
         }
+        return enrollmentDetails;
+    }
 
+    private StudentEnrollDetails makeEnrollmentDetails(StudentAttributes student, StudentUpdateStatus updateStatus) {
+        StudentEnrollDetails enrollmentDetails = new StudentEnrollDetails();
+        enrollmentDetails.course = student.course;
+        enrollmentDetails.email = student.email;
+        enrollmentDetails.newTeam = student.team;
+        enrollmentDetails.newSection = student.section;
+        enrollmentDetails.updateStatus = updateStatus;
         return enrollmentDetails;
     }
 
@@ -473,6 +591,7 @@ public final class StudentsLogic {
         List<String> invalidityInfo = new ArrayList<>();
         String[] linesArray = lines.split(System.lineSeparator());
         List<StudentAttributes> studentList = new ArrayList<>();
+        Map<String, Integer> studentLineIndexesByEmail = new HashMap<>();
 
         StudentAttributesFactory saf = new StudentAttributesFactory(linesArray[0]);
 
@@ -489,9 +608,11 @@ public final class StudentsLogic {
                     invalidityInfo.add(invalidStudentInfo(sanitizedLine, student));
                 }
 
-                int duplicateEmailIndex = getDuplicateEmailIndex(student.email, studentList);
-                if (duplicateEmailIndex != -1) {
-                    invalidityInfo.add(duplicateEmailInfo(sanitizedLine, linesArray[duplicateEmailIndex + 1]));
+                Integer duplicateEmailLineIndex = studentLineIndexesByEmail.get(student.email);
+                if (duplicateEmailLineIndex == null) {
+                    studentLineIndexesByEmail.put(student.email, i);
+                } else {
+                    invalidityInfo.add(duplicateEmailInfo(sanitizedLine, linesArray[duplicateEmailLineIndex]));
                 }
 
                 studentList.add(student);
@@ -517,19 +638,6 @@ public final class StudentsLogic {
         return String.format(Const.StatusMessages.ENROLL_LINES_PROBLEM, userInput, info);
     }
 
-    /**
-     * Returns the index of the first occurrence of the duplicate {@code email} in
-     * {@code studentList}, or -1 if {@code email} is not a duplicate in {@code studentList}.
-     */
-    private int getDuplicateEmailIndex(String email, List<StudentAttributes> studentList) {
-        for (int index = 0; index < studentList.size(); index++) {
-            if (studentList.get(index).email.equals(email)) {
-                return index;
-            }
-        }
-        return -1;
-    }
-
     /**
      * Returns a {@code String} containing the duplicate email information in {@code duplicateEmailInfo} and
      * the corresponding sanitized invalid {@code userInput}.
@@ -6,6 +6,7 @@ import com.google.appengine.api.taskqueue.Queue;
 import com.google.appengine.api.taskqueue.QueueFactory;
 import com.google.appengine.api.taskqueue.TaskOptions;
 
+import teammates.common.util.RequestMetrics;
 import teammates.common.util.TaskWrapper;
 
 /**
@@ -44,6 +45,7 @@ public class TaskQueuesLogic {
             }
         }
 
+        RequestMetrics.recordTaskQueueCall();
         requiredQueue.add(taskToBeAdded);
     }
 
@@ -1,14 +1,13 @@
 package teammates.storage.api;
 
-import static com.googlecode.objectify.ObjectifyService.ofy;
-
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
 import com.googlecode.objectify.Key;
-import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.QueryKeys;
 
+import teammates.common.datatransfer.UserPrincipal;
 import teammates.common.datatransfer.attributes.AccountAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
@@ -24,6 +23,9 @@ import teammates.storage.entity.Account;
  * @see AccountAttributes
  */
 public class AccountsDb extends EntitiesDb<Account, AccountAttributes> {
+
+    private static final UserPrincipalCache principalCache = UserPrincipalCache.inst();
+
     /**
      * Preconditions:
      * <br> * {@code accountToAdd} is not null and has valid data.
@@ -46,6 +48,20 @@ public class AccountsDb extends EntitiesDb<Account, AccountAttributes> {
         return googleId.isEmpty() ? null : makeAttributesOrNull(getAccountEntity(googleId));
     }
 
+    /**
+     * Gets the roles of the user with the given Google ID, which may be up to a minute old.
+     *
+     * <p>The roles are cached, and the cache is refreshed whenever the account of the user,
+     * or a student with the Google ID of the user, is changed.
+     */
+    public UserPrincipal getUserPrincipal(String googleId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, googleId);
+        if (googleId.isEmpty()) {
+            return new UserPrincipal(googleId, false, false);
+        }
+        return principalCache.get(googleId);
+    }
+
     /**
      * Returns {@link AccountAttributes} objects for all accounts with instructor privileges.
      *         Returns an empty list if no such accounts are found.
@@ -124,11 +140,6 @@ public class AccountsDb extends EntitiesDb<Account, AccountAttributes> {
         return account;
     }
 
-    @Override
-    protected LoadType<Account> load() {
-        return ofy().load().type(Account.class);
-    }
-
     @Override
     protected Account getEntity(AccountAttributes entity) {
         return getAccountEntity(entity.googleId);
@@ -140,6 +151,15 @@ public class AccountsDb extends EntitiesDb<Account, AccountAttributes> {
         return load().filterKey(keyToFind).keys();
     }
 
+    @Override
+    protected void onEntitiesChanged(Collection<AccountAttributes> changedAccounts) {
+        List<String> googleIds = new ArrayList<>();
+        for (AccountAttributes account : changedAccounts) {
+            googleIds.add(account.googleId);
+        }
+        principalCache.invalidate(googleIds);
+    }
+
     @Override
     protected AccountAttributes makeAttributes(Account entity) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, entity);
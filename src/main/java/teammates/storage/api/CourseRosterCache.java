@@ -0,0 +1,263 @@
+package teammates.storage.api;
+
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
+import java.io.Serializable;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import com.google.appengine.api.datastore.DatastoreService;
+import com.google.appengine.api.datastore.DatastoreServiceFactory;
+import com.google.appengine.api.datastore.Entity;
+import com.google.appengine.api.datastore.FetchOptions;
+import com.google.appengine.api.datastore.Key;
+import com.google.appengine.api.datastore.Query;
+import com.google.appengine.api.datastore.Query.FilterOperator;
+import com.google.appengine.api.datastore.Query.FilterPredicate;
+import com.google.appengine.api.memcache.Expiration;
+import com.google.appengine.api.memcache.MemcacheService;
+import com.google.appengine.api.memcache.MemcacheServiceFactory;
+
+import teammates.common.util.Logger;
+import teammates.common.util.RequestMetrics;
+
+/**
+ * Memcache-backed cache of the students and instructors of a course.
+ *
+ * <p>Each course has a roster version. Cached rosters are stored together with the version they were loaded at,
+ * and are only served while that is still the version of the course, so bumping the version
+ * (see {@link #invalidate(String)}) discards all previously cached rosters of the course.
+ * The version, the cached roster and the time of the last invalidation are read with a single memcache call.
+ *
+ * <p>A roster is loaded by looking up, by key, the entities found by a keys-only query. Lookups by key are
+ * strongly consistent, so the loaded entities are never older than the latest write to them. The query itself
+ * is eventually consistent and may miss entities which have just been added, so rosters loaded shortly after
+ * the version of the course was bumped are not cached.
+ *
+ * <p>Rosters are cached as raw datastore {@link Entity} objects (rather than entity or attributes objects)
+ * so that entity lifecycle callbacks such as {@code @OnSave} are not triggered by caching.
+ */
+public final class CourseRosterCache {
+
+    /**
+     * How long after a roster version is bumped rosters of the course are not cached,
+     * i.e. the time allowed for the query used to load rosters to reflect the change.
+     */
+    public static final int INVALIDATION_SETTLE_TIME_IN_SECONDS = 5;
+
+    private static final Logger log = Logger.getLogger();
+
+    private static final CourseRosterCache instance = new CourseRosterCache();
+
+    private static final String VERSION_KEY_PREFIX = "roster-version:";
+    private static final String INVALIDATED_AT_KEY_PREFIX = "roster-invalidated-at:";
+    private static final String ROSTER_KEY_FORMAT = "roster:%s:%s";
+
+    /**
+     * Bounds the lifetime of a cached roster, e.g. one loaded from a not-yet-consistent query.
+     */
+    private static final int ROSTER_EXPIRY_IN_SECONDS = 10 * 60;
+
+    private static final String COURSE_ID_PROPERTY = "courseId";
+    private static final String TEAM_NAME_PROPERTY = "teamName";
+    private static final String SECTION_NAME_PROPERTY = "sectionName";
+
+    private Clock clock = Clock.systemUTC();
+
+    private CourseRosterCache() {
+        // prevent initialization
+    }
+
+    public static CourseRosterCache inst() {
+        return instance;
+    }
+
+    /**
+     * Gets all entities of {@code entityClass} belonging to the course, from the cache if possible.
+     */
+    <E> List<E> getEntitiesForCourse(Class<E> entityClass, String courseId) {
+        RosterSnapshot roster = getRoster(entityClass, courseId);
+        return toEntities(roster.entities);
+    }
+
+    /**
+     * Gets all entities of {@code entityClass} in the given team of the course, from the cache if possible.
+     */
+    <E> List<E> getEntitiesForTeam(Class<E> entityClass, String courseId, String teamName) {
+        RosterSnapshot roster = getRoster(entityClass, courseId);
+        return toEntities(roster.getEntitiesAt(roster.positionsByTeam.get(teamName)));
+    }
+
+    /**
+     * Gets all entities of {@code entityClass} in the given section of the course, from the cache if possible.
+     */
+    <E> List<E> getEntitiesForSection(Class<E> entityClass, String courseId, String sectionName) {
+        RosterSnapshot roster = getRoster(entityClass, courseId);
+        return toEntities(roster.getEntitiesAt(roster.positionsBySection.get(sectionName)));
+    }
+
+    /**
+     * Bumps the roster version of the course, discarding all cached rosters of the course.
+     *
+     * <p>Must be called after (not before) the corresponding datastore write has been issued.
+     */
+    public void invalidate(String courseId) {
+        MemcacheService memcache = getMemcache();
+        memcache.put(INVALIDATED_AT_KEY_PREFIX + courseId, clock.millis(),
+                Expiration.byDeltaSeconds(INVALIDATION_SETTLE_TIME_IN_SECONDS));
+        memcache.increment(VERSION_KEY_PREFIX + courseId, 1L, getInitialVersion());
+    }
+
+    /**
+     * Bumps the roster versions of all the given courses.
+     *
+     * @see #invalidate(String)
+     */
+    public void invalidate(Collection<String> courseIds) {
+        for (String courseId : new LinkedHashSet<>(courseIds)) {
+            invalidate(courseId);
+        }
+    }
+
+    /**
+     * Sets the clock which tells whether the settle time after an invalidation has passed.
+     * Used in tests to avoid waiting for the settle time.
+     */
+    public void setClock(Clock clock) {
+        this.clock = clock;
+    }
+
+    private RosterSnapshot getRoster(Class<?> entityClass, String courseId) {
+        String kind = com.googlecode.objectify.Key.getKind(entityClass);
+        MemcacheService memcache = getMemcache();
+        String versionKey = VERSION_KEY_PREFIX + courseId;
+        String rosterKey = String.format(ROSTER_KEY_FORMAT, kind, courseId);
+        String invalidatedAtKey = INVALIDATED_AT_KEY_PREFIX + courseId;
+
+        // the version must be read before the datastore is queried so that a roster loaded concurrently with
+        // a mutation can only ever be stored with an outdated version
+        Map<String, Object> cachedValues = memcache.getAll(Arrays.asList(versionKey, rosterKey, invalidatedAtKey));
+        Long version = (Long) cachedValues.get(versionKey);
+        if (version == null) {
+            version = memcache.increment(versionKey, 0L, getInitialVersion());
+        }
+        if (version == null) {
+            // memcache is unavailable; fall back to the datastore
+            RequestMetrics.recordCacheLookup(false);
+            return loadRoster(kind, courseId, 0L);
+        }
+
+        RosterSnapshot roster = (RosterSnapshot) cachedValues.get(rosterKey);
+        if (roster != null && roster.version == version) {
+            RequestMetrics.recordCacheLookup(true);
+            return roster;
+        }
+
+        RequestMetrics.recordCacheLookup(false);
+        roster = loadRoster(kind, courseId, version);
+        Long invalidatedAt = (Long) cachedValues.get(invalidatedAtKey);
+        if (invalidatedAt != null && clock.millis() - invalidatedAt < INVALIDATION_SETTLE_TIME_IN_SECONDS * 1000L) {
+            // the query may not reflect the latest change yet
+            return roster;
+        }
+        try {
+            memcache.put(rosterKey, roster, Expiration.byDeltaSeconds(ROSTER_EXPIRY_IN_SECONDS));
+        } catch (IllegalArgumentException e) {
+            // the roster is too large to be cached
+            log.warning("Unable to cache " + kind + " roster of course " + courseId + ": " + e.getMessage());
+        }
+        return roster;
+    }
+
+    private RosterSnapshot loadRoster(String kind, String courseId, long version) {
+        DatastoreService datastore = DatastoreServiceFactory.getDatastoreService();
+        Query query = new Query(kind)
+                .setFilter(new FilterPredicate(COURSE_ID_PROPERTY, FilterOperator.EQUAL, courseId))
+                .setKeysOnly();
+        List<Key> keys = new ArrayList<>();
+        for (Entity keyOnlyEntity : datastore.prepare(query).asIterable(FetchOptions.Builder.withDefaults())) {
+            keys.add(keyOnlyEntity.getKey());
+        }
+
+        // entities which have been deleted since the query's index was updated are left out
+        Map<Key, Entity> entitiesByKey = datastore.get(keys);
+        List<Entity> entities = new ArrayList<>();
+        for (Key key : keys) {
+            Entity entity = entitiesByKey.get(key);
+            if (entity != null && courseId.equals(entity.getProperty(COURSE_ID_PROPERTY))) {
+                entities.add(entity);
+            }
+        }
+        return new RosterSnapshot(version, entities);
+    }
+
+    private <E> List<E> toEntities(List<Entity> rawEntities) {
+        List<E> entities = new ArrayList<>();
+        for (Entity rawEntity : rawEntities) {
+            entities.add(ofy().load().fromEntity(rawEntity));
+        }
+        return entities;
+    }
+
+    private static MemcacheService getMemcache() {
+        return MemcacheServiceFactory.getMemcacheService();
+    }
+
+    /**
+     * Returns a time-based starting version, so that a version counter re-created after being evicted
+     * from memcache does not collide with versions used before the eviction.
+     */
+    private static long getInitialVersion() {
+        return System.currentTimeMillis();
+    }
+
+    /**
+     * The cached form of a roster: the raw entities of one kind in a course, indexed by team and section,
+     * and the roster version of the course they were loaded at.
+     */
+    private static class RosterSnapshot implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long version;
+        private final List<Entity> entities;
+        private final Map<String, List<Integer>> positionsByTeam = new HashMap<>();
+        private final Map<String, List<Integer>> positionsBySection = new HashMap<>();
+
+        RosterSnapshot(long version, List<Entity> entities) {
+            this.version = version;
+            this.entities = new ArrayList<>(entities);
+            for (int i = 0; i < this.entities.size(); i++) {
+                Entity entity = this.entities.get(i);
+                addPosition(positionsByTeam, entity.getProperty(TEAM_NAME_PROPERTY), i);
+                addPosition(positionsBySection, entity.getProperty(SECTION_NAME_PROPERTY), i);
+            }
+        }
+
+        private static void addPosition(Map<String, List<Integer>> index, Object value, int position) {
+            if (value == null) {
+                return;
+            }
+            index.computeIfAbsent(value.toString(), k -> new ArrayList<>()).add(position);
+        }
+
+        List<Entity> getEntitiesAt(List<Integer> positions) {
+            if (positions == null) {
+                return Collections.emptyList();
+            }
+            List<Entity> selected = new ArrayList<>();
+            for (int position : positions) {
+                selected.add(entities.get(position));
+            }
+            return selected;
+        }
+
+    }
+}
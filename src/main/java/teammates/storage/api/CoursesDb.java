@@ -1,7 +1,5 @@
 package teammates.storage.api;
 
-import static com.googlecode.objectify.ObjectifyService.ofy;
-
 import java.time.DateTimeException;
 import java.time.Instant;
 import java.time.ZoneId;
@@ -9,7 +7,6 @@ import java.util.ArrayList;
 import java.util.List;
 
 import com.googlecode.objectify.Key;
-import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.QueryKeys;
 
 import teammates.common.datatransfer.attributes.CourseAttributes;
@@ -135,11 +132,6 @@ public class CoursesDb extends EntitiesDb<Course, CourseAttributes> {
         saveEntity(courseEntity);
     }
 
-    @Override
-    protected LoadType<Course> load() {
-        return ofy().load().type(Course.class);
-    }
-
     @Override
     protected Course getEntity(CourseAttributes attributes) {
         return getCourseEntity(attributes.getId());
@@ -0,0 +1,130 @@
+package teammates.storage.api;
+
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
+import java.time.Instant;
+import java.util.List;
+
+import com.googlecode.objectify.Key;
+import com.googlecode.objectify.cmd.QueryKeys;
+
+import teammates.common.datatransfer.StudentUpdateStatus;
+import teammates.common.datatransfer.attributes.EnrollmentJobAttributes;
+import teammates.common.exception.EntityDoesNotExistException;
+import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.storage.entity.EnrollmentJob;
+
+/**
+ * Handles CRUD operations for enrollment jobs.
+ *
+ * @see EnrollmentJob
+ * @see EnrollmentJobAttributes
+ */
+public class EnrollmentJobsDb extends EntitiesDb<EnrollmentJob, EnrollmentJobAttributes> {
+
+    /**
+     * Creates an enrollment job.
+     *
+     * @return the created job, with its ID
+     */
+    public EnrollmentJobAttributes createEnrollmentJob(EnrollmentJobAttributes jobToAdd)
+            throws InvalidParametersException {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, jobToAdd);
+
+        return makeAttributes(createEntityWithoutExistenceCheck(jobToAdd));
+    }
+
+    /**
+     * Gets an enrollment job.
+     *
+     * @return null if there is no such job
+     */
+    public EnrollmentJobAttributes getEnrollmentJob(String jobId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, jobId);
+
+        return makeAttributesOrNull(getEnrollmentJobEntity(jobId));
+    }
+
+    /**
+     * Records the results of a batch of students of the job.
+     *
+     * <p>The results are only recorded if the batch starts right after the students processed so far,
+     * so that a batch which is processed again (e.g. by a retried task) is not recorded twice.
+     *
+     * @param startIndex the index of the first student of the batch, in the order of the enrollment lines
+     * @return the updated job
+     * @throws EntityDoesNotExistException if the job cannot be found
+     */
+    public EnrollmentJobAttributes updateEnrollmentJobProgress(String jobId, int startIndex,
+            List<StudentUpdateStatus> updateStatuses, List<String> errorMessages) throws EntityDoesNotExistException {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, jobId, updateStatuses, errorMessages);
+        Assumption.assertEquals(updateStatuses.size(), errorMessages.size());
+
+        EnrollmentJob job = getEnrollmentJobEntity(jobId);
+        if (job == null) {
+            throw new EntityDoesNotExistException(ERROR_UPDATE_NON_EXISTENT + jobId);
+        }
+
+        if (job.getUpdateStatuses().size() != startIndex) {
+            return makeAttributes(job);
+        }
+
+        List<StudentUpdateStatus> allUpdateStatuses = job.getUpdateStatuses();
+        allUpdateStatuses.addAll(updateStatuses);
+        job.setUpdateStatuses(allUpdateStatuses);
+
+        List<String> allErrorMessages = job.getErrorMessages();
+        allErrorMessages.addAll(errorMessages);
+        job.setErrorMessages(allErrorMessages);
+
+        saveEntity(job);
+
+        return makeAttributes(job);
+    }
+
+    /**
+     * Deletes all enrollment jobs of the course.
+     */
+    public void deleteEnrollmentJobsForCourse(String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        ofy().delete().keys(load().filter("courseId =", courseId).keys()).now();
+    }
+
+    /**
+     * Deletes all enrollment jobs created before the given time.
+     */
+    public void deleteEnrollmentJobsCreatedBefore(Instant time) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, time);
+
+        ofy().delete().keys(load().filter("createdAt <", time).keys()).now();
+    }
+
+    private EnrollmentJob getEnrollmentJobEntity(String jobId) {
+        try {
+            return load().id(Long.parseLong(jobId)).now();
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    @Override
+    protected EnrollmentJob getEntity(EnrollmentJobAttributes attributes) {
+        return attributes.getId() == null ? null : getEnrollmentJobEntity(attributes.getId());
+    }
+
+    @Override
+    protected QueryKeys<EnrollmentJob> getEntityQueryKeys(EnrollmentJobAttributes attributes) {
+        Key<EnrollmentJob> keyToFind = Key.create(EnrollmentJob.class, Long.parseLong(attributes.getId()));
+        return load().filterKey(keyToFind).keys();
+    }
+
+    @Override
+    protected EnrollmentJobAttributes makeAttributes(EnrollmentJob entity) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, entity);
+
+        return EnrollmentJobAttributes.valueOf(entity);
+    }
+}
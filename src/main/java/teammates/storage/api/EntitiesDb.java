@@ -2,17 +2,28 @@ package teammates.storage.api;
 
 import static com.googlecode.objectify.ObjectifyService.ofy;
 
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
+import com.google.appengine.api.datastore.Cursor;
+import com.google.appengine.api.datastore.QueryResultIterator;
 import com.google.appengine.api.search.Document;
 import com.google.appengine.api.search.Results;
 import com.google.appengine.api.search.ScoredDocument;
 import com.google.appengine.api.search.SearchQueryException;
 import com.googlecode.objectify.Key;
+import com.googlecode.objectify.LoadResult;
 import com.googlecode.objectify.cmd.LoadType;
+import com.googlecode.objectify.cmd.Query;
 import com.googlecode.objectify.cmd.QueryKeys;
 
 import teammates.common.datatransfer.attributes.EntityAttributes;
@@ -20,7 +31,9 @@ import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const;
+import teammates.common.util.DeferredResult;
 import teammates.common.util.Logger;
+import teammates.common.util.RequestMetrics;
 import teammates.storage.entity.BaseEntity;
 import teammates.storage.search.SearchDocument;
 import teammates.storage.search.SearchManager;
@@ -41,6 +54,9 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
 
     protected static final Logger log = Logger.getLogger();
 
+    private final Class<E> entityClass = getEntityClass();
+    private final String entityKind = Key.getKind(entityClass);
+
     /**
      * Preconditions:
      * <br> * {@code entityToAdd} is not null and has valid data.
@@ -163,26 +179,36 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
     }
 
     protected void saveEntity(E entityToSave, A entityToSaveAttributesForLogging) {
+        recordWrite();
         ofy().save().entity(entityToSave).now();
         log.info(entityToSaveAttributesForLogging.getBackupIdentifier());
+        onEntitiesChanged(Collections.singletonList(entityToSaveAttributesForLogging));
     }
 
     protected void saveEntities(Collection<E> entitiesToSave) {
-        saveEntities(entitiesToSave, makeAttributes(entitiesToSave));
+        List<A> entitiesToSaveAttributes = new ArrayList<>();
+        for (E entity : entitiesToSave) {
+            entitiesToSaveAttributes.add(makeAttributes(entity));
+        }
+        saveEntities(entitiesToSave, entitiesToSaveAttributes);
     }
 
     protected void saveEntities(Collection<E> entitiesToSave, Collection<A> entitiesToSaveAttributesForLogging) {
         for (A attributes : entitiesToSaveAttributesForLogging) {
             log.info(attributes.getBackupIdentifier());
         }
+        recordWrite();
         ofy().save().entities(entitiesToSave).now();
+        onEntitiesChanged(entitiesToSaveAttributesForLogging);
     }
 
     protected void saveEntitiesDeferred(Collection<E> entitiesToSave, Collection<A> entitiesToSaveAttributesForLogging) {
         for (A attributes : entitiesToSaveAttributesForLogging) {
             log.info(attributes.getBackupIdentifier());
         }
+        recordWrite();
         ofy().defer().save().entities(entitiesToSave);
+        onEntitiesChanged(entitiesToSaveAttributesForLogging);
     }
 
     public static void flush() {
@@ -197,8 +223,10 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
     public void deleteEntity(A entityToDelete) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, entityToDelete);
 
+        recordWrite();
         ofy().delete().keys(getEntityQueryKeys(entityToDelete)).now();
         log.info(entityToDelete.getBackupIdentifier());
+        onEntitiesChanged(Collections.singletonList(entityToDelete));
     }
 
     public void deleteEntities(Collection<A> entitiesToDelete) {
@@ -214,7 +242,9 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
             log.info(entityToDelete.getBackupIdentifier());
         }
 
+        recordWrite();
         ofy().delete().keys(keysToDelete).now();
+        onEntitiesChanged(entitiesToDelete);
     }
 
     protected void deleteEntityDirect(E entityToDelete) {
@@ -222,18 +252,43 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
     }
 
     protected void deleteEntityDirect(E entityToDelete, A entityToDeleteAttributesForLogging) {
+        recordWrite();
         ofy().delete().entity(entityToDelete).now();
         log.info(entityToDeleteAttributesForLogging.getBackupIdentifier());
+        onEntitiesChanged(Collections.singletonList(entityToDeleteAttributesForLogging));
     }
 
     protected void deleteEntitiesDirect(Collection<E> entitiesToDelete, Collection<A> entitiesToDeleteAttributesForLogging) {
         for (A attributes : entitiesToDeleteAttributesForLogging) {
             log.info(attributes.getBackupIdentifier());
         }
+        recordWrite();
         ofy().delete().entities(entitiesToDelete).now();
+        onEntitiesChanged(entitiesToDeleteAttributesForLogging);
+    }
+
+    /**
+     * Invoked after the given entities have been saved or deleted (or queued to be saved).
+     *
+     * <p>Subclasses which keep data derived from their entities, e.g. caches, can override this to refresh it.
+     */
+    @SuppressWarnings("PMD.EmptyMethodInAbstractClassShouldBeAbstract")
+    protected void onEntitiesChanged(Collection<A> changedEntities) {
+        // Does nothing by default as most entities have no derived data.
     }
 
-    protected abstract LoadType<E> load();
+    /**
+     * Starts a datastore read (a get or a query) of the entities of this class.
+     *
+     * <p>All reads of the storage classes start here, so this is where the reads are recorded
+     * for the request being handled, if it is being recorded.
+     *
+     * @see RequestMetrics
+     */
+    protected LoadType<E> load() {
+        recordRead();
+        return ofy().load().type(entityClass);
+    }
 
     /**
      * NOTE: This method must be overriden for all subclasses such that it will return the
@@ -255,9 +310,105 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
         return getEntityQueryKeys(attributes).first().now() != null;
     }
 
+    /**
+     * Returns true if the query matches at least one entity.
+     *
+     * <p>This is done with a keys-only query for the first match, i.e. no entity is loaded.
+     */
+    protected boolean hasAnyEntity(Query<E> query) {
+        return query.keys().first().now() != null;
+    }
+
+    /**
+     * Returns the number of entities matched by the query.
+     *
+     * <p>This is done with a keys-only query, i.e. no entity is loaded.
+     */
+    protected int countEntities(Query<E> query) {
+        return query.count();
+    }
+
+    /**
+     * Deletes the next batch of at most {@code batchSize} entities matched by the query.
+     *
+     * <p>Only the keys of the entities are fetched.
+     *
+     * @param cursor the web-safe cursor returned by the previous batch, or null to start from the first entity
+     * @return the web-safe cursor to continue from, or null if there are no more entities to delete
+     */
+    protected String deleteEntitiesInBatch(Query<E> query, String cursor, int batchSize) {
+        QueryResultIterator<Key<E>> iterator = startAt(query, cursor).limit(batchSize).keys().iterator();
+        List<Key<E>> keys = new ArrayList<>();
+        iterator.forEachRemaining(keys::add);
+
+        recordWrite();
+        ofy().delete().keys(keys).now();
+
+        return keys.size() < batchSize ? null : iterator.getCursor().toWebSafeString();
+    }
+
+    /**
+     * Loads the next batch of at most {@code batchSize} entities matched by the query
+     * and passes it to {@code batchProcessor}.
+     *
+     * @param cursor the web-safe cursor returned by the previous batch, or null to start from the first entity
+     * @return the web-safe cursor to continue from, or null if there are no more entities to process
+     */
+    protected String processEntitiesInBatch(Query<E> query, String cursor, int batchSize,
+                                            Consumer<List<E>> batchProcessor) {
+        QueryResultIterator<E> iterator = startAt(query, cursor).limit(batchSize).iterator();
+        List<E> entities = new ArrayList<>();
+        iterator.forEachRemaining(entities::add);
+        RequestMetrics.recordEntitiesLoaded(entities.size());
+
+        batchProcessor.accept(entities);
+
+        return entities.size() < batchSize ? null : iterator.getCursor().toWebSafeString();
+    }
+
+    /**
+     * Loads the next batch of entities matched by the query and passes it to {@code batchProcessor},
+     * as {@link #processEntitiesInBatch(Query, String, int, Consumer)} does, except that a batch never ends
+     * between two entities of the same group. The query must return the entities of each group together.
+     *
+     * <p>A batch has more than {@code batchSize} entities if its last group does not fit in it.
+     *
+     * @param groupOf gives the group of an entity, compared with {@link Objects#equals(Object, Object)}
+     */
+    protected String processEntitiesInBatch(Query<E> query, String cursor, int batchSize, Function<E, ?> groupOf,
+                                            Consumer<List<E>> batchProcessor) {
+        QueryResultIterator<E> iterator = startAt(query, cursor).chunk(batchSize + 1).iterator();
+        List<E> entities = new ArrayList<>();
+        String nextCursor = null;
+        while (iterator.hasNext()) {
+            Cursor position = entities.size() < batchSize ? null : iterator.getCursor();
+            E entity = iterator.next();
+            if (position != null
+                    && !Objects.equals(groupOf.apply(entity), groupOf.apply(entities.get(entities.size() - 1)))) {
+                nextCursor = position.toWebSafeString();
+                break;
+            }
+            entities.add(entity);
+        }
+        RequestMetrics.recordEntitiesLoaded(entities.size());
+
+        batchProcessor.accept(entities);
+
+        return nextCursor;
+    }
+
+    private Query<E> startAt(Query<E> query, String cursor) {
+        return cursor == null ? query : query.startAt(Cursor.fromWebSafeString(cursor));
+    }
+
     protected abstract A makeAttributes(E entity);
 
+    /**
+     * Converts the entities returned by a datastore read, which are recorded as loaded
+     * for the request being handled, if it is being recorded.
+     */
     protected List<A> makeAttributes(Collection<E> entities) {
+        RequestMetrics.recordEntitiesLoaded(entities.size());
         List<A> attributes = new LinkedList<>();
         for (E entity : entities) {
             attributes.add(makeAttributes(entity));
@@ -269,7 +420,12 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
         return makeAttributesOrNull(entity, null);
     }
 
+    /**
+     * Converts the entity returned by a datastore read, if any, which is recorded as loaded
+     * for the request being handled, if it is being recorded.
+     */
     protected A makeAttributesOrNull(E entity, String logMessage) {
+        RequestMetrics.recordEntitiesLoaded(entity == null ? 0 : 1);
         if (entity != null) {
             return makeAttributes(entity);
         }
@@ -279,6 +435,79 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
         return null;
     }
 
+    /**
+     * Starts loading the entities matched by the query without waiting for them.
+     *
+     * @return the result holding the attributes of the entities, which waits for the entities when it is read
+     */
+    protected DeferredResult<List<A>> makeAttributesAsync(Query<E> query) {
+        Iterator<E> iterator = query.iterator();
+        return new DeferredResult<>(() -> {
+            List<E> entities = new ArrayList<>();
+            iterator.forEachRemaining(entities::add);
+            return makeAttributes(entities);
+        });
+    }
+
+    /**
+     * Returns the result holding the attributes of an entity which is being loaded, or null if there is no such entity.
+     */
+    protected DeferredResult<A> makeAttributesOrNullAsync(LoadResult<E> loadResult) {
+        return new DeferredResult<>(() -> makeAttributesOrNull(loadResult.now()));
+    }
+
+    /**
+     * Records a datastore read issued by this class for the request being handled, if it is being recorded.
+     *
+     * <p>Reads which do not start from {@link #load()}, e.g. loads by a key with a parent, need to call this.
+     *
+     * @see RequestMetrics
+     */
+    protected void recordRead() {
+        RequestMetrics.recordDatastoreRead(entityKind,
+                RequestMetrics.isRecordingDbMethods() ? getCallingDbMethod() : null);
+    }
+
+    /**
+     * Records a datastore write issued by this class for the request being handled, if it is being recorded.
+     *
+     * @see RequestMetrics
+     */
+    private void recordWrite() {
+        RequestMetrics.recordDatastoreWrite(entityKind,
+                RequestMetrics.isRecordingDbMethods() ? getCallingDbMethod() : null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Class<E> getEntityClass() {
+        Type entityType = ((ParameterizedType) getClass().getGenericSuperclass()).getActualTypeArguments()[0];
+        return (Class<E>) entityType;
+    }
+
+    /**
+     * Returns the outermost method of this object in the current call stack, i.e. the storage API method
+     * called by the logic layer, e.g. {@code StudentsDb.getStudentForEmail}.
+     */
+    private String getCallingDbMethod() {
+        String dbClassName = getClass().getName();
+        String baseClassName = EntitiesDb.class.getName();
+        String methodName = null;
+        for (StackTraceElement frame : new Throwable().getStackTrace()) {
+            String frameClassName = frame.getClassName();
+            if (frameClassName.equals(dbClassName) || frameClassName.equals(baseClassName)) {
+                methodName = frame.getMethodName();
+            } else if (!frameClassName.startsWith(baseClassName + "$")) {
+                // frames of nested classes, e.g. of deferred results, are skipped
+                break;
+            }
+        }
+        if (methodName != null && methodName.startsWith("lambda$")) {
+            // e.g. lambda$getFeedbackSessionAsync$0
+            methodName = methodName.split("\\$")[1];
+        }
+        return getClass().getSimpleName() + "." + methodName;
+    }
+
     protected Key<E> makeKeyOrNullFromWebSafeString(String webSafeString) {
         if (webSafeString == null) {
             return null;
@@ -293,6 +522,7 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
     //the followings APIs are used by Teammates' search engine
     protected void putDocument(String indexName, SearchDocument document) {
         try {
+            RequestMetrics.recordSearchCall();
             SearchManager.putDocument(indexName, document.build());
         } catch (Exception e) {
             log.severe("Failed to put searchable document in " + indexName + " for " + document.toString());
@@ -305,6 +535,7 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
             searchDocuments.add(document.build());
         }
         try {
+            RequestMetrics.recordSearchCall();
             SearchManager.putDocuments(indexName, searchDocuments);
         } catch (Exception e) {
             log.severe("Failed to batch put searchable documents in " + indexName + " for " + documents.toString());
@@ -314,7 +545,8 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
     protected Results<ScoredDocument> searchDocuments(String indexName, SearchQuery query) {
         try {
             if (query.getFilterSize() > 0) {
-                return SearchManager.searchDocuments(indexName, query.toQuery());
+                RequestMetrics.recordSearchCall();
+                return SearchManager.searchDocuments(indexName, query);
             }
             return null;
         } catch (SearchQueryException e) {
@@ -325,10 +557,20 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
 
     protected void deleteDocument(String indexName, String documentId) {
         try {
+            RequestMetrics.recordSearchCall();
             SearchManager.deleteDocument(indexName, documentId);
         } catch (Exception e) {
             log.info("Unable to delete document in the index: " + indexName + " with document id " + documentId);
         }
     }
 
+    protected void deleteDocuments(String indexName, List<String> documentIds) {
+        try {
+            RequestMetrics.recordSearchCall();
+            SearchManager.deleteDocuments(indexName, documentIds);
+        } catch (Exception e) {
+            log.info("Unable to delete documents in the index: " + indexName + " with document ids " + documentIds);
+        }
+    }
+
 }
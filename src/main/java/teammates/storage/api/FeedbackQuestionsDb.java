@@ -5,9 +5,9 @@ import static com.googlecode.objectify.ObjectifyService.ofy;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import com.googlecode.objectify.Key;
-import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.Query;
 import com.googlecode.objectify.cmd.QueryKeys;
 
@@ -17,6 +17,7 @@ import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const;
+import teammates.common.util.DeferredResult;
 import teammates.storage.entity.FeedbackQuestion;
 
 /**
@@ -38,7 +39,8 @@ public class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, FeedbackQu
     public List<FeedbackQuestionAttributes> createFeedbackQuestionsWithoutExistenceCheck(
             Collection<FeedbackQuestionAttributes> questions) throws InvalidParametersException {
         List<FeedbackQuestion> createdQuestions = createEntitiesWithoutExistenceCheck(questions);
-        return makeAttributes(createdQuestions);
+        // the questions are converted one by one, as they are saved instead of loaded
+        return createdQuestions.stream().map(this::makeAttributes).collect(Collectors.toList());
     }
 
     /**
@@ -88,6 +90,21 @@ public class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, FeedbackQu
         return makeAttributes(getFeedbackQuestionEntitiesForSession(feedbackSessionName, courseId));
     }
 
+    /**
+     * Starts loading the questions of a session without waiting for them.
+     *
+     * @see #getFeedbackQuestionsForSession(String, String)
+     */
+    public DeferredResult<List<FeedbackQuestionAttributes>> getFeedbackQuestionsForSessionAsync(
+            String feedbackSessionName, String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        return makeAttributesAsync(load()
+                .filter("feedbackSessionName =", feedbackSessionName)
+                .filter("courseId =", courseId));
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -153,6 +170,18 @@ public class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, FeedbackQu
         ofy().delete().keys(load().filter("courseId in", courseIds).keys()).now();
     }
 
+    /**
+     * Deletes the next batch of at most {@code batchSize} feedback questions of the course.
+     *
+     * @param cursor the cursor returned by the previous batch, or null to start from the first question
+     * @return the cursor to continue from, or null if all questions of the course have been deleted
+     */
+    public String deleteFeedbackQuestionsForCourseInBatch(String courseId, String cursor, int batchSize) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        return deleteEntitiesInBatch(load().filter("courseId =", courseId), cursor, batchSize);
+    }
+
     // Gets a question entity if its Key (feedbackQuestionId) is known.
     private FeedbackQuestion getFeedbackQuestionEntity(String feedbackQuestionId) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionId);
@@ -162,6 +191,7 @@ public class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, FeedbackQu
             return null;
         }
 
+        recordRead();
         return ofy().load().key(key).now();
     }
 
@@ -192,11 +222,6 @@ public class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, FeedbackQu
                 .list();
     }
 
-    @Override
-    protected LoadType<FeedbackQuestion> load() {
-        return ofy().load().type(FeedbackQuestion.class);
-    }
-
     @Override
     protected FeedbackQuestion getEntity(FeedbackQuestionAttributes attributes) {
         if (attributes.getId() != null) {
@@ -7,13 +7,13 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 import com.google.appengine.api.search.Results;
 import com.google.appengine.api.search.ScoredDocument;
 import com.googlecode.objectify.Key;
-import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.Query;
 import com.googlecode.objectify.cmd.QueryKeys;
 
@@ -25,6 +25,7 @@ import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const;
+import teammates.common.util.DeferredResult;
 import teammates.common.util.Logger;
 import teammates.storage.entity.FeedbackResponseComment;
 import teammates.storage.search.FeedbackResponseCommentSearchDocument;
@@ -47,8 +48,7 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
      */
     public FeedbackResponseCommentAttributes createFeedbackResponseComment(FeedbackResponseCommentAttributes entityToAdd)
             throws InvalidParametersException, EntityAlreadyExistsException {
-        return makeAttributesOrNull(createEntity(entityToAdd),
-                "Trying to get non-existent FeedbackResponseComment, possibly entity not persistent yet.");
+        return makeAttributes(createEntity(entityToAdd));
     }
 
     /**
@@ -151,6 +151,18 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
         deleteFeedbackResponseCommentsForCourses(Arrays.asList(courseId));
     }
 
+    /**
+     * Deletes the next batch of at most {@code batchSize} feedback response comments of the course.
+     *
+     * @param cursor the cursor returned by the previous batch, or null to start from the first comment
+     * @return the cursor to continue from, or null if all comments of the course have been deleted
+     */
+    public String deleteFeedbackResponseCommentsForCourseInBatch(String courseId, String cursor, int batchSize) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        return deleteEntitiesInBatch(load().filter("courseId =", courseId), cursor, batchSize);
+    }
+
     private Query<FeedbackResponseComment> getFeedbackResponseCommentsForCoursesQuery(List<String> courseIds) {
         return load().filter("courseId in", courseIds);
     }
@@ -180,6 +192,43 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
         return makeAttributes(getFeedbackResponseCommentEntitiesForSessionInSection(courseId, feedbackSessionName, section));
     }
 
+    /**
+     * Starts loading the comments of a session, or of a section in the session if {@code section} is not null,
+     * without waiting for them.
+     *
+     * @see #getFeedbackResponseCommentsForSession(String, String)
+     * @see #getFeedbackResponseCommentsForSessionInSection(String, String, String)
+     */
+    public DeferredResult<List<FeedbackResponseCommentAttributes>> getFeedbackResponseCommentsForSessionInSectionAsync(
+            String courseId, String feedbackSessionName, String section) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+
+        Query<FeedbackResponseComment> sessionQuery = load()
+                .filter("courseId =", courseId)
+                .filter("feedbackSessionName =", feedbackSessionName);
+        if (section == null) {
+            return makeAttributesAsync(sessionQuery);
+        }
+
+        DeferredResult<List<FeedbackResponseCommentAttributes>> commentsFromSection =
+                makeAttributesAsync(sessionQuery.filter("giverSection =", section));
+        // the session query is reused for a second read
+        recordRead();
+        DeferredResult<List<FeedbackResponseCommentAttributes>> commentsToSection =
+                makeAttributesAsync(sessionQuery.filter("receiverSection =", section));
+        return new DeferredResult<>(() -> {
+            Map<Long, FeedbackResponseCommentAttributes> comments = new LinkedHashMap<>();
+            for (FeedbackResponseCommentAttributes comment : commentsFromSection.now()) {
+                comments.put(comment.getId(), comment);
+            }
+            for (FeedbackResponseCommentAttributes comment : commentsToSection.now()) {
+                comments.put(comment.getId(), comment);
+            }
+            return new ArrayList<>(comments.values());
+        });
+    }
+
     /**
      * Updates a feedback response comment by {@link FeedbackResponseCommentAttributes.UpdateOptions}.
      *
@@ -393,11 +442,6 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
         return comments.values();
     }
 
-    @Override
-    protected LoadType<FeedbackResponseComment> load() {
-        return ofy().load().type(FeedbackResponseComment.class);
-    }
-
     @Override
     protected FeedbackResponseComment getEntity(FeedbackResponseCommentAttributes attributes) {
         if (attributes.getId() != null) {
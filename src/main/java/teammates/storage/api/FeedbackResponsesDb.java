@@ -7,12 +7,12 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import com.googlecode.objectify.Key;
-import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.Query;
 import com.googlecode.objectify.cmd.QueryKeys;
 
@@ -23,6 +23,7 @@ import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const;
+import teammates.common.util.DeferredResult;
 import teammates.common.util.Logger;
 import teammates.storage.entity.FeedbackResponse;
 
@@ -129,6 +130,20 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         return makeAttributes(getFeedbackResponseEntitiesForQuestionWithinRange(feedbackQuestionId, range));
     }
 
+    /**
+     * Starts loading the responses for a specified question within a given range, without waiting for them.
+     *
+     * @see #getFeedbackResponsesForQuestionWithinRange(String, int)
+     */
+    public DeferredResult<List<FeedbackResponseAttributes>> getFeedbackResponsesForQuestionWithinRangeAsync(
+            String feedbackQuestionId, int range) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionId);
+
+        return makeAttributesAsync(load()
+                .filter("feedbackQuestionId =", feedbackQuestionId)
+                .limit(range + 1));
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -255,6 +270,106 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
                         feedbackSessionName, courseId, section, range));
     }
 
+    /**
+     * Starts loading the responses of a session which are given by or to the section within a given range,
+     * without waiting for them. Both queries are started before this method returns.
+     *
+     * @param range the maximum number of responses to load from each query, or -1 for no limit
+     * @see #getFeedbackResponsesForSessionInSectionWithinRange(String, String, String, int)
+     */
+    public DeferredResult<List<FeedbackResponseAttributes>> getFeedbackResponsesForSessionInSectionWithinRangeAsync(
+            String feedbackSessionName, String courseId, String section, int range) {
+        DeferredResult<List<FeedbackResponseAttributes>> fromSectionResult =
+                getFeedbackResponsesForSessionFromSectionWithinRangeAsync(feedbackSessionName, courseId, section, range);
+        DeferredResult<List<FeedbackResponseAttributes>> toSectionResult =
+                getFeedbackResponsesForSessionToSectionWithinRangeAsync(feedbackSessionName, courseId, section, range);
+
+        return new DeferredResult<>(() -> {
+            Map<String, FeedbackResponseAttributes> feedbackResponses = new LinkedHashMap<>();
+            for (FeedbackResponseAttributes response : fromSectionResult.now()) {
+                feedbackResponses.put(response.getId(), response);
+            }
+            for (FeedbackResponseAttributes response : toSectionResult.now()) {
+                feedbackResponses.put(response.getId(), response);
+            }
+            return new ArrayList<>(feedbackResponses.values());
+        });
+    }
+
+    /**
+     * Starts loading the responses of a session which are given by the section, to the section or to no section,
+     * without waiting for them. Both queries are started before this method returns.
+     *
+     * @see #getFeedbackResponsesForSessionInGiverAndRecipientSection(String, String, String)
+     */
+    public DeferredResult<List<FeedbackResponseAttributes>> getFeedbackResponsesForSessionInGiverAndRecipientSectionAsync(
+            String feedbackSessionName, String courseId, String section) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, section);
+
+        List<DeferredResult<List<FeedbackResponseAttributes>>> results = new ArrayList<>();
+        results.add(makeAttributesAsync(load()
+                .filter("feedbackSessionName = ", feedbackSessionName)
+                .filter("courseId =", courseId)
+                .filter("giverSection =", section)
+                .filter("receiverSection =", section)));
+        // also show responses in section with giver but without recipient
+        results.add(makeAttributesAsync(load()
+                .filter("feedbackSessionName = ", feedbackSessionName)
+                .filter("courseId =", courseId)
+                .filter("giverSection =", section)
+                .filter("receiverSection =", "None")));
+
+        return new DeferredResult<>(() -> {
+            List<FeedbackResponseAttributes> feedbackResponses = new ArrayList<>();
+            for (DeferredResult<List<FeedbackResponseAttributes>> result : results) {
+                feedbackResponses.addAll(result.now());
+            }
+            return feedbackResponses;
+        });
+    }
+
+    /**
+     * Starts loading the responses of a session which are given by the section within a given range,
+     * without waiting for them.
+     *
+     * @param range the maximum number of responses to load, or -1 for no limit
+     * @see #getFeedbackResponsesForSessionFromSectionWithinRange(String, String, String, int)
+     */
+    public DeferredResult<List<FeedbackResponseAttributes>> getFeedbackResponsesForSessionFromSectionWithinRangeAsync(
+            String feedbackSessionName, String courseId, String section, int range) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, section);
+
+        return makeAttributesAsync(load()
+                .filter("feedbackSessionName =", feedbackSessionName)
+                .filter("courseId =", courseId)
+                .filter("giverSection =", section)
+                .limit(range + 1));
+    }
+
+    /**
+     * Starts loading the responses of a session which are given to the section within a given range,
+     * without waiting for them.
+     *
+     * @param range the maximum number of responses to load, or -1 for no limit
+     * @see #getFeedbackResponsesForSessionToSectionWithinRange(String, String, String, int)
+     */
+    public DeferredResult<List<FeedbackResponseAttributes>> getFeedbackResponsesForSessionToSectionWithinRangeAsync(
+            String feedbackSessionName, String courseId, String section, int range) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, section);
+
+        return makeAttributesAsync(load()
+                .filter("feedbackSessionName =", feedbackSessionName)
+                .filter("courseId =", courseId)
+                .filter("receiverSection =", section)
+                .limit(range + 1));
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -414,6 +529,18 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         ofy().delete().keys(getFeedbackResponsesForCoursesQuery(courseIds).keys()).now();
     }
 
+    /**
+     * Deletes the next batch of at most {@code batchSize} feedback responses of the course.
+     *
+     * @param cursor the cursor returned by the previous batch, or null to start from the first response
+     * @return the cursor to continue from, or null if all responses of the course have been deleted
+     */
+    public String deleteFeedbackResponsesForCourseInBatch(String courseId, String cursor, int batchSize) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        return deleteEntitiesInBatch(load().filter("courseId =", courseId), cursor, batchSize);
+    }
+
     private Query<FeedbackResponse> getFeedbackResponsesForCoursesQuery(List<String> courseIds) {
         return load().filter("courseId in", courseIds);
     }
@@ -423,11 +550,44 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
      */
     public boolean hasFeedbackResponseEntitiesForCourse(String courseId) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
-        return !getFeedbackResponseEntitiesForCourseWithinRange(courseId, 1).isEmpty();
+
+        return hasAnyEntity(load().filter("courseId =", courseId));
+    }
+
+    /**
+     * Returns true if there are existing responses to the question.
+     */
+    public boolean hasFeedbackResponseEntitiesForQuestion(String feedbackQuestionId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionId);
+
+        return hasAnyEntity(load().filter("feedbackQuestionId =", feedbackQuestionId));
+    }
+
+    /**
+     * Returns true if the giver has given any response in the feedback session.
+     */
+    public boolean hasFeedbackResponseEntitiesFromGiverForSession(
+            String giverEmail, String feedbackSessionName, String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, giverEmail);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        return hasAnyEntity(load()
+                .filter("giverEmail =", giverEmail)
+                .filter("feedbackSessionName =", feedbackSessionName)
+                .filter("courseId =", courseId));
     }
 
-    private List<FeedbackResponse> getFeedbackResponseEntitiesForCourseWithinRange(String courseId, int range) {
-        return load().filter("courseId =", courseId).limit(range).list();
+    /**
+     * Returns the number of responses given by the giver to the question.
+     */
+    public int getFeedbackResponseCountFromGiverForQuestion(String feedbackQuestionId, String giverEmail) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, giverEmail);
+
+        return countEntities(load()
+                .filter("feedbackQuestionId =", feedbackQuestionId)
+                .filter("giverEmail =", giverEmail));
     }
 
     private FeedbackResponse getFeedbackResponseEntity(String feedbackResponseId) {
@@ -693,11 +853,6 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
                 .list();
     }
 
-    @Override
-    protected LoadType<FeedbackResponse> load() {
-        return ofy().load().type(FeedbackResponse.class);
-    }
-
     @Override
     protected FeedbackResponse getEntity(FeedbackResponseAttributes attributes) {
         if (attributes.getId() != null) {
@@ -4,11 +4,14 @@ import static com.googlecode.objectify.ObjectifyService.ofy;
 
 import java.time.Instant;
 import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import com.googlecode.objectify.Key;
+import com.googlecode.objectify.LoadResult;
 import com.googlecode.objectify.VoidWork;
-import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.QueryKeys;
 
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
@@ -16,6 +19,7 @@ import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const;
+import teammates.common.util.DeferredResult;
 import teammates.common.util.TimeHelper;
 import teammates.storage.entity.FeedbackSession;
 
@@ -66,18 +70,30 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
      * @return null if not found or soft-deleted.
      */
     public FeedbackSessionAttributes getFeedbackSession(String courseId, String feedbackSessionName) {
+        return getFeedbackSessionAsync(courseId, feedbackSessionName).now();
+    }
+
+    /**
+     * Starts loading a feedback session that is not soft-deleted, without waiting for it.
+     *
+     * @see #getFeedbackSession(String, String)
+     */
+    public DeferredResult<FeedbackSessionAttributes> getFeedbackSessionAsync(
+            String courseId, String feedbackSessionName) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
 
-        FeedbackSessionAttributes feedbackSession =
-                makeAttributesOrNull(getFeedbackSessionEntity(feedbackSessionName, courseId),
-                "Trying to get non-existent Session: " + feedbackSessionName + "/" + courseId);
+        LoadResult<FeedbackSession> entity = load().id(feedbackSessionName + "%" + courseId);
+        return new DeferredResult<>(() -> {
+            FeedbackSessionAttributes feedbackSession = makeAttributesOrNull(entity.now(),
+                    "Trying to get non-existent Session: " + feedbackSessionName + "/" + courseId);
 
-        if (feedbackSession != null && feedbackSession.isSessionDeleted()) {
-            log.info("Trying to access soft-deleted session: " + feedbackSessionName + "/" + courseId);
-            return null;
-        }
-        return feedbackSession;
+            if (feedbackSession != null && feedbackSession.isSessionDeleted()) {
+                log.info("Trying to access soft-deleted session: " + feedbackSessionName + "/" + courseId);
+                return null;
+            }
+            return feedbackSession;
+        });
     }
 
     /**
@@ -110,11 +126,21 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
      * @return a list of all sessions for the given course expect those in the Recycle Bin. Otherwise returns an empty list.
      */
     public List<FeedbackSessionAttributes> getFeedbackSessionsForCourse(String courseId) {
+        return getFeedbackSessionsForCourseAsync(courseId).now();
+    }
+
+    /**
+     * Starts loading the sessions of a course which are not in the Recycle Bin, without waiting for them.
+     *
+     * @see #getFeedbackSessionsForCourse(String)
+     */
+    public DeferredResult<List<FeedbackSessionAttributes>> getFeedbackSessionsForCourseAsync(String courseId) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
 
-        return makeAttributes(getFeedbackSessionEntitiesForCourse(courseId)).stream()
-                .filter(session -> !session.isSessionDeleted())
-                .collect(Collectors.toList());
+        return makeAttributesAsync(load().filter("courseId =", courseId))
+                .map(sessions -> sessions.stream()
+                        .filter(session -> !session.isSessionDeleted())
+                        .collect(Collectors.toList()));
     }
 
     /**
@@ -130,6 +156,27 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Returns true if the open email or the published email has been sent for any session in the course,
+     * excluding sessions in the Recycle Bin.
+     *
+     * <p>Only the sessions which have had such an email sent are loaded.
+     */
+    public boolean hasFeedbackSessionWithOpenOrPublishedEmailSentForCourse(String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        Set<Key<FeedbackSession>> candidateKeys = new LinkedHashSet<>();
+        candidateKeys.addAll(load().filter("courseId =", courseId).filter("sentOpenEmail =", true).keys().list());
+        candidateKeys.addAll(load().filter("courseId =", courseId).filter("sentPublishedEmail =", true).keys().list());
+        if (candidateKeys.isEmpty()) {
+            return false;
+        }
+
+        recordRead();
+        return ofy().load().keys(candidateKeys).values().stream()
+                .anyMatch(session -> session.getDeletedTime() == null);
+    }
+
     /**
      * Gets a list of undeleted feedback sessions which start within the last 2 hours
      * and possibly need an open email to be sent.
@@ -243,6 +290,27 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
         return newAttributesFinal[0];
     }
 
+    /**
+     * Marks a feedback session as updated, e.g. after its questions are changed,
+     * so that its updated time reflects the change.
+     *
+     * <p>Silently fails if the session does not exist.
+     */
+    public void touchFeedbackSession(String feedbackSessionName, String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        ofy().transact(new VoidWork() {
+            @Override
+            public void vrun() {
+                FeedbackSession feedbackSession = getFeedbackSessionEntity(feedbackSessionName, courseId);
+                if (feedbackSession != null) {
+                    saveEntity(feedbackSession);
+                }
+            }
+        });
+    }
+
     /**
      * Soft-deletes a specific feedback session by its name and course id.
      * @return Soft-deletion time of the feedback session.
@@ -294,6 +362,19 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
         ofy().delete().keys(load().filter("courseId in", courseIds).keys()).now();
     }
 
+    /**
+     * Deletes the next batch of at most {@code batchSize} feedback sessions of the course,
+     * including those in the Recycle Bin.
+     *
+     * @param cursor the cursor returned by the previous batch, or null to start from the first session
+     * @return the cursor to continue from, or null if all sessions of the course have been deleted
+     */
+    public String deleteFeedbackSessionsForCourseInBatch(String courseId, String cursor, int batchSize) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        return deleteEntitiesInBatch(load().filter("courseId =", courseId), cursor, batchSize);
+    }
+
     private List<FeedbackSession> getFeedbackSessionEntitiesForCourse(String courseId) {
         return load().filter("courseId =", courseId).list();
     }
@@ -332,11 +413,6 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
         return load().id(feedbackSessionName + "%" + courseId).now();
     }
 
-    @Override
-    protected LoadType<FeedbackSession> load() {
-        return ofy().load().type(FeedbackSession.class);
-    }
-
     @Override
     protected FeedbackSession getEntity(FeedbackSessionAttributes attributes) {
         return getFeedbackSessionEntity(attributes.getFeedbackSessionName(), attributes.getCourseId());
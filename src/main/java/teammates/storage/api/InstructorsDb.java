@@ -3,11 +3,11 @@ package teammates.storage.api;
 import static com.googlecode.objectify.ObjectifyService.ofy;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import com.google.appengine.api.search.Results;
 import com.google.appengine.api.search.ScoredDocument;
-import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.QueryKeys;
 
 import teammates.common.datatransfer.InstructorSearchResultBundle;
@@ -17,6 +17,7 @@ import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const;
+import teammates.common.util.DeferredResult;
 import teammates.common.util.StringHelper;
 import teammates.storage.entity.Instructor;
 import teammates.storage.search.InstructorSearchDocument;
@@ -31,6 +32,8 @@ import teammates.storage.search.SearchDocument;
  */
 public class InstructorsDb extends EntitiesDb<Instructor, InstructorAttributes> {
 
+    private static final CourseRosterCache rosterCache = CourseRosterCache.inst();
+
     /* =========================================================================
      * Methods related to Google Search API
      * =========================================================================
@@ -114,6 +117,21 @@ public class InstructorsDb extends EntitiesDb<Instructor, InstructorAttributes>
                 "Trying to get non-existent Instructor: " + courseId + "/" + email);
     }
 
+    /**
+     * Starts loading the instructor with the given email in a course, without waiting for it.
+     *
+     * @see #getInstructorForEmail(String, String)
+     */
+    public DeferredResult<InstructorAttributes> getInstructorForEmailAsync(String courseId, String email) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, email);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        return makeAttributesOrNullAsync(load()
+                .filter("courseId =", courseId)
+                .filter("email =", email)
+                .first());
+    }
+
     /**
      * Returns null if no matching objects.
      */
@@ -316,11 +334,27 @@ public class InstructorsDb extends EntitiesDb<Instructor, InstructorAttributes>
         deleteInstructors(getInstructorEntitiesForCourse(courseId));
     }
 
+    /**
+     * Deletes the next batch of at most {@code batchSize} instructors of the course.
+     *
+     * @param cursor the cursor returned by the previous batch, or null to start from the first instructor
+     * @return the cursor to continue from, or null if all instructors of the course have been deleted
+     */
+    public String deleteInstructorsForCourseInBatch(String courseId, String cursor, int batchSize) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        return processEntitiesInBatch(load().filter("courseId =", courseId), cursor, batchSize,
+                this::deleteInstructors);
+    }
+
     private void deleteInstructors(List<Instructor> instructors) {
+        List<String> courseIds = new ArrayList<>();
         for (Instructor instructor : instructors) {
             deleteDocumentByEncryptedInstructorKey(StringHelper.encrypt(instructor.getRegistrationKey()));
+            courseIds.add(instructor.getCourseId());
         }
         ofy().delete().entities(instructors).now();
+        rosterCache.invalidate(courseIds);
     }
 
     private Instructor getInstructorEntityForGoogleId(String courseId, String googleId) {
@@ -375,12 +409,7 @@ public class InstructorsDb extends EntitiesDb<Instructor, InstructorAttributes>
     }
 
     private List<Instructor> getInstructorEntitiesForCourse(String courseId) {
-        return load().filter("courseId =", courseId).list();
-    }
-
-    @Override
-    protected LoadType<Instructor> load() {
-        return ofy().load().type(Instructor.class);
+        return rosterCache.getEntitiesForCourse(Instructor.class, courseId);
     }
 
     @Override
@@ -396,6 +425,15 @@ public class InstructorsDb extends EntitiesDb<Instructor, InstructorAttributes>
                 .keys();
     }
 
+    @Override
+    protected void onEntitiesChanged(Collection<InstructorAttributes> changedInstructors) {
+        List<String> courseIds = new ArrayList<>();
+        for (InstructorAttributes instructor : changedInstructors) {
+            courseIds.add(instructor.courseId);
+        }
+        rosterCache.invalidate(courseIds);
+    }
+
     @Override
     protected InstructorAttributes makeAttributes(Instructor entity) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, entity);
@@ -0,0 +1,63 @@
+package teammates.storage.api;
+
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
+import java.time.Instant;
+import java.util.Objects;
+
+import com.googlecode.objectify.Work;
+
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.storage.entity.LogCheckpoint;
+
+/**
+ * Handles operations for the checkpoints of recurring jobs which process the application logs.
+ *
+ * @see LogCheckpoint
+ */
+public class LogCheckpointsDb {
+
+    /**
+     * Gets the end (exclusive) of the time range of the logs processed so far by the job.
+     *
+     * @return null if the job has not processed any logs
+     */
+    public Instant getProcessedUntil(String name) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, name);
+
+        LogCheckpoint checkpoint = ofy().load().type(LogCheckpoint.class).id(name).now();
+        return checkpoint == null ? null : checkpoint.getProcessedUntil();
+    }
+
+    /**
+     * Moves the checkpoint of the job to {@code processedUntil}, provided that the checkpoint has not been moved
+     * from {@code expectedProcessedUntil} in the meantime, e.g. by another run of the job.
+     *
+     * @param expectedProcessedUntil the checkpoint read before processing the logs; null if there was none
+     * @return true if the checkpoint is moved, false if it has been moved by someone else
+     */
+    public boolean advanceProcessedUntil(String name, Instant expectedProcessedUntil, Instant processedUntil) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, name, processedUntil);
+
+        return ofy().transact(new Work<Boolean>() {
+            @Override
+            public Boolean run() {
+                LogCheckpoint checkpoint = ofy().load().type(LogCheckpoint.class).id(name).now();
+                Instant currentProcessedUntil = checkpoint == null ? null : checkpoint.getProcessedUntil();
+                if (!Objects.equals(currentProcessedUntil, expectedProcessedUntil)) {
+                    return false;
+                }
+
+                if (checkpoint == null) {
+                    checkpoint = new LogCheckpoint(name, processedUntil);
+                } else {
+                    checkpoint.setProcessedUntil(processedUntil);
+                }
+                ofy().save().entity(checkpoint).now();
+                return true;
+            }
+        });
+    }
+
+}
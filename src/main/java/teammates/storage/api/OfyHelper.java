@@ -9,11 +9,13 @@ import teammates.storage.entity.Account;
 import teammates.storage.entity.BaseEntity;
 import teammates.storage.entity.Course;
 import teammates.storage.entity.CourseStudent;
+import teammates.storage.entity.EnrollmentJob;
 import teammates.storage.entity.FeedbackQuestion;
 import teammates.storage.entity.FeedbackResponse;
 import teammates.storage.entity.FeedbackResponseComment;
 import teammates.storage.entity.FeedbackSession;
 import teammates.storage.entity.Instructor;
+import teammates.storage.entity.LogCheckpoint;
 import teammates.storage.entity.StudentProfile;
 
 /**
@@ -28,11 +30,13 @@ public class OfyHelper implements ServletContextListener {
         ObjectifyService.register(Account.class);
         ObjectifyService.register(Course.class);
         ObjectifyService.register(CourseStudent.class);
+        ObjectifyService.register(EnrollmentJob.class);
         ObjectifyService.register(FeedbackQuestion.class);
         ObjectifyService.register(FeedbackResponse.class);
         ObjectifyService.register(FeedbackResponseComment.class);
         ObjectifyService.register(FeedbackSession.class);
         ObjectifyService.register(Instructor.class);
+        ObjectifyService.register(LogCheckpoint.class);
         ObjectifyService.register(StudentProfile.class);
         // enable the ability to use java.time.Instant to issue query
         ObjectifyService.factory().getTranslators().add(new BaseEntity.InstantTranslatorFactory());
@@ -5,7 +5,6 @@ import static com.googlecode.objectify.ObjectifyService.ofy;
 import java.time.Instant;
 
 import com.googlecode.objectify.Key;
-import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.QueryKeys;
 
 import teammates.common.datatransfer.attributes.StudentProfileAttributes;
@@ -99,12 +98,13 @@ public class ProfilesDb extends EntitiesDb<StudentProfile, StudentProfileAttribu
     }
 
     /**
-     * Deletes picture associated with the {@code key}.
+     * Deletes picture associated with the {@code key}, together with its thumbnail.
      *
      * <p>Fails silently if the {@code key} doesn't exist.</p>
      */
     public void deletePicture(String key) {
         GoogleCloudStorageHelper.deleteFile(key);
+        GoogleCloudStorageHelper.deleteFile(GoogleCloudStorageHelper.getThumbnailKey(key));
     }
 
     /**
@@ -135,14 +135,10 @@ public class ProfilesDb extends EntitiesDb<StudentProfile, StudentProfileAttribu
     private StudentProfile getStudentProfileEntityFromDb(String googleId) {
         Key<Account> parentKey = Key.create(Account.class, googleId);
         Key<StudentProfile> childKey = Key.create(parentKey, StudentProfile.class, googleId);
+        recordRead();
         return ofy().load().key(childKey).now();
     }
 
-    @Override
-    protected LoadType<StudentProfile> load() {
-        return ofy().load().type(StudentProfile.class);
-    }
-
     @Override
     protected StudentProfile getEntity(StudentProfileAttributes attributes) {
         // this method is never used and is here only for future expansion and completeness
@@ -3,11 +3,15 @@ package teammates.storage.api;
 import static com.googlecode.objectify.ObjectifyService.ofy;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import com.google.appengine.api.search.Results;
 import com.google.appengine.api.search.ScoredDocument;
-import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.Query;
 import com.googlecode.objectify.cmd.QueryKeys;
 
@@ -20,6 +24,7 @@ import teammates.common.exception.InvalidParametersException;
 import teammates.common.exception.TeammatesException;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const;
+import teammates.common.util.DeferredResult;
 import teammates.common.util.Logger;
 import teammates.common.util.StringHelper;
 import teammates.storage.entity.CourseStudent;
@@ -37,6 +42,9 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
 
     private static final Logger log = Logger.getLogger();
 
+    private static final CourseRosterCache rosterCache = CourseRosterCache.inst();
+    private static final UserPrincipalCache principalCache = UserPrincipalCache.inst();
+
     public void putDocument(StudentAttributes student) {
         putDocument(Const.SearchIndex.STUDENT, new StudentSearchDocument(student));
     }
@@ -93,6 +101,21 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
         deleteDocument(Const.SearchIndex.STUDENT, unencryptedRegistrationKey);
     }
 
+    /**
+     * Removes search documents for the given students in a single batch
+     * by using their {@code unencryptedRegistrationKeys}.
+     *
+     * @see #deleteDocumentByStudentKey(String)
+     */
+    public void deleteDocumentsByStudentKeys(List<String> unencryptedRegistrationKeys) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, unencryptedRegistrationKeys);
+
+        if (unencryptedRegistrationKeys.isEmpty()) {
+            return;
+        }
+        deleteDocuments(Const.SearchIndex.STUDENT, unencryptedRegistrationKeys);
+    }
+
     public void createStudent(StudentAttributes student)
             throws InvalidParametersException, EntityAlreadyExistsException {
 
@@ -101,6 +124,20 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
 
     }
 
+    /**
+     * Creates the given students in a single batch, overwriting any existing students with the same emails.
+     */
+    public void createStudentsWithoutExistenceCheck(List<StudentAttributes> students) throws InvalidParametersException {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, students);
+
+        if (students.isEmpty()) {
+            return;
+        }
+        List<CourseStudent> createdStudents = createEntitiesWithoutExistenceCheck(students);
+        // the students are converted one by one, as they are saved instead of loaded
+        putDocuments(createdStudents.stream().map(this::makeAttributes).collect(Collectors.toList()));
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -115,6 +152,36 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
         return makeAttributesOrNull(getCourseStudentEntityForEmail(courseId, email));
     }
 
+    /**
+     * Starts loading the student with the given email in a course, without waiting for it.
+     *
+     * @see #getStudentForEmail(String, String)
+     */
+    public DeferredResult<StudentAttributes> getStudentForEmailAsync(String courseId, String email) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, email);
+
+        return makeAttributesOrNullAsync(load().id(makeStudentId(courseId, email)));
+    }
+
+    /**
+     * Gets the students with the given emails in the given courses with a single batch lookup.
+     * Students which cannot be found are omitted.
+     *
+     * @param emailsByCourseId the emails of the students to get, grouped by the ID of their course
+     */
+    public List<StudentAttributes> getStudentsForEmails(Map<String, List<String>> emailsByCourseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, emailsByCourseId);
+
+        List<String> studentIds = new ArrayList<>();
+        emailsByCourseId.forEach((courseId, emails) -> {
+            for (String email : emails) {
+                studentIds.add(makeStudentId(courseId, email));
+            }
+        });
+        return makeAttributes(load().ids(studentIds).values());
+    }
+
     /**
      * Preconditions:
      * <br> * All parameters are non-null.
@@ -266,6 +333,7 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
             student.setName(newAttributes.name);
             student.setLastName(newAttributes.lastName);
             student.setComments(newAttributes.comments);
+            String oldGoogleId = student.getGoogleId();
             student.setGoogleId(newAttributes.googleId);
             student.setTeamName(newAttributes.team);
             student.setSectionName(newAttributes.section);
@@ -274,6 +342,7 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
 
             // Set true to prevent changes to last update timestamp
             saveEntity(student, newAttributes);
+            principalCache.invalidate(oldGoogleId);
 
             newAttributes = makeAttributes(student);
             putDocument(newAttributes);
@@ -324,10 +393,63 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
         deleteStudentsCascadeDocuments(getCourseStudentEntitiesForCourse(courseId));
     }
 
+    /**
+     * Deletes the next batch of at most {@code batchSize} students of the course.
+     *
+     * @param cursor the cursor returned by the previous batch, or null to start from the first student
+     * @return the cursor to continue from, or null if all students of the course have been deleted
+     */
+    public String deleteStudentsForCourseInBatch(String courseId, String cursor, int batchSize) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        return processEntitiesInBatch(load().filter("courseId =", courseId), cursor, batchSize,
+                this::deleteStudentsCascadeDocuments);
+    }
+
+    /**
+     * Passes the next batch of about {@code batchSize} students of the course to {@code batchProcessor}.
+     * The students are ordered by section name, then team name, then name.
+     *
+     * <p>Student names are not indexed, so the names are sorted in memory. A batch therefore never ends
+     * in the middle of a team, and has more than {@code batchSize} students if its last team does not fit in it.
+     *
+     * @param cursor the cursor returned by the previous batch, or null to start from the first student
+     * @return the cursor to continue from, or null if all students of the course have been processed
+     */
+    public String processStudentsForCourseInBatch(String courseId, String cursor, int batchSize,
+                                                  Consumer<List<StudentAttributes>> batchProcessor) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        Query<CourseStudent> query = load().filter("courseId =", courseId)
+                .order("sectionName").order("teamName").order("__key__");
+        return processEntitiesInBatch(query, cursor, batchSize,
+                entity -> Arrays.asList(entity.getSectionName(), entity.getTeamName()), entities -> {
+                    List<StudentAttributes> students = new ArrayList<>();
+                    for (CourseStudent entity : entities) {
+                        // the batch read is already recorded;
+                        // converting the entities one by one does not record it again
+                        students.add(makeAttributes(entity));
+                    }
+                    StudentAttributes.sortBySectionName(students);
+                    batchProcessor.accept(students);
+                });
+    }
+
+    /**
+     * Returns true if at least one student of the course is in a section other than the default section.
+     */
+    public boolean hasStudentsInIndicatedSections(String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        return hasAnyEntity(load().filter("courseId =", courseId).filter("sectionName !=", Const.DEFAULT_SECTION));
+    }
+
     public void deleteStudentsForCourses(List<String> courseIds) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseIds);
 
-        ofy().delete().keys(getCourseStudentsForCoursesQuery(courseIds).keys());
+        ofy().delete().keys(getCourseStudentsForCoursesQuery(courseIds).keys()).now();
+        rosterCache.invalidate(courseIds);
+        // the Google IDs of the deleted students are not known; their cached roles are left to expire
     }
 
     private Query<CourseStudent> getCourseStudentForEmailQuery(String courseId, String email) {
@@ -337,7 +459,11 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
     }
 
     private CourseStudent getCourseStudentEntityForEmail(String courseId, String email) {
-        return load().id(email + '%' + courseId).now();
+        return load().id(makeStudentId(courseId, email)).now();
+    }
+
+    private static String makeStudentId(String courseId, String email) {
+        return email + '%' + courseId;
     }
 
     private CourseStudent getCourseStudentEntityForRegistrationKey(String registrationKey) {
@@ -359,12 +485,11 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
         return studentList.get(0);
     }
 
-    private Query<CourseStudent> getCourseStudentsForCourseQuery(String courseId) {
-        return load().filter("courseId =", courseId);
-    }
-
+    /**
+     * Gets all students of the course, served by the {@link CourseRosterCache} where possible.
+     */
     public List<CourseStudent> getCourseStudentEntitiesForCourse(String courseId) {
-        return getCourseStudentsForCourseQuery(courseId).list();
+        return rosterCache.getEntitiesForCourse(CourseStudent.class, courseId);
     }
 
     private Query<CourseStudent> getCourseStudentsForCoursesQuery(List<String> courseIds) {
@@ -380,22 +505,11 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
     }
 
     private List<CourseStudent> getCourseStudentEntitiesForTeam(String teamName, String courseId) {
-        return load()
-                .filter("teamName =", teamName)
-                .filter("courseId =", courseId)
-                .list();
+        return rosterCache.getEntitiesForTeam(CourseStudent.class, courseId, teamName);
     }
 
     private List<CourseStudent> getCourseStudentEntitiesForSection(String sectionName, String courseId) {
-        return load()
-                .filter("sectionName =", sectionName)
-                .filter("courseId =", courseId)
-                .list();
-    }
-
-    @Override
-    protected LoadType<CourseStudent> load() {
-        return ofy().load().type(CourseStudent.class);
+        return rosterCache.getEntitiesForSection(CourseStudent.class, courseId, sectionName);
     }
 
     @Override
@@ -408,6 +522,18 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
         return getCourseStudentForEmailQuery(attributes.course, attributes.email).keys();
     }
 
+    @Override
+    protected void onEntitiesChanged(Collection<StudentAttributes> changedStudents) {
+        List<String> courseIds = new ArrayList<>();
+        List<String> googleIds = new ArrayList<>();
+        for (StudentAttributes student : changedStudents) {
+            courseIds.add(student.course);
+            googleIds.add(student.googleId);
+        }
+        rosterCache.invalidate(courseIds);
+        principalCache.invalidate(googleIds);
+    }
+
     private void deleteStudentsCascadeDocuments(List<CourseStudent> students) {
         List<StudentAttributes> studentsAttributes = new ArrayList<>();
         for (CourseStudent student : students) {
@@ -0,0 +1,161 @@
+package teammates.storage.api;
+
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
+import java.io.Serializable;
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+import com.google.appengine.api.memcache.Expiration;
+import com.google.appengine.api.memcache.MemcacheService;
+import com.google.appengine.api.memcache.MemcacheServiceFactory;
+
+import teammates.common.datatransfer.UserPrincipal;
+import teammates.common.util.RequestMetrics;
+import teammates.storage.entity.Account;
+import teammates.storage.entity.CourseStudent;
+
+/**
+ * Memcache-backed cache of the roles of users, keyed by Google ID.
+ *
+ * <p>As with {@link CourseRosterCache}, each user has a version, and cached roles are stored together with
+ * the version they were loaded at and only served while that is still the version of the user;
+ * {@link #invalidate(String)} bumps the version.
+ *
+ * <p>Whether the user is a student is found by an eventually consistent query, so as with rosters,
+ * roles loaded shortly after the version of the user was bumped are not cached.
+ * Cached roles also expire shortly, which bounds how long they can be outdated by changes which
+ * do not invalidate them, e.g. the removal of all students of a course without loading them.
+ */
+public final class UserPrincipalCache {
+
+    private static final UserPrincipalCache instance = new UserPrincipalCache();
+
+    private static final String VERSION_KEY_PREFIX = "principal-version:";
+    private static final String INVALIDATED_AT_KEY_PREFIX = "principal-invalidated-at:";
+    private static final String PRINCIPAL_KEY_PREFIX = "principal:";
+
+    private static final int PRINCIPAL_EXPIRY_IN_SECONDS = 60;
+
+    private Clock clock = Clock.systemUTC();
+
+    private UserPrincipalCache() {
+        // prevent initialization
+    }
+
+    public static UserPrincipalCache inst() {
+        return instance;
+    }
+
+    /**
+     * Gets the roles of the user with the given Google ID, from the cache if possible.
+     */
+    UserPrincipal get(String googleId) {
+        MemcacheService memcache = getMemcache();
+        String versionKey = VERSION_KEY_PREFIX + googleId;
+        String principalKey = PRINCIPAL_KEY_PREFIX + googleId;
+        String invalidatedAtKey = INVALIDATED_AT_KEY_PREFIX + googleId;
+
+        // the version must be read before the datastore is queried; see CourseRosterCache
+        Map<String, Object> cachedValues = memcache.getAll(Arrays.asList(versionKey, principalKey, invalidatedAtKey));
+        Long version = (Long) cachedValues.get(versionKey);
+        if (version == null) {
+            version = memcache.increment(versionKey, 0L, getInitialVersion());
+        }
+        if (version == null) {
+            // memcache is unavailable; fall back to the datastore
+            RequestMetrics.recordCacheLookup(false);
+            return load(googleId);
+        }
+
+        CachedPrincipal cachedPrincipal = (CachedPrincipal) cachedValues.get(principalKey);
+        if (cachedPrincipal != null && cachedPrincipal.version == version) {
+            RequestMetrics.recordCacheLookup(true);
+            return cachedPrincipal.principal;
+        }
+
+        RequestMetrics.recordCacheLookup(false);
+        UserPrincipal principal = load(googleId);
+        Long invalidatedAt = (Long) cachedValues.get(invalidatedAtKey);
+        if (invalidatedAt != null
+                && clock.millis() - invalidatedAt < CourseRosterCache.INVALIDATION_SETTLE_TIME_IN_SECONDS * 1000L) {
+            // the query may not reflect the latest change yet
+            return principal;
+        }
+        memcache.put(principalKey, new CachedPrincipal(version, principal),
+                Expiration.byDeltaSeconds(PRINCIPAL_EXPIRY_IN_SECONDS));
+        return principal;
+    }
+
+    /**
+     * Bumps the version of the user, discarding the cached roles of the user.
+     *
+     * <p>Must be called after (not before) the corresponding datastore write has been issued.
+     * Does nothing for users without a Google ID, e.g. students who have not joined their course.
+     */
+    public void invalidate(String googleId) {
+        if (googleId == null || googleId.isEmpty()) {
+            return;
+        }
+        MemcacheService memcache = getMemcache();
+        memcache.put(INVALIDATED_AT_KEY_PREFIX + googleId, clock.millis(),
+                Expiration.byDeltaSeconds(CourseRosterCache.INVALIDATION_SETTLE_TIME_IN_SECONDS));
+        memcache.increment(VERSION_KEY_PREFIX + googleId, 1L, getInitialVersion());
+    }
+
+    /**
+     * Bumps the versions of all the given users.
+     *
+     * @see #invalidate(String)
+     */
+    public void invalidate(Collection<String> googleIds) {
+        for (String googleId : new LinkedHashSet<>(googleIds)) {
+            invalidate(googleId);
+        }
+    }
+
+    /**
+     * Sets the clock which tells whether the settle time after an invalidation has passed.
+     * Used in tests to avoid waiting for the settle time.
+     */
+    public void setClock(Clock clock) {
+        this.clock = clock;
+    }
+
+    private UserPrincipal load(String googleId) {
+        Account account = ofy().load().type(Account.class).id(googleId).now();
+        boolean isStudent = ofy().load().type(CourseStudent.class).filter("googleId =", googleId)
+                .limit(1).keys().first().now() != null;
+
+        return new UserPrincipal(googleId, account != null && account.isInstructor(), isStudent);
+    }
+
+    private static MemcacheService getMemcache() {
+        return MemcacheServiceFactory.getMemcacheService();
+    }
+
+    private static long getInitialVersion() {
+        return System.currentTimeMillis();
+    }
+
+    /**
+     * The cached form of the roles of a user: the roles and the version of the user they were loaded at.
+     */
+    private static class CachedPrincipal implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long version;
+        private final UserPrincipal principal;
+
+        CachedPrincipal(long version, UserPrincipal principal) {
+            this.version = version;
+            this.principal = principal;
+        }
+
+    }
+
+}
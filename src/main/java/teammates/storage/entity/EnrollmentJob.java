@@ -0,0 +1,106 @@
+package teammates.storage.entity;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.appengine.api.datastore.Text;
+import com.googlecode.objectify.annotation.Entity;
+import com.googlecode.objectify.annotation.Id;
+import com.googlecode.objectify.annotation.Index;
+import com.googlecode.objectify.annotation.Translate;
+import com.googlecode.objectify.annotation.Unindex;
+
+import teammates.common.datatransfer.StudentUpdateStatus;
+
+/**
+ * Represents an enrollment of students to a course which is processed in the background.
+ */
+@Entity
+@Unindex
+public class EnrollmentJob extends BaseEntity {
+
+    @Id
+    private Long enrollmentJobId;
+
+    @Index
+    private String courseId;
+
+    /**
+     * The enrollment lines entered by the instructor, including the header line.
+     */
+    private Text enrollLines;
+
+    private int numberOfStudents;
+
+    /**
+     * The update statuses of the students enrolled so far, in the order of the enrollment lines.
+     */
+    private List<StudentUpdateStatus> updateStatuses = new ArrayList<>();
+
+    /**
+     * The reasons why the students enrolled so far could not be enrolled, in the order of the enrollment lines.
+     * Empty for students who were enrolled successfully.
+     */
+    private List<String> errorMessages = new ArrayList<>();
+
+    @Index
+    @Translate(InstantTranslatorFactory.class)
+    private Instant createdAt;
+
+    @SuppressWarnings("unused")
+    private EnrollmentJob() {
+        // required by Objectify
+    }
+
+    public EnrollmentJob(String courseId, String enrollLines, int numberOfStudents,
+            List<StudentUpdateStatus> updateStatuses, List<String> errorMessages, Instant createdAt) {
+        this.courseId = courseId;
+        setEnrollLines(enrollLines);
+        this.numberOfStudents = numberOfStudents;
+        this.updateStatuses = new ArrayList<>(updateStatuses);
+        this.errorMessages = new ArrayList<>(errorMessages);
+        this.createdAt = createdAt;
+    }
+
+    public Long getEnrollmentJobId() {
+        return enrollmentJobId;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public String getEnrollLines() {
+        return enrollLines == null ? null : enrollLines.getValue();
+    }
+
+    public void setEnrollLines(String enrollLines) {
+        this.enrollLines = enrollLines == null ? null : new Text(enrollLines);
+    }
+
+    public int getNumberOfStudents() {
+        return numberOfStudents;
+    }
+
+    public List<StudentUpdateStatus> getUpdateStatuses() {
+        return updateStatuses == null ? new ArrayList<>() : updateStatuses;
+    }
+
+    public void setUpdateStatuses(List<StudentUpdateStatus> updateStatuses) {
+        this.updateStatuses = updateStatuses;
+    }
+
+    public List<String> getErrorMessages() {
+        return errorMessages == null ? new ArrayList<>() : errorMessages;
+    }
+
+    public void setErrorMessages(List<String> errorMessages) {
+        this.errorMessages = errorMessages;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+}
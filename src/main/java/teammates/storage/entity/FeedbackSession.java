@@ -8,9 +8,12 @@ import com.google.appengine.api.datastore.Text;
 import com.googlecode.objectify.annotation.Entity;
 import com.googlecode.objectify.annotation.Id;
 import com.googlecode.objectify.annotation.Index;
+import com.googlecode.objectify.annotation.OnSave;
 import com.googlecode.objectify.annotation.Translate;
 import com.googlecode.objectify.annotation.Unindex;
 
+import teammates.common.util.Const;
+
 /**
  * Represents an instructor-created Feedback Session.
  */
@@ -44,6 +47,10 @@ public class FeedbackSession extends BaseEntity {
     @Translate(InstantTranslatorFactory.class)
     private Instant createdTime;
 
+    @Unindex
+    @Translate(InstantTranslatorFactory.class)
+    private Instant updatedAt;
+
     @Translate(InstantTranslatorFactory.class)
     private Instant deletedTime;
 
@@ -168,6 +175,14 @@ public class FeedbackSession extends BaseEntity {
         this.createdTime = createdTime;
     }
 
+    public Instant getUpdatedAt() {
+        return updatedAt == null ? Const.TIME_REPRESENTS_DEFAULT_TIMESTAMP : updatedAt;
+    }
+
+    public void setLastUpdate(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
     public Instant getDeletedTime() {
         return deletedTime;
     }
@@ -313,4 +328,9 @@ public class FeedbackSession extends BaseEntity {
                 + ", isPublishedEmailEnabled=" + isPublishedEmailEnabled + "]";
     }
 
+    @OnSave
+    public void updateLastUpdateTimestamp() {
+        this.setLastUpdate(Instant.now());
+    }
+
 }
@@ -0,0 +1,52 @@
+package teammates.storage.entity;
+
+import java.time.Instant;
+
+import com.googlecode.objectify.annotation.Entity;
+import com.googlecode.objectify.annotation.Id;
+import com.googlecode.objectify.annotation.Translate;
+import com.googlecode.objectify.annotation.Unindex;
+
+/**
+ * Represents how far the application logs have been processed by a recurring job,
+ * so that the next run of the job continues from where the previous run stopped.
+ */
+@Entity
+@Unindex
+public class LogCheckpoint extends BaseEntity {
+
+    /**
+     * The name of the job which processes the logs.
+     */
+    @Id
+    private String name;
+
+    /**
+     * The end (exclusive) of the time range of the logs processed so far.
+     */
+    @Translate(InstantTranslatorFactory.class)
+    private Instant processedUntil;
+
+    @SuppressWarnings("unused")
+    private LogCheckpoint() {
+        // required by Objectify
+    }
+
+    public LogCheckpoint(String name, Instant processedUntil) {
+        this.name = name;
+        this.processedUntil = processedUntil;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Instant getProcessedUntil() {
+        return processedUntil;
+    }
+
+    public void setProcessedUntil(Instant processedUntil) {
+        this.processedUntil = processedUntil;
+    }
+
+}
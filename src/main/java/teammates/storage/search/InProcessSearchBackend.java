@@ -0,0 +1,411 @@
+package teammates.storage.search;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.google.appengine.api.search.Document;
+import com.google.appengine.api.search.Field;
+import com.google.appengine.api.search.OperationResult;
+import com.google.appengine.api.search.Results;
+import com.google.appengine.api.search.ScoredDocument;
+import com.google.appengine.api.search.StatusCode;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import teammates.common.exception.TeammatesException;
+import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
+import teammates.common.util.Logger;
+import teammates.common.util.SanitizationHelper;
+
+/**
+ * Keeps search indices as inverted indices in the memory of the running instance.
+ *
+ * <p>Text is split into lower-cased tokens of letters and digits after {@link SanitizationHelper#sanitizeForSearch},
+ * so that a query string finds the same text whether or not it has been sanitized.
+ * A document matches a keyword of a {@link SearchQuery} if every token of the keyword is a prefix of
+ * one of the tokens of the document's {@link Const.SearchDocumentField#SEARCHABLE_TEXT}.
+ * Matching documents are returned in descending order of their rank, as the GAE Search API does by default.
+ *
+ * <p>If an index directory is given, every change of an index is appended to a journal file of the index
+ * in that directory, and the journal is replayed when the index is first used.
+ * The journal is rewritten with only the live documents once it has grown well beyond them.
+ *
+ * <p>The indices are not shared between instances, so this backend is only suitable for deployments which
+ * run a single instance, e.g. the dev server, and for benchmarking search offline.
+ */
+public class InProcessSearchBackend implements SearchBackend {
+
+    private static final Logger log = Logger.getLogger();
+
+    private final Path indexDirectory;
+    private final Map<String, InvertedIndex> indices = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a backend which persists its indices in {@code indexDirectory},
+     * or keeps them in memory only if {@code indexDirectory} is null or blank.
+     */
+    public InProcessSearchBackend(String indexDirectory) {
+        this.indexDirectory = indexDirectory == null || indexDirectory.trim().isEmpty()
+                ? null
+                : Paths.get(indexDirectory.trim());
+    }
+
+    @Override
+    public void putDocument(String indexName, Document document) {
+        putDocuments(indexName, Collections.singletonList(document));
+    }
+
+    @Override
+    public void putDocuments(String indexName, List<Document> documents) {
+        getIndex(indexName).put(documents);
+    }
+
+    @Override
+    public Results<ScoredDocument> searchDocuments(String indexName, SearchQuery query) {
+        return getIndex(indexName).search(query);
+    }
+
+    @Override
+    public void deleteDocument(String indexName, String documentId) {
+        deleteDocuments(indexName, Collections.singletonList(documentId));
+    }
+
+    @Override
+    public void deleteDocuments(String indexName, List<String> documentIds) {
+        getIndex(indexName).delete(documentIds);
+    }
+
+    private InvertedIndex getIndex(String indexName) {
+        return indices.computeIfAbsent(indexName, name -> new InvertedIndex(
+                indexDirectory == null ? null : indexDirectory.resolve(name + ".journal")));
+    }
+
+    /**
+     * Splits {@code text} into the tokens which are indexed and searched for.
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : SanitizationHelper.sanitizeForSearch(text.toLowerCase()).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * A single search index, together with its journal.
+     */
+    private static class InvertedIndex {
+
+        private static final String JOURNAL_OPERATION = "op";
+        private static final String JOURNAL_OPERATION_PUT = "put";
+        private static final String JOURNAL_OPERATION_DELETE = "delete";
+        private static final String JOURNAL_ID = "id";
+        private static final String JOURNAL_RANK = "rank";
+        private static final String JOURNAL_FIELDS = "fields";
+        private static final String JOURNAL_FIELD_NAME = "name";
+        private static final String JOURNAL_FIELD_TYPE = "type";
+        private static final String JOURNAL_FIELD_VALUE = "value";
+
+        /** The journal is compacted once it has this many entries more than there are live documents. */
+        private static final int JOURNAL_COMPACTION_SLACK = 1000;
+
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private final Map<String, Document> documentsById = new HashMap<>();
+        private final NavigableMap<String, Set<String>> documentIdsByToken = new TreeMap<>();
+        private final Map<String, Set<String>> tokensByDocumentId = new HashMap<>();
+
+        private final Path journal;
+        private int journalSize;
+
+        InvertedIndex(Path journal) {
+            this.journal = journal;
+            if (journal != null && Files.exists(journal)) {
+                replayJournal();
+            }
+        }
+
+        void put(List<Document> documents) {
+            lock.writeLock().lock();
+            try {
+                List<String> entries = new ArrayList<>();
+                for (Document document : documents) {
+                    putInMemory(document);
+                    entries.add(toJournalEntry(document));
+                }
+                appendToJournal(entries);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void delete(List<String> documentIds) {
+            lock.writeLock().lock();
+            try {
+                List<String> entries = new ArrayList<>();
+                for (String documentId : documentIds) {
+                    if (deleteInMemory(documentId)) {
+                        JsonObject entry = new JsonObject();
+                        entry.addProperty(JOURNAL_OPERATION, JOURNAL_OPERATION_DELETE);
+                        entry.addProperty(JOURNAL_ID, documentId);
+                        entries.add(entry.toString());
+                    }
+                }
+                appendToJournal(entries);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        Results<ScoredDocument> search(SearchQuery query) {
+            lock.readLock().lock();
+            try {
+                Set<String> matchedIds = new HashSet<>();
+                for (String keyword : query.getKeywords()) {
+                    matchedIds.addAll(getDocumentIdsMatching(tokenize(keyword)));
+                }
+
+                List<String> visibleCourseIds = query.getVisibleCourseIds();
+                List<Document> matchedDocuments = new ArrayList<>();
+                for (String documentId : matchedIds) {
+                    Document document = documentsById.get(documentId);
+                    if (visibleCourseIds == null || isInCourses(document, visibleCourseIds)) {
+                        matchedDocuments.add(document);
+                    }
+                }
+                matchedDocuments.sort(Comparator.comparingInt(Document::getRank).reversed()
+                        .thenComparing(Document::getId));
+
+                List<ScoredDocument> results = new ArrayList<>();
+                for (Document document : matchedDocuments.subList(0, Math.min(query.getLimit(), matchedDocuments.size()))) {
+                    results.add(toScoredDocument(document));
+                }
+                return new InProcessResults(results, matchedDocuments.size());
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        /**
+         * Returns the IDs of the documents which have a token starting with each of {@code tokens}.
+         */
+        private Set<String> getDocumentIdsMatching(List<String> tokens) {
+            Set<String> matchedIds = null;
+            for (String token : tokens) {
+                Set<String> idsForToken = new HashSet<>();
+                for (Set<String> ids : documentIdsByToken.subMap(token, true, token + Character.MAX_VALUE, false).values()) {
+                    idsForToken.addAll(ids);
+                }
+                if (matchedIds == null) {
+                    matchedIds = idsForToken;
+                } else {
+                    matchedIds.retainAll(idsForToken);
+                }
+                if (matchedIds.isEmpty()) {
+                    break;
+                }
+            }
+            return matchedIds == null ? Collections.emptySet() : matchedIds;
+        }
+
+        private boolean isInCourses(Document document, Collection<String> courseIds) {
+            return document.getFieldCount(Const.SearchDocumentField.COURSE_ID) > 0
+                    && courseIds.contains(document.getOnlyField(Const.SearchDocumentField.COURSE_ID).getText());
+        }
+
+        private void putInMemory(Document document) {
+            deleteInMemory(document.getId());
+
+            Set<String> tokens = new HashSet<>();
+            for (Field field : document.getFields(Const.SearchDocumentField.SEARCHABLE_TEXT)) {
+                tokens.addAll(tokenize(field.getText()));
+            }
+            for (String token : tokens) {
+                documentIdsByToken.computeIfAbsent(token, t -> new HashSet<>()).add(document.getId());
+            }
+            documentsById.put(document.getId(), document);
+            tokensByDocumentId.put(document.getId(), tokens);
+        }
+
+        private boolean deleteInMemory(String documentId) {
+            Set<String> tokens = tokensByDocumentId.remove(documentId);
+            if (tokens == null) {
+                return false;
+            }
+            for (String token : tokens) {
+                Set<String> ids = documentIdsByToken.get(token);
+                ids.remove(documentId);
+                if (ids.isEmpty()) {
+                    documentIdsByToken.remove(token);
+                }
+            }
+            documentsById.remove(documentId);
+            return true;
+        }
+
+        private void replayJournal() {
+            try (BufferedReader reader = Files.newBufferedReader(journal, StandardCharsets.UTF_8)) {
+                String line = reader.readLine();
+                while (line != null) {
+                    if (!line.trim().isEmpty()) {
+                        replayJournalEntry(JsonUtils.parse(line).getAsJsonObject());
+                        journalSize++;
+                    }
+                    line = reader.readLine();
+                }
+            } catch (IOException | RuntimeException e) {
+                // a partially written last entry is dropped; everything before it has been replayed
+                log.severe("Failed to replay search index journal " + journal + ": "
+                        + TeammatesException.toStringWithStackTrace(e));
+            }
+        }
+
+        private void replayJournalEntry(JsonObject entry) {
+            String documentId = entry.get(JOURNAL_ID).getAsString();
+            if (JOURNAL_OPERATION_DELETE.equals(entry.get(JOURNAL_OPERATION).getAsString())) {
+                deleteInMemory(documentId);
+                return;
+            }
+
+            Document.Builder document = Document.newBuilder()
+                    .setId(documentId)
+                    .setRank(entry.get(JOURNAL_RANK).getAsInt());
+            for (JsonElement element : entry.getAsJsonArray(JOURNAL_FIELDS)) {
+                JsonObject field = element.getAsJsonObject();
+                Field.Builder builder = Field.newBuilder().setName(field.get(JOURNAL_FIELD_NAME).getAsString());
+                String value = field.get(JOURNAL_FIELD_VALUE).getAsString();
+                switch (Field.FieldType.valueOf(field.get(JOURNAL_FIELD_TYPE).getAsString())) {
+                case ATOM:
+                    builder.setAtom(value);
+                    break;
+                case HTML:
+                    builder.setHTML(value);
+                    break;
+                default:
+                    builder.setText(value);
+                    break;
+                }
+                document.addField(builder);
+            }
+            putInMemory(document.build());
+        }
+
+        private String toJournalEntry(Document document) {
+            JsonArray fields = new JsonArray();
+            for (Field field : document.getFields()) {
+                String value;
+                switch (field.getType()) {
+                case TEXT:
+                    value = field.getText();
+                    break;
+                case ATOM:
+                    value = field.getAtom();
+                    break;
+                case HTML:
+                    value = field.getHTML();
+                    break;
+                default:
+                    // no search document of ours has other types of fields
+                    log.warning("Field " + field.getName() + " of type " + field.getType()
+                            + " is not persisted in search index journal " + journal);
+                    continue;
+                }
+                JsonObject journalField = new JsonObject();
+                journalField.addProperty(JOURNAL_FIELD_NAME, field.getName());
+                journalField.addProperty(JOURNAL_FIELD_TYPE, field.getType().name());
+                journalField.addProperty(JOURNAL_FIELD_VALUE, value);
+                fields.add(journalField);
+            }
+
+            JsonObject entry = new JsonObject();
+            entry.addProperty(JOURNAL_OPERATION, JOURNAL_OPERATION_PUT);
+            entry.addProperty(JOURNAL_ID, document.getId());
+            entry.addProperty(JOURNAL_RANK, document.getRank());
+            entry.add(JOURNAL_FIELDS, fields);
+            return entry.toString();
+        }
+
+        private void appendToJournal(List<String> entries) {
+            if (journal == null || entries.isEmpty()) {
+                return;
+            }
+            try {
+                Files.createDirectories(journal.getParent());
+                Files.write(journal, entries, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                journalSize += entries.size();
+                if (journalSize > documentsById.size() + JOURNAL_COMPACTION_SLACK) {
+                    compactJournal();
+                }
+            } catch (IOException e) {
+                log.severe("Failed to write search index journal " + journal + ": "
+                        + TeammatesException.toStringWithStackTrace(e));
+            }
+        }
+
+        /**
+         * Rewrites the journal so that it only puts the live documents.
+         */
+        private void compactJournal() throws IOException {
+            List<String> entries = new ArrayList<>();
+            for (Document document : documentsById.values()) {
+                entries.add(toJournalEntry(document));
+            }
+            Path compactedJournal = journal.resolveSibling(journal.getFileName() + ".tmp");
+            Files.write(compactedJournal, entries, StandardCharsets.UTF_8);
+            Files.move(compactedJournal, journal, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            journalSize = entries.size();
+        }
+
+        private static ScoredDocument toScoredDocument(Document document) {
+            ScoredDocument.Builder builder = ScoredDocument.newBuilder();
+            builder.setId(document.getId());
+            builder.setRank(document.getRank());
+            for (Field field : document.getFields()) {
+                builder.addField(field);
+            }
+            return builder.build();
+        }
+
+    }
+
+    /**
+     * The {@link Results} of a search in an {@link InvertedIndex}.
+     */
+    private static class InProcessResults extends Results<ScoredDocument> {
+
+        private static final long serialVersionUID = 1L;
+
+        InProcessResults(List<ScoredDocument> documents, long numberFound) {
+            super(new OperationResult(StatusCode.OK, null), documents, numberFound, documents.size(), null);
+        }
+
+    }
+
+}
@@ -0,0 +1,41 @@
+package teammates.storage.search;
+
+import java.util.List;
+
+import com.google.appengine.api.search.Document;
+import com.google.appengine.api.search.Results;
+import com.google.appengine.api.search.ScoredDocument;
+
+/**
+ * Stores {@link Document}s in named indices and answers {@link SearchQuery}s against them.
+ *
+ * @see SearchManager
+ */
+public interface SearchBackend {
+
+    /**
+     * Creates or updates the search document for the given document and index.
+     */
+    void putDocument(String indexName, Document document);
+
+    /**
+     * Batch creates or updates the search documents for the given documents and index.
+     */
+    void putDocuments(String indexName, List<Document> documents);
+
+    /**
+     * Searches document by the given query.
+     */
+    Results<ScoredDocument> searchDocuments(String indexName, SearchQuery query);
+
+    /**
+     * Deletes document by documentId.
+     */
+    void deleteDocument(String indexName, String documentId);
+
+    /**
+     * Deletes documents by documentIds in a single batch.
+     */
+    void deleteDocuments(String indexName, List<String> documentIds);
+
+}
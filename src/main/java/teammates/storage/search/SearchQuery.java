@@ -27,11 +27,21 @@ public abstract class SearchQuery {
 
     private List<String> textQueryStrings = new ArrayList<>();
 
+    private List<String> visibleCourseIds;
+
+    private List<String> keywords = new ArrayList<>();
+
     protected SearchQuery(List<InstructorAttributes> instructors, String queryString) {
         options = QueryOptions.newBuilder()
                 .setLimit(20)
                 .build();
         visibilityQueryString = instructors == null ? "" : prepareVisibilityQueryString(instructors);
+        if (instructors != null) {
+            visibleCourseIds = new ArrayList<>();
+            for (InstructorAttributes instructor : instructors) {
+                visibleCourseIds.add(instructor.courseId);
+            }
+        }
         setTextFilter(Const.SearchDocumentField.SEARCHABLE_TEXT, queryString);
     }
 
@@ -48,6 +58,28 @@ public abstract class SearchQuery {
         return textQueryStrings.size();
     }
 
+    /**
+     * Returns the IDs of the courses whose documents may be returned,
+     * or null if the documents of all courses may be returned.
+     */
+    public List<String> getVisibleCourseIds() {
+        return visibleCourseIds;
+    }
+
+    /**
+     * Returns the lower-cased keywords and quoted phrases, any of which a document has to contain.
+     */
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    /**
+     * Returns the maximum number of documents to return.
+     */
+    public int getLimit() {
+        return options.getLimit();
+    }
+
     private void setTextFilter(String textField, String queryString) {
 
         String trimmedQueryString = queryString.toLowerCase().trim();
@@ -95,6 +127,7 @@ public abstract class SearchQuery {
         if (keywords.isEmpty()) {
             return "";
         }
+        this.keywords.addAll(keywords);
 
         StringBuilder preparedQueryString = new StringBuilder("(\"" + keywords.get(0) + "\"");
 
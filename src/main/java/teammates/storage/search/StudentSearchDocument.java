@@ -1,7 +1,10 @@
 package teammates.storage.search;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import com.google.appengine.api.search.Document;
 import com.google.appengine.api.search.Field;
@@ -54,6 +57,9 @@ public class StudentSearchDocument extends SearchDocument {
                 // this is used to filter documents visible to certain instructor
                 .addField(Field.newBuilder().setName(Const.SearchDocumentField.COURSE_ID)
                                             .setText(student.course))
+                // this is used to look up the students of the search results in a single batch
+                .addField(Field.newBuilder().setName(Const.SearchDocumentField.STUDENT_EMAIL)
+                                            .setAtom(student.email))
                 // searchableText and createdDate are used to match the query string
                 .addField(Field.newBuilder().setName(Const.SearchDocumentField.SEARCHABLE_TEXT)
                                             .setText(searchableText))
@@ -107,12 +113,40 @@ public class StudentSearchDocument extends SearchDocument {
     private static StudentSearchResultBundle constructBaseBundle(Iterable<ScoredDocument> results) {
         StudentSearchResultBundle bundle = new StudentSearchResultBundle();
 
+        Map<String, List<String>> emailsByCourseId = new HashMap<>();
+        List<String> keysWithoutEmail = new ArrayList<>();
+        List<String> keys = new ArrayList<>();
         for (ScoredDocument doc : results) {
-            StudentAttributes student = studentsDb.getStudentForRegistrationKey(StringHelper.encrypt(doc.getId()));
+            keys.add(doc.getId());
+            if (doc.getFieldCount(Const.SearchDocumentField.STUDENT_EMAIL) == 0) {
+                keysWithoutEmail.add(doc.getId());
+                continue;
+            }
+            String courseId = doc.getOnlyField(Const.SearchDocumentField.COURSE_ID).getText();
+            String email = doc.getOnlyField(Const.SearchDocumentField.STUDENT_EMAIL).getAtom();
+            emailsByCourseId.computeIfAbsent(courseId, k -> new ArrayList<>()).add(email);
+        }
+
+        Map<String, StudentAttributes> studentsByKey = new HashMap<>();
+        for (StudentAttributes student : studentsDb.getStudentsForEmails(emailsByCourseId)) {
+            studentsByKey.put(student.key, student);
+        }
+        for (String key : keysWithoutEmail) {
+            // documents indexed before the email was stored in them can only be looked up one by one
+            StudentAttributes student = studentsDb.getStudentForRegistrationKey(StringHelper.encrypt(key));
+            if (student != null) {
+                studentsByKey.put(student.key, student);
+            }
+        }
+
+        for (String key : keys) {
+            StudentAttributes student = studentsByKey.get(key);
             if (student == null) {
                 // search engine out of sync as SearchManager may fail to delete documents due to GAE error
                 // the chance is low and it is generally not a big problem
-                studentsDb.deleteDocumentByStudentKey(doc.getId());
+                // a student found by email but with a different key is not a match either, as the document
+                // then belongs to a deleted student whose email was later enrolled again
+                bundle.staleDocumentKeys.add(key);
                 continue;
             }
 
@@ -27,12 +27,15 @@ public class AutomatedActionFactory {
         // Cron jobs
         map(CronJobURIs.AUTOMATED_LOG_COMPILATION, CompileLogsAction.class);
         map(CronJobURIs.AUTOMATED_DATASTORE_BACKUP, DatastoreBackupAction.class);
+        map(CronJobURIs.AUTOMATED_ENROLLMENT_JOBS_CLEANUP, EnrollmentJobsCleanupAction.class);
         map(CronJobURIs.AUTOMATED_FEEDBACK_OPENING_REMINDERS, FeedbackSessionOpeningRemindersAction.class);
         map(CronJobURIs.AUTOMATED_FEEDBACK_CLOSED_REMINDERS, FeedbackSessionClosedRemindersAction.class);
         map(CronJobURIs.AUTOMATED_FEEDBACK_CLOSING_REMINDERS, FeedbackSessionClosingRemindersAction.class);
         map(CronJobURIs.AUTOMATED_FEEDBACK_PUBLISHED_REMINDERS, FeedbackSessionPublishedRemindersAction.class);
 
         // Task queue workers
+        map(TaskQueue.COURSE_DATA_DELETION_WORKER_URL, CourseDataDeletionWorkerAction.class);
+        map(TaskQueue.ENROLLMENT_WORKER_URL, EnrollmentWorkerAction.class);
         map(TaskQueue.FEEDBACK_SESSION_PUBLISHED_EMAIL_WORKER_URL, FeedbackSessionPublishedEmailWorkerAction.class);
         map(TaskQueue.FEEDBACK_SESSION_RESEND_PUBLISHED_EMAIL_WORKER_URL,
                 FeedbackSessionResendPublishedEmailWorkerAction.class);
@@ -44,6 +47,7 @@ public class AutomatedActionFactory {
         map(TaskQueue.INSTRUCTOR_COURSE_JOIN_EMAIL_WORKER_URL, InstructorCourseJoinEmailWorkerAction.class);
         map(TaskQueue.SEND_EMAIL_WORKER_URL, SendEmailWorkerAction.class);
         map(TaskQueue.STUDENT_COURSE_JOIN_EMAIL_WORKER_URL, StudentCourseJoinEmailWorkerAction.class);
+        map(TaskQueue.STUDENT_SEARCH_DOCUMENT_DELETION_WORKER_URL, StudentSearchDocumentDeletionWorkerAction.class);
     }
 
     private static void map(String actionUri, Class<? extends AutomatedAction> actionClass) {
@@ -14,6 +14,7 @@ import teammates.common.exception.InvalidHttpParameterException;
 import teammates.common.exception.TeammatesException;
 import teammates.common.util.HttpRequestHelper;
 import teammates.common.util.Logger;
+import teammates.common.util.RequestLogRecord;
 
 /**
  * Receives automated requests from the App Engine server and executes the matching automated action.
@@ -32,9 +33,7 @@ abstract class AutomatedServlet extends HttpServlet {
         String url = HttpRequestHelper.getRequestedUrl(req);
         // Do not log task queue worker actions to prevent excessive logging
         if (!url.startsWith("/worker/")) {
-            log.info("Automated request received: [" + req.getMethod() + "] " + req.getRequestURL().toString()
-                    + ", Params: " + HttpRequestHelper.getRequestParametersAsString(req)
-                    + ", Headers: " + HttpRequestHelper.getRequestHeadersAsString(req));
+            log.info("Automated request received: " + RequestLogRecord.forRequest(req));
         }
 
         try {
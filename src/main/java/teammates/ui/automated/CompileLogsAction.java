@@ -1,8 +1,7 @@
 package teammates.ui.automated;
 
+import java.time.Duration;
 import java.time.Instant;
-import java.util.ArrayList;
-import java.util.List;
 
 import com.google.appengine.api.log.AppLogLine;
 import com.google.appengine.api.log.LogQuery;
@@ -12,39 +11,91 @@ import com.google.appengine.api.log.LogServiceFactory;
 import com.google.appengine.api.log.RequestLogs;
 
 import teammates.common.util.EmailWrapper;
+import teammates.common.util.ErrorLogAggregator;
+import teammates.common.util.Logger;
 
 /**
  * Cron job: compiles application logs and sends severe logs compilation to the support email.
+ *
+ * <p>Each run compiles the logs of the requests which ended after the logs compiled by the previous run,
+ * so that consecutive runs do not compile the same logs, and groups the logs by their signature as they are read.
  */
 public class CompileLogsAction extends AutomatedAction {
 
+    private static final String JOB_NAME = "compileLogs";
+
+    /**
+     * The time range of the first run, which slightly overlaps the 5 minute email timer.
+     */
+    private static final Duration DEFAULT_QUERY_RANGE = Duration.ofMinutes(6);
+
+    /**
+     * The longest time range compiled in one run, e.g. after the job has not run for a while.
+     */
+    private static final Duration MAX_QUERY_RANGE = Duration.ofHours(1);
+
+    /**
+     * The logs of the most recent requests are not compiled yet, as they may not be available for querying.
+     */
+    private static final Duration QUERY_END_DELAY = Duration.ofSeconds(30);
+
+    private static final Logger log = Logger.getLogger();
+
     @Override
     public void execute() {
-        List<AppLogLine> errorLogs = getErrorLogs();
+        Instant processedUntil = logic.getLogsProcessedUntil(JOB_NAME);
+        Instant endTime = Instant.now().minus(QUERY_END_DELAY);
+        Instant startTime = getStartTime(processedUntil, endTime, DEFAULT_QUERY_RANGE, MAX_QUERY_RANGE);
+        if (!startTime.isBefore(endTime)) {
+            return;
+        }
+        if (processedUntil != null && processedUntil.isBefore(startTime)) {
+            log.warning("Logs from " + processedUntil + " to " + startTime + " are not compiled");
+        }
+
+        ErrorLogAggregator errorLogs = getErrorLogs(startTime, endTime);
         sendEmail(errorLogs);
+
+        // Move the checkpoint only after the email is sent, so that the logs are compiled again
+        // if the run is stopped before the email is sent
+        if (!logic.advanceLogsProcessedUntil(JOB_NAME, processedUntil, endTime)) {
+            log.warning("Logs until " + endTime + " have also been compiled by another run");
+        }
     }
 
-    private List<AppLogLine> getErrorLogs() {
-        LogService logService = LogServiceFactory.getLogService();
+    /**
+     * Gets the start (inclusive) of the time range of the logs to be compiled next, up to {@code endTime}.
+     *
+     * <p>The range continues from the checkpoint {@code processedUntil}, so that consecutive ranges do not overlap.
+     * It covers {@code firstRange} if no logs have been compiled, and at most {@code maxRange} otherwise,
+     * e.g. after the job has not run for a while; the logs before that are skipped.
+     *
+     * @param processedUntil the checkpoint of the job; null if there is none
+     */
+    public static Instant getStartTime(Instant processedUntil, Instant endTime, Duration firstRange, Duration maxRange) {
+        if (processedUntil == null) {
+            return endTime.minus(firstRange);
+        }
+        Instant earliestStartTime = endTime.minus(maxRange);
+        return processedUntil.isBefore(earliestStartTime) ? earliestStartTime : processedUntil;
+    }
 
-        long endTime = Instant.now().toEpochMilli();
-        // Sets the range to 6 minutes to slightly overlap the 5 minute email timer
-        long queryRange = 1000 * 60 * 6;
-        long startTime = endTime - queryRange;
+    private ErrorLogAggregator getErrorLogs(Instant startTime, Instant endTime) {
+        LogService logService = LogServiceFactory.getLogService();
 
+        // the start time is inclusive and the end time is exclusive, so consecutive ranges do not overlap
         LogQuery q = LogQuery.Builder.withDefaults()
                                      .includeAppLogs(true)
-                                     .startTimeMillis(startTime)
-                                     .endTimeMillis(endTime)
+                                     .startTimeMillis(startTime.toEpochMilli())
+                                     .endTimeMillis(endTime.toEpochMilli())
                                      .minLogLevel(LogLevel.ERROR);
 
+        // the logs are fetched in batches as they are iterated over
         Iterable<RequestLogs> logs = logService.fetch(q);
-        List<AppLogLine> errorLogs = new ArrayList<>();
+        ErrorLogAggregator errorLogs = new ErrorLogAggregator();
 
         for (RequestLogs requestLogs : logs) {
-            List<AppLogLine> logList = requestLogs.getAppLogLines();
-
-            for (AppLogLine currentLog : logList) {
+            for (AppLogLine currentLog : requestLogs.getAppLogLines()) {
                 LogLevel logLevel = currentLog.getLogLevel();
 
                 if (LogLevel.FATAL == logLevel || LogLevel.ERROR == logLevel) {
@@ -56,10 +107,10 @@ public class CompileLogsAction extends AutomatedAction {
         return errorLogs;
     }
 
-    private void sendEmail(List<AppLogLine> logs) {
+    private void sendEmail(ErrorLogAggregator errorLogs) {
         // Do not send any emails if there are no severe logs; prevents spamming
-        if (!logs.isEmpty()) {
-            EmailWrapper message = emailGenerator.generateCompiledLogsEmail(logs);
+        if (!errorLogs.isEmpty()) {
+            EmailWrapper message = emailGenerator.generateCompiledLogsEmail(errorLogs);
             emailSender.sendReport(message);
         }
     }
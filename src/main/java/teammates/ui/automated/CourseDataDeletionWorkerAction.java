@@ -0,0 +1,35 @@
+package teammates.ui.automated;
+
+import teammates.common.datatransfer.CourseDeletionProgress;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.Logger;
+
+/**
+ * Task queue worker action: deletes the next batch of the data of a course
+ * and schedules the deletion of the batch after it.
+ *
+ * <p>A failed task is retried with the same progress, which is safe as every batch
+ * only deletes the data which is still there.
+ */
+public class CourseDataDeletionWorkerAction extends AutomatedAction {
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    public void execute() {
+        String courseId = getNonNullRequestParamValue(ParamsNames.COURSE_ID);
+        CourseDeletionProgress.Stage stage =
+                CourseDeletionProgress.Stage.valueOf(getNonNullRequestParamValue(ParamsNames.COURSE_DELETION_STAGE));
+        String cursor = getRequestParamValue(ParamsNames.COURSE_DELETION_CURSOR);
+
+        CourseDeletionProgress nextProgress =
+                logic.deleteCourseDataInBatch(courseId, new CourseDeletionProgress(stage, cursor));
+
+        if (nextProgress == null) {
+            log.info("All data of course " + courseId + " has been deleted");
+            return;
+        }
+        taskQueuer.scheduleCourseDataDeletion(courseId, nextProgress);
+    }
+
+}
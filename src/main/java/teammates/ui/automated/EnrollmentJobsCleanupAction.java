@@ -0,0 +1,13 @@
+package teammates.ui.automated;
+
+/**
+ * Cron job: deletes enrollment jobs which are no longer needed.
+ */
+public class EnrollmentJobsCleanupAction extends AutomatedAction {
+
+    @Override
+    public void execute() {
+        logic.deleteExpiredEnrollmentJobs();
+    }
+
+}
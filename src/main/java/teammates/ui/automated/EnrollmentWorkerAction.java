@@ -0,0 +1,40 @@
+package teammates.ui.automated;
+
+import teammates.common.datatransfer.attributes.EnrollmentJobAttributes;
+import teammates.common.exception.EntityDoesNotExistException;
+import teammates.common.exception.TeammatesException;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.Logger;
+
+/**
+ * Task queue worker action: enrolls the next batch of students of an enrollment job
+ * and schedules the enrollment of the batch after it.
+ *
+ * <p>The progress of the job is kept in the job itself, so a failed task is retried
+ * with the batch which was not recorded yet.
+ */
+public class EnrollmentWorkerAction extends AutomatedAction {
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    public void execute() {
+        String jobId = getNonNullRequestParamValue(ParamsNames.ENROLLMENT_JOB_ID);
+
+        EnrollmentJobAttributes job;
+        try {
+            job = logic.enrollNextBatchOfEnrollmentJob(jobId);
+        } catch (EntityDoesNotExistException e) {
+            log.severe("Failed to enroll students: " + TeammatesException.toStringWithStackTrace(e));
+            return;
+        }
+
+        if (job.isCompleted()) {
+            log.info("All " + job.getNumberOfStudents() + " students of enrollment job " + jobId
+                    + " to course " + job.getCourseId() + " have been enrolled");
+            return;
+        }
+        taskQueuer.scheduleEnrollment(jobId);
+    }
+
+}
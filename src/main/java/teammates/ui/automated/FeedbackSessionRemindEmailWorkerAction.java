@@ -3,6 +3,7 @@ package teammates.ui.automated;
 import java.util.ArrayList;
 import java.util.List;
 
+import teammates.common.datatransfer.FeedbackSessionCompletionIndex;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
@@ -31,9 +32,11 @@ public class FeedbackSessionRemindEmailWorkerAction extends AutomatedAction {
 
             InstructorAttributes instructorToNotify = logic.getInstructorForGoogleId(courseId, instructorId);
 
+            FeedbackSessionCompletionIndex completionIndex = logic.getFeedbackSessionCompletionIndex(session);
+
             List<StudentAttributes> studentsToRemindList = new ArrayList<>();
             for (StudentAttributes student : studentList) {
-                if (!logic.isFeedbackSessionCompletedByStudent(session, student.email)) {
+                if (!completionIndex.isCompletedByStudent(student.email)) {
                     studentsToRemindList.add(student);
                 }
             }
@@ -41,7 +44,7 @@ public class FeedbackSessionRemindEmailWorkerAction extends AutomatedAction {
             // Filter out instructors who have submitted the feedback session
             List<InstructorAttributes> instructorsToRemindList = new ArrayList<>();
             for (InstructorAttributes instructor : instructorList) {
-                if (!logic.isFeedbackSessionCompletedByInstructor(session, instructor.email)) {
+                if (!completionIndex.isCompletedByInstructor(instructor.email)) {
                     instructorsToRemindList.add(instructor);
                 }
             }
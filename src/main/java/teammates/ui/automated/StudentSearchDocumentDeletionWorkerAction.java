@@ -0,0 +1,18 @@
+package teammates.ui.automated;
+
+import java.util.Arrays;
+
+import teammates.common.util.Const.ParamsNames;
+
+/**
+ * Task queue worker action: removes stale student search documents found during a search.
+ */
+public class StudentSearchDocumentDeletionWorkerAction extends AutomatedAction {
+
+    @Override
+    public void execute() {
+        String[] keys = getNonNullRequestParamValues(ParamsNames.STUDENT_SEARCH_DOCUMENT_KEYS);
+
+        logic.deleteStudentSearchDocuments(Arrays.asList(keys));
+    }
+}
@@ -86,7 +86,7 @@ public class InstructorFeedbackResultsPageAction extends Action {
 
         if (ALL_SECTION_OPTION.equals(selectedSection) && questionId == null
                 && !Const.FeedbackSessionResults.QUESTION_SORT_TYPE.equals(sortType)) {
-            // bundle for all questions and all sections
+            // bundle for all questions and all sections, loaded question by question
             data.setBundle(
                      logic.getFeedbackSessionResultsForInstructorWithinRangeFromView(
                                                                            feedbackSessionName, courseId,
@@ -1,11 +1,14 @@
 package teammates.ui.webapi.action;
 
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import com.google.common.hash.Hashing;
+
 import teammates.common.datatransfer.UserInfo;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.InvalidHttpParameterException;
@@ -223,6 +226,55 @@ public abstract class Action {
      */
     public abstract void checkSpecificAccessControl();
 
+    /**
+     * Returns how the browser may cache the response of the action.
+     *
+     * <p>The response is not stored by default. Actions serving read-mostly resources can opt in to caching,
+     * preferably together with {@link #getResourceVersion()}.
+     */
+    public CachePolicy getCachePolicy() {
+        return CachePolicy.NO_STORE;
+    }
+
+    /**
+     * Returns a cheaply computed identifier of the version of the resource served by the action,
+     * or null if the action does not identify versions.
+     *
+     * <p>This is called after access control and before {@link #execute()}, and must change whenever the
+     * response of the action for the same request would change.
+     */
+    protected String getResourceVersion() {
+        return null;
+    }
+
+    /**
+     * Returns the weak entity tag of the response of the action, or null if the response has none.
+     *
+     * <p>The entity tag identifies the version of the resource as well as the user it is served to,
+     * as the same URL can be served differently to different users of the same browser, e.g. when masquerading.
+     */
+    public String getETag() {
+        if (!getCachePolicy().isStored()) {
+            return null;
+        }
+        String version = getResourceVersion();
+        if (version == null) {
+            return null;
+        }
+        String user = authType + "|" + (userInfo == null ? "" : userInfo.id);
+        return "W/\"" + Hashing.sha256().hashString(user + "|" + version, StandardCharsets.UTF_8) + "\"";
+    }
+
+    /**
+     * Returns the fraction of the successful requests to the action which are logged, from 0 to 1.
+     *
+     * <p>All requests are logged by default. Actions called very frequently, e.g. on every page load,
+     * can log only a sample of their requests. Failed requests are always logged.
+     */
+    public double getRequestLogSamplingRate() {
+        return 1;
+    }
+
     /**
      * Executes the action.
      */
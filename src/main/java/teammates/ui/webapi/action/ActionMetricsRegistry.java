@@ -0,0 +1,130 @@
+package teammates.ui.webapi.action;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToLongFunction;
+
+import teammates.common.util.RequestMetrics;
+import teammates.ui.webapi.output.ActionMetricsData.ActionMetrics;
+import teammates.ui.webapi.output.ActionMetricsData.Percentiles;
+
+/**
+ * Aggregates the {@link RequestMetrics} of the requests handled by this instance, by action.
+ *
+ * <p>Percentiles are computed over the most recent {@value #MAX_SAMPLES_PER_ACTION} requests of each action.
+ * The aggregates are kept in memory for the lifetime of the instance only; the metrics of the requests
+ * are also logged with the requests, to be aggregated across instances, subject to the sampling rate of the action.
+ */
+public final class ActionMetricsRegistry {
+
+    static final int MAX_SAMPLES_PER_ACTION = 1000;
+
+    private static final ActionMetricsRegistry instance = new ActionMetricsRegistry();
+
+    private final Map<String, ActionSamples> samplesByAction = new ConcurrentHashMap<>();
+
+    private ActionMetricsRegistry() {
+        // prevent initialization
+    }
+
+    public static ActionMetricsRegistry inst() {
+        return instance;
+    }
+
+    /**
+     * Adds the metrics of a request handled by an action.
+     */
+    public void record(RequestMetrics metrics) {
+        samplesByAction.computeIfAbsent(metrics.getActionName(), actionName -> new ActionSamples())
+                .add(metrics);
+    }
+
+    /**
+     * Returns the aggregated metrics of each action, the action with the highest total wall time first.
+     */
+    public List<ActionMetrics> getActionMetrics() {
+        List<ActionMetrics> actionMetrics = new ArrayList<>();
+        samplesByAction.forEach((actionName, samples) -> actionMetrics.add(samples.summarize(actionName)));
+        actionMetrics.sort(Comparator.comparingLong(ActionMetrics::getTotalWallTimeMillis).reversed());
+        return actionMetrics;
+    }
+
+    /**
+     * Discards all the aggregated metrics.
+     */
+    public void clear() {
+        samplesByAction.clear();
+    }
+
+    /**
+     * The metrics of the most recent requests of an action, in a ring buffer, and totals of all its requests.
+     *
+     * <p>Only the counters of each request are kept in the ring buffer, one array per counter,
+     * so that a sample takes a small, fixed amount of memory.
+     */
+    private static final class ActionSamples {
+
+        private static final List<ToLongFunction<RequestMetrics>> SAMPLED_COUNTERS = Arrays.asList(
+                RequestMetrics::getWallTimeMillis, RequestMetrics::getDatastoreReads,
+                RequestMetrics::getDatastoreWrites, RequestMetrics::getEntitiesLoaded,
+                RequestMetrics::getPayloadBytes, RequestMetrics::getTaskQueueCalls, RequestMetrics::getSearchCalls,
+                RequestMetrics::getCacheHits, RequestMetrics::getCacheMisses);
+
+        /** The samples of each counter, in the order of {@link #SAMPLED_COUNTERS}. */
+        private final long[][] samples = new long[SAMPLED_COUNTERS.size()][MAX_SAMPLES_PER_ACTION];
+        private long numberOfRequests;
+        private long totalWallTimeMillis;
+        private final Map<String, Long> readsByKind = new TreeMap<>();
+        private final Map<String, Long> writesByKind = new TreeMap<>();
+        private final Map<String, Long> callsByDbMethod = new TreeMap<>();
+
+        synchronized void add(RequestMetrics metrics) {
+            int slot = (int) (numberOfRequests % MAX_SAMPLES_PER_ACTION);
+            for (int i = 0; i < SAMPLED_COUNTERS.size(); i++) {
+                samples[i][slot] = SAMPLED_COUNTERS.get(i).applyAsLong(metrics);
+            }
+            numberOfRequests++;
+            totalWallTimeMillis += metrics.getWallTimeMillis();
+            metrics.getReadsByKind().forEach((kind, count) -> readsByKind.merge(kind, (long) count, Long::sum));
+            metrics.getWritesByKind().forEach((kind, count) -> writesByKind.merge(kind, (long) count, Long::sum));
+            metrics.getCallsByDbMethod().forEach((method, count) ->
+                    callsByDbMethod.merge(method, (long) count, Long::sum));
+        }
+
+        synchronized ActionMetrics summarize(String actionName) {
+            int numberOfSamples = (int) Math.min(numberOfRequests, MAX_SAMPLES_PER_ACTION);
+            List<Percentiles> percentiles = new ArrayList<>();
+            for (long[] counterSamples : samples) {
+                percentiles.add(getPercentiles(Arrays.copyOf(counterSamples, numberOfSamples)));
+            }
+            return new ActionMetrics(actionName, numberOfRequests, totalWallTimeMillis,
+                    percentiles.get(0), percentiles.get(1), percentiles.get(2), percentiles.get(3),
+                    percentiles.get(4), percentiles.get(5), percentiles.get(6), percentiles.get(7), percentiles.get(8),
+                    new TreeMap<>(readsByKind), new TreeMap<>(writesByKind), new TreeMap<>(callsByDbMethod));
+        }
+
+        private static Percentiles getPercentiles(long[] values) {
+            Arrays.sort(values);
+            return new Percentiles(getPercentile(values, 50), getPercentile(values, 90), getPercentile(values, 99),
+                    getPercentile(values, 100));
+        }
+
+        /**
+         * Returns the {@code percent}-th percentile of the sorted values, by the nearest-rank method.
+         */
+        private static long getPercentile(long[] sortedValues, int percent) {
+            if (sortedValues.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percent / 100.0 * sortedValues.length);
+            return sortedValues[Math.max(rank, 1) - 1];
+        }
+
+    }
+
+}
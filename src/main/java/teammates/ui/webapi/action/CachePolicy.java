@@ -0,0 +1,57 @@
+package teammates.ui.webapi.action;
+
+/**
+ * Represents how the browser may cache the response of an {@link Action}.
+ *
+ * <p>Responses are only ever cached privately by the browser of the user, never by shared caches,
+ * as almost all of them depend on who the user is.
+ */
+public final class CachePolicy {
+
+    /**
+     * The response is not stored at all. This is the policy of all actions unless they opt in to caching.
+     */
+    public static final CachePolicy NO_STORE = new CachePolicy("no-store");
+
+    /**
+     * The response is stored, but it is checked with the server on every use.
+     * This only saves work if the action has an entity tag, as the server then answers the check with
+     * 304 (Not Modified) without executing the action.
+     */
+    public static final CachePolicy REVALIDATE = new CachePolicy("private, no-cache");
+
+    /**
+     * The response is used for as long as the browser keeps it. For resources whose URL identifies their content.
+     */
+    public static final CachePolicy IMMUTABLE = new CachePolicy("private, max-age=31536000, immutable");
+
+    private final String cacheControl;
+
+    private CachePolicy(String cacheControl) {
+        this.cacheControl = cacheControl;
+    }
+
+    /**
+     * Returns a policy under which the response is used for {@code maxAgeInSeconds} without checking with the server.
+     */
+    public static CachePolicy maxAge(int maxAgeInSeconds) {
+        return new CachePolicy("private, max-age=" + maxAgeInSeconds);
+    }
+
+    public boolean isStored() {
+        return this != NO_STORE;
+    }
+
+    /**
+     * Returns the value of the {@code Cache-Control} header for the policy.
+     */
+    public String getCacheControl() {
+        return cacheControl;
+    }
+
+    @Override
+    public String toString() {
+        return cacheControl;
+    }
+
+}
@@ -1,18 +1,28 @@
 package teammates.ui.webapi.action;
 
+import java.io.FilterWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.function.Consumer;
 
 import javax.servlet.http.HttpServletResponse;
 
 import org.apache.http.HttpStatus;
 
+import teammates.common.util.RequestMetrics;
+
 /**
  * Action result in the form of csv text.
+ *
+ * <p>The content is either given as a whole, or written straight to the response when the result is sent,
+ * so that content too large to be held in memory can be sent.
  */
 public class CsvResult extends ActionResult {
 
     private String content;
+    private Consumer<PrintWriter> contentWriter;
 
     public CsvResult(String content) {
 
@@ -20,6 +30,15 @@ public class CsvResult extends ActionResult {
         this.content = content;
     }
 
+    /**
+     * Creates a result whose content is written by {@code contentWriter} when the result is sent.
+     */
+    public CsvResult(Consumer<PrintWriter> contentWriter) {
+
+        super(HttpStatus.SC_OK);
+        this.contentWriter = contentWriter;
+    }
+
     @Override
     public void send(HttpServletResponse resp) throws IOException {
         /*
@@ -29,11 +48,55 @@ public class CsvResult extends ActionResult {
         resp.setContentType("text/csv; charset=UTF-8");
         PrintWriter writer = resp.getWriter();
         writer.write("\uFEFF");
-        writer.append(content);
+        if (contentWriter == null) {
+            writer.append(content);
+            RequestMetrics.recordPayload(content);
+        } else {
+            PrintWriter contentOut = new PrintWriter(new PayloadRecordingWriter(writer));
+            contentWriter.accept(contentOut);
+            contentOut.flush();
+        }
     }
 
+    /**
+     * Returns the content of the result; content which is written when the result is sent is generated in full.
+     */
     public String getContent() {
-        return this.content;
+        if (contentWriter == null) {
+            return this.content;
+        }
+        StringWriter writer = new StringWriter();
+        contentWriter.accept(new PrintWriter(writer));
+        return writer.toString();
+    }
+
+    /**
+     * Records the size of the content passing through it as response payload.
+     */
+    private static final class PayloadRecordingWriter extends FilterWriter {
+
+        PayloadRecordingWriter(Writer out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            super.write(c);
+            RequestMetrics.recordPayload(String.valueOf((char) c));
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            super.write(cbuf, off, len);
+            RequestMetrics.recordPayload(new String(cbuf, off, len));
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            super.write(str, off, len);
+            RequestMetrics.recordPayload(str.substring(off, off + len));
+        }
+
     }
 
 }
@@ -2,6 +2,7 @@ package teammates.ui.webapi.action;
 
 import java.util.List;
 
+import teammates.common.datatransfer.CourseDeletionProgress;
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.exception.UnauthorizedAccessException;
@@ -40,9 +41,12 @@ public class DeleteAllInstructorSoftDeletedCoursesAction extends Action {
 
         instructorList = logic.getInstructorsForGoogleId(userInfo.id);
 
-        logic.deleteAllCourses(instructorList);
+        List<String> courseIdsToDelete = logic.prepareAllSoftDeletedCoursesForDeletion(instructorList);
+        for (String courseId : courseIdsToDelete) {
+            taskQueuer.scheduleCourseDataDeletion(courseId, CourseDeletionProgress.start());
+        }
 
-        String statusMessage = "All courses in Recycle Bin have been permanently deleted.";
+        String statusMessage = "The permanent deletion of all courses in Recycle Bin is in progress.";
         return new JsonResult(statusMessage);
     }
 }
@@ -1,5 +1,6 @@
 package teammates.ui.webapi.action;
 
+import teammates.common.datatransfer.CourseDeletionProgress;
 import teammates.common.exception.UnauthorizedAccessException;
 import teammates.common.util.Const;
 import teammates.ui.webapi.output.MessageOutput;
@@ -29,7 +30,8 @@ public class DeleteCourseAction extends Action {
     public ActionResult execute() {
         String idOfCourseToDelete = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
 
-        logic.deleteCourse(idOfCourseToDelete);
+        logic.prepareCourseForDeletion(idOfCourseToDelete);
+        taskQueuer.scheduleCourseDataDeletion(idOfCourseToDelete, CourseDeletionProgress.start());
 
         return new JsonResult(new MessageOutput("OK"));
     }
@@ -0,0 +1,30 @@
+package teammates.ui.webapi.action;
+
+import teammates.common.exception.UnauthorizedAccessException;
+import teammates.ui.webapi.output.ActionMetricsData;
+
+/**
+ * Gets the aggregated cost of the requests handled by this instance, by action.
+ *
+ * @see ActionMetricsRegistry
+ */
+public class GetActionMetricsAction extends Action {
+
+    @Override
+    protected AuthType getMinAuthLevel() {
+        return AuthType.LOGGED_IN;
+    }
+
+    @Override
+    public void checkSpecificAccessControl() {
+        if (!userInfo.isAdmin) {
+            throw new UnauthorizedAccessException("Admin privilege is required to access this resource.");
+        }
+    }
+
+    @Override
+    public ActionResult execute() {
+        return new JsonResult(new ActionMetricsData(ActionMetricsRegistry.inst().getActionMetrics()));
+    }
+
+}
@@ -26,6 +26,12 @@ public class GetAuthInfoAction extends Action {
         // Login information is available to everyone
     }
 
+    @Override
+    public double getRequestLogSamplingRate() {
+        // called on every page load of the web application
+        return 0.1;
+    }
+
     @Override
     public ActionResult execute() {
         String frontendUrl = getRequestParamValue("frontendUrl");
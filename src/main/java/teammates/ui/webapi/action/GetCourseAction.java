@@ -24,6 +24,18 @@ public class GetCourseAction extends Action {
                 logic.getCourse(courseId));
     }
 
+    @Override
+    public CachePolicy getCachePolicy() {
+        return CachePolicy.REVALIDATE;
+    }
+
+    @Override
+    protected String getResourceVersion() {
+        CourseAttributes courseAttributes = logic.getCourse(getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID));
+        return courseAttributes.getName() + "|" + courseAttributes.getTimeZone().getId()
+                + "|" + courseAttributes.getCreatedAtDateString();
+    }
+
     @Override
     public ActionResult execute() {
         String courseId = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
@@ -0,0 +1,171 @@
+package teammates.ui.webapi.action;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import teammates.common.datatransfer.CourseEnrollmentResult;
+import teammates.common.datatransfer.StudentEnrollDetails;
+import teammates.common.datatransfer.StudentUpdateStatus;
+import teammates.common.datatransfer.attributes.EnrollmentJobAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.exception.EntityDoesNotExistException;
+import teammates.common.exception.EntityNotFoundException;
+import teammates.common.exception.UnauthorizedAccessException;
+import teammates.common.util.Const;
+import teammates.common.util.Logger;
+import teammates.ui.template.EnrollResultPanel;
+import teammates.ui.webapi.output.EnrollmentJobData;
+
+/**
+ * Action: gets the progress of an enrollment job started by {@link PostCourseEnrollSaveAction},
+ * and once the job is completed, the students grouped by their update status.
+ */
+public class GetCourseEnrollJobAction extends Action {
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    protected AuthType getMinAuthLevel() {
+        return authType.LOGGED_IN;
+    }
+
+    @Override
+    public void checkSpecificAccessControl() {
+        if (!userInfo.isInstructor) {
+            throw new UnauthorizedAccessException("Instructor privilege is required to access this resource.");
+        }
+        String courseId = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
+
+        InstructorAttributes instructor = logic.getInstructorForGoogleId(courseId, userInfo.id);
+        gateKeeper.verifyAccessible(
+                instructor, logic.getCourse(courseId), Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_STUDENT);
+    }
+
+    @Override
+    public ActionResult execute() {
+        String courseId = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
+        String jobId = getNonNullRequestParamValue(Const.ParamsNames.ENROLLMENT_JOB_ID);
+
+        EnrollmentJobAttributes job = logic.getEnrollmentJob(jobId);
+        if (job == null || !job.getCourseId().equals(courseId)) {
+            throw new EntityNotFoundException(new EntityDoesNotExistException("Enrollment job does not exist"));
+        }
+
+        EnrollmentJobData output = new EnrollmentJobData(job);
+        if (job.isCompleted()) {
+            CourseEnrollmentResult enrollResult = logic.getEnrollmentResult(job);
+            List<StudentAttributes> students = enrollResult.studentList;
+            students.sort(Comparator.comparing(obj -> obj.updateStatus.numericRepresentation));
+
+            output.setResult(getInstructorCourseEnrollResult(separateStudents(students)),
+                    getErrorMessages(enrollResult.enrollmentList));
+        }
+        return new JsonResult(output);
+    }
+
+    private Map<String, String> getErrorMessages(List<StudentEnrollDetails> enrollmentList) {
+        Map<String, String> errorMessages = new HashMap<>();
+        for (StudentEnrollDetails enrollmentDetails : enrollmentList) {
+            if (enrollmentDetails.errorMessage != null) {
+                errorMessages.put(enrollmentDetails.email, enrollmentDetails.errorMessage);
+            }
+        }
+        return errorMessages;
+    }
+
+    /**
+     * Separate the StudentData objects in the list into different categories based
+     * on their updateStatus. Each category is put into a separate list.
+     *
+     * @return An array of lists of StudentAttributes objects in which each list contains
+     *         student with the same updateStatus
+     */
+    @SuppressWarnings("unchecked")
+    private List<StudentAttributes>[] separateStudents(List<StudentAttributes> students) {
+
+        List<StudentAttributes>[] lists = new ArrayList[StudentUpdateStatus.STATUS_COUNT];
+        for (int i = 0; i < StudentUpdateStatus.STATUS_COUNT; i++) {
+            lists[i] = new ArrayList<>();
+        }
+
+        for (StudentAttributes student : students) {
+            lists[student.updateStatus.numericRepresentation].add(student);
+        }
+
+        for (int i = 0; i < StudentUpdateStatus.STATUS_COUNT; i++) {
+            StudentAttributes.sortByNameAndThenByEmail(lists[i]);
+        }
+
+        return lists;
+    }
+
+    private List<EnrollResultPanel> getInstructorCourseEnrollResult(List<StudentAttributes>[] students) {
+        List<EnrollResultPanel> enrollResultPanelList = new ArrayList<>();
+
+        for (int i = 0; i < StudentUpdateStatus.STATUS_COUNT; i++) {
+            String panelClass = "";
+
+            switch (StudentUpdateStatus.enumRepresentation(i)) {
+            case ERROR :
+                panelClass = "bg-danger";
+                break;
+            case NEW :
+                panelClass = "bg-primary";
+                break;
+            case MODIFIED :
+                panelClass = "bg-warning";
+                break;
+            case UNMODIFIED :
+                panelClass = "bg-info";
+                break;
+            case NOT_IN_ENROLL_LIST :
+                panelClass = "bg-default";
+                break;
+            case UNKNOWN :
+                panelClass = "bg-danger";
+                break;
+            default :
+                log.severe("Unknown Enrollment status " + i);
+                break;
+            }
+
+            String messageForEnrollmentStatus = getMessageForEnrollmentStatus(i, students);
+            EnrollResultPanel enrollResultPanel = new EnrollResultPanel(panelClass, messageForEnrollmentStatus, students[i]);
+            enrollResultPanelList.add(enrollResultPanel);
+        }
+        return enrollResultPanelList;
+    }
+
+    private String getMessageForEnrollmentStatus(int enrollmentStatus, List<StudentAttributes>[] students) {
+
+        StudentUpdateStatus status = StudentUpdateStatus.enumRepresentation(enrollmentStatus);
+
+        switch (status) {
+        case ERROR:
+            return String.format(Const.StatusMessages.COURSE_ENROLL_STUDENTS_ERROR,
+                    students[StudentUpdateStatus.ERROR.numericRepresentation].size());
+        case NEW:
+            return String.format(Const.StatusMessages.COURSE_ENROLL_STUDENTS_ADDED,
+                    students[StudentUpdateStatus.NEW.numericRepresentation].size());
+        case MODIFIED:
+            return String.format(Const.StatusMessages.COURSE_ENROLL_STUDENTS_MODIFIED,
+                    students[StudentUpdateStatus.MODIFIED.numericRepresentation].size());
+        case UNMODIFIED:
+            return String.format(Const.StatusMessages.COURSE_ENROLL_STUDENTS_UNMODIFIED,
+                    students[StudentUpdateStatus.UNMODIFIED.numericRepresentation].size());
+        case NOT_IN_ENROLL_LIST:
+            return String.format(Const.StatusMessages.COURSE_ENROLL_STUDENTS_NOT_IN_LIST,
+                    students[StudentUpdateStatus.NOT_IN_ENROLL_LIST.numericRepresentation].size());
+        case UNKNOWN:
+            return String.format(Const.StatusMessages.COURSE_ENROLL_STUDENTS_UNKNOWN,
+                    students[StudentUpdateStatus.UNKNOWN.numericRepresentation].size());
+        default:
+            log.severe("Unknown Enrollment status " + enrollmentStatus);
+            return "There are students:";
+        }
+    }
+
+}
@@ -18,6 +18,8 @@ import teammates.ui.webapi.output.FeedbackQuestionsData;
  */
 public class GetFeedbackQuestionsAction extends BasicFeedbackSubmissionAction {
 
+    private FeedbackSessionAttributes feedbackSession;
+
     @Override
     protected AuthType getMinAuthLevel() {
         return AuthType.PUBLIC;
@@ -26,8 +28,7 @@ public class GetFeedbackQuestionsAction extends BasicFeedbackSubmissionAction {
     @Override
     public void checkSpecificAccessControl() {
         String courseId = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
-        String feedbackSessionName = getNonNullRequestParamValue(Const.ParamsNames.FEEDBACK_SESSION_NAME);
-        FeedbackSessionAttributes feedbackSession = logic.getFeedbackSession(feedbackSessionName, courseId);
+        FeedbackSessionAttributes feedbackSession = getFeedbackSession();
         Intent intent = Intent.valueOf(getNonNullRequestParamValue(Const.ParamsNames.INTENT));
 
         switch (intent) {
@@ -50,6 +51,29 @@ public class GetFeedbackQuestionsAction extends BasicFeedbackSubmissionAction {
         }
     }
 
+    /**
+     * Lets the browser store the questions of a published session, which rarely change any more.
+     * Moderated requests are not stored, as which questions they show depends on the privileges of the instructor.
+     */
+    @Override
+    public CachePolicy getCachePolicy() {
+        FeedbackSessionAttributes feedbackSession = getFeedbackSession();
+        String moderatedPerson = getRequestParamValue(Const.ParamsNames.FEEDBACK_SESSION_MODERATED_PERSON);
+
+        if (feedbackSession == null || !feedbackSession.isPublished() || !StringHelper.isEmpty(moderatedPerson)) {
+            return CachePolicy.NO_STORE;
+        }
+        return CachePolicy.REVALIDATE;
+    }
+
+    /**
+     * Every change of a question marks the session as updated, so the questions are not loaded to get the version.
+     */
+    @Override
+    protected String getResourceVersion() {
+        return String.valueOf(getFeedbackSession().getUpdatedAt().toEpochMilli());
+    }
+
     @Override
     public ActionResult execute() {
         String courseId = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
@@ -90,4 +114,16 @@ public class GetFeedbackQuestionsAction extends BasicFeedbackSubmissionAction {
         return new JsonResult(response);
     }
 
+    /**
+     * Gets the session of the request, which is loaded once for the access control and the cache policy.
+     */
+    private FeedbackSessionAttributes getFeedbackSession() {
+        if (feedbackSession == null) {
+            String courseId = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
+            String feedbackSessionName = getNonNullRequestParamValue(Const.ParamsNames.FEEDBACK_SESSION_NAME);
+            feedbackSession = logic.getFeedbackSession(feedbackSessionName, courseId);
+        }
+        return feedbackSession;
+    }
+
 }
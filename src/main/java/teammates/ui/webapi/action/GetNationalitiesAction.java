@@ -1,5 +1,6 @@
 package teammates.ui.webapi.action;
 
+import teammates.common.util.Config;
 import teammates.common.util.NationalityHelper;
 import teammates.ui.webapi.output.NationalitiesData;
 
@@ -17,6 +18,17 @@ public class GetNationalitiesAction extends Action {
         // Anyone can fetch the nationality data
     }
 
+    @Override
+    public CachePolicy getCachePolicy() {
+        return CachePolicy.maxAge(24 * 60 * 60);
+    }
+
+    @Override
+    protected String getResourceVersion() {
+        // the nationalities only change with the application
+        return Config.APP_VERSION;
+    }
+
     @Override
     public ActionResult execute() {
         NationalitiesData nationalities = new NationalitiesData(NationalityHelper.getNationalities());
@@ -31,6 +31,12 @@ public class GetSessionResponseStatsAction extends Action {
         gateKeeper.verifyAccessible(instructor, fsa);
     }
 
+    @Override
+    public double getRequestLogSamplingRate() {
+        // called for each session in the sessions tables to show its response rate
+        return 0.1;
+    }
+
     @Override
     public ActionResult execute() {
         String courseId = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
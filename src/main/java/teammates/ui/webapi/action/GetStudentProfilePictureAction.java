@@ -1,9 +1,12 @@
 package teammates.ui.webapi.action;
 
 import teammates.common.util.Const;
+import teammates.common.util.GoogleCloudStorageHelper;
 
 /**
  * Action: serves a profile picture that is stored in Google Cloud Storage.
+ *
+ * <p>The blob key of a picture identifies its content, so the picture can be cached by the browser for good.
  */
 public class GetStudentProfilePictureAction extends Action {
 
@@ -17,9 +20,31 @@ public class GetStudentProfilePictureAction extends Action {
         // Profile picture is available to everyone with the blob key
     }
 
+    @Override
+    public CachePolicy getCachePolicy() {
+        return CachePolicy.IMMUTABLE;
+    }
+
+    @Override
+    protected String getResourceVersion() {
+        return getNonNullRequestParamValue(Const.ParamsNames.BLOB_KEY) + (isThumbnailRequested() ? "-thumbnail" : "");
+    }
+
     @Override
     public ActionResult execute() {
         String blobKey = getNonNullRequestParamValue(Const.ParamsNames.BLOB_KEY);
+
+        if (isThumbnailRequested()) {
+            String thumbnailKey = GoogleCloudStorageHelper.getThumbnailKey(blobKey);
+            // pictures uploaded before thumbnails were generated are served in full
+            if (GoogleCloudStorageHelper.doesFileExistInGcs(thumbnailKey)) {
+                return new ImageResult(thumbnailKey);
+            }
+        }
         return new ImageResult(blobKey);
     }
+
+    private boolean isThumbnailRequested() {
+        return Boolean.parseBoolean(getRequestParamValue(Const.ParamsNames.PROFILE_PICTURE_THUMBNAIL));
+    }
 }
@@ -2,7 +2,7 @@ package teammates.ui.webapi.action;
 
 import org.apache.http.HttpStatus;
 
-import teammates.common.exception.EntityDoesNotExistException;
+import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.util.Const;
 
 /**
@@ -27,12 +27,11 @@ public class GetStudentsAsCsvAction extends Action {
     public ActionResult execute() {
         String courseId = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
 
-        String content = "";
-        try {
-            content = logic.getCourseStudentListAsCsv(courseId, userInfo.id);
-        } catch (EntityDoesNotExistException e) {
+        CourseAttributes course = logic.getCourse(courseId);
+        if (course == null || logic.getInstructorForGoogleId(courseId, userInfo.id) == null) {
             return new JsonResult("No course with given instructor is found.", HttpStatus.SC_NOT_FOUND);
         }
-        return new CsvResult(content);
+        // the students are written to the response as they are read, instead of being collected first
+        return new CsvResult(writer -> logic.writeCourseStudentListAsCsv(course, writer));
     }
 }
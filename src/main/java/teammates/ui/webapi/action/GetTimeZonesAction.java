@@ -14,6 +14,8 @@ import teammates.ui.webapi.output.TimeZonesData;
  */
 public class GetTimeZonesAction extends Action {
 
+    private static final long SECONDS_PER_HOUR = 60 * 60;
+
     @Override
     protected AuthType getMinAuthLevel() {
         return AuthType.LOGGED_IN;
@@ -26,6 +28,18 @@ public class GetTimeZonesAction extends Action {
         }
     }
 
+    @Override
+    public CachePolicy getCachePolicy() {
+        // the offsets are as of now and only change at the turn of an hour, e.g. when daylight saving time starts
+        return CachePolicy.maxAge((int) (SECONDS_PER_HOUR - Instant.now().getEpochSecond() % SECONDS_PER_HOUR));
+    }
+
+    @Override
+    protected String getResourceVersion() {
+        long currentHour = Instant.now().getEpochSecond() / SECONDS_PER_HOUR;
+        return ZoneRulesProvider.getVersions("UTC").firstKey() + "|" + currentHour;
+    }
+
     @Override
     public JsonResult execute() {
         String tzVersion = ZoneRulesProvider.getVersions("UTC").firstKey();
@@ -9,6 +9,7 @@ import org.apache.http.HttpStatus;
 
 import teammates.common.util.Config;
 import teammates.common.util.JsonUtils;
+import teammates.common.util.RequestMetrics;
 import teammates.ui.webapi.output.ApiOutput;
 import teammates.ui.webapi.output.MessageOutput;
 
@@ -45,7 +46,9 @@ public class JsonResult extends ActionResult {
         resp.setStatus(getStatusCode());
         resp.setContentType("application/json");
         PrintWriter pw = resp.getWriter();
-        pw.print(JsonUtils.toJson(output));
+        String json = JsonUtils.toJson(output);
+        RequestMetrics.recordPayload(json);
+        pw.print(json);
     }
 
 }
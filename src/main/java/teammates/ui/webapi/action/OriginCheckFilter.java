@@ -22,8 +22,8 @@ import org.apache.http.client.methods.HttpPut;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Config;
 import teammates.common.util.Const;
-import teammates.common.util.HttpRequestHelper;
 import teammates.common.util.Logger;
+import teammates.common.util.RequestLogRecord;
 import teammates.common.util.StringHelper;
 import teammates.common.util.Url;
 
@@ -164,10 +164,8 @@ public class OriginCheckFilter implements Filter {
     private void denyAccess(String message, HttpServletRequest request, HttpServletResponse response) throws IOException {
         response.setHeader("Strict-Transport-Security", "max-age=31536000");
 
-        log.info("Request failed origin check: [" + request.getMethod() + "] " + request.getRequestURL().toString()
-                + ", Params: " + HttpRequestHelper.getRequestParametersAsString(request)
-                + ", Headers: " + HttpRequestHelper.getRequestHeadersAsString(request)
-                + ", Request ID: " + Config.getRequestId());
+        log.info("Request failed origin check: " + RequestLogRecord.forRequest(request)
+                .add("requestId", Config.getRequestId()));
 
         JsonResult result = new JsonResult(message, HttpStatus.SC_FORBIDDEN);
         result.send(response);
@@ -8,18 +8,26 @@ import javax.servlet.http.Part;
 
 import org.apache.http.HttpStatus;
 
+import com.google.common.io.ByteStreams;
+
 import teammates.common.datatransfer.attributes.StudentProfileAttributes;
 import teammates.common.exception.InvalidHttpRequestBodyException;
 import teammates.common.exception.InvalidParametersException;
+import teammates.common.exception.TeammatesException;
 import teammates.common.exception.UnauthorizedAccessException;
 import teammates.common.util.Const;
 import teammates.common.util.GoogleCloudStorageHelper;
+import teammates.common.util.ImageHelper;
+import teammates.common.util.Logger;
 import teammates.ui.webapi.output.StudentProfilePictureResults;
 
 /**
  * Action: saves the file information of the profile picture that was just uploaded.
  */
 public class PostStudentProfilePictureAction extends Action {
+
+    private static final Logger log = Logger.getLogger();
+
     @Override
     protected AuthType getMinAuthLevel() {
         return AuthType.LOGGED_IN;
@@ -45,15 +53,22 @@ public class PostStudentProfilePictureAction extends Action {
             if (!image.getContentType().startsWith("image/")) {
                 throw new InvalidHttpRequestBodyException(Const.StatusMessages.STUDENT_PROFILE_NOT_A_PICTURE);
             }
-            byte[] imageData = new byte[(int) image.getSize()];
+            byte[] imageData;
             try (InputStream is = image.getInputStream()) {
-                is.read(imageData);
+                imageData = ByteStreams.toByteArray(is);
             }
             String pictureKey = GoogleCloudStorageHelper.writeImageDataToGcs(userInfo.id, imageData, image.getContentType());
+            writeThumbnail(pictureKey, imageData);
+
+            StudentProfileAttributes oldProfile = logic.getStudentProfile(userInfo.id);
             logic.updateOrCreateStudentProfile(
                     StudentProfileAttributes.updateOptionsBuilder(userInfo.id)
                             .withPictureKey(pictureKey)
                             .build());
+            if (oldProfile != null && !oldProfile.pictureKey.isEmpty() && !oldProfile.pictureKey.equals(pictureKey)) {
+                // the key of a picture identifies its content, so the old picture is not served under the new key
+                logic.deletePicture(oldProfile.pictureKey);
+            }
             StudentProfilePictureResults dataFormat =
                     new StudentProfilePictureResults(pictureKey);
             return new JsonResult(dataFormat);
@@ -63,4 +78,24 @@ public class PostStudentProfilePictureAction extends Action {
             return new JsonResult(e.getMessage(), HttpStatus.SC_INTERNAL_SERVER_ERROR);
         }
     }
+
+    /**
+     * Writes the thumbnail of the picture, which is served in place of the picture wherever it is shown small.
+     * The picture is still saved if no thumbnail can be made of it, in which case the picture itself is served.
+     */
+    private void writeThumbnail(String pictureKey, byte[] imageData) throws IOException {
+        byte[] thumbnailData;
+        try {
+            thumbnailData = ImageHelper.createThumbnail(imageData, Const.SystemParams.PROFILE_PICTURE_THUMBNAIL_SIZE);
+        } catch (IOException | RuntimeException e) {
+            log.warning("Failed to create thumbnail of profile picture " + pictureKey + ": "
+                    + TeammatesException.toStringWithStackTrace(e));
+            return;
+        }
+        if (thumbnailData == null) {
+            log.warning("No thumbnail can be created of profile picture " + pictureKey);
+            return;
+        }
+        GoogleCloudStorageHelper.writeThumbnailDataToGcs(pictureKey, thumbnailData, ImageHelper.THUMBNAIL_CONTENT_TYPE);
+    }
 }
@@ -9,6 +9,7 @@ import java.util.Set;
 
 import teammates.common.datatransfer.InstructorAccountSearchResult;
 import teammates.common.datatransfer.StudentAccountSearchResult;
+import teammates.common.datatransfer.StudentSearchResultBundle;
 import teammates.common.datatransfer.attributes.AccountAttributes;
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
@@ -53,7 +54,11 @@ public class SearchAccountsAction extends Action {
     public ActionResult execute() {
         String searchKey = getNonNullRequestParamValue(Const.ParamsNames.ADMIN_SEARCH_KEY);
 
-        List<StudentAttributes> students = logic.searchStudentsInWholeSystem(searchKey).studentList;
+        StudentSearchResultBundle studentSearchResults = logic.searchStudentsInWholeSystem(searchKey);
+        if (!studentSearchResults.staleDocumentKeys.isEmpty()) {
+            taskQueuer.scheduleStudentSearchDocumentsDeletion(studentSearchResults.staleDocumentKeys);
+        }
+        List<StudentAttributes> students = studentSearchResults.studentList;
         List<InstructorAttributes> instructors = logic.searchInstructorsInWholeSystem(searchKey).instructorList;
 
         populateCourseIds(students, instructors);
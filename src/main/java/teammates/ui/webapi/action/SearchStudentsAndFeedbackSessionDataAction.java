@@ -47,6 +47,9 @@ public class SearchStudentsAndFeedbackSessionDataAction extends Action {
         }
         if (isSearchForStudents) {
             StudentSearchResultBundle studentSearchResults = logic.searchStudents(searchKey, instructors);
+            if (!studentSearchResults.staleDocumentKeys.isEmpty()) {
+                taskQueuer.scheduleStudentSearchDocumentsDeletion(studentSearchResults.staleDocumentKeys);
+            }
             setSearchStudentsTables(output, studentSearchResults);
         }
 
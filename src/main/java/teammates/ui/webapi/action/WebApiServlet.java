@@ -1,6 +1,7 @@
 package teammates.ui.webapi.action;
 
 import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
 
 import javax.servlet.annotation.MultipartConfig;
 import javax.servlet.http.HttpServlet;
@@ -8,6 +9,7 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.apache.http.HttpStatus;
+import org.apache.http.client.methods.HttpGet;
 
 import com.google.appengine.api.datastore.DatastoreTimeoutException;
 import com.google.apphosting.api.DeadlineExceededException;
@@ -21,6 +23,8 @@ import teammates.common.exception.UnauthorizedAccessException;
 import teammates.common.util.Config;
 import teammates.common.util.HttpRequestHelper;
 import teammates.common.util.Logger;
+import teammates.common.util.RequestLogRecord;
+import teammates.common.util.RequestMetrics;
 import teammates.common.util.TimeHelper;
 
 /**
@@ -60,19 +64,37 @@ public class WebApiServlet extends HttpServlet {
     @SuppressWarnings("PMD.AvoidCatchingThrowable") // used as fallback
     private void invokeServlet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
         resp.setHeader("Strict-Transport-Security", "max-age=31536000");
-        resp.setHeader("Cache-Control", "no-store");
-        resp.setHeader("Pragma", "no-cache");
 
-        log.info("Request received: [" + req.getMethod() + "] " + req.getRequestURL().toString()
-                + ", Params: " + HttpRequestHelper.getRequestParametersAsString(req)
-                + ", Headers: " + HttpRequestHelper.getRequestHeadersAsString(req)
-                + ", Request ID: " + Config.getRequestId());
+        if (log.isFineEnabled()) {
+            log.fine("Request headers: " + HttpRequestHelper.getRequestHeadersAsString(req)
+                    + ", Request ID: " + Config.getRequestId());
+        }
 
+        RequestMetrics.start();
+        Action action = null;
+        boolean isStartLogged = false;
         try {
-            Action action = new ActionFactory().getAction(req, req.getMethod(), resp);
+            action = new ActionFactory().getAction(req, req.getMethod(), resp);
+            RequestMetrics.recordActionName(action.getClass().getSimpleName());
+            isStartLogged = logRequestStart(req, action);
             action.checkAccessControl();
 
+            CachePolicy cachePolicy = HttpGet.METHOD_NAME.equals(req.getMethod())
+                    ? action.getCachePolicy()
+                    : CachePolicy.NO_STORE;
+            String eTag = cachePolicy.isStored() ? action.getETag() : null;
+            if (eTag != null && isETagMatched(req, eTag)) {
+                setCacheHeaders(resp, cachePolicy, eTag);
+                resp.setStatus(HttpStatus.SC_NOT_MODIFIED);
+                return;
+            }
+
             ActionResult result = action.execute();
+            if (result.getStatusCode() == HttpStatus.SC_OK) {
+                setCacheHeaders(resp, cachePolicy, eTag);
+            } else {
+                setCacheHeaders(resp, CachePolicy.NO_STORE, null);
+            }
             result.send(resp);
         } catch (ActionMappingException e) {
             throwError(resp, e.getStatusCode(), e.getMessage());
@@ -95,10 +117,98 @@ public class WebApiServlet extends HttpServlet {
             log.severe(t.getClass().getSimpleName() + " caught by WebApiServlet: "
                     + TeammatesException.toStringWithStackTrace(t));
             throwError(resp, HttpStatus.SC_INTERNAL_SERVER_ERROR, t.getMessage());
+        } finally {
+            RequestMetrics metrics = RequestMetrics.stop();
+            logRequestEnd(req, resp, isStartLogged, metrics);
+            if (metrics != null && metrics.getActionName() != null) {
+                ActionMetricsRegistry.inst().record(metrics);
+            }
+        }
+    }
+
+    /**
+     * Logs the request as one record of key-value pairs when it starts, so that requests which are killed
+     * before they end, e.g. by the request deadline, are also logged.
+     *
+     * <p>Only a sample of the requests is logged for actions with a sampling rate below 1;
+     * the rate is part of the record so that counts derived from the logs can be scaled up.
+     *
+     * @return true if the request is logged
+     */
+    private boolean logRequestStart(HttpServletRequest req, Action action) {
+        double samplingRate = action.getRequestLogSamplingRate();
+        if (!isSampled(samplingRate)) {
+            return false;
+        }
+        log.info(() -> {
+            RequestLogRecord record = RequestLogRecord.forRequest(req);
+            if (samplingRate < 1) {
+                record.add("samplingRate", samplingRate);
+            }
+            return "Request started: " + record.add("requestId", Config.getRequestId());
+        });
+        return true;
+    }
+
+    /**
+     * Logs the outcome and metrics of the request, which are matched to the start of the request by the request ID.
+     *
+     * <p>Failed requests are always logged; if their start is not logged, the request itself is logged too.
+     */
+    private void logRequestEnd(HttpServletRequest req, HttpServletResponse resp, boolean isStartLogged,
+            RequestMetrics metrics) {
+        int statusCode = resp.getStatus();
+        if (!isStartLogged && statusCode < HttpStatus.SC_BAD_REQUEST) {
+            return;
+        }
+        log.info(() -> {
+            RequestLogRecord record = isStartLogged ? new RequestLogRecord() : RequestLogRecord.forRequest(req);
+            StringBuilder logLine = new StringBuilder("Request ended: ").append(record.add("status", statusCode));
+            if (metrics != null && metrics.getActionName() != null) {
+                logLine.append(' ').append(metrics.toLogLine());
+            }
+            return logLine.append(" requestId=").append(Config.getRequestId()).toString();
+        });
+    }
+
+    private static boolean isSampled(double samplingRate) {
+        return samplingRate >= 1 || ThreadLocalRandom.current().nextDouble() < samplingRate;
+    }
+
+    /**
+     * Returns true if the browser already has the version of the response identified by {@code eTag}.
+     */
+    private boolean isETagMatched(HttpServletRequest req, String eTag) {
+        String ifNoneMatch = req.getHeader("If-None-Match");
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmedCandidate = candidate.trim();
+            // entity tags are compared weakly, as a GET request with If-None-Match requires
+            if ("*".equals(trimmedCandidate) || stripWeakPrefix(eTag).equals(stripWeakPrefix(trimmedCandidate))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String stripWeakPrefix(String eTag) {
+        return eTag.startsWith("W/") ? eTag.substring(2) : eTag;
+    }
+
+    private void setCacheHeaders(HttpServletResponse resp, CachePolicy cachePolicy, String eTag) {
+        resp.setHeader("Cache-Control", cachePolicy.getCacheControl());
+        if (!cachePolicy.isStored()) {
+            resp.setHeader("Pragma", "no-cache");
+        }
+        if (eTag != null) {
+            resp.setHeader("ETag", eTag);
         }
     }
 
     private void throwError(HttpServletResponse resp, int statusCode, String message) throws IOException {
+        setCacheHeaders(resp, CachePolicy.NO_STORE, null);
         JsonResult result = new JsonResult(message, statusCode);
         result.send(resp);
     }
@@ -0,0 +1,176 @@
+package teammates.ui.webapi.output;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The API output format of the aggregated cost of the requests handled by an instance, by action.
+ */
+public class ActionMetricsData extends ApiOutput {
+
+    private final List<ActionMetrics> actions;
+
+    public ActionMetricsData(List<ActionMetrics> actions) {
+        this.actions = actions;
+    }
+
+    /**
+     * Returns the metrics of each action, the action with the highest total wall time first.
+     */
+    public List<ActionMetrics> getActions() {
+        return actions;
+    }
+
+    /**
+     * The aggregated cost of the requests handled by an action.
+     */
+    public static class ActionMetrics {
+
+        private final String actionName;
+        private final long numberOfRequests;
+        private final long totalWallTimeMillis;
+        private final Percentiles wallTimeMillis;
+        private final Percentiles datastoreReads;
+        private final Percentiles datastoreWrites;
+        private final Percentiles entitiesLoaded;
+        private final Percentiles payloadBytes;
+        private final Percentiles taskQueueCalls;
+        private final Percentiles searchCalls;
+        private final Percentiles cacheHits;
+        private final Percentiles cacheMisses;
+        private final Map<String, Long> readsByKind;
+        private final Map<String, Long> writesByKind;
+        private final Map<String, Long> callsByDbMethod;
+
+        public ActionMetrics(String actionName, long numberOfRequests, long totalWallTimeMillis,
+                             Percentiles wallTimeMillis, Percentiles datastoreReads, Percentiles datastoreWrites,
+                             Percentiles entitiesLoaded, Percentiles payloadBytes, Percentiles taskQueueCalls,
+                             Percentiles searchCalls, Percentiles cacheHits, Percentiles cacheMisses,
+                             Map<String, Long> readsByKind, Map<String, Long> writesByKind,
+                             Map<String, Long> callsByDbMethod) {
+            this.actionName = actionName;
+            this.numberOfRequests = numberOfRequests;
+            this.totalWallTimeMillis = totalWallTimeMillis;
+            this.wallTimeMillis = wallTimeMillis;
+            this.datastoreReads = datastoreReads;
+            this.datastoreWrites = datastoreWrites;
+            this.entitiesLoaded = entitiesLoaded;
+            this.payloadBytes = payloadBytes;
+            this.taskQueueCalls = taskQueueCalls;
+            this.searchCalls = searchCalls;
+            this.cacheHits = cacheHits;
+            this.cacheMisses = cacheMisses;
+            this.readsByKind = readsByKind;
+            this.writesByKind = writesByKind;
+            this.callsByDbMethod = callsByDbMethod;
+        }
+
+        public String getActionName() {
+            return actionName;
+        }
+
+        public long getNumberOfRequests() {
+            return numberOfRequests;
+        }
+
+        public long getTotalWallTimeMillis() {
+            return totalWallTimeMillis;
+        }
+
+        public Percentiles getWallTimeMillis() {
+            return wallTimeMillis;
+        }
+
+        public Percentiles getDatastoreReads() {
+            return datastoreReads;
+        }
+
+        public Percentiles getDatastoreWrites() {
+            return datastoreWrites;
+        }
+
+        public Percentiles getEntitiesLoaded() {
+            return entitiesLoaded;
+        }
+
+        public Percentiles getPayloadBytes() {
+            return payloadBytes;
+        }
+
+        public Percentiles getTaskQueueCalls() {
+            return taskQueueCalls;
+        }
+
+        public Percentiles getSearchCalls() {
+            return searchCalls;
+        }
+
+        public Percentiles getCacheHits() {
+            return cacheHits;
+        }
+
+        public Percentiles getCacheMisses() {
+            return cacheMisses;
+        }
+
+        /**
+         * Returns the total number of datastore reads of all the requests, by entity kind.
+         */
+        public Map<String, Long> getReadsByKind() {
+            return readsByKind;
+        }
+
+        /**
+         * Returns the total number of datastore writes of all the requests, by entity kind.
+         */
+        public Map<String, Long> getWritesByKind() {
+            return writesByKind;
+        }
+
+        /**
+         * Returns the total number of datastore operations of the sampled requests, by storage method.
+         *
+         * @see teammates.common.util.RequestMetrics#DB_METHOD_SAMPLING_RATE
+         */
+        public Map<String, Long> getCallsByDbMethod() {
+            return callsByDbMethod;
+        }
+
+    }
+
+    /**
+     * The percentiles of a metric over the most recent requests of an action.
+     */
+    public static class Percentiles {
+
+        private final long p50;
+        private final long p90;
+        private final long p99;
+        private final long max;
+
+        public Percentiles(long p50, long p90, long p99, long max) {
+            this.p50 = p50;
+            this.p90 = p90;
+            this.p99 = p99;
+            this.max = max;
+        }
+
+        public long getP50() {
+            return p50;
+        }
+
+        public long getP90() {
+            return p90;
+        }
+
+        public long getP99() {
+            return p99;
+        }
+
+        public long getMax() {
+            return max;
+        }
+
+    }
+
+}
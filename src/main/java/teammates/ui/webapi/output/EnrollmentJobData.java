@@ -0,0 +1,76 @@
+package teammates.ui.webapi.output;
+
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+import teammates.common.datatransfer.attributes.EnrollmentJobAttributes;
+import teammates.ui.template.EnrollResultPanel;
+
+/**
+ * The API output format of the progress, and once completed the result, of an enrollment job.
+ */
+public class EnrollmentJobData extends ApiOutput {
+
+    private final String jobId;
+    private final String courseId;
+    private final int numberOfStudents;
+    private final int numberOfProcessedStudents;
+    private final boolean isCompleted;
+    @Nullable
+    private List<EnrollResultPanel> enrollResultPanelList;
+    @Nullable
+    private Map<String, String> errorMessages;
+
+    public EnrollmentJobData(EnrollmentJobAttributes job) {
+        this.jobId = job.getId();
+        this.courseId = job.getCourseId();
+        this.numberOfStudents = job.getNumberOfStudents();
+        this.numberOfProcessedStudents = job.getNumberOfProcessedStudents();
+        this.isCompleted = job.isCompleted();
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public int getNumberOfStudents() {
+        return numberOfStudents;
+    }
+
+    public int getNumberOfProcessedStudents() {
+        return numberOfProcessedStudents;
+    }
+
+    public boolean getIsCompleted() {
+        return isCompleted;
+    }
+
+    /**
+     * Returns the students grouped by their update status, or null if the job is not completed yet.
+     */
+    public List<EnrollResultPanel> getEnrollResultPanelList() {
+        return enrollResultPanelList;
+    }
+
+    /**
+     * Returns the reasons why students could not be enrolled, by their emails, or null if the job is not completed yet.
+     */
+    public Map<String, String> getErrorMessages() {
+        return errorMessages;
+    }
+
+    /**
+     * Sets the result of the completed job.
+     */
+    public void setResult(List<EnrollResultPanel> enrollResultPanelList, Map<String, String> errorMessages) {
+        this.enrollResultPanelList = enrollResultPanelList;
+        this.errorMessages = errorMessages;
+    }
+
+}
@@ -13,15 +13,12 @@ import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
 import teammates.common.datatransfer.questions.FeedbackResponseDetails;
-import teammates.common.util.Const;
 
 /**
  * API output format for session results, including statistics.
  */
 public class SessionResultsData extends ApiOutput {
 
-    private static final String REGEX_ANONYMOUS_PARTICIPANT_HASH = "[0-9]{1,10}";
-
     private final List<QuestionOutput> questions = new ArrayList<>();
 
     public SessionResultsData(FeedbackSessionResultsBundle bundle, InstructorAttributes instructor) {
@@ -61,7 +58,7 @@ public class SessionResultsData extends ApiOutput {
                         qnOutput.responsesToSelf.add(respOutput);
                     } else {
                         String recipientNameWithHash = respOutput.recipient;
-                        respOutput.recipient = removeAnonymousHash(respOutput.recipient);
+                        respOutput.recipient = bundle.getNameWithoutAnonymousHash(respOutput.recipient);
                         otherResponsesMap.computeIfAbsent(recipientNameWithHash, k -> new ArrayList<>()).add(respOutput);
                     }
                 }
@@ -76,11 +73,6 @@ public class SessionResultsData extends ApiOutput {
         return questions;
     }
 
-    private static String removeAnonymousHash(String identifier) {
-        return identifier.replaceAll(Const.DISPLAYED_NAME_FOR_ANONYMOUS_PARTICIPANT + " (student|instructor|team) "
-                + REGEX_ANONYMOUS_PARTICIPANT_HASH, Const.DISPLAYED_NAME_FOR_ANONYMOUS_PARTICIPANT + " $1");
-    }
-
     private List<ResponseOutput> buildResponses(
             FeedbackQuestionAttributes question, List<FeedbackResponseAttributes> responses,
             FeedbackSessionResultsBundle bundle, StudentAttributes student) {
@@ -116,7 +108,7 @@ public class SessionResultsData extends ApiOutput {
                 } else if (isUserGiver) {
                     displayedGiverName = "You";
                 } else {
-                    displayedGiverName = removeAnonymousHash(giverName);
+                    displayedGiverName = bundle.getNameWithoutAnonymousHash(giverName);
                 }
 
                 if (isUserGiver && !isUserRecipient) {
@@ -147,11 +139,11 @@ public class SessionResultsData extends ApiOutput {
         List<ResponseOutput> output = new ArrayList<>();
 
         responsesMap.forEach((recipient, responsesForRecipient) -> {
-            String recipientName = removeAnonymousHash(bundle.getNameForEmail(recipient));
+            String recipientName = bundle.getNameWithoutAnonymousHash(bundle.getNameForEmail(recipient));
             String recipientTeam = bundle.getTeamNameForEmail(recipient);
 
             for (FeedbackResponseAttributes response : responsesForRecipient) {
-                String giverName = removeAnonymousHash(bundle.getGiverNameForResponse(response));
+                String giverName = bundle.getNameWithoutAnonymousHash(bundle.getGiverNameForResponse(response));
                 String giverTeam = bundle.getTeamNameForEmail(response.giver);
 
                 // TODO fetch feedback response comments
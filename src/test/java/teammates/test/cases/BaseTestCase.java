@@ -157,6 +157,10 @@ public class BaseTestCase {
         Assert.assertNotEquals(first, second);
     }
 
+    protected static void assertSame(Object expected, Object actual) {
+        Assert.assertSame(expected, actual);
+    }
+
     protected static void assertNotSame(Object unexpected, Object actual) {
         Assert.assertNotSame(unexpected, actual);
     }
@@ -0,0 +1,42 @@
+package teammates.test.cases.automated;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.testng.annotations.Test;
+
+import teammates.test.cases.BaseTestCase;
+import teammates.ui.automated.CompileLogsAction;
+
+/**
+ * SUT: {@link CompileLogsAction}.
+ */
+public class CompileLogsActionTest extends BaseTestCase {
+
+    private static final Duration FIRST_RANGE = Duration.ofMinutes(6);
+    private static final Duration MAX_RANGE = Duration.ofHours(1);
+
+    @Test
+    public void testGetStartTime() {
+        Instant endTime = Instant.parse("2018-01-01T10:00:00Z");
+
+        ______TS("first run: the first range is covered");
+
+        assertEquals(endTime.minus(FIRST_RANGE), CompileLogsAction.getStartTime(null, endTime, FIRST_RANGE, MAX_RANGE));
+
+        ______TS("typical case: the range continues from the checkpoint");
+
+        Instant processedUntil = endTime.minus(Duration.ofMinutes(5));
+        assertEquals(processedUntil, CompileLogsAction.getStartTime(processedUntil, endTime, FIRST_RANGE, MAX_RANGE));
+
+        ______TS("catching up: the range is capped at the max range");
+
+        Instant longAgo = endTime.minus(Duration.ofDays(1));
+        assertEquals(endTime.minus(MAX_RANGE), CompileLogsAction.getStartTime(longAgo, endTime, FIRST_RANGE, MAX_RANGE));
+
+        ______TS("nothing to process: the checkpoint is already at the end time");
+
+        assertEquals(endTime, CompileLogsAction.getStartTime(endTime, endTime, FIRST_RANGE, MAX_RANGE));
+    }
+
+}
@@ -0,0 +1,132 @@
+package teammates.test.cases.automated;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.CourseDeletionProgress;
+import teammates.common.datatransfer.attributes.EnrollmentJobAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.TaskWrapper;
+import teammates.logic.core.CoursesLogic;
+import teammates.logic.core.EnrollmentJobsLogic;
+import teammates.logic.core.FeedbackQuestionsLogic;
+import teammates.logic.core.FeedbackResponseCommentsLogic;
+import teammates.logic.core.FeedbackResponsesLogic;
+import teammates.logic.core.FeedbackSessionsLogic;
+import teammates.logic.core.InstructorsLogic;
+import teammates.logic.core.StudentsLogic;
+import teammates.ui.automated.CourseDataDeletionWorkerAction;
+
+/**
+ * SUT: {@link CourseDataDeletionWorkerAction}.
+ */
+public class CourseDataDeletionWorkerActionTest extends BaseAutomatedActionTest<CourseDataDeletionWorkerAction> {
+
+    private static final CoursesLogic coursesLogic = CoursesLogic.inst();
+    private static final EnrollmentJobsLogic enrollmentJobsLogic = EnrollmentJobsLogic.inst();
+    private static final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
+    private static final FeedbackResponseCommentsLogic frcLogic = FeedbackResponseCommentsLogic.inst();
+    private static final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
+    private static final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
+    private static final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
+    private static final StudentsLogic studentsLogic = StudentsLogic.inst();
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.COURSE_DATA_DELETION_WORKER_URL;
+    }
+
+    @Test
+    public void allTests() throws Exception {
+        String courseId = "idOfTypicalCourse1";
+        EnrollmentJobAttributes enrollmentJob = enrollmentJobsLogic.createEnrollmentJob(
+                "Section\tTeam\tName\tEmail" + System.lineSeparator() + "Section 1\tTeam 1\tName\tjob@enroll.tmt",
+                courseId);
+
+        ______TS("typical case: tasks are chained until all data of the course is deleted");
+
+        assertTrue(frLogic.hasResponsesForCourse(courseId));
+        assertFalse(studentsLogic.getStudentsForCourse(courseId).isEmpty());
+
+        coursesLogic.prepareCourseForDeletion(courseId);
+
+        assertTrue(coursesLogic.getCourse(courseId).isCourseDeleted());
+        assertTrue(instructorsLogic.getInstructorsForCourse(courseId).isEmpty());
+
+        int tasksExecuted = runDeletionToCompletion(courseId);
+
+        // every stage of a typical course fits into one batch
+        assertEquals(CourseDeletionProgress.Stage.values().length, tasksExecuted);
+        verifyAllDataOfCourseDeleted(courseId);
+        assertNull(enrollmentJobsLogic.getEnrollmentJob(enrollmentJob.getId()));
+
+        ______TS("restarting the deletion of a course whose data is already deleted has no effect");
+
+        tasksExecuted = runDeletionToCompletion(courseId);
+
+        assertEquals(CourseDeletionProgress.Stage.values().length, tasksExecuted);
+        verifyAllDataOfCourseDeleted(courseId);
+
+        ______TS("data of other courses is not affected");
+
+        assertNotNull(coursesLogic.getCourse("idOfTypicalCourse2"));
+        assertFalse(studentsLogic.getStudentsForCourse("idOfTypicalCourse2").isEmpty());
+        assertFalse(instructorsLogic.getInstructorsForCourse("idOfTypicalCourse2").isEmpty());
+    }
+
+    /**
+     * Executes the worker from the start of the deletion, following the chain of tasks it schedules.
+     *
+     * @return the number of tasks executed
+     */
+    private int runDeletionToCompletion(String courseId) {
+        String[] submissionParams = new String[] {
+                ParamsNames.COURSE_ID, courseId,
+                ParamsNames.COURSE_DELETION_STAGE, CourseDeletionProgress.start().getStage().name(),
+        };
+        int tasksExecuted = 0;
+        while (submissionParams != null) {
+            CourseDataDeletionWorkerAction action = getAction(submissionParams);
+            action.execute();
+            tasksExecuted++;
+
+            List<TaskWrapper> tasksAdded = action.getTaskQueuer().getTasksAdded();
+            if (tasksAdded.isEmpty()) {
+                submissionParams = null;
+            } else {
+                verifySpecifiedTasksAdded(action, Const.TaskQueue.COURSE_DATA_DELETION_QUEUE_NAME, 1);
+                submissionParams = toSubmissionParams(tasksAdded.get(0).getParamMap());
+            }
+        }
+        return tasksExecuted;
+    }
+
+    private String[] toSubmissionParams(Map<String, String[]> paramMap) {
+        return paramMap.entrySet().stream()
+                .flatMap(param -> Stream.of(param.getKey(), param.getValue()[0]))
+                .toArray(String[]::new);
+    }
+
+    private void verifyAllDataOfCourseDeleted(String courseId) {
+        assertNull(coursesLogic.getCourse(courseId));
+        assertTrue(studentsLogic.getStudentsForCourse(courseId).isEmpty());
+        assertTrue(instructorsLogic.getInstructorsForCourse(courseId).isEmpty());
+        assertFalse(frLogic.hasResponsesForCourse(courseId));
+        for (FeedbackSessionAttributes session : dataBundle.feedbackSessions.values()) {
+            if (!session.getCourseId().equals(courseId)) {
+                continue;
+            }
+            String sessionName = session.getFeedbackSessionName();
+            assertNull(fsLogic.getFeedbackSession(sessionName, courseId));
+            assertNull(fsLogic.getFeedbackSessionFromRecycleBin(sessionName, courseId));
+            assertTrue(fqLogic.getFeedbackQuestionsForSession(sessionName, courseId).isEmpty());
+            assertTrue(frcLogic.getFeedbackResponseCommentForSession(courseId, sessionName).isEmpty());
+        }
+    }
+
+}
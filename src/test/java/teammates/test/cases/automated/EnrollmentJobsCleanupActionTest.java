@@ -0,0 +1,49 @@
+package teammates.test.cases.automated;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.EnrollmentJobAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.TimeHelper;
+import teammates.logic.core.EnrollmentJobsLogic;
+import teammates.storage.api.EnrollmentJobsDb;
+import teammates.ui.automated.EnrollmentJobsCleanupAction;
+
+/**
+ * SUT: {@link EnrollmentJobsCleanupAction}.
+ */
+public class EnrollmentJobsCleanupActionTest extends BaseAutomatedActionTest<EnrollmentJobsCleanupAction> {
+
+    private static final EnrollmentJobsDb enrollmentJobsDb = new EnrollmentJobsDb();
+    private static final EnrollmentJobsLogic enrollmentJobsLogic = EnrollmentJobsLogic.inst();
+
+    @Override
+    protected String getActionUri() {
+        return Const.CronJobURIs.AUTOMATED_ENROLLMENT_JOBS_CLEANUP;
+    }
+
+    @Test
+    public void allTests() throws Exception {
+        String enrollLines = "Section\tTeam\tName\tEmail" + System.lineSeparator()
+                + "Section 1\tTeam 1\tName\tcleanup@enroll.tmt";
+
+        EnrollmentJobAttributes expiredJob = enrollmentJobsDb.createEnrollmentJob(
+                EnrollmentJobAttributes.builder("idOfTypicalCourse1", enrollLines, 1)
+                        .withCreatedAt(TimeHelper.getInstantDaysOffsetFromNow(-8))
+                        .build());
+        EnrollmentJobAttributes recentJob = enrollmentJobsDb.createEnrollmentJob(
+                EnrollmentJobAttributes.builder("idOfTypicalCourse1", enrollLines, 1)
+                        .withCreatedAt(TimeHelper.getInstantDaysOffsetFromNow(-1))
+                        .build());
+
+        ______TS("jobs more than a week old are deleted");
+
+        EnrollmentJobsCleanupAction action = getAction();
+        action.execute();
+
+        verifyNoTasksAdded(action);
+        assertNull(enrollmentJobsLogic.getEnrollmentJob(expiredJob.getId()));
+        assertNotNull(enrollmentJobsLogic.getEnrollmentJob(recentJob.getId()));
+    }
+
+}
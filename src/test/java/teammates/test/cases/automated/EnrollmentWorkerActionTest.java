@@ -0,0 +1,133 @@
+package teammates.test.cases.automated;
+
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.StudentUpdateStatus;
+import teammates.common.datatransfer.attributes.EnrollmentJobAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.TaskWrapper;
+import teammates.logic.core.CoursesLogic;
+import teammates.logic.core.EnrollmentJobsLogic;
+import teammates.logic.core.StudentsLogic;
+import teammates.ui.automated.EnrollmentWorkerAction;
+
+/**
+ * SUT: {@link EnrollmentWorkerAction}.
+ */
+public class EnrollmentWorkerActionTest extends BaseAutomatedActionTest<EnrollmentWorkerAction> {
+
+    private static final EnrollmentJobsLogic enrollmentJobsLogic = EnrollmentJobsLogic.inst();
+    private static final StudentsLogic studentsLogic = StudentsLogic.inst();
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.ENROLLMENT_WORKER_URL;
+    }
+
+    @Test
+    public void allTests() throws Exception {
+        String courseId = "idOfTypicalCourse1";
+
+        ______TS("typical case: tasks are chained until all students of the job are enrolled");
+
+        StringBuilder enrollLines = new StringBuilder("Section\tTeam\tName\tEmail");
+        for (int i = 0; i < 250; i++) {
+            enrollLines.append(System.lineSeparator())
+                    .append("Section " + (10 + i / 50) + "\tTeam " + i / 10 + "\tName " + i)
+                    .append("\tstudent" + i + "@enroll.tmt");
+        }
+        // an existing student with no modification
+        enrollLines.append(System.lineSeparator())
+                .append("Section 1\tTeam 1.1</td></div>'\"\tstudent2 In Course1\tstudent2InCourse1@gmail.tmt");
+        EnrollmentJobAttributes job = enrollmentJobsLogic.createEnrollmentJob(enrollLines.toString(), courseId);
+
+        int tasksExecuted = runEnrollmentToCompletion(job.getId());
+
+        // the students are enrolled in batches of 100
+        assertEquals(3, tasksExecuted);
+
+        job = enrollmentJobsLogic.getEnrollmentJob(job.getId());
+        assertTrue(job.isCompleted());
+        assertEquals(251, job.getNumberOfProcessedStudents());
+        for (int i = 0; i < 250; i++) {
+            assertEquals(StudentUpdateStatus.NEW, job.getUpdateStatuses().get(i));
+            assertNotNull(studentsLogic.getStudentForEmail(courseId, "student" + i + "@enroll.tmt"));
+        }
+        assertEquals(StudentUpdateStatus.UNMODIFIED, job.getUpdateStatuses().get(250));
+
+        ______TS("executing the worker for a completed job has no effect");
+
+        EnrollmentWorkerAction action = getAction(ParamsNames.ENROLLMENT_JOB_ID, job.getId());
+        action.execute();
+
+        verifyNoTasksAdded(action);
+        assertEquals(251, enrollmentJobsLogic.getEnrollmentJob(job.getId()).getNumberOfProcessedStudents());
+
+        ______TS("students who have joined the course keep their Google ID and registration key");
+
+        StudentAttributes joinedStudent = studentsLogic.getStudentForEmail(courseId, "student1InCourse1@gmail.tmt");
+        assertNotNull(joinedStudent.googleId);
+        job = enrollmentJobsLogic.createEnrollmentJob("Section\tTeam\tName\tEmail" + System.lineSeparator()
+                + "Section 1\tTeam 1.1</td></div>'\"\tRenamed Student\tstudent1InCourse1@gmail.tmt", courseId);
+
+        runEnrollmentToCompletion(job.getId());
+
+        job = enrollmentJobsLogic.getEnrollmentJob(job.getId());
+        assertEquals(StudentUpdateStatus.MODIFIED, job.getUpdateStatuses().get(0));
+        StudentAttributes enrolledStudent =
+                studentsLogic.getStudentForEmail(courseId, "student1InCourse1@gmail.tmt");
+        assertEquals("Renamed Student", enrolledStudent.name);
+        assertEquals(joinedStudent.googleId, enrolledStudent.googleId);
+        assertEquals(joinedStudent.key, enrolledStudent.key);
+
+        ______TS("course in Recycle Bin: no student is enrolled and no task is scheduled");
+
+        job = enrollmentJobsLogic.createEnrollmentJob("Section\tTeam\tName\tEmail" + System.lineSeparator()
+                + "Section 1\tTeam 1\tName\tdeleted@enroll.tmt", courseId);
+        CoursesLogic.inst().moveCourseToRecycleBin(courseId);
+
+        action = getAction(ParamsNames.ENROLLMENT_JOB_ID, job.getId());
+        action.execute();
+
+        verifyNoTasksAdded(action);
+        assertEquals(0, enrollmentJobsLogic.getEnrollmentJob(job.getId()).getNumberOfProcessedStudents());
+        assertNull(studentsLogic.getStudentForEmail(courseId, "deleted@enroll.tmt"));
+
+        CoursesLogic.inst().restoreCourseFromRecycleBin(courseId);
+
+        ______TS("non-existent job: no task is scheduled");
+
+        action = getAction(ParamsNames.ENROLLMENT_JOB_ID, "123456789");
+        action.execute();
+
+        verifyNoTasksAdded(action);
+    }
+
+    /**
+     * Executes the worker for the job, following the chain of tasks it schedules.
+     *
+     * @return the number of tasks executed
+     */
+    private int runEnrollmentToCompletion(String jobId) {
+        int tasksExecuted = 0;
+        boolean hasNextTask = true;
+        while (hasNextTask) {
+            EnrollmentWorkerAction action = getAction(ParamsNames.ENROLLMENT_JOB_ID, jobId);
+            action.execute();
+            tasksExecuted++;
+
+            List<TaskWrapper> tasksAdded = action.getTaskQueuer().getTasksAdded();
+            hasNextTask = !tasksAdded.isEmpty();
+            if (hasNextTask) {
+                verifySpecifiedTasksAdded(action, Const.TaskQueue.ENROLLMENT_QUEUE_NAME, 1);
+                assertEquals(jobId, tasksAdded.get(0).getParamMap().get(ParamsNames.ENROLLMENT_JOB_ID)[0]);
+            }
+        }
+        return tasksExecuted;
+    }
+
+}
@@ -0,0 +1,57 @@
+package teammates.test.cases.automated;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.StudentSearchResultBundle;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.storage.api.StudentsDb;
+import teammates.ui.automated.StudentSearchDocumentDeletionWorkerAction;
+
+/**
+ * SUT: {@link StudentSearchDocumentDeletionWorkerAction}.
+ */
+public class StudentSearchDocumentDeletionWorkerActionTest
+        extends BaseAutomatedActionTest<StudentSearchDocumentDeletionWorkerAction> {
+
+    private static final StudentsDb studentsDb = new StudentsDb();
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.STUDENT_SEARCH_DOCUMENT_DELETION_WORKER_URL;
+    }
+
+    @Test
+    public void allTests() {
+        StudentAttributes student = dataBundle.students.get("student1InCourse1");
+        StudentAttributes deletedStudent = studentsDb.getStudentForEmail(student.course, student.email);
+
+        ______TS("typical case: stale document is removed");
+
+        studentsDb.deleteStudent(student.course, student.email);
+        // simulates a document which the search engine failed to delete together with the student
+        studentsDb.putDocument(deletedStudent);
+
+        StudentSearchResultBundle bundle = studentsDb.searchStudentsInWholeSystem("student1");
+        assertTrue(bundle.staleDocumentKeys.contains(deletedStudent.key));
+
+        String[] submissionParams = new String[] {
+                ParamsNames.STUDENT_SEARCH_DOCUMENT_KEYS, deletedStudent.key,
+        };
+
+        StudentSearchDocumentDeletionWorkerAction action = getAction(submissionParams);
+        action.execute();
+
+        bundle = studentsDb.searchStudentsInWholeSystem("student1");
+        assertFalse(bundle.staleDocumentKeys.contains(deletedStudent.key));
+
+        ______TS("documents which are already removed are ignored");
+
+        action = getAction(submissionParams);
+        action.execute();
+
+        verifyNoTasksAdded(action);
+    }
+
+}
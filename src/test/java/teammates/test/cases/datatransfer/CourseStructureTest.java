@@ -0,0 +1,85 @@
+package teammates.test.cases.datatransfer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.CourseStructure;
+import teammates.common.datatransfer.SectionDetailsBundle;
+import teammates.common.datatransfer.TeamDetailsBundle;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
+import teammates.test.cases.BaseTestCase;
+
+/**
+ * SUT: {@link CourseStructure}.
+ */
+public class CourseStructureTest extends BaseTestCase {
+
+    @Test
+    public void testConstructor_noStudents_emptyStructure() {
+        CourseStructure structure = new CourseStructure(new ArrayList<>());
+
+        assertTrue(structure.getSections().isEmpty());
+        assertTrue(structure.getTeams().isEmpty());
+        assertTrue(structure.getSectionNames().isEmpty());
+        assertFalse(structure.hasIndicatedSections());
+        assertEquals(0, structure.getStats().getStudentsTotal());
+    }
+
+    @Test
+    public void testConstructor_unsortedStudents_groupedAndSorted() {
+        List<StudentAttributes> students = Arrays.asList(
+                createStudent("Section B", "Team 3", "Eve", "eve@email.com", "eveGoogleId"),
+                createStudent(Const.DEFAULT_SECTION, "Team 4", "Dan", "dan@email.com", ""),
+                createStudent("Section A", "Team 2", "Carl", "carl@email.com", ""),
+                createStudent("Section A", "Team 1", "Bob", "bob@email.com", "bobGoogleId"),
+                createStudent("Section A", "Team 1", "Alice", "alice@email.com", ""));
+
+        CourseStructure structure = new CourseStructure(students);
+
+        ______TS("sections, teams and students are ordered by name");
+
+        List<SectionDetailsBundle> sections = structure.getSections();
+        assertEquals(3, sections.size());
+        assertEquals(Const.DEFAULT_SECTION, sections.get(0).name);
+        assertEquals("Section A", sections.get(1).name);
+        assertEquals("Section B", sections.get(2).name);
+
+        List<TeamDetailsBundle> teamsInSectionA = sections.get(1).teams;
+        assertEquals(2, teamsInSectionA.size());
+        assertEquals("Team 1", teamsInSectionA.get(0).name);
+        assertEquals("Alice", teamsInSectionA.get(0).students.get(0).name);
+        assertEquals("Bob", teamsInSectionA.get(0).students.get(1).name);
+        assertEquals("Team 2", teamsInSectionA.get(1).name);
+
+        List<TeamDetailsBundle> teams = structure.getTeams();
+        assertEquals(4, teams.size());
+        assertEquals("Team 1", teams.get(0).name);
+        assertEquals(2, teams.get(0).students.size());
+        assertEquals("Team 4", teams.get(3).name);
+
+        ______TS("section names exclude the default section");
+
+        assertEquals(Arrays.asList("Section A", "Section B"), structure.getSectionNames());
+        assertTrue(structure.hasIndicatedSections());
+
+        ______TS("statistics");
+
+        assertEquals(2, structure.getStats().getSectionsTotal());
+        assertEquals(4, structure.getStats().getTeamsTotal());
+        assertEquals(5, structure.getStats().getStudentsTotal());
+        assertEquals(3, structure.getStats().getUnregisteredTotal());
+    }
+
+    private StudentAttributes createStudent(String section, String team, String name, String email, String googleId) {
+        return StudentAttributes.builder("course", name, email)
+                .withSection(section)
+                .withTeam(team)
+                .withGoogleId(googleId)
+                .build();
+    }
+
+}
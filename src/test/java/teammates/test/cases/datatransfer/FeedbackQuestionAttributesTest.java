@@ -528,10 +528,14 @@ public class FeedbackQuestionAttributesTest extends BaseAttributesTest {
     }
 
     @Test
-    public void testGetQuestionDetails_shouldDoDeepCopy() {
+    public void testGetQuestionDetails_shouldNotCopy() {
         FeedbackQuestionAttributes fqa = getNewFeedbackQuestionAttributes();
         FeedbackQuestionDetails details = fqa.getQuestionDetails();
-        fqa.questionDetails.setQuestionText("updated question");
+
+        assertSame(details, fqa.getQuestionDetails());
+        assertSame(details, fqa.getCopy().getQuestionDetails());
+
+        fqa.setQuestionDetails(new FeedbackTextQuestionDetails("updated question"));
 
         assertEquals("Question text.", details.getQuestionText());
         assertEquals("updated question", fqa.questionDetails.getQuestionText());
@@ -9,6 +9,7 @@ import teammates.common.datatransfer.questions.FeedbackQuestionType;
 import teammates.common.datatransfer.questions.FeedbackResponseDetails;
 import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
 import teammates.common.util.Const;
+import teammates.storage.entity.FeedbackResponse;
 import teammates.test.cases.BaseTestCase;
 
 /**
@@ -36,7 +37,7 @@ public class FeedbackResponseAttributesTest extends BaseTestCase {
     }
 
     @Test
-    public void testConstructorWithCopy_shouldDoDeepCopyOfResponseDetails() {
+    public void testConstructorWithCopy_shouldShareResponseDetailsUntilReplaced() {
         FeedbackResponseAttributes fra1 = new FeedbackResponseAttributes(
                 "Session1", "CS3281",
                 "questionId", "giver@email.com", "giverSection",
@@ -44,7 +45,9 @@ public class FeedbackResponseAttributesTest extends BaseTestCase {
                 new FeedbackTextResponseDetails("My original answer"));
         FeedbackResponseAttributes fra2 = new FeedbackResponseAttributes(fra1);
 
-        ((FeedbackTextResponseDetails) fra2.responseDetails).answer = "My second answer";
+        assertSame(fra1.responseDetails, fra2.responseDetails);
+
+        fra2.setResponseDetails(new FeedbackTextResponseDetails("My second answer"));
         assertEquals(fra1.responseDetails.getAnswerString(), "My original answer");
         assertEquals(fra2.responseDetails.getAnswerString(), "My second answer");
 
@@ -65,16 +68,31 @@ public class FeedbackResponseAttributesTest extends BaseTestCase {
     }
 
     @Test
-    public void testGetResponseDetails_shouldDoDeepCopy() {
+    public void testGetResponseDetails_shouldNotCopy() {
         FeedbackResponseAttributes fra = new FeedbackResponseAttributes(
                 "Session1", "CS3281",
                 "questionId", "giver@email.com", "giverSection",
                 "recipient@email.com", "recipientSection",
                 new FeedbackTextResponseDetails("My original answer"));
-        FeedbackResponseDetails frdDeep = fra.getResponseDetails();
+        FeedbackResponseDetails frd = fra.getResponseDetails();
+
+        assertSame(frd, fra.getResponseDetails());
 
-        ((FeedbackTextResponseDetails) fra.responseDetails).answer = "My second answer";
-        assertEquals(frdDeep.getAnswerString(), "My original answer");
+        fra.setResponseDetails(new FeedbackTextResponseDetails("My second answer"));
+        assertEquals(frd.getAnswerString(), "My original answer");
+        assertEquals(fra.getResponseDetails().getAnswerString(), "My second answer");
+    }
+
+    @Test
+    public void testConstructorFromEntity_shouldShareParsedDetailsWithCopies() {
+        FeedbackResponse entity = new FeedbackResponse("Session1", "CS3281", "questionId",
+                FeedbackQuestionType.TEXT, "giver@email.com", "giverSection",
+                "recipient@email.com", "recipientSection", "My answer");
+        FeedbackResponseAttributes fra = new FeedbackResponseAttributes(entity);
+        FeedbackResponseDetails details = fra.getResponseDetails();
+
+        assertEquals("My answer", details.getAnswerString());
+        assertSame(details, new FeedbackResponseAttributes(fra).getResponseDetails());
     }
 
     @Test
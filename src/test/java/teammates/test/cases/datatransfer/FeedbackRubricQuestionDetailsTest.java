@@ -1,14 +1,30 @@
 package teammates.test.cases.datatransfer;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 
 import org.testng.annotations.Test;
 
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.FeedbackSessionResponseStatus;
+import teammates.common.datatransfer.FeedbackSessionResultsBundle;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.questions.FeedbackQuestionType;
 import teammates.common.datatransfer.questions.FeedbackRubricQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackRubricQuestionDetails.RubricStatistics;
+import teammates.common.datatransfer.questions.FeedbackRubricResponseDetails;
 import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
 import teammates.test.cases.BaseTestCase;
 
 /**
@@ -254,4 +270,155 @@ public class FeedbackRubricQuestionDetailsTest extends BaseTestCase {
         List<String> errors = rubricDetails.validateQuestionDetails(dummySessionToken);
         assertEquals(0, errors.size());
     }
+
+    @Test
+    public void testRubricStatistics_shouldCountChoicesOverallAndPerRecipient() {
+        FeedbackRubricQuestionDetails rubricDetails = getRubricDetailsWithWeights();
+
+        RubricStatistics statistics = new RubricStatistics(rubricDetails, Arrays.asList(
+                getRubricResponse("alice@email.com", "alice@email.com", 0, 1),
+                getRubricResponse("bob@email.com", "alice@email.com", 1, -1),
+                getRubricResponse("alice@email.com", "bob@email.com", 1, 0)));
+
+        ______TS("counts of all the responses, with the number of responses to each sub-question last");
+
+        assertEquals(3, statistics.getNumOfResponses());
+        assertEquals("[[1, 2, 3], [1, 1, 2]]", Arrays.deepToString(statistics.getResponseFrequency(false)));
+        assertEquals("[[0, 2, 2], [1, 0, 1]]", Arrays.deepToString(statistics.getResponseFrequency(true)));
+
+        ______TS("counts of the responses to each recipient");
+
+        assertEquals(new HashSet<>(Arrays.asList("alice@email.com", "bob@email.com")), statistics.getRecipients());
+
+        RubricStatistics statisticsOfAlice = statistics.getRecipientStatistics("alice@email.com");
+        assertEquals(2, statisticsOfAlice.getNumOfResponses());
+        assertEquals("[[1, 1, 2], [0, 1, 1]]", Arrays.deepToString(statisticsOfAlice.getResponseFrequency(false)));
+        assertEquals(4.0, statisticsOfAlice.getWeightedTotal(0), 0.001);
+        assertEquals(2.0, statisticsOfAlice.getWeightedTotal(1), 0.001);
+        assertEquals("[[0.5, 0.5, 2.0], [0.0, 1.0, 2.0]]",
+                Arrays.deepToString(statisticsOfAlice.getPercentageFrequencyAndAverage(false)));
+
+        RubricStatistics statisticsOfBob = statistics.getRecipientStatistics("bob@email.com");
+        assertEquals("[[0, 1, 1], [1, 0, 1]]", Arrays.deepToString(statisticsOfBob.getResponseFrequency(false)));
+
+        ______TS("recipient without responses");
+
+        assertEquals(0, statistics.getRecipientStatistics("carol@email.com").getNumOfResponses());
+
+        ______TS("statistics of a recipient have no recipients of their own");
+
+        assertTrue(statisticsOfAlice.getRecipients().isEmpty());
+        assertEquals(0, statisticsOfAlice.getRecipientStatistics("alice@email.com").getNumOfResponses());
+    }
+
+    @Test
+    public void testGetQuestionResultStatisticsJson() {
+        FeedbackRubricQuestionDetails rubricDetails = getRubricDetailsWithWeights();
+        FeedbackQuestionAttributes question = FeedbackQuestionAttributes.builder()
+                .withFeedbackSessionName("Session1")
+                .withCourseId("CS3281")
+                .withQuestionDetails(rubricDetails)
+                .withGiverType(FeedbackParticipantType.STUDENTS)
+                .withRecipientType(FeedbackParticipantType.OWN_TEAM_MEMBERS_INCLUDING_SELF)
+                .build();
+        List<FeedbackResponseAttributes> responses = Arrays.asList(
+                getRubricResponse("alice@email.com", "alice@email.com", 0, 1),
+                getRubricResponse("bob@email.com", "alice@email.com", 1, -1),
+                getRubricResponse("alice@email.com", "bob@email.com", 1, 0));
+
+        Map<String, String> emailNameTable = new HashMap<>();
+        emailNameTable.put("alice@email.com", "Alice");
+        emailNameTable.put("bob@email.com", "Bob");
+        Map<String, String> emailTeamNameTable = new HashMap<>();
+        emailTeamNameTable.put("alice@email.com", "Team 1");
+        emailTeamNameTable.put("bob@email.com", "Team 1");
+        FeedbackSessionResultsBundle bundle = new FeedbackSessionResultsBundle(
+                FeedbackSessionAttributes.builder("Session1", "CS3281", "instructor@email.com").build(),
+                new ArrayList<>(), new HashMap<>(), emailNameTable, new HashMap<>(), emailTeamNameTable,
+                new HashMap<>(), new HashMap<>(), new FeedbackSessionResponseStatus(),
+                new CourseRoster(new ArrayList<>(), new ArrayList<>()), new HashMap<>());
+
+        ______TS("no responses");
+
+        assertEquals("", rubricDetails.getQuestionResultStatisticsJson(
+                new ArrayList<>(), question, "instructor@email.com", bundle, false));
+
+        ______TS("instructor view: statistics of all the responses, excluding self-responses and per recipient");
+
+        JsonObject statistics = JsonUtils.parse(rubricDetails.getQuestionResultStatisticsJson(
+                responses, question, "instructor@email.com", bundle, false)).getAsJsonObject();
+
+        JsonArray subQuestions = statistics.getAsJsonArray("subQuestions");
+        assertEquals(2, subQuestions.size());
+        verifySubQuestionStatistics(subQuestions.get(0).getAsJsonObject(), "SubQn-1", "[1,2]", 3);
+        assertEquals(66.67, subQuestions.get(0).getAsJsonObject().getAsJsonArray("percentages").get(1).getAsDouble(),
+                0.01);
+        assertEquals(2.17, subQuestions.get(0).getAsJsonObject().get("average").getAsDouble(), 0.01);
+        verifySubQuestionStatistics(subQuestions.get(1).getAsJsonObject(), "SubQn-2", "[1,1]", 2);
+        assertEquals(1.5, subQuestions.get(1).getAsJsonObject().get("average").getAsDouble(), 0.01);
+
+        JsonArray subQuestionsExcludingSelf = statistics.getAsJsonArray("subQuestionsExcludingSelf");
+        verifySubQuestionStatistics(subQuestionsExcludingSelf.get(0).getAsJsonObject(), "SubQn-1", "[0,2]", 2);
+        verifySubQuestionStatistics(subQuestionsExcludingSelf.get(1).getAsJsonObject(), "SubQn-2", "[1,0]", 1);
+
+        JsonArray perRecipient = statistics.getAsJsonArray("perRecipient");
+        assertEquals(2, perRecipient.size());
+        JsonObject statisticsOfAlice = perRecipient.get(0).getAsJsonObject();
+        assertEquals("Alice", statisticsOfAlice.get("recipientName").getAsString());
+        assertEquals("Team 1", statisticsOfAlice.get("recipientTeam").getAsString());
+        JsonObject subQuestionOfAlice = statisticsOfAlice.getAsJsonArray("subQuestions").get(0).getAsJsonObject();
+        verifySubQuestionStatistics(subQuestionOfAlice, "SubQn-1", "[1,1]", 2);
+        assertEquals(4.0, subQuestionOfAlice.get("total").getAsDouble(), 0.01);
+        assertEquals(2.0, subQuestionOfAlice.get("average").getAsDouble(), 0.01);
+        assertEquals("Bob", perRecipient.get(1).getAsJsonObject().get("recipientName").getAsString());
+
+        ______TS("student view: statistics of the responses received by the student");
+
+        statistics = JsonUtils.parse(rubricDetails.getQuestionResultStatisticsJson(
+                responses, question, "bob@email.com", bundle, true)).getAsJsonObject();
+
+        subQuestions = statistics.getAsJsonArray("subQuestions");
+        verifySubQuestionStatistics(subQuestions.get(0).getAsJsonObject(), "SubQn-1", "[0,1]", 1);
+        verifySubQuestionStatistics(subQuestions.get(1).getAsJsonObject(), "SubQn-2", "[1,0]", 1);
+        subQuestionsExcludingSelf = statistics.getAsJsonArray("subQuestionsExcludingSelf");
+        verifySubQuestionStatistics(subQuestionsExcludingSelf.get(0).getAsJsonObject(), "SubQn-1", "[0,1]", 1);
+    }
+
+    private void verifySubQuestionStatistics(JsonObject subQuestionStatistics, String expectedSubQuestion,
+            String expectedAnswerCounts, int expectedNumOfResponses) {
+        assertEquals(expectedSubQuestion, subQuestionStatistics.get("subQuestion").getAsString());
+        assertEquals(expectedAnswerCounts, subQuestionStatistics.getAsJsonArray("answerCounts").toString());
+        assertEquals(expectedNumOfResponses, subQuestionStatistics.get("numOfResponses").getAsInt());
+    }
+
+    private FeedbackRubricQuestionDetails getRubricDetailsWithWeights() {
+        FeedbackRubricQuestionDetails rubricDetails = new FeedbackRubricQuestionDetails();
+        Map<String, String[]> requestParams = new HashMap<>();
+        requestParams.put(Const.ParamsNames.FEEDBACK_QUESTION_TYPE, new String[] { "RUBRIC" });
+        requestParams.put(Const.ParamsNames.FEEDBACK_QUESTION_TEXT, new String[] { "Rubric question text" });
+        requestParams.put(Const.ParamsNames.FEEDBACK_QUESTION_RUBRIC_NUM_COLS, new String[] { "2" });
+        requestParams.put(Const.ParamsNames.FEEDBACK_QUESTION_RUBRIC_NUM_ROWS, new String[] { "2" });
+        requestParams.put(Const.ParamsNames.FEEDBACK_QUESTION_RUBRIC_WEIGHTS_ASSIGNED, new String[] { "on" });
+        requestParams.put(Const.ParamsNames.FEEDBACK_QUESTION_RUBRIC_SUBQUESTION + "-0", new String[] {"SubQn-1"});
+        requestParams.put(Const.ParamsNames.FEEDBACK_QUESTION_RUBRIC_SUBQUESTION + "-1", new String[] {"SubQn-2"});
+        requestParams.put(Const.ParamsNames.FEEDBACK_QUESTION_RUBRIC_CHOICE + "-0", new String[] {"Choice-1"});
+        requestParams.put(Const.ParamsNames.FEEDBACK_QUESTION_RUBRIC_CHOICE + "-1", new String[] {"Choice-2"});
+        requestParams.put(Const.ParamsNames.FEEDBACK_QUESTION_RUBRIC_WEIGHT + "-0-0", new String[] { "1.50" });
+        requestParams.put(Const.ParamsNames.FEEDBACK_QUESTION_RUBRIC_WEIGHT + "-0-1", new String[] { "2.50" });
+        requestParams.put(Const.ParamsNames.FEEDBACK_QUESTION_RUBRIC_WEIGHT + "-1-0", new String[] { "1.00" });
+        requestParams.put(Const.ParamsNames.FEEDBACK_QUESTION_RUBRIC_WEIGHT + "-1-1", new String[] { "2.00" });
+        assertTrue(rubricDetails.extractQuestionDetails(requestParams, FeedbackQuestionType.RUBRIC));
+        return rubricDetails;
+    }
+
+    private FeedbackResponseAttributes getRubricResponse(String giver, String recipient, int... chosenChoices) {
+        FeedbackRubricResponseDetails responseDetails = new FeedbackRubricResponseDetails();
+        responseDetails.answer = new ArrayList<>();
+        for (int chosenChoice : chosenChoices) {
+            responseDetails.answer.add(chosenChoice);
+        }
+        return new FeedbackResponseAttributes("Session1", "CS3281", "questionId",
+                giver, "Section 1", recipient, "Section 1", responseDetails);
+    }
+
 }
@@ -9,6 +9,7 @@ import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.DataBundle;
+import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
@@ -107,4 +108,52 @@ public class FeedbackSessionResultsBundleTest extends BaseTestCase {
                 bundle.getCsvDetailedFeedbackParticipantCommentOnResponse(
                         responseBundle.feedbackResponses.get("response1ForQ1S1C1")));
     }
+
+    @Test
+    public void testGetAnonymisedName() {
+        DataBundle responseBundle = loadDataBundle("/FeedbackSessionResultsBundleTest.json");
+
+        FeedbackSessionAttributes session = responseBundle.feedbackSessions.get("session1InCourse1");
+
+        Map<String, String> emailNameTable = new HashMap<>();
+        emailNameTable.put("student1InCourse1@gmail.tmt", "Student 1 in course 1");
+        emailNameTable.put("student2InCourse1@gmail.tmt", "Student in two courses");
+        emailNameTable.put("student3InCourse1@gmail.tmt", "student3 In Course1");
+
+        Map<String, boolean[]> visibilityTable = new HashMap<>();
+        boolean[] visibility = new boolean[2];
+        visibilityTable.put("response1ForQ1S1C1", visibility);
+        visibilityTable.put("response2ForQ1S1C1", visibility);
+        visibilityTable.put("response1ForQ2S1C1", visibility);
+        visibilityTable.put("response2ForQ2S1C1", visibility);
+        visibilityTable.put("response3ForQ2S1C1", new boolean[] { true, true });
+
+        FeedbackSessionResultsBundle bundle =
+                new FeedbackSessionResultsBundle(session, new ArrayList<>(responseBundle.feedbackResponses.values()),
+                        responseBundle.feedbackQuestions, emailNameTable, new HashMap<>(),
+                        new HashMap<>(), null, visibilityTable, null,
+                        new CourseRoster(new ArrayList<>(responseBundle.students.values()),
+                        new ArrayList<>(responseBundle.instructors.values())), null);
+
+        ______TS("hidden participants are given the same names as without the bundle");
+
+        String anonName = FeedbackSessionResultsBundle.getAnonName(
+                FeedbackParticipantType.STUDENTS, "Student 1 in course 1");
+        assertEquals(anonName, bundle.getAnonymisedName(FeedbackParticipantType.STUDENTS, "Student 1 in course 1"));
+        assertEquals(FeedbackSessionResultsBundle.getAnonEmail(FeedbackParticipantType.STUDENTS, "Student 1 in course 1"),
+                responseBundle.feedbackResponses.get("response2ForQ2S1C1").giver);
+        assertEquals(anonName, bundle.getGiverNameForResponse(responseBundle.feedbackResponses.get("response2ForQ2S1C1")));
+
+        ______TS("hash of anonymised names removed");
+
+        assertEquals("Anonymous student", bundle.getNameWithoutAnonymousHash(anonName));
+
+        ______TS("visible names kept as they are");
+
+        FeedbackResponseAttributes visibleResponse = responseBundle.feedbackResponses.get("response3ForQ2S1C1");
+        assertEquals("student3InCourse1@gmail.tmt", visibleResponse.giver);
+        assertEquals("student3 In Course1",
+                bundle.getNameWithoutAnonymousHash(bundle.getGiverNameForResponse(visibleResponse)));
+        assertEquals("Anonymous student 1234", bundle.getNameWithoutAnonymousHash("Anonymous student 1234"));
+    }
 }
@@ -0,0 +1,91 @@
+package teammates.test.cases.datatransfer;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.questions.RecipientValueStatistics;
+import teammates.test.cases.BaseTestCase;
+
+/**
+ * SUT: {@link RecipientValueStatistics}.
+ */
+public class RecipientValueStatisticsTest extends BaseTestCase {
+
+    @Test
+    public void testAddValue() {
+
+        ______TS("no values");
+
+        RecipientValueStatistics statistics = new RecipientValueStatistics(true);
+
+        assertTrue(statistics.isEmpty());
+        assertFalse(statistics.hasValueExcludingSelf());
+        assertNull(statistics.get("alice@example.com"));
+        assertEquals(0, statistics.getCount("alice@example.com"));
+
+        ______TS("values from self and others");
+
+        statistics.addValue("alice@example.com", "alice@example.com", 4);
+        statistics.addValue("bob@example.com", "alice@example.com", 1.5);
+        statistics.addValue("carol@example.com", "alice@example.com", 3.5);
+        statistics.addValue("ALICE@example.com", "bob@example.com", 2);
+
+        assertFalse(statistics.isEmpty());
+        assertTrue(statistics.hasValueExcludingSelf());
+        assertEquals(new HashSet<>(Arrays.asList("alice@example.com", "bob@example.com")),
+                statistics.getRecipients());
+
+        RecipientValueStatistics.Values aliceValues = statistics.get("alice@example.com");
+        assertEquals(3, aliceValues.getCount());
+        assertEquals(1.5, aliceValues.getMin(), 0.001);
+        assertEquals(4, aliceValues.getMax(), 0.001);
+        assertEquals(9, aliceValues.getTotal(), 0.001);
+        assertEquals(3, aliceValues.getAverage(), 0.001);
+        assertEquals(2, aliceValues.getCountExcludingSelf());
+        assertEquals(2.5, aliceValues.getAverageExcludingSelf(), 0.001);
+        assertEquals(4, aliceValues.getSelfValue(), 0.001);
+        assertEquals(Arrays.asList(4.0, 1.5, 3.5), aliceValues.getValues());
+
+        RecipientValueStatistics.Values bobValues = statistics.get("bob@example.com");
+        assertEquals(1, statistics.getCount("bob@example.com"));
+        assertNull(bobValues.getSelfValue());
+        assertEquals(2, bobValues.getAverageExcludingSelf(), 0.001);
+
+        ______TS("only self response");
+
+        statistics.addValue("dave@example.com", "dave@example.com", 5);
+
+        assertEquals(5, statistics.get("dave@example.com").getAverage(), 0.001);
+        assertNull(statistics.get("dave@example.com").getAverageExcludingSelf());
+
+        Map<String, Double> averages = statistics.getAverages(false);
+        assertEquals(3, averages.size());
+        assertEquals(5, averages.get("dave@example.com"), 0.001);
+
+        Map<String, Double> averagesExcludingSelf = statistics.getAverages(true);
+        assertEquals(2, averagesExcludingSelf.size());
+        assertFalse(averagesExcludingSelf.containsKey("dave@example.com"));
+        assertEquals(2.5, averagesExcludingSelf.get("alice@example.com"), 0.001);
+    }
+
+    @Test
+    public void testAddValue_differentValueExcludingSelf_usedOnlyForStatisticsExcludingSelf() {
+        RecipientValueStatistics statistics = new RecipientValueStatistics(false);
+
+        // e.g. a rank which changes when the self rank of the giver is left out
+        statistics.addValue("alice@example.com", "alice@example.com", 1, 1);
+        statistics.addValue("alice@example.com", "bob@example.com", 2, 1);
+        statistics.addValue("bob@example.com", "bob@example.com", 2, 2);
+        statistics.addValue("bob@example.com", "alice@example.com", 1, 1);
+
+        RecipientValueStatistics.Values bobValues = statistics.get("bob@example.com");
+        assertEquals(2, bobValues.getAverage(), 0.001);
+        assertEquals(1, bobValues.getAverageExcludingSelf(), 0.001);
+        assertEquals(2, bobValues.getSelfValue(), 0.001);
+        assertNull(bobValues.getValues());
+    }
+
+}
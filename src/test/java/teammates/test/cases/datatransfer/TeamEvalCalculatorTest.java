@@ -0,0 +1,105 @@
+package teammates.test.cases.datatransfer;
+
+import static teammates.common.datatransfer.TeamEvalResult.NA;
+import static teammates.common.datatransfer.TeamEvalResult.NSB;
+import static teammates.common.datatransfer.TeamEvalResult.NSU;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.TeamEvalCalculator;
+import teammates.common.datatransfer.TeamEvalResult;
+import teammates.test.cases.BaseTestCase;
+
+/**
+ * SUT: {@link TeamEvalCalculator}.
+ */
+public class TeamEvalCalculatorTest extends BaseTestCase {
+
+    // CHECKSTYLE.OFF:SingleSpaceSeparator vertical alignment of values for readability
+    private static final int[][] TEAM_OF_FOUR = {
+            { 100, 100, 100, 100 },
+            { 110, 110, 110, 110 },
+            {  90,  90,  90,  90 },
+            {  10,  10,  10,  10 },
+    };
+
+    private static final int[][] TEAM_OF_THREE_WITH_MISSING_POINTS = {
+            { 100, NSU, 120 },
+            { NSB, NSB, NSB },
+            {  80, 100,  NA },
+    };
+
+    private static final int[][] TEAM_OF_FIVE = {
+            {  95, 105, 100,  90, 110 },
+            { 100, 100, NSU, 100, 100 },
+            { 120,  80, 100, 100, 100 },
+            { NSB, NSB, NSB, NSB, NSB },
+            {  60, 140, 100, 100, 100 },
+    };
+    // CHECKSTYLE.ON:SingleSpaceSeparator
+
+    @Test
+    public void testCalculate_sameResultAsStepByStepCalculation() {
+        TeamEvalCalculator calculator = new TeamEvalCalculator();
+        for (int[][] submissionValues
+                : new int[][][] { TEAM_OF_FOUR, TEAM_OF_THREE_WITH_MISSING_POINTS, TEAM_OF_FIVE }) {
+            TeamEvalResult result = calculator.calculate(submissionValues);
+
+            assertSame(submissionValues, result.claimed);
+            assertEquals(TeamEvalResult.pointsToString(TeamEvalResult.normalizeValues(submissionValues)),
+                    TeamEvalResult.pointsToString(result.normalizedClaimed));
+
+            double[] normalizedAveragePerceived = calculateNormalizedAveragePerceived(submissionValues);
+            assertEquals(Arrays.toString(round(normalizedAveragePerceived)),
+                    Arrays.toString(result.normalizedAveragePerceived));
+
+            for (int i = 0; i < submissionValues.length; i++) {
+                int[] claimedSanitized = Arrays.stream(submissionValues[i])
+                        .map(points -> points == NSB ? NA : points)
+                        .toArray();
+                assertEquals(Arrays.toString(TeamEvalResult.calculatePerceivedForStudent(
+                                claimedSanitized, normalizedAveragePerceived)),
+                        Arrays.toString(result.denormalizedAveragePerceived[i]));
+            }
+        }
+    }
+
+    @Test
+    public void testCalculateAll_reusedAcrossTeamsOfDifferentSizes() {
+        Map<String, int[][]> submissionValuesByTeam = new LinkedHashMap<>();
+        submissionValuesByTeam.put("Team 4", TEAM_OF_FOUR);
+        submissionValuesByTeam.put("Team 3", TEAM_OF_THREE_WITH_MISSING_POINTS);
+        submissionValuesByTeam.put("Team 5", TEAM_OF_FIVE);
+        submissionValuesByTeam.put("Team 3 again", TEAM_OF_THREE_WITH_MISSING_POINTS);
+
+        Map<String, TeamEvalResult> results = new TeamEvalCalculator().calculateAll(submissionValuesByTeam);
+
+        assertEquals(Arrays.asList("Team 4", "Team 3", "Team 5", "Team 3 again"),
+                Arrays.asList(results.keySet().toArray()));
+        submissionValuesByTeam.forEach((team, submissionValues) ->
+                assertEquals(new TeamEvalResult(submissionValues).toString(), results.get(team).toString()));
+    }
+
+    private static double[] calculateNormalizedAveragePerceived(int[][] submissionValues) {
+        double[][] peerContributionRatio = new double[submissionValues.length][];
+        for (int i = 0; i < submissionValues.length; i++) {
+            peerContributionRatio[i] = TeamEvalResult.normalizeValues(Arrays.stream(submissionValues[i])
+                    .map(points -> points == NSB ? NA : points)
+                    .toArray());
+        }
+        peerContributionRatio = TeamEvalResult.removeSelfRatings(peerContributionRatio);
+        for (int i = 0; i < peerContributionRatio.length; i++) {
+            peerContributionRatio[i] = TeamEvalResult.normalizeValues(peerContributionRatio[i]);
+        }
+        return TeamEvalResult.normalizeValues(TeamEvalResult.averageColumns(peerContributionRatio));
+    }
+
+    private static int[] round(double[] values) {
+        return Arrays.stream(values).mapToInt(value -> (int) Math.round(value)).toArray();
+    }
+
+}
@@ -0,0 +1,48 @@
+package teammates.test.cases.datatransfer;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.TeamMembershipIndex;
+import teammates.test.cases.BaseTestCase;
+
+/**
+ * SUT: {@link TeamMembershipIndex}.
+ */
+public class TeamMembershipIndexTest extends BaseTestCase {
+
+    @Test
+    public void testGetMembersAndPositions() {
+        Map<String, Set<String>> teamNameMembersTable = new HashMap<>();
+        teamNameMembersTable.put("Team 1", new HashSet<>(Arrays.asList("c@example.com", "a@example.com", "b@example.com")));
+        teamNameMembersTable.put("Team 2", new HashSet<>(Arrays.asList("d@example.com")));
+
+        TeamMembershipIndex index = new TeamMembershipIndex(teamNameMembersTable);
+
+        ______TS("members are sorted by email");
+
+        assertEquals(Arrays.asList("a@example.com", "b@example.com", "c@example.com"), index.getMembers("Team 1"));
+        assertEquals(Arrays.asList("d@example.com"), index.getMembers("Team 2"));
+        assertNull(index.getMembers("Team 3"));
+
+        ______TS("positions are the indexes of the members in the sorted list");
+
+        for (String team : teamNameMembersTable.keySet()) {
+            for (String email : index.getMembers(team)) {
+                assertEquals(index.getMembers(team).indexOf(email), index.getPosition(team, email));
+            }
+        }
+
+        ______TS("member of another team, non-member and non-existent team");
+
+        assertEquals(-1, index.getPosition("Team 1", "d@example.com"));
+        assertEquals(-1, index.getPosition("Team 1", "nobody@example.com"));
+        assertEquals(-1, index.getPosition("Team 3", "a@example.com"));
+    }
+
+}
@@ -1,5 +1,7 @@
 package teammates.test.cases.logic;
 
+import java.io.PrintWriter;
+import java.io.StringWriter;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.ArrayList;
@@ -667,6 +669,18 @@ public class CoursesLogicTest extends BaseLogicTest {
 
         CsvChecker.verifyCsvContent(csvString, "/courseStudentListWithSection.csv");
 
+        ______TS("Typical case: roster written to a writer contains every student");
+
+        StringWriter export = new StringWriter();
+        coursesLogic.writeCourseStudentListAsCsv(coursesLogic.getCourse(courseId), new PrintWriter(export));
+
+        CsvChecker.verifyCsvContent(export.toString(), "/courseStudentListWithSection.csv");
+        List<StudentAttributes> studentsInCourse = StudentsLogic.inst().getStudentsForCourse(courseId);
+        assertFalse(studentsInCourse.isEmpty());
+        for (StudentAttributes student : studentsInCourse) {
+            AssertHelper.assertContains(student.email, export.toString());
+        }
+
         ______TS("Typical case: course without sections");
 
         InstructorAttributes instructor1OfCourse2 = dataBundle.instructors.get("instructor1OfCourse2");
@@ -4,7 +4,6 @@ import java.io.IOException;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.util.Arrays;
 import java.util.List;
 
 import org.testng.annotations.Test;
@@ -21,6 +20,7 @@ import teammates.common.util.Config;
 import teammates.common.util.Const;
 import teammates.common.util.EmailType;
 import teammates.common.util.EmailWrapper;
+import teammates.common.util.ErrorLogAggregator;
 import teammates.common.util.SanitizationHelper;
 import teammates.common.util.StringHelper;
 import teammates.common.util.TimeHelper;
@@ -462,21 +462,26 @@ public class EmailGeneratorTest extends BaseLogicTest {
     }
 
     @Test
-    public void testGenerateCompiledLogsEmail() throws IOException {
+    public void testGenerateCompiledLogsEmail_aggregatedLogs() throws IOException {
+        AppLogLine exceptionLogLine = new AppLogLine();
+        exceptionLogLine.setLogLevel(LogLevel.ERROR);
+        exceptionLogLine.setLogMessage("Error\njava.lang.IllegalStateException: unexpected\n"
+                + "    at teammates.common.util.Foo.<init>(Foo.java:1)");
+
         AppLogLine typicalLogLine = new AppLogLine();
-        typicalLogLine.setLogLevel(LogLevel.ERROR);
+        typicalLogLine.setLogLevel(LogLevel.FATAL);
         typicalLogLine.setLogMessage("Typical log message");
 
-        AppLogLine logLineWithLineBreak = new AppLogLine();
-        logLineWithLineBreak.setLogLevel(LogLevel.ERROR);
-        logLineWithLineBreak.setLogMessage("Log line \n with line break <br> and also HTML br tag");
+        ErrorLogAggregator aggregator = new ErrorLogAggregator();
+        aggregator.add(typicalLogLine);
+        aggregator.add(exceptionLogLine);
+        aggregator.add(exceptionLogLine);
 
-        EmailWrapper email = new EmailGenerator().generateCompiledLogsEmail(
-                Arrays.asList(typicalLogLine, logLineWithLineBreak));
+        EmailWrapper email = new EmailGenerator().generateCompiledLogsEmail(aggregator);
 
         String subject = String.format(EmailType.SEVERE_LOGS_COMPILATION.getSubject(), Config.APP_VERSION);
 
-        verifyEmail(email, Config.SUPPORT_EMAIL, subject, "/severeLogsCompilationEmail.html");
+        verifyEmail(email, Config.SUPPORT_EMAIL, subject, "/severeLogsGroupedCompilationEmail.html");
     }
 
     private void setTimeZoneButMaintainLocalDate(FeedbackSessionAttributes session, ZoneId newTimeZone) {
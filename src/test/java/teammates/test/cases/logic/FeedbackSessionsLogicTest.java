@@ -8,13 +8,16 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.DataBundle;
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.FeedbackSessionCompletionIndex;
 import teammates.common.datatransfer.FeedbackSessionDetailsBundle;
 import teammates.common.datatransfer.FeedbackSessionQuestionsBundle;
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
@@ -40,6 +43,8 @@ import teammates.logic.core.FeedbackQuestionsLogic;
 import teammates.logic.core.FeedbackResponseCommentsLogic;
 import teammates.logic.core.FeedbackResponsesLogic;
 import teammates.logic.core.FeedbackSessionsLogic;
+import teammates.logic.core.InstructorsLogic;
+import teammates.logic.core.StudentsLogic;
 import teammates.storage.api.FeedbackSessionsDb;
 import teammates.test.driver.AssertHelper;
 import teammates.test.driver.CsvChecker;
@@ -151,6 +156,7 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         testIsFeedbackSessionCompletedByStudent();
         testIsFeedbackSessionCompletedByInstructor();
         testIsFeedbackSessionFullyCompletedByStudent();
+        testGetFeedbackSessionCompletionIndex();
 
         testMoveFeedbackSessionToRecycleBin();
         testRestoreFeedbackSessionFromRecycleBin();
@@ -676,6 +682,22 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         actualSessions = fsLogic.getFeedbackSessionsForUserInCourse("idOfArchivedCourse", "student1InCourse1@gmail.tmt");
         AssertHelper.assertContains(dataBundle.feedbackSessions.get("archiveCourse.session1").toString(),
                 actualSessions.toString());
+
+        ______TS("Several courses at once: same sessions as for each course");
+
+        Map<String, String> userEmails = new HashMap<>();
+        userEmails.put("idOfTypicalCourse1", "student1InCourse1@gmail.tmt");
+        userEmails.put("idOfTypicalCourse2", "instructor2@course2.tmt");
+        userEmails.put("idOfCourseNoEvals", "student1InCourse1@gmail.tmt");
+        Map<String, List<FeedbackSessionAttributes>> sessionsByCourse =
+                fsLogic.getFeedbackSessionsForUsersInCoursesSkipCheck(userEmails);
+
+        assertEquals(userEmails.keySet(), sessionsByCourse.keySet());
+        for (Map.Entry<String, String> userEmail : userEmails.entrySet()) {
+            assertEquals(fsLogic.getFeedbackSessionsForUserInCourse(userEmail.getKey(), userEmail.getValue()).toString(),
+                    sessionsByCourse.get(userEmail.getKey()).toString());
+        }
+        assertTrue(sessionsByCourse.get("idOfCourseNoEvals").isEmpty());
     }
 
     private void testGetFeedbackSessionQuestionsForStudent() throws Exception {
@@ -1165,6 +1187,27 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         assertEquals(4, results.responses.size());
         assertEquals(8, results.questions.size());
 
+        ______TS("standard case to view all sections within a range, which applies to each question");
+
+        FeedbackSessionResultsBundle allResults = fsLogic.getFeedbackSessionResultsForInstructor(
+                session.getFeedbackSessionName(), session.getCourseId(), instructor.email);
+
+        // 15 responses in the session, at most 3 per question
+        results = fsLogic.getFeedbackSessionResultsForInstructorWithinRangeFromView(
+                session.getFeedbackSessionName(), session.getCourseId(), instructor.email,
+                3, Const.FeedbackSessionResults.GRQ_SORT_TYPE);
+
+        assertTrue(results.isComplete);
+        assertEquals(allResults.responses.stream().map(FeedbackResponseAttributes::getId).collect(Collectors.toSet()),
+                results.responses.stream().map(FeedbackResponseAttributes::getId).collect(Collectors.toSet()));
+
+        // q2 and q4 have 3 responses each
+        results = fsLogic.getFeedbackSessionResultsForInstructorWithinRangeFromView(
+                session.getFeedbackSessionName(), session.getCourseId(), instructor.email,
+                2, Const.FeedbackSessionResults.GRQ_SORT_TYPE);
+
+        assertFalse(results.isComplete);
+
         ______TS("failure: no session");
 
         EntityDoesNotExistException ednee = assertThrows(EntityDoesNotExistException.class,
@@ -1605,6 +1648,42 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
                                                                      student3OfCourse1.email));
     }
 
+    private void testGetFeedbackSessionCompletionIndex() throws Exception {
+
+        ______TS("typical case: same completion as checking each user separately");
+
+        String courseId = dataBundle.courses.get("typicalCourse1").getId();
+        List<StudentAttributes> students = StudentsLogic.inst().getStudentsForCourse(courseId);
+        List<InstructorAttributes> instructors = InstructorsLogic.inst().getInstructorsForCourse(courseId);
+        CourseRoster roster = new CourseRoster(students, instructors);
+
+        for (FeedbackSessionAttributes session : fsLogic.getFeedbackSessionsForCourse(courseId)) {
+            FeedbackSessionCompletionIndex completionIndex = fsLogic.getFeedbackSessionCompletionIndex(session);
+            Set<String> studentsWhoFullyCompleted =
+                    fsLogic.getStudentsWhoFullyCompletedFeedbackSession(session, roster);
+
+            for (StudentAttributes student : students) {
+                assertEquals(fsLogic.isFeedbackSessionCompletedByStudent(session, student.email),
+                        completionIndex.isCompletedByStudent(student.email));
+                assertEquals(fsLogic.isFeedbackSessionFullyCompletedByStudent(
+                                session.getFeedbackSessionName(), courseId, student.email),
+                        studentsWhoFullyCompleted.contains(student.email));
+            }
+            for (InstructorAttributes instructor : instructors) {
+                assertEquals(fsLogic.isFeedbackSessionCompletedByInstructor(session, instructor.email),
+                        completionIndex.isCompletedByInstructor(instructor.email));
+            }
+        }
+
+        ______TS("fully done by student 1, partially done by student 3");
+
+        FeedbackSessionAttributes fs = fsLogic.getFeedbackSession("First feedback session", courseId);
+        Set<String> studentsWhoFullyCompleted = fsLogic.getStudentsWhoFullyCompletedFeedbackSession(fs, roster);
+
+        assertTrue(studentsWhoFullyCompleted.contains(dataBundle.students.get("student1InCourse1").email));
+        assertFalse(studentsWhoFullyCompleted.contains(dataBundle.students.get("student3InCourse1").email));
+    }
+
     private FeedbackSessionAttributes getNewFeedbackSession() {
         return FeedbackSessionAttributes.builder("fsTest1", "testCourse", "valid@email.tmt")
                 .withCreatedTime(TimeHelperExtension.getInstantHoursOffsetFromNow(-2))
@@ -0,0 +1,113 @@
+package teammates.test.cases.search;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.google.appengine.api.search.Document;
+import com.google.appengine.api.search.Field;
+import com.google.appengine.api.search.Results;
+import com.google.appengine.api.search.ScoredDocument;
+
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.util.Const;
+import teammates.storage.search.InProcessSearchBackend;
+import teammates.storage.search.InstructorSearchQuery;
+import teammates.storage.search.SearchQuery;
+import teammates.storage.search.StudentSearchQuery;
+import teammates.test.cases.BaseTestCase;
+
+/**
+ * SUT: {@link InProcessSearchBackend}.
+ */
+public class InProcessSearchBackendTest extends BaseTestCase {
+
+    private static final String INDEX_NAME = "testindex";
+
+    @Test
+    public void testSearchDocuments() {
+        InProcessSearchBackend backend = new InProcessSearchBackend(null);
+        backend.putDocuments(INDEX_NAME, Arrays.asList(
+                createDocument("alice", "course1", "Alice Tan, alice.tan@gmail.tmt, Team 1", 3),
+                createDocument("bob", "course1", "Bob Lee, bob@gmail.tmt, Team 2", 2),
+                createDocument("carol", "course2", "Carol Tan, carol@gmail.tmt, Team 1", 1)));
+
+        ______TS("keywords are matched case-insensitively by prefix, ordered by descending rank");
+
+        assertEquals(Arrays.asList("alice", "carol"), search(backend, new InstructorSearchQuery("TA")));
+        assertEquals(Arrays.asList("bob"), search(backend, new InstructorSearchQuery("le")));
+        assertTrue(search(backend, new InstructorSearchQuery("eli")).isEmpty());
+
+        ______TS("punctuation separates tokens, as in sanitized text");
+
+        assertEquals(Arrays.asList("alice"), search(backend, new InstructorSearchQuery("alice.tan@gmail")));
+        assertEquals(Arrays.asList("alice", "bob", "carol"), search(backend, new InstructorSearchQuery("gmail.tmt")));
+
+        ______TS("any keyword, but every token of a phrase, has to match");
+
+        assertEquals(Arrays.asList("alice", "bob"), search(backend, new InstructorSearchQuery("alice bob")));
+        assertEquals(Arrays.asList("carol"), search(backend, new InstructorSearchQuery("\"carol team\"")));
+        assertTrue(search(backend, new InstructorSearchQuery("\"alice bob\"")).isEmpty());
+
+        ______TS("only documents of the visible courses are returned");
+
+        assertEquals(Arrays.asList("carol"), search(backend, new StudentSearchQuery(getInstructorsOf("course2"), "tan")));
+
+        ______TS("documents can be updated and deleted");
+
+        backend.putDocument(INDEX_NAME, createDocument("bob", "course1", "Robert Lee, bob@gmail.tmt, Team 2", 2));
+        assertEquals(Arrays.asList("bob"), search(backend, new InstructorSearchQuery("robert")));
+        assertTrue(search(backend, new InstructorSearchQuery("bob lee")).contains("bob"));
+
+        backend.deleteDocuments(INDEX_NAME, Arrays.asList("alice", "nonexistent"));
+        assertEquals(Arrays.asList("carol"), search(backend, new InstructorSearchQuery("tan")));
+    }
+
+    @Test
+    public void testSearchDocuments_indexDirectoryGiven_indexRestoredFromJournal() throws IOException {
+        Path indexDirectory = Files.createTempDirectory("searchindex");
+        InProcessSearchBackend backend = new InProcessSearchBackend(indexDirectory.toString());
+        backend.putDocuments(INDEX_NAME, Arrays.asList(
+                createDocument("alice", "course1", "Alice Tan", 2),
+                createDocument("bob", "course1", "Bob Tan", 1)));
+        backend.deleteDocument(INDEX_NAME, "bob");
+
+        InProcessSearchBackend restoredBackend = new InProcessSearchBackend(indexDirectory.toString());
+
+        Results<ScoredDocument> results = restoredBackend.searchDocuments(INDEX_NAME, new InstructorSearchQuery("tan"));
+        assertEquals(1, results.getNumberFound());
+        ScoredDocument document = results.getResults().iterator().next();
+        assertEquals("alice", document.getId());
+        assertEquals(2, document.getRank());
+        assertEquals("course1", document.getOnlyField(Const.SearchDocumentField.COURSE_ID).getText());
+        assertEquals("alice@gmail.tmt", document.getOnlyField(Const.SearchDocumentField.STUDENT_EMAIL).getAtom());
+    }
+
+    private List<String> search(InProcessSearchBackend backend, SearchQuery query) {
+        List<String> ids = new ArrayList<>();
+        for (ScoredDocument document : backend.searchDocuments(INDEX_NAME, query)) {
+            ids.add(document.getId());
+        }
+        return ids;
+    }
+
+    private List<InstructorAttributes> getInstructorsOf(String courseId) {
+        return Arrays.asList(InstructorAttributes.builder("googleId", courseId, "Instructor", "ins@email.tmt").build());
+    }
+
+    private Document createDocument(String id, String courseId, String searchableText, int rank) {
+        return Document.newBuilder()
+                .setId(id)
+                .setRank(rank)
+                .addField(Field.newBuilder().setName(Const.SearchDocumentField.COURSE_ID).setText(courseId))
+                .addField(Field.newBuilder().setName(Const.SearchDocumentField.STUDENT_EMAIL).setAtom(id + "@gmail.tmt"))
+                .addField(Field.newBuilder().setName(Const.SearchDocumentField.SEARCHABLE_TEXT).setText(searchableText))
+                .build();
+    }
+
+}
@@ -78,12 +78,39 @@ public class StudentSearchTest extends BaseSearchTest {
 
         ______TS("success: search for students; deleted student no longer searchable");
 
+        StudentAttributes deletedStudent = studentsDb.getStudentForEmail(stu1InCourse1.course, stu1InCourse1.email);
         studentsDb.deleteStudent(stu1InCourse1.course, stu1InCourse1.email);
 
         bundle = studentsDb.search("student1", ins1OfCourse1);
 
         assertEquals(0, bundle.numberOfResults);
         assertTrue(bundle.studentList.isEmpty());
+        assertTrue(bundle.staleDocumentKeys.isEmpty());
+
+        ______TS("success: search for students; stale document is reported instead of being deleted");
+
+        // simulates a document which the search engine failed to delete together with the student
+        studentsDb.putDocument(deletedStudent);
+
+        bundle = studentsDb.search("student1", ins1OfCourse1);
+
+        assertEquals(0, bundle.numberOfResults);
+        assertTrue(bundle.studentList.isEmpty());
+        assertEquals(Arrays.asList(deletedStudent.key), bundle.staleDocumentKeys);
+
+        bundle = studentsDb.searchStudentsInWholeSystem("student1");
+
+        assertEquals(4, bundle.numberOfResults);
+        assertEquals(Arrays.asList(deletedStudent.key), bundle.staleDocumentKeys);
+
+        ______TS("success: stale documents are removed in a batch");
+
+        studentsDb.deleteDocumentsByStudentKeys(bundle.staleDocumentKeys);
+
+        bundle = studentsDb.search("student1", ins1OfCourse1);
+
+        assertEquals(0, bundle.numberOfResults);
+        assertTrue(bundle.staleDocumentKeys.isEmpty());
 
     }
 
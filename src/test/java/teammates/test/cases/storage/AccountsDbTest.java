@@ -5,12 +5,15 @@ import java.util.List;
 
 import org.testng.annotations.Test;
 
+import teammates.common.datatransfer.UserPrincipal;
 import teammates.common.datatransfer.attributes.AccountAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Const;
 import teammates.common.util.FieldValidator;
 import teammates.storage.api.AccountsDb;
+import teammates.storage.api.StudentsDb;
 import teammates.test.cases.BaseComponentTestCase;
 import teammates.test.driver.AssertHelper;
 
@@ -20,6 +23,7 @@ import teammates.test.driver.AssertHelper;
 public class AccountsDbTest extends BaseComponentTestCase {
 
     private AccountsDb accountsDb = new AccountsDb();
+    private StudentsDb studentsDb = new StudentsDb();
 
     @Test
     public void testGetAccount() throws Exception {
@@ -181,6 +185,62 @@ public class AccountsDbTest extends BaseComponentTestCase {
         assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
     }
 
+    @Test
+    public void testGetUserPrincipal() throws Exception {
+        AccountAttributes a = createNewAccount();
+
+        ______TS("typical case: account without courses");
+
+        UserPrincipal principal = accountsDb.getUserPrincipal(a.googleId);
+        assertFalse(principal.isInstructor());
+        assertFalse(principal.isStudent());
+
+        ______TS("cached roles are refreshed when the account is changed");
+
+        accountsDb.updateAccount(
+                AccountAttributes.updateOptionsBuilder(a.googleId)
+                        .withIsInstructor(true)
+                        .build());
+
+        assertTrue(accountsDb.getUserPrincipal(a.googleId).isInstructor());
+
+        ______TS("cached roles are refreshed when the user joins and leaves a course");
+
+        StudentAttributes student = StudentAttributes
+                .builder("valid-course", "valid student", "valid@email.com")
+                .withComments("")
+                .withTeam("validTeamName")
+                .withSection("validSectionName")
+                .withGoogleId("")
+                .build();
+        studentsDb.createEntity(student);
+        assertFalse(accountsDb.getUserPrincipal(a.googleId).isStudent());
+
+        studentsDb.updateStudent(
+                StudentAttributes.updateOptionsBuilder(student.course, student.email)
+                        .withGoogleId(a.googleId)
+                        .build());
+
+        assertTrue(accountsDb.getUserPrincipal(a.googleId).isStudent());
+
+        studentsDb.deleteStudent(student.course, student.email);
+
+        assertFalse(accountsDb.getUserPrincipal(a.googleId).isStudent());
+
+        ______TS("user without Google ID has no roles");
+
+        principal = accountsDb.getUserPrincipal("");
+        assertFalse(principal.isInstructor());
+        assertFalse(principal.isStudent());
+
+        ______TS("failure: null parameter");
+
+        AssertionError ae = assertThrows(AssertionError.class, () -> accountsDb.getUserPrincipal(null));
+        assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
+
+        accountsDb.deleteAccount(a.googleId);
+    }
+
     private AccountAttributes createNewAccount() throws Exception {
         AccountAttributes a = getNewAccountAttributes();
         accountsDb.createAccount(a);
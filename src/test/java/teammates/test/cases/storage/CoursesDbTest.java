@@ -12,6 +12,7 @@ import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Const;
 import teammates.common.util.FieldValidator;
+import teammates.common.util.RequestMetrics;
 import teammates.storage.api.CoursesDb;
 import teammates.storage.api.EntitiesDb;
 import teammates.test.cases.BaseComponentTestCase;
@@ -209,6 +210,55 @@ public class CoursesDbTest extends BaseComponentTestCase {
 
     }
 
+    @Test
+    public void testRequestMetrics() throws InvalidParametersException {
+        CourseAttributes c = createNewCourse();
+
+        ______TS("reads and writes are recorded by entity kind and storage method");
+
+        RequestMetrics.start(true);
+        coursesDb.getCourse(c.getId());
+        coursesDb.getCourse("non-existent-course");
+        // the course is deleted with a keys-only query for its key, which is also a read
+        coursesDb.deleteCourse(c.getId());
+        RequestMetrics metrics = RequestMetrics.stop();
+
+        assertEquals(3, metrics.getDatastoreReads());
+        assertEquals(1, metrics.getEntitiesLoaded());
+        assertEquals(1, metrics.getDatastoreWrites());
+        assertEquals(3, metrics.getReadsByKind().get("Course").intValue());
+        assertEquals(1, metrics.getWritesByKind().get("Course").intValue());
+        assertEquals(2, metrics.getCallsByDbMethod().get("CoursesDb.getCourse").intValue());
+        assertEquals(2, metrics.getCallsByDbMethod().get("CoursesDb.deleteCourse").intValue());
+
+        ______TS("saved entities are not recorded as read or loaded");
+
+        RequestMetrics.start(true);
+        coursesDb.createEntityWithoutExistenceCheck(c);
+        metrics = RequestMetrics.stop();
+
+        assertEquals(0, metrics.getDatastoreReads());
+        assertEquals(0, metrics.getEntitiesLoaded());
+        assertEquals(1, metrics.getDatastoreWrites());
+
+        ______TS("storage methods are not recorded for requests which are not sampled");
+
+        RequestMetrics.start(false);
+        coursesDb.getCourse(c.getId());
+        metrics = RequestMetrics.stop();
+
+        assertEquals(1, metrics.getDatastoreReads());
+        assertEquals(1, metrics.getEntitiesLoaded());
+        assertTrue(metrics.getCallsByDbMethod().isEmpty());
+
+        ______TS("nothing is recorded when no recording is active");
+
+        coursesDb.getCourse(c.getId());
+        assertNull(RequestMetrics.stop());
+
+        coursesDb.deleteCourse(c.getId());
+    }
+
     private CourseAttributes createNewCourse() throws InvalidParametersException {
 
         CourseAttributes c = CourseAttributes
@@ -13,6 +13,7 @@ import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Const;
+import teammates.common.util.DeferredResult;
 import teammates.storage.api.EntitiesDb;
 import teammates.storage.api.FeedbackResponseCommentsDb;
 import teammates.test.cases.BaseComponentTestCase;
@@ -62,6 +63,8 @@ public class FeedbackResponseCommentsDbTest extends BaseComponentTestCase {
 
         testGetFeedbackResponseCommentsForSession();
 
+        testGetFeedbackResponseCommentsForSessionInSectionAsync();
+
         testUpdateFeedbackResponseCommentsGiverEmail();
 
         testDeleteFeedbackResponseCommentsForResponse();
@@ -258,6 +261,41 @@ public class FeedbackResponseCommentsDbTest extends BaseComponentTestCase {
         verifyListsContainSameResponseCommentAttributes(expectedFrcas, actualFrcas);
     }
 
+    private void testGetFeedbackResponseCommentsForSessionInSectionAsync() {
+
+        ______TS("null parameter");
+
+        AssertionError ae = assertThrows(AssertionError.class,
+                () -> frcDb.getFeedbackResponseCommentsForSessionInSectionAsync(null, "", null));
+        assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
+
+        ae = assertThrows(AssertionError.class,
+                () -> frcDb.getFeedbackResponseCommentsForSessionInSectionAsync("", null, null));
+        assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
+
+        ______TS("typical success case: all the loads are started before any is read");
+
+        String courseId = frcaData.courseId;
+        String feedbackSessionName = frcaData.feedbackSessionName;
+        DeferredResult<List<FeedbackResponseCommentAttributes>> commentsInSession =
+                frcDb.getFeedbackResponseCommentsForSessionInSectionAsync(courseId, feedbackSessionName, null);
+        DeferredResult<List<FeedbackResponseCommentAttributes>> commentsInSection =
+                frcDb.getFeedbackResponseCommentsForSessionInSectionAsync(courseId, feedbackSessionName, "None");
+        DeferredResult<List<FeedbackResponseCommentAttributes>> commentsInOtherSection =
+                frcDb.getFeedbackResponseCommentsForSessionInSectionAsync(courseId, feedbackSessionName, "Section 1");
+
+        verifyListsContainSameResponseCommentAttributes(
+                frcDb.getFeedbackResponseCommentsForSession(courseId, feedbackSessionName), commentsInSession.now());
+
+        // the comments are both from and to the section, but are included only once
+        assertEquals(2, commentsInSection.now().size());
+        verifyListsContainSameResponseCommentAttributes(
+                frcDb.getFeedbackResponseCommentsForSessionInSection(courseId, feedbackSessionName, "None"),
+                commentsInSection.now());
+
+        assertTrue(commentsInOtherSection.now().isEmpty());
+    }
+
     private void testUpdateFeedbackResponseCommentsGiverEmail()
             throws InvalidParametersException, EntityAlreadyExistsException {
         FeedbackResponseCommentAttributes frcaDataOfNewGiver =
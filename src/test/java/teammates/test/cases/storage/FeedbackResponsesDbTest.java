@@ -1,8 +1,10 @@
 package teammates.test.cases.storage;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
@@ -18,6 +20,7 @@ import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Const;
+import teammates.common.util.DeferredResult;
 import teammates.common.util.FieldValidator;
 import teammates.storage.api.FeedbackQuestionsDb;
 import teammates.storage.api.FeedbackResponsesDb;
@@ -217,6 +220,48 @@ public class FeedbackResponsesDbTest extends BaseComponentTestCase {
         assertTrue(frDb.getFeedbackResponsesForQuestion("non-existent fq id").isEmpty());
     }
 
+    @Test
+    public void testGetFeedbackResponsesForQuestionWithinRangeAsync() {
+
+        ______TS("standard success case: responses to all questions are the responses of the session");
+
+        String courseId = fras.get("response1ForQ1S1C1").courseId;
+        String feedbackSessionName = fras.get("response1ForQ1S1C1").feedbackSessionName;
+
+        List<DeferredResult<List<FeedbackResponseAttributes>>> responsesByQuestion = new ArrayList<>();
+        for (FeedbackQuestionAttributes question : fqDb.getFeedbackQuestionsForSession(feedbackSessionName, courseId)) {
+            responsesByQuestion.add(frDb.getFeedbackResponsesForQuestionWithinRangeAsync(question.getId(), -1));
+        }
+        List<FeedbackResponseAttributes> responses = new ArrayList<>();
+        for (DeferredResult<List<FeedbackResponseAttributes>> responsesForQuestion : responsesByQuestion) {
+            responses.addAll(responsesForQuestion.now());
+        }
+
+        List<FeedbackResponseAttributes> responsesForSession =
+                frDb.getFeedbackResponsesForSession(feedbackSessionName, courseId);
+        assertEquals(responsesForSession.size(), responses.size());
+        assertEquals(responsesForSession.stream().map(FeedbackResponseAttributes::getId).collect(Collectors.toSet()),
+                responses.stream().map(FeedbackResponseAttributes::getId).collect(Collectors.toSet()));
+
+        ______TS("range: one more response than the range is loaded");
+
+        String feedbackQuestionId = fras.get("response1ForQ1S1C1").feedbackQuestionId;
+
+        assertEquals(1, frDb.getFeedbackResponsesForQuestionWithinRangeAsync(feedbackQuestionId, 0).now().size());
+        assertEquals(2, frDb.getFeedbackResponsesForQuestionWithinRangeAsync(feedbackQuestionId, 1).now().size());
+        assertEquals(2, frDb.getFeedbackResponsesForQuestionWithinRangeAsync(feedbackQuestionId, 5).now().size());
+
+        ______TS("null params");
+
+        AssertionError ae = assertThrows(AssertionError.class,
+                () -> frDb.getFeedbackResponsesForQuestionWithinRangeAsync(null, 1));
+        AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getLocalizedMessage());
+
+        ______TS("non-existent feedback question");
+
+        assertTrue(frDb.getFeedbackResponsesForQuestionWithinRangeAsync("non-existent fq id", 1).now().isEmpty());
+    }
+
     @Test
     public void testGetFeedbackResponsesForQuestionInSection() {
 
@@ -444,6 +489,44 @@ public class FeedbackResponsesDbTest extends BaseComponentTestCase {
                 questionId, "non-existentStudentInCourse1@gmail.tmt").isEmpty());
     }
 
+    @Test
+    public void testKeysOnlyQueries() {
+
+        FeedbackResponseAttributes response = fras.get("response1ForQ1S1C1");
+
+        ______TS("responses exist");
+
+        assertTrue(frDb.hasFeedbackResponseEntitiesForCourse(response.courseId));
+        assertTrue(frDb.hasFeedbackResponseEntitiesForQuestion(response.feedbackQuestionId));
+        assertTrue(frDb.hasFeedbackResponseEntitiesFromGiverForSession(
+                response.giver, response.feedbackSessionName, response.courseId));
+        assertEquals(1, frDb.getFeedbackResponseCountFromGiverForQuestion(
+                response.feedbackQuestionId, response.giver));
+
+        ______TS("no responses");
+
+        assertFalse(frDb.hasFeedbackResponseEntitiesForCourse("idOfCourseNoEvals"));
+        assertFalse(frDb.hasFeedbackResponseEntitiesForQuestion("non-existent fq id"));
+        assertFalse(frDb.hasFeedbackResponseEntitiesFromGiverForSession(
+                "non-existentStudentInCourse1@gmail.tmt", response.feedbackSessionName, response.courseId));
+        assertEquals(0, frDb.getFeedbackResponseCountFromGiverForQuestion(
+                response.feedbackQuestionId, "non-existentStudentInCourse1@gmail.tmt"));
+
+        ______TS("null params");
+
+        AssertionError ae = assertThrows(AssertionError.class,
+                () -> frDb.hasFeedbackResponseEntitiesForQuestion(null));
+        AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getLocalizedMessage());
+
+        ae = assertThrows(AssertionError.class,
+                () -> frDb.hasFeedbackResponseEntitiesFromGiverForSession(null, "session", "course"));
+        AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getLocalizedMessage());
+
+        ae = assertThrows(AssertionError.class,
+                () -> frDb.getFeedbackResponseCountFromGiverForQuestion(response.feedbackQuestionId, null));
+        AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getLocalizedMessage());
+    }
+
     @Test
     public void testGetFeedbackResponsesFromGiverForQuestionInSection() {
 
@@ -671,6 +754,48 @@ public class FeedbackResponsesDbTest extends BaseComponentTestCase {
                 "Empty feedback session", "idOfTypicalCourse1", "Section 1").isEmpty());
     }
 
+    @Test
+    public void testGetFeedbackResponsesForSessionSectionAsync() {
+
+        ______TS("standard success case: same responses as the synchronous reads");
+
+        String courseId = fras.get("response1ForQ1S1C1").courseId;
+        String feedbackSessionName = fras.get("response1ForQ1S1C1").feedbackSessionName;
+
+        assertEquals(getIds(frDb.getFeedbackResponsesForSessionInSection(feedbackSessionName, courseId, "Section 1")),
+                getIds(frDb.getFeedbackResponsesForSessionInSectionWithinRangeAsync(
+                        feedbackSessionName, courseId, "Section 1", -1).now()));
+        assertEquals(getIds(frDb.getFeedbackResponsesForSessionInGiverAndRecipientSection(
+                        feedbackSessionName, courseId, "Section 1")),
+                getIds(frDb.getFeedbackResponsesForSessionInGiverAndRecipientSectionAsync(
+                        feedbackSessionName, courseId, "Section 1").now()));
+        assertEquals(getIds(frDb.getFeedbackResponsesForSessionFromSection(feedbackSessionName, courseId, "Section 2")),
+                getIds(frDb.getFeedbackResponsesForSessionFromSectionWithinRangeAsync(
+                        feedbackSessionName, courseId, "Section 2", -1).now()));
+        assertEquals(getIds(frDb.getFeedbackResponsesForSessionToSection(feedbackSessionName, courseId, "Section 1")),
+                getIds(frDb.getFeedbackResponsesForSessionToSectionWithinRangeAsync(
+                        feedbackSessionName, courseId, "Section 1", -1).now()));
+
+        ______TS("range: one more response than the range is loaded");
+
+        assertEquals(2, frDb.getFeedbackResponsesForSessionToSectionWithinRangeAsync(
+                feedbackSessionName, courseId, "Section 1", 1).now().size());
+
+        ______TS("null params");
+
+        AssertionError ae = assertThrows(AssertionError.class,
+                () -> frDb.getFeedbackResponsesForSessionInSectionWithinRangeAsync(null, courseId, "Section 1", -1));
+        AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getLocalizedMessage());
+
+        ae = assertThrows(AssertionError.class,
+                () -> frDb.getFeedbackResponsesForSessionInGiverAndRecipientSectionAsync(feedbackSessionName, null, "S"));
+        AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getLocalizedMessage());
+    }
+
+    private static Set<String> getIds(List<FeedbackResponseAttributes> responses) {
+        return responses.stream().map(FeedbackResponseAttributes::getId).collect(Collectors.toSet());
+    }
+
     @Test
     public void testUpdateFeedbackResponse() throws Exception {
 
@@ -729,6 +854,44 @@ public class FeedbackResponsesDbTest extends BaseComponentTestCase {
         assertEquals(modifiedResponse.getFeedbackQuestionType(), updatedResponse.getFeedbackQuestionType());
     }
 
+    @Test
+    public void testDeleteFeedbackResponsesForCourseInBatch() throws Exception {
+        String courseId = "FRDbT.batchDeletionCourse";
+        for (int i = 0; i < 5; i++) {
+            FeedbackResponseAttributes fra = getNewFeedbackResponseAttributes();
+            fra.courseId = courseId;
+            fra.giver = "giver" + i + "@email.tmt";
+            frDb.createEntity(fra);
+        }
+
+        ______TS("responses are deleted in batches until none is left");
+
+        String cursor = frDb.deleteFeedbackResponsesForCourseInBatch(courseId, null, 2);
+        assertNotNull(cursor);
+        assertTrue(frDb.hasFeedbackResponseEntitiesForCourse(courseId));
+
+        cursor = frDb.deleteFeedbackResponsesForCourseInBatch(courseId, cursor, 2);
+        assertNotNull(cursor);
+
+        cursor = frDb.deleteFeedbackResponsesForCourseInBatch(courseId, cursor, 2);
+        assertNull(cursor);
+        assertFalse(frDb.hasFeedbackResponseEntitiesForCourse(courseId));
+
+        ______TS("restarting the deletion when nothing is left");
+
+        assertNull(frDb.deleteFeedbackResponsesForCourseInBatch(courseId, null, 2));
+
+        ______TS("responses of other courses are not deleted");
+
+        assertTrue(frDb.hasFeedbackResponseEntitiesForCourse(fras.get("response1ForQ1S1C1").courseId));
+
+        ______TS("null params");
+
+        AssertionError ae = assertThrows(AssertionError.class,
+                () -> frDb.deleteFeedbackResponsesForCourseInBatch(null, null, 2));
+        AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getLocalizedMessage());
+    }
+
     private FeedbackResponseAttributes getNewFeedbackResponseAttributes() {
         FeedbackResponseAttributes fra = new FeedbackResponseAttributes();
 
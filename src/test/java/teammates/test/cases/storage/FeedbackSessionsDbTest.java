@@ -92,6 +92,29 @@ public class FeedbackSessionsDbTest extends BaseComponentTestCase {
 
     }
 
+    @Test
+    public void testTouchFeedbackSession() {
+
+        ______TS("typical case: the updated time of the session is moved to now");
+
+        Instant timeBeforeTouch = Instant.now();
+        fsDb.touchFeedbackSession("Instructor feedback session", "idOfTypicalCourse2");
+
+        FeedbackSessionAttributes session = fsDb.getFeedbackSession("idOfTypicalCourse2", "Instructor feedback session");
+        assertFalse(session.getUpdatedAt().isBefore(timeBeforeTouch));
+
+        ______TS("non-existent session: fails silently");
+
+        fsDb.touchFeedbackSession("Non-existent feedback session", "idOfTypicalCourse2");
+        assertNull(fsDb.getFeedbackSession("idOfTypicalCourse2", "Non-existent feedback session"));
+
+        ______TS("null parameters");
+
+        AssertionError ae = assertThrows(AssertionError.class,
+                () -> fsDb.touchFeedbackSession(null, "idOfTypicalCourse2"));
+        assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
+    }
+
     @Test
     public void testGetSoftDeletedFeedbackSession_typicalCase_shouldGetDeletedSession() {
         assertNotNull(fsDb.getSoftDeletedFeedbackSession("idOfTypicalCourse4",
@@ -208,6 +231,28 @@ public class FeedbackSessionsDbTest extends BaseComponentTestCase {
         assertTrue(fsDb.getSoftDeletedFeedbackSessionsForCourse("idOfCourseNoEvals").isEmpty());
     }
 
+    @Test
+    public void testHasFeedbackSessionWithOpenOrPublishedEmailSentForCourse() {
+
+        ______TS("open email sent for a session");
+
+        assertTrue(fsDb.hasFeedbackSessionWithOpenOrPublishedEmailSentForCourse("idOfTypicalCourse1"));
+
+        ______TS("open email sent only for a session in the Recycle Bin");
+
+        assertFalse(fsDb.hasFeedbackSessionWithOpenOrPublishedEmailSentForCourse("idOfTypicalCourse4"));
+
+        ______TS("no sessions in course");
+
+        assertFalse(fsDb.hasFeedbackSessionWithOpenOrPublishedEmailSentForCourse("idOfCourseNoEvals"));
+
+        ______TS("null params");
+
+        AssertionError ae = assertThrows(AssertionError.class,
+                () -> fsDb.hasFeedbackSessionWithOpenOrPublishedEmailSentForCourse(null));
+        AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getLocalizedMessage());
+    }
+
     @Test
     public void testSoftDeleteFeedbackSession() throws Exception {
         FeedbackSessionAttributes fs = getNewFeedbackSession();
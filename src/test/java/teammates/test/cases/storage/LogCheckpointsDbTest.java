@@ -0,0 +1,89 @@
+package teammates.test.cases.storage;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.Const;
+import teammates.storage.api.LogCheckpointsDb;
+import teammates.test.cases.BaseComponentTestCase;
+
+/**
+ * SUT: {@link LogCheckpointsDb}.
+ */
+public class LogCheckpointsDbTest extends BaseComponentTestCase {
+
+    private LogCheckpointsDb logCheckpointsDb = new LogCheckpointsDb();
+
+    @Test
+    public void testAdvanceProcessedUntil() {
+        Instant firstEndTime = Instant.parse("2018-01-01T10:00:00Z");
+        Instant secondEndTime = firstEndTime.plus(Duration.ofMinutes(5));
+
+        ______TS("first run: there is no checkpoint until the job has processed some logs");
+
+        assertNull(logCheckpointsDb.getProcessedUntil("advanceJob"));
+        assertTrue(logCheckpointsDb.advanceProcessedUntil("advanceJob", null, firstEndTime));
+        assertEquals(firstEndTime, logCheckpointsDb.getProcessedUntil("advanceJob"));
+
+        ______TS("typical case: the checkpoint is moved from the expected checkpoint");
+
+        assertTrue(logCheckpointsDb.advanceProcessedUntil("advanceJob", firstEndTime, secondEndTime));
+        assertEquals(secondEndTime, logCheckpointsDb.getProcessedUntil("advanceJob"));
+
+        ______TS("failure: the checkpoint is not moved from a checkpoint which has been moved in the meantime");
+
+        assertFalse(logCheckpointsDb.advanceProcessedUntil("advanceJob", firstEndTime, secondEndTime.plusSeconds(1)));
+        assertFalse(logCheckpointsDb.advanceProcessedUntil("advanceJob", null, secondEndTime.plusSeconds(1)));
+        assertEquals(secondEndTime, logCheckpointsDb.getProcessedUntil("advanceJob"));
+
+        ______TS("checkpoints of different jobs are independent");
+
+        assertNull(logCheckpointsDb.getProcessedUntil("otherJob"));
+        assertTrue(logCheckpointsDb.advanceProcessedUntil("otherJob", null, firstEndTime));
+        assertEquals(secondEndTime, logCheckpointsDb.getProcessedUntil("advanceJob"));
+
+        ______TS("null parameters");
+
+        AssertionError ae = assertThrows(AssertionError.class,
+                () -> logCheckpointsDb.advanceProcessedUntil(null, null, firstEndTime));
+        assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
+
+        ae = assertThrows(AssertionError.class,
+                () -> logCheckpointsDb.advanceProcessedUntil("advanceJob", secondEndTime, null));
+        assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
+
+        ae = assertThrows(AssertionError.class, () -> logCheckpointsDb.getProcessedUntil(null));
+        assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
+    }
+
+    @Test
+    public void testConcurrentRuns_logsNeverReportedTwice() {
+        Instant checkpoint = Instant.parse("2018-01-01T10:00:00Z");
+        assertTrue(logCheckpointsDb.advanceProcessedUntil("concurrentJob", null, checkpoint));
+
+        ______TS("two runs start from the same checkpoint; only the first to finish moves it");
+
+        Instant processedUntil = logCheckpointsDb.getProcessedUntil("concurrentJob");
+        Instant firstRunEndTime = checkpoint.plus(Duration.ofMinutes(5));
+        Instant secondRunEndTime = firstRunEndTime.plusSeconds(10);
+
+        assertTrue(logCheckpointsDb.advanceProcessedUntil("concurrentJob", processedUntil, firstRunEndTime));
+        assertFalse(logCheckpointsDb.advanceProcessedUntil("concurrentJob", processedUntil, secondRunEndTime));
+
+        ______TS("the next run continues from the end of the logs of the run which moved the checkpoint");
+
+        Instant nextProcessedUntil = logCheckpointsDb.getProcessedUntil("concurrentJob");
+        Instant nextEndTime = firstRunEndTime.plus(Duration.ofMinutes(5));
+
+        assertEquals(firstRunEndTime, nextProcessedUntil);
+
+        ______TS("a run which has processed an old range cannot move the checkpoint back");
+
+        assertFalse(logCheckpointsDb.advanceProcessedUntil("concurrentJob", checkpoint, firstRunEndTime));
+        assertTrue(logCheckpointsDb.advanceProcessedUntil("concurrentJob", nextProcessedUntil, nextEndTime));
+        assertEquals(nextEndTime, logCheckpointsDb.getProcessedUntil("concurrentJob"));
+    }
+
+}
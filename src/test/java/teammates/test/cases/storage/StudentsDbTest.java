@@ -3,6 +3,13 @@ package teammates.test.cases.storage;
 import static teammates.common.util.FieldValidator.COURSE_ID_ERROR_MESSAGE;
 import static teammates.common.util.FieldValidator.REASON_INCORRECT_FORMAT;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.attributes.StudentAttributes;
@@ -11,7 +18,9 @@ import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Const;
 import teammates.common.util.FieldValidator;
+import teammates.common.util.RequestMetrics;
 import teammates.common.util.StringHelper;
+import teammates.storage.api.CourseRosterCache;
 import teammates.storage.api.StudentsDb;
 import teammates.test.cases.BaseComponentTestCase;
 import teammates.test.driver.AssertHelper;
@@ -276,6 +285,134 @@ public class StudentsDbTest extends BaseComponentTestCase {
 
     }
 
+    @Test
+    public void testGetStudentsForCourse_rosterCache() throws Exception {
+        CourseRosterCache rosterCache = CourseRosterCache.inst();
+        Instant invalidationTime = Instant.now();
+        rosterCache.setClock(Clock.fixed(invalidationTime, ZoneOffset.UTC));
+
+        try {
+            StudentAttributes s = StudentAttributes
+                    .builder("roster-cache-course", "cached student", "cached@email.com")
+                    .withComments("")
+                    .withTeam("cachedTeam")
+                    .withSection("cachedSection")
+                    .withGoogleId("")
+                    .build();
+            studentsDb.deleteStudentsForCourse(s.course);
+            studentsDb.createEntity(s);
+
+            ______TS("rosters read shortly after a mutation are not cached");
+
+            RequestMetrics.start(false);
+            assertEquals(1, studentsDb.getStudentsForCourse(s.course).size());
+            assertEquals(1, studentsDb.getStudentsForCourse(s.course).size());
+            RequestMetrics metrics = RequestMetrics.stop();
+            assertEquals(2, metrics.getCacheMisses());
+            assertEquals(0, metrics.getCacheHits());
+
+            ______TS("repeated reads are served from the cache");
+
+            rosterCache.setClock(Clock.fixed(
+                    invalidationTime.plusSeconds(CourseRosterCache.INVALIDATION_SETTLE_TIME_IN_SECONDS), ZoneOffset.UTC));
+            RequestMetrics.start(false);
+            assertEquals(1, studentsDb.getStudentsForCourse(s.course).size());
+            assertEquals(1, studentsDb.getStudentsForTeam(s.team, s.course).size());
+            assertEquals(1, studentsDb.getStudentsForSection(s.section, s.course).size());
+            assertTrue(studentsDb.getStudentsForTeam("nonExistentTeam", s.course).isEmpty());
+            metrics = RequestMetrics.stop();
+            assertEquals(1, metrics.getCacheMisses());
+            assertEquals(3, metrics.getCacheHits());
+
+            ______TS("cached roster retains timestamps");
+
+            StudentAttributes cachedStudent = studentsDb.getStudentsForCourse(s.course).get(0);
+            StudentAttributes storedStudent = studentsDb.getStudentForEmail(s.course, s.email);
+            assertEquals(storedStudent.getCreatedAt(), cachedStudent.getCreatedAt());
+            assertEquals(storedStudent.getUpdatedAt(), cachedStudent.getUpdatedAt());
+            assertEquals(storedStudent.key, cachedStudent.key);
+
+            ______TS("mutations invalidate the cached roster");
+
+            studentsDb.updateStudent(
+                    StudentAttributes.updateOptionsBuilder(s.course, s.email)
+                            .withTeamName("newCachedTeam")
+                            .build());
+            assertTrue(studentsDb.getStudentsForTeam(s.team, s.course).isEmpty());
+            assertEquals("newCachedTeam", studentsDb.getStudentsForCourse(s.course).get(0).team);
+
+            studentsDb.createEntity(StudentAttributes
+                    .builder(s.course, "cached student 2", "cached2@email.com")
+                    .withTeam("newCachedTeam")
+                    .withSection("cachedSection")
+                    .build());
+            assertEquals(2, studentsDb.getStudentsForTeam("newCachedTeam", s.course).size());
+
+            studentsDb.deleteStudentsForCourse(s.course);
+            assertTrue(studentsDb.getStudentsForCourse(s.course).isEmpty());
+        } finally {
+            rosterCache.setClock(Clock.systemUTC());
+        }
+    }
+
+    @Test
+    public void testProcessStudentsForCourseInBatch() throws Exception {
+        String courseId = "batch-roster-course";
+        studentsDb.deleteStudentsForCourse(courseId);
+        String[][] sectionTeamNames = {
+                {"Section B", "Team 1", "Amy"},
+                {"Section A", "Team 2", "Bob"},
+                {"Section A", "Team 1", "Eve"},
+                {"Section A", "Team 1", "Dan"},
+                {"Section B", "Team 1", "Ada"},
+        };
+        for (int i = 0; i < sectionTeamNames.length; i++) {
+            studentsDb.createEntity(StudentAttributes
+                    .builder(courseId, sectionTeamNames[i][2], "batch" + i + "@email.com")
+                    .withSection(sectionTeamNames[i][0])
+                    .withTeam(sectionTeamNames[i][1])
+                    .build());
+        }
+
+        ______TS("students are processed in batches ending on team boundaries, ordered by section, team and name");
+
+        List<String> names = new ArrayList<>();
+        List<Integer> batchSizes = new ArrayList<>();
+        String cursor = null;
+        do {
+            cursor = studentsDb.processStudentsForCourseInBatch(courseId, cursor, 2, students -> {
+                batchSizes.add(students.size());
+                students.forEach(student -> names.add(student.name));
+            });
+        } while (cursor != null);
+
+        // Amy and Ada of Section B Team 1 would otherwise be split across two batches, in key order
+        assertEquals(Arrays.asList("Dan", "Eve", "Bob", "Ada", "Amy"), names);
+        assertEquals(Arrays.asList(2, 3), batchSizes);
+
+        ______TS("course with students in sections");
+
+        assertTrue(studentsDb.hasStudentsInIndicatedSections(courseId));
+
+        ______TS("course with students in the default section only");
+
+        studentsDb.deleteStudentsForCourse(courseId);
+        studentsDb.createEntity(StudentAttributes
+                .builder(courseId, "No Section", "nosection@email.com")
+                .withSection(Const.DEFAULT_SECTION)
+                .withTeam("Team 1")
+                .build());
+        assertFalse(studentsDb.hasStudentsInIndicatedSections(courseId));
+
+        ______TS("null parameter");
+
+        AssertionError ae = assertThrows(AssertionError.class,
+                () -> studentsDb.processStudentsForCourseInBatch(null, null, 2, students -> { }));
+        assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
+
+        studentsDb.deleteStudentsForCourse(courseId);
+    }
+
     private StudentAttributes createNewStudent() throws InvalidParametersException {
         StudentAttributes s = StudentAttributes
                 .builder("valid-course", "valid student", "valid@email.com")
@@ -0,0 +1,84 @@
+package teammates.test.cases.util;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.CompiledTemplate;
+import teammates.common.util.Templates;
+import teammates.common.util.Templates.EmailTemplates;
+import teammates.test.cases.BaseTestCase;
+
+/**
+ * SUT: {@link CompiledTemplate}.
+ */
+public class CompiledTemplateTest extends BaseTestCase {
+
+    private static final String[] FEEDBACK_SESSION_VALUES = {
+            "${userName}", "Student &lt;1&gt;",
+            "${courseName}", "Course Name",
+            "${courseId}", "CS1101",
+            "${feedbackSessionName}", "First Session",
+            "${deadline}", "Sun, 01 Jan 2017, 11:59 PM",
+            "${instructorFragment}", "",
+            "${sessionInstructions}", "Please answer all the questions.",
+            "${submitUrl}", "http://localhost/submit?key=abc",
+            "${reportUrl}", "http://localhost/result?key=abc",
+            "${feedbackAction}", "submit, edit or view",
+            "${additionalContactInformation}", "<p>Contact us</p>",
+            "${status}", "is now open",
+    };
+
+    @Test
+    public void testPopulate() {
+
+        ______TS("typical case: same result as populating the template string");
+
+        String expected = Templates.populateTemplate(EmailTemplates.USER_FEEDBACK_SESSION, FEEDBACK_SESSION_VALUES);
+        assertEquals(expected,
+                CompiledTemplate.compile(EmailTemplates.USER_FEEDBACK_SESSION).populate(FEEDBACK_SESSION_VALUES));
+
+        ______TS("repeated and adjacent placeholders");
+
+        CompiledTemplate template = CompiledTemplate.compile("${a}${b} and ${a}.");
+        assertEquals("12 and 1.", template.populate("${a}", "1", "${b}", "2"));
+
+        ______TS("placeholders without values and keys without placeholders");
+
+        assertEquals("1${b} and 1.", template.populate("${a}", "1", "${c}", "3"));
+        assertEquals("no placeholders", CompiledTemplate.compile("no placeholders").populate("${a}", "1"));
+
+        ______TS("placeholders in values are not replaced");
+
+        assertEquals("${b}2 and ${b}.", template.populate("${a}", "${b}", "${b}", "2"));
+
+        ______TS("unterminated placeholder is kept as text");
+
+        assertEquals("1 costs ${5", CompiledTemplate.compile("${a} costs ${5").populate("${a}", "1", "${5", "five"));
+
+        ______TS("odd number of key-value elements");
+
+        AssertionError ae = assertThrows(AssertionError.class, () -> template.populate("${a}"));
+        assertEquals("The number of elements in keyValuePairs passed in must be even", ae.getMessage());
+    }
+
+    @Test
+    public void testFill() {
+        CompiledTemplate template = CompiledTemplate.compile("Dear ${name}, the session ${status}. ${name}");
+
+        CompiledTemplate filled = template.fill("${status}", "is now open");
+
+        assertEquals("Dear Alice, the session is now open. Alice", filled.populate("${name}", "Alice"));
+        assertEquals("Dear Bob, the session is now open. Bob", filled.populate("${name}", "Bob"));
+        assertEquals("Dear Alice, the session ${status}. Alice", template.populate("${name}", "Alice"));
+
+        ______TS("filled values are not replaced when populating");
+
+        assertEquals("Dear Alice, the session ${name}. Alice",
+                template.fill("${status}", "${name}").populate("${name}", "Alice"));
+
+        ______TS("filling all placeholders");
+
+        assertEquals("Dear Alice, the session is closed. Alice",
+                template.fill("${name}", "Alice", "${status}", "is closed").populate());
+    }
+
+}
@@ -0,0 +1,92 @@
+package teammates.test.cases.util;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.google.appengine.api.log.AppLogLine;
+import com.google.appengine.api.log.LogService.LogLevel;
+
+import teammates.common.util.ErrorLogAggregator;
+import teammates.common.util.ErrorLogAggregator.ErrorLogGroup;
+import teammates.test.cases.BaseTestCase;
+
+/**
+ * SUT: {@link ErrorLogAggregator}.
+ */
+public class ErrorLogAggregatorTest extends BaseTestCase {
+
+    private static final String STACK_TRACE = "java.lang.NullPointerException: %s\n"
+            + "\tat teammates.logic.core.CoursesLogic.getCourse(CoursesLogic.java:10)\n"
+            + "\tat teammates.logic.api.Logic.getCourse(Logic.java:20)\n"
+            + "\tat teammates.ui.webapi.action.GetCourseAction.execute(GetCourseAction.java:30)\n"
+            + "\tat teammates.ui.webapi.WebApiServlet.invokeServlet(WebApiServlet.java:40)\n";
+
+    @Test
+    public void testAdd() {
+
+        ______TS("no logs");
+
+        ErrorLogAggregator aggregator = new ErrorLogAggregator();
+        assertTrue(aggregator.isEmpty());
+        assertTrue(aggregator.getGroups().isEmpty());
+
+        ______TS("logs with the same signature are grouped");
+
+        aggregator.add(getLogLine(LogLevel.ERROR, "Unexpected error"));
+        for (int i = 0; i < 5; i++) {
+            aggregator.add(getLogLine(LogLevel.ERROR,
+                    "Error for request " + i + "\n" + String.format(STACK_TRACE, "course " + i)));
+        }
+        aggregator.add(getLogLine(LogLevel.FATAL, "Unexpected error"));
+
+        assertFalse(aggregator.isEmpty());
+        assertEquals(7, aggregator.getNumberOfLogs());
+        assertEquals(0, aggregator.getNumberOfUngroupedLogs());
+
+        List<ErrorLogGroup> groups = aggregator.getGroups();
+        assertEquals(2, groups.size());
+
+        ErrorLogGroup exceptionGroup = groups.get(0);
+        assertEquals("java.lang.NullPointerException"
+                + " at teammates.logic.core.CoursesLogic.getCourse(CoursesLogic.java:10)"
+                + " at teammates.logic.api.Logic.getCourse(Logic.java:20)"
+                + " at teammates.ui.webapi.action.GetCourseAction.execute(GetCourseAction.java:30)",
+                exceptionGroup.getSignature());
+        assertEquals(LogLevel.ERROR, exceptionGroup.getLogLevel());
+        assertEquals(5, exceptionGroup.getCount());
+        assertEquals(3, exceptionGroup.getSampleMessages().size());
+        assertEquals("Error for request 0\n" + String.format(STACK_TRACE, "course 0"),
+                exceptionGroup.getSampleMessages().get(0));
+
+        ErrorLogGroup messageGroup = groups.get(1);
+        assertEquals("Unexpected error", messageGroup.getSignature());
+        assertEquals(LogLevel.FATAL, messageGroup.getLogLevel());
+        assertEquals(2, messageGroup.getCount());
+        assertEquals(Arrays.asList("Unexpected error", "Unexpected error"), messageGroup.getSampleMessages());
+    }
+
+    @Test
+    public void testAdd_tooManySignatures_extraLogsOnlyCounted() {
+        ErrorLogAggregator aggregator = new ErrorLogAggregator();
+        for (int i = 0; i < 60; i++) {
+            aggregator.add(getLogLine(LogLevel.ERROR, "Error " + i));
+        }
+        aggregator.add(getLogLine(LogLevel.ERROR, "Error 0"));
+
+        assertEquals(61, aggregator.getNumberOfLogs());
+        assertEquals(10, aggregator.getNumberOfUngroupedLogs());
+        assertEquals(50, aggregator.getGroups().size());
+        assertEquals("Error 0", aggregator.getGroups().get(0).getSignature());
+        assertEquals(2, aggregator.getGroups().get(0).getCount());
+    }
+
+    private static AppLogLine getLogLine(LogLevel logLevel, String message) {
+        AppLogLine logLine = new AppLogLine();
+        logLine.setLogLevel(logLevel);
+        logLine.setLogMessage(message);
+        return logLine;
+    }
+
+}
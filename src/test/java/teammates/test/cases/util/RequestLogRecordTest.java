@@ -0,0 +1,77 @@
+package teammates.test.cases.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.Const;
+import teammates.common.util.RequestLogRecord;
+import teammates.test.cases.BaseTestCase;
+import teammates.test.driver.MockHttpServletRequest;
+import teammates.test.driver.StringHelperExtension;
+
+/**
+ * SUT: {@link RequestLogRecord}.
+ */
+public class RequestLogRecordTest extends BaseTestCase {
+
+    @Test
+    public void testAdd() {
+
+        ______TS("plain values");
+
+        RequestLogRecord record = new RequestLogRecord()
+                .add("method", "GET")
+                .add("status", 200)
+                .add("action", null);
+        assertEquals("method=GET status=200 action=null", record.toString());
+
+        ______TS("values with special characters are quoted");
+
+        record = new RequestLogRecord()
+                .add("name", "First Session")
+                .add("empty", "")
+                .add("query", "a=b")
+                .add("quote", "say \"hi\" \\o/")
+                .add("multiline", "line 1\nline 2");
+        assertEquals("name=\"First Session\" empty=\"\" query=\"a=b\" quote=\"say \\\"hi\\\" \\\\o/\""
+                + " multiline=\"line 1 line 2\"", record.toString());
+    }
+
+    @Test
+    public void testAddParams() {
+        Map<String, String[]> params = new LinkedHashMap<>();
+        params.put(Const.ParamsNames.COURSE_ID, new String[] { "CS1101" });
+        params.put(Const.ParamsNames.REGKEY, new String[] { "secret-key" });
+        params.put(Const.ParamsNames.SESSION_TOKEN, new String[] { "secret-token" });
+        params.put("long", new String[] { StringHelperExtension.generateStringOfLength(101) });
+        params.put("multiple", new String[] { "1", "2" });
+        params.put("none", new String[0]);
+
+        assertEquals("param.courseid=CS1101 param.key=<redacted> param.token=<redacted> param.long=\"<101 chars>\""
+                + " param.multiple=1,2", new RequestLogRecord().addParams(params).toString());
+    }
+
+    @Test
+    public void testForRequest() {
+        MockHttpServletRequest req = new MockHttpServletRequest("GET", "/webapi/session");
+        req.addParam(Const.ParamsNames.COURSE_ID, "CS1101");
+        req.addHeader("User-Agent", "Mozilla/5.0 (X11)");
+        req.addHeader("Cookie", "secret");
+
+        assertEquals("method=GET uri=/webapi/session param.courseid=CS1101 header.User-Agent=\"Mozilla/5.0 (X11)\"",
+                RequestLogRecord.forRequest(req).toString());
+
+        ______TS("URLs in headers are recorded without their query string");
+
+        req = new MockHttpServletRequest("GET", "/webapi/session");
+        req.addHeader("Origin", "https://teammatesv4.appspot.com");
+        req.addHeader("Referer", "https://teammatesv4.appspot.com/web/join?key=secret-key&entitytype=student#top");
+
+        assertEquals("method=GET uri=/webapi/session header.Origin=https://teammatesv4.appspot.com"
+                + " header.Referer=https://teammatesv4.appspot.com/web/join",
+                RequestLogRecord.forRequest(req).toString());
+    }
+
+}
@@ -56,8 +56,12 @@ public class DeleteAllInstructorSoftDeletedCoursesActionTest
         MessageOutput message = (MessageOutput) result.getOutput();
 
         assertEquals(HttpStatus.SC_OK, result.getStatusCode());
-        assertEquals("All courses in Recycle Bin have been permanently deleted.", message.getMessage());
+        assertEquals("The permanent deletion of all courses in Recycle Bin is in progress.", message.getMessage());
 
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.COURSE_DATA_DELETION_QUEUE_NAME, 2);
+        // the courses can no longer be accessed (or restored) while their data is being deleted
+        assertTrue(logic.getInstructorsForGoogleId(instructorId).isEmpty());
+        assertTrue(logic.getCourse(courseId).isCourseDeleted());
     }
 
     @Override
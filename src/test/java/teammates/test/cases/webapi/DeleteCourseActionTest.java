@@ -3,9 +3,11 @@ package teammates.test.cases.webapi;
 import org.apache.http.HttpStatus;
 import org.testng.annotations.Test;
 
+import teammates.common.datatransfer.CourseDeletionProgress;
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.util.Const;
+import teammates.common.util.TaskWrapper;
 import teammates.ui.webapi.action.DeleteCourseAction;
 import teammates.ui.webapi.action.JsonResult;
 import teammates.ui.webapi.output.MessageOutput;
@@ -55,7 +57,7 @@ public class DeleteCourseActionTest
 
         assertEquals(HttpStatus.SC_OK, result.getStatusCode());
         assertEquals("OK", messageOutput.getMessage());
-        assertNull(logic.getCourse(instructor1OfCourse1.courseId));
+        verifyCourseScheduledForDeletion(deleteCourseAction, courseId);
     }
 
     @Test
@@ -80,7 +82,7 @@ public class DeleteCourseActionTest
 
         assertEquals(HttpStatus.SC_OK, result.getStatusCode());
         assertEquals("OK", messageOutput.getMessage());
-        assertNull(logic.getCourse(instructor1OfCourse1.courseId));
+        verifyCourseScheduledForDeletion(deleteCourseAction, courseId);
     }
 
     @Override
@@ -93,4 +95,16 @@ public class DeleteCourseActionTest
         verifyOnlyInstructorsCanAccess(submissionParams);
         verifyInaccessibleWithoutModifyCoursePrivilege(submissionParams);
     }
+
+    private void verifyCourseScheduledForDeletion(DeleteCourseAction action, String courseId) {
+        // the course is kept in Recycle Bin, inaccessible to everyone, until the worker has deleted its data
+        assertTrue(logic.getCourse(courseId).isCourseDeleted());
+        assertTrue(logic.getInstructorsForCourse(courseId).isEmpty());
+
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.COURSE_DATA_DELETION_QUEUE_NAME, 1);
+        TaskWrapper taskAdded = action.getTaskQueuer().getTasksAdded().get(0);
+        assertEquals(courseId, taskAdded.getParamMap().get(Const.ParamsNames.COURSE_ID)[0]);
+        assertEquals(CourseDeletionProgress.start().getStage().name(),
+                taskAdded.getParamMap().get(Const.ParamsNames.COURSE_DELETION_STAGE)[0]);
+    }
 }
@@ -0,0 +1,95 @@
+package teammates.test.cases.webapi;
+
+import java.util.List;
+
+import org.apache.http.HttpStatus;
+import org.testng.annotations.Test;
+
+import teammates.common.util.Const;
+import teammates.common.util.RequestMetrics;
+import teammates.ui.webapi.action.ActionMetricsRegistry;
+import teammates.ui.webapi.action.GetActionMetricsAction;
+import teammates.ui.webapi.action.JsonResult;
+import teammates.ui.webapi.output.ActionMetricsData;
+import teammates.ui.webapi.output.ActionMetricsData.ActionMetrics;
+
+/**
+ * SUT: {@link GetActionMetricsAction}.
+ */
+public class GetActionMetricsActionTest extends BaseActionTest<GetActionMetricsAction> {
+
+    @Override
+    protected String getActionUri() {
+        return Const.ResourceURIs.ACTION_METRICS;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return GET;
+    }
+
+    @Override
+    @Test
+    protected void testExecute() {
+        loginAsAdmin();
+
+        ______TS("typical success case: metrics are aggregated by action");
+
+        ActionMetricsRegistry.inst().clear();
+        for (int i = 1; i <= 10; i++) {
+            RequestMetrics.start();
+            RequestMetrics.recordActionName("GetCourseAction");
+            for (int j = 0; j < i; j++) {
+                RequestMetrics.recordDatastoreRead("Course", "CoursesDb.getCourse");
+                RequestMetrics.recordEntitiesLoaded(1);
+            }
+            RequestMetrics.recordPayload("{\"courseId\":\"\u00e9\"}");
+            ActionMetricsRegistry.inst().record(RequestMetrics.stop());
+        }
+        RequestMetrics.start();
+        RequestMetrics.recordActionName("CreateCourseAction");
+        RequestMetrics.recordDatastoreWrite("Course", "CoursesDb.createEntity");
+        RequestMetrics.recordSearchCall();
+        ActionMetricsRegistry.inst().record(RequestMetrics.stop());
+
+        GetActionMetricsAction a = getAction();
+        JsonResult r = getJsonResult(a);
+
+        assertEquals(HttpStatus.SC_OK, r.getStatusCode());
+        List<ActionMetrics> actions = ((ActionMetricsData) r.getOutput()).getActions();
+        assertEquals(2, actions.size());
+
+        ActionMetrics getCourseMetrics = actions.stream()
+                .filter(action -> "GetCourseAction".equals(action.getActionName()))
+                .findFirst().get();
+        assertEquals(10, getCourseMetrics.getNumberOfRequests());
+        assertEquals(5, getCourseMetrics.getDatastoreReads().getP50());
+        assertEquals(9, getCourseMetrics.getDatastoreReads().getP90());
+        assertEquals(10, getCourseMetrics.getDatastoreReads().getP99());
+        assertEquals(10, getCourseMetrics.getDatastoreReads().getMax());
+        assertEquals(5, getCourseMetrics.getEntitiesLoaded().getP50());
+        assertEquals(0, getCourseMetrics.getDatastoreWrites().getMax());
+        // the accented character is encoded in 2 bytes
+        assertEquals(17, getCourseMetrics.getPayloadBytes().getMax());
+        assertEquals(55L, getCourseMetrics.getReadsByKind().get("Course").longValue());
+        assertEquals(55L, getCourseMetrics.getCallsByDbMethod().get("CoursesDb.getCourse").longValue());
+
+        ActionMetrics createCourseMetrics = actions.stream()
+                .filter(action -> "CreateCourseAction".equals(action.getActionName()))
+                .findFirst().get();
+        assertEquals(1, createCourseMetrics.getNumberOfRequests());
+        assertEquals(1, createCourseMetrics.getDatastoreWrites().getP50());
+        assertEquals(1, createCourseMetrics.getSearchCalls().getP50());
+        assertEquals(1L, createCourseMetrics.getWritesByKind().get("Course").longValue());
+        assertTrue(createCourseMetrics.getReadsByKind().isEmpty());
+
+        ActionMetricsRegistry.inst().clear();
+    }
+
+    @Override
+    @Test
+    protected void testAccessControl() {
+        verifyOnlyAdminCanAccess();
+    }
+
+}
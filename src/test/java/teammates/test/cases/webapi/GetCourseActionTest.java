@@ -6,6 +6,7 @@ import org.testng.annotations.Test;
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.util.Const;
+import teammates.ui.webapi.action.CachePolicy;
 import teammates.ui.webapi.action.GetCourseAction;
 import teammates.ui.webapi.action.JsonResult;
 import teammates.ui.webapi.output.CourseData;
@@ -51,6 +52,27 @@ public class GetCourseActionTest extends BaseActionTest<GetCourseAction> {
         assertEquals(courseAttributes.getId(), response.getCourseId());
         assertEquals(courseAttributes.getName(), response.getCourseName());
         assertEquals(courseAttributes.getTimeZone().getId(), response.getTimeZone());
+
+        ______TS("response is revalidated by its entity tag");
+
+        assertEquals(CachePolicy.REVALIDATE, a.getCachePolicy());
+        String eTag = a.getETag();
+        assertNotNull(eTag);
+        assertEquals(eTag, getAction(params).getETag());
+
+        ______TS("entity tag changes with the course");
+
+        logic.updateCourseCascade(
+                CourseAttributes.updateOptionsBuilder(courseAttributes.getId())
+                        .withName("New Course Name")
+                        .build());
+        assertNotEquals(eTag, getAction(params).getETag());
+
+        ______TS("entity tag differs between users");
+
+        eTag = getAction(params).getETag();
+        loginAsInstructor(typicalBundle.instructors.get("instructor2OfCourse1").googleId);
+        assertNotEquals(eTag, getAction(params).getETag());
     }
 
     @Test
@@ -0,0 +1,180 @@
+package teammates.test.cases.webapi;
+
+import java.util.List;
+
+import org.apache.http.HttpStatus;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.StudentUpdateStatus;
+import teammates.common.datatransfer.attributes.EnrollmentJobAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.exception.EntityNotFoundException;
+import teammates.common.util.Const;
+import teammates.logic.core.EnrollmentJobsLogic;
+import teammates.logic.core.StudentsLogic;
+import teammates.ui.template.EnrollResultPanel;
+import teammates.ui.webapi.action.GetCourseEnrollJobAction;
+import teammates.ui.webapi.action.JsonResult;
+import teammates.ui.webapi.output.EnrollmentJobData;
+
+/**
+ * SUT: {@link GetCourseEnrollJobAction}.
+ */
+public class GetCourseEnrollJobActionTest extends BaseActionTest<GetCourseEnrollJobAction> {
+
+    private static final EnrollmentJobsLogic enrollmentJobsLogic = EnrollmentJobsLogic.inst();
+
+    @Override
+    protected String getActionUri() {
+        return Const.ResourceURIs.COURSE_ENROLL_JOB;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return GET;
+    }
+
+    @Override
+    @Test
+    public void testExecute() throws Exception {
+        InstructorAttributes instructor1OfCourse1 = typicalBundle.instructors.get("instructor1OfCourse1");
+        String instructorId = instructor1OfCourse1.googleId;
+        String courseId = instructor1OfCourse1.courseId;
+
+        loginAsInstructor(instructorId);
+
+        ______TS("Invalid parameters");
+
+        verifyHttpParameterFailure();
+        verifyHttpParameterFailure(Const.ParamsNames.COURSE_ID, courseId);
+
+        ______TS("Typical case: job in progress");
+
+        String enrollString = "Section | Team | Name | Email | Comment" + System.lineSeparator()
+                // A new student
+                + "Section 3 \t Team 1\tJean Wong\tjean@email.tmt\tExchange student" + System.lineSeparator()
+                // A student to be modified
+                + "Section 2 \t Team 1.3\tstudent1 In Course1</td></div>'\"\tstudent1InCourse1@gmail.tmt\t"
+                + "New comment added" + System.lineSeparator()
+                // An existing student with no modification
+                + "Section 1 \t Team 1.1</td></div>'\"\tstudent2 In Course1\tstudent2InCourse1@gmail.tmt\t";
+        EnrollmentJobAttributes job = enrollmentJobsLogic.createEnrollmentJob(enrollString, courseId);
+
+        String[] submissionParams = new String[] {
+                Const.ParamsNames.COURSE_ID, courseId,
+                Const.ParamsNames.ENROLLMENT_JOB_ID, job.getId(),
+        };
+        GetCourseEnrollJobAction a = getAction(submissionParams);
+        JsonResult r = getJsonResult(a);
+
+        assertEquals(HttpStatus.SC_OK, r.getStatusCode());
+        EnrollmentJobData output = (EnrollmentJobData) r.getOutput();
+        assertEquals(job.getId(), output.getJobId());
+        assertEquals(3, output.getNumberOfStudents());
+        assertEquals(0, output.getNumberOfProcessedStudents());
+        assertFalse(output.getIsCompleted());
+        assertNull(output.getEnrollResultPanelList());
+        assertNull(output.getErrorMessages());
+
+        ______TS("Typical case: completed job");
+
+        while (!enrollmentJobsLogic.enrollNextBatch(job.getId()).isCompleted()) {
+            // enroll the students as the worker would
+        }
+
+        a = getAction(submissionParams);
+        r = getJsonResult(a);
+
+        assertEquals(HttpStatus.SC_OK, r.getStatusCode());
+        output = (EnrollmentJobData) r.getOutput();
+        assertEquals(3, output.getNumberOfProcessedStudents());
+        assertTrue(output.getIsCompleted());
+        assertTrue(output.getErrorMessages().isEmpty());
+
+        StudentAttributes newStudent = StudentAttributes
+                .builder(courseId, "Jean Wong", "jean@email.tmt")
+                .withSection("Section 3")
+                .withTeam("Team 1")
+                .withComments("Exchange student")
+                .build();
+        newStudent.updateStatus = StudentUpdateStatus.NEW;
+        verifyStudentEnrollmentStatus(newStudent, output.getEnrollResultPanelList());
+
+        StudentAttributes modifiedStudent = typicalBundle.students.get("student1InCourse1");
+        modifiedStudent.comments = "New comment added";
+        modifiedStudent.section = "Section 2";
+        modifiedStudent.team = "Team 1.3";
+        modifiedStudent.updateStatus = StudentUpdateStatus.MODIFIED;
+        verifyStudentEnrollmentStatus(modifiedStudent, output.getEnrollResultPanelList());
+
+        StudentAttributes unmodifiedStudent = typicalBundle.students.get("student2InCourse1");
+        unmodifiedStudent.updateStatus = StudentUpdateStatus.UNMODIFIED;
+        verifyStudentEnrollmentStatus(unmodifiedStudent, output.getEnrollResultPanelList());
+
+        StudentAttributes studentNotInEnrollList = typicalBundle.students.get("student3InCourse1");
+        studentNotInEnrollList.updateStatus = StudentUpdateStatus.NOT_IN_ENROLL_LIST;
+        verifyStudentEnrollmentStatus(studentNotInEnrollList, output.getEnrollResultPanelList());
+
+        ______TS("Failure case: non-existent job");
+
+        String[] nonExistentJobParams = new String[] {
+                Const.ParamsNames.COURSE_ID, courseId,
+                Const.ParamsNames.ENROLLMENT_JOB_ID, "123456789",
+        };
+        assertThrows(EntityNotFoundException.class, () -> getJsonResult(getAction(nonExistentJobParams)));
+
+        String[] invalidJobIdParams = new String[] {
+                Const.ParamsNames.COURSE_ID, courseId,
+                Const.ParamsNames.ENROLLMENT_JOB_ID, "not-a-job-id",
+        };
+        assertThrows(EntityNotFoundException.class, () -> getJsonResult(getAction(invalidJobIdParams)));
+
+        ______TS("Failure case: job of another course");
+
+        InstructorAttributes instructor1OfCourse2 = typicalBundle.instructors.get("instructor1OfCourse2");
+        loginAsInstructor(instructor1OfCourse2.googleId);
+
+        String[] otherCourseParams = new String[] {
+                Const.ParamsNames.COURSE_ID, instructor1OfCourse2.courseId,
+                Const.ParamsNames.ENROLLMENT_JOB_ID, job.getId(),
+        };
+        assertThrows(EntityNotFoundException.class, () -> getJsonResult(getAction(otherCourseParams)));
+
+        StudentsLogic.inst().deleteStudentsForCourse(courseId);
+    }
+
+    /**
+     * Verify if {@code student} exists in the {@code panelList}.
+     */
+    private void verifyStudentEnrollmentStatus(StudentAttributes student, List<EnrollResultPanel> panelList) {
+        boolean result = false;
+
+        StudentUpdateStatus status = student.updateStatus;
+        for (StudentAttributes s : panelList.get(status.numericRepresentation).getStudentList()) {
+            if (s.isEnrollInfoSameAs(student)) {
+                result = true;
+                break;
+            }
+        }
+
+        assertTrue(result);
+    }
+
+    @Override
+    @Test
+    protected void testAccessControl() throws Exception {
+        InstructorAttributes instructor1OfCourse1 = typicalBundle.instructors.get("instructor1OfCourse1");
+        EnrollmentJobAttributes job = enrollmentJobsLogic.createEnrollmentJob(
+                "Team | Name | Email" + System.lineSeparator() + "Team 1\tJean Wong\tjean@email.tmt",
+                instructor1OfCourse1.courseId);
+
+        String[] submissionParams = new String[] {
+                Const.ParamsNames.COURSE_ID, instructor1OfCourse1.courseId,
+                Const.ParamsNames.ENROLLMENT_JOB_ID, job.getId(),
+        };
+
+        verifyOnlyInstructorsOfTheSameCourseCanAccess(submissionParams);
+        verifyInaccessibleWithoutModifyStudentPrivilege(submissionParams);
+    }
+}
@@ -8,6 +8,7 @@ import teammates.common.datatransfer.attributes.AccountAttributes;
 import teammates.common.datatransfer.attributes.StudentProfileAttributes;
 import teammates.common.exception.NullHttpParameterException;
 import teammates.common.util.Const;
+import teammates.ui.webapi.action.CachePolicy;
 import teammates.ui.webapi.action.GetStudentProfilePictureAction;
 import teammates.ui.webapi.action.ImageResult;
 
@@ -74,6 +75,22 @@ public class GetStudentProfilePictureActionTest extends BaseActionTest<GetStuden
 
         assertEquals(HttpStatus.SC_OK, result.getStatusCode());
         assertEquals(studentProfileAttributes.pictureKey, result.blobKey);
+        assertEquals(CachePolicy.IMMUTABLE, action.getCachePolicy());
+        String eTag = action.getETag();
+        assertNotNull(eTag);
+
+        ______TS("Typical case: thumbnail of a picture without thumbnail is the picture itself");
+
+        submissionParams = new String[] {
+                Const.ParamsNames.BLOB_KEY, studentProfileAttributes.pictureKey,
+                Const.ParamsNames.PROFILE_PICTURE_THUMBNAIL, "true",
+        };
+        action = getAction(submissionParams);
+        result = getImageResult(action);
+
+        assertEquals(HttpStatus.SC_OK, result.getStatusCode());
+        assertEquals(studentProfileAttributes.pictureKey, result.blobKey);
+        assertNotEquals(eTag, action.getETag());
     }
 
     @Test
@@ -7,19 +7,18 @@ import org.apache.http.HttpStatus;
 import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.StudentAttributesFactory;
-import teammates.common.datatransfer.StudentUpdateStatus;
+import teammates.common.datatransfer.attributes.EnrollmentJobAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
-import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.util.Const;
 import teammates.common.util.FieldValidator;
 import teammates.common.util.SanitizationHelper;
 import teammates.common.util.TaskWrapper;
 import teammates.logic.core.CoursesLogic;
+import teammates.logic.core.EnrollmentJobsLogic;
 import teammates.logic.core.StudentsLogic;
-import teammates.ui.template.EnrollResultPanel;
 import teammates.ui.webapi.action.JsonResult;
 import teammates.ui.webapi.action.PostCourseEnrollSaveAction;
-import teammates.ui.webapi.action.PostCourseEnrollSaveAction.EnrollResults;
+import teammates.ui.webapi.output.EnrollmentJobData;
 import teammates.ui.webapi.output.MessageOutput;
 
 /**
@@ -82,48 +81,11 @@ public class PostCourseEnrollSaveActionTest extends BaseActionTest<PostCourseEnr
 
         assertEquals(HttpStatus.SC_OK, r.getStatusCode());
 
-        EnrollResults output = (EnrollResults) r.getOutput();
+        EnrollmentJobData output = (EnrollmentJobData) r.getOutput();
+        verifyEnrollmentJobCreated(a, output, courseId, 5);
 
-        List<TaskWrapper> tasksAdded = a.getTaskQueuer().getTasksAdded();
-        for (TaskWrapper task : tasksAdded) {
-            Map<String, String[]> paramMap = task.getParamMap();
-            assertEquals(courseId, paramMap.get(Const.ParamsNames.COURSE_ID)[0]);
-        }
-
-        StudentAttributes newStudent = StudentAttributes
-                .builder(courseId, "Jean Wong", "jean@email.tmt")
-                .withSection("Section 3")
-                .withTeam("Team 1")
-                .withComments("Exchange student")
-                .withGoogleId("jean")
-                .build();
-        newStudent.updateStatus = StudentUpdateStatus.NEW;
-        verifyStudentEnrollmentStatus(newStudent, output.getEnrollResultPanelList());
-
-        StudentAttributes newStudentWithExtraSpaces = StudentAttributes
-                .builder(courseId, "student with extra spaces", "studentWithExtraSpaces@gmail.tmt")
-                .withSection("Section 3")
-                .withTeam("Team 1")
-                .withComments("")
-                .withGoogleId("student")
-                .build();
-        newStudentWithExtraSpaces.updateStatus = StudentUpdateStatus.NEW;
-        verifyStudentEnrollmentStatus(newStudentWithExtraSpaces, output.getEnrollResultPanelList());
-
-        StudentAttributes modifiedStudent = typicalBundle.students.get("student1InCourse1");
-        modifiedStudent.comments = "New comment added";
-        modifiedStudent.section = "Section 2";
-        modifiedStudent.team = "Team 1.3";
-        modifiedStudent.updateStatus = StudentUpdateStatus.MODIFIED;
-        verifyStudentEnrollmentStatus(modifiedStudent, output.getEnrollResultPanelList());
-
-        StudentAttributes unmodifiedStudent = typicalBundle.students.get("student2InCourse1");
-        unmodifiedStudent.updateStatus = StudentUpdateStatus.UNMODIFIED;
-        verifyStudentEnrollmentStatus(unmodifiedStudent, output.getEnrollResultPanelList());
-
-        StudentAttributes unmodifiedStudentWithExtraSpaces = typicalBundle.students.get("student3InCourse1");
-        unmodifiedStudentWithExtraSpaces.updateStatus = StudentUpdateStatus.UNMODIFIED;
-        verifyStudentEnrollmentStatus(unmodifiedStudentWithExtraSpaces, output.getEnrollResultPanelList());
+        // the students are only enrolled by the scheduled task
+        assertNull(StudentsLogic.inst().getStudentForEmail(courseId, "jean@email.tmt"));
 
         ______TS("Masquerade mode, enrollment into empty course");
 
@@ -149,28 +111,8 @@ public class PostCourseEnrollSaveActionTest extends BaseActionTest<PostCourseEnr
         r = getJsonResult(a);
 
         assertEquals(HttpStatus.SC_OK, r.getStatusCode());
-        output = (EnrollResults) r.getOutput();
-        verifyNoTasksAdded(a);
-
-        StudentAttributes student1 = StudentAttributes
-                .builder(courseId, "Jean Wong", "jean@email.tmt")
-                .withSection("None")
-                .withTeam("Team 1")
-                .withComments("Exchange student")
-                .withGoogleId("jean")
-                .build();
-        student1.updateStatus = StudentUpdateStatus.NEW;
-        verifyStudentEnrollmentStatus(student1, output.getEnrollResultPanelList());
-
-        StudentAttributes student2 = StudentAttributes
-                .builder(courseId, "James Tan", "james@email.tmt")
-                .withSection("None")
-                .withTeam("Team 2")
-                .withComments("")
-                .withGoogleId("james")
-                .build();
-        student2.updateStatus = StudentUpdateStatus.NEW;
-        verifyStudentEnrollmentStatus(student2, output.getEnrollResultPanelList());
+        output = (EnrollmentJobData) r.getOutput();
+        verifyEnrollmentJobCreated(a, output, courseId, 2);
 
         ______TS("Failure case: enrollment failed due to invalid lines");
 
@@ -224,12 +166,11 @@ public class PostCourseEnrollSaveActionTest extends BaseActionTest<PostCourseEnr
         assertEquals(expectedStatusMessage, statusMessage.getMessage());
         verifyNoTasksAdded(a);
 
-        ______TS("Boundary test for size limit per enrollment");
+        ______TS("Large enrollment: there is no limit on the number of students per enrollment");
 
-        //can enroll, if within the size limit
         StringBuilder enrollStringBuilder = new StringBuilder(200);
         enrollStringBuilder.append("Section\tTeam\tName\tEmail");
-        for (int i = 0; i < Const.SIZE_LIMIT_PER_ENROLLMENT; i++) {
+        for (int i = 0; i < 500; i++) {
             enrollStringBuilder.append(System.lineSeparator()).append("section" + i + "\tteam" + i + "\tname" + i
                     + "\temail" + i + "@nonexistemail.nonexist");
         }
@@ -239,22 +180,8 @@ public class PostCourseEnrollSaveActionTest extends BaseActionTest<PostCourseEnr
         a = getAction(enrollStringBuilder.toString(), submissionParams);
         r = getJsonResult(a);
         assertEquals(HttpStatus.SC_OK, r.getStatusCode());
-        verifyNoTasksAdded(a);
-
-        //fail to enroll, if exceed the range
-        enrollStringBuilder.append(System.lineSeparator()).append(
-                "section" + Const.SIZE_LIMIT_PER_ENROLLMENT + "\tteam" + Const.SIZE_LIMIT_PER_ENROLLMENT
-                        + "\tname" + Const.SIZE_LIMIT_PER_ENROLLMENT + "\temail" + Const.SIZE_LIMIT_PER_ENROLLMENT
-                        + "@nonexistemail.nonexist");
-        submissionParams = new String[] {
-                Const.ParamsNames.COURSE_ID, courseId,
-        };
-        a = getAction(enrollStringBuilder.toString(), submissionParams);
-        r = getJsonResult(a);
-        MessageOutput msgOutput = (MessageOutput) r.getOutput();
-
-        assertEquals(Const.StatusMessages.QUOTA_PER_ENROLLMENT_EXCEED, msgOutput.getMessage());
-        verifyNoTasksAdded(a);
+        output = (EnrollmentJobData) r.getOutput();
+        verifyEnrollmentJobCreated(a, output, courseId, 500);
 
         ______TS("Failure case: empty input");
 
@@ -266,7 +193,7 @@ public class PostCourseEnrollSaveActionTest extends BaseActionTest<PostCourseEnr
         };
         a = getAction(submissionParams);
         r = getJsonResult(a);
-        msgOutput = (MessageOutput) r.getOutput();
+        MessageOutput msgOutput = (MessageOutput) r.getOutput();
         assertEquals(Const.StatusMessages.ENROLL_LINE_EMPTY, msgOutput.getMessage());
         verifyNoTasksAdded(a);
 
@@ -275,20 +202,24 @@ public class PostCourseEnrollSaveActionTest extends BaseActionTest<PostCourseEnr
     }
 
     /**
-     * Verify if {@code student} exists in the {@code panelList}.
+     * Verifies that a job to enroll {@code numberOfStudents} students has been created and scheduled.
      */
-    private void verifyStudentEnrollmentStatus(StudentAttributes student, List<EnrollResultPanel> panelList) {
-        boolean result = false;
-
-        StudentUpdateStatus status = student.updateStatus;
-        for (StudentAttributes s : panelList.get(status.numericRepresentation).getStudentList()) {
-            if (s.isEnrollInfoSameAs(student)) {
-                result = true;
-                break;
-            }
-        }
-
-        assertTrue(result);
+    private void verifyEnrollmentJobCreated(PostCourseEnrollSaveAction action, EnrollmentJobData output,
+            String courseId, int numberOfStudents) {
+        assertEquals(courseId, output.getCourseId());
+        assertEquals(numberOfStudents, output.getNumberOfStudents());
+        assertEquals(0, output.getNumberOfProcessedStudents());
+        assertFalse(output.getIsCompleted());
+        assertNull(output.getEnrollResultPanelList());
+
+        EnrollmentJobAttributes job = EnrollmentJobsLogic.inst().getEnrollmentJob(output.getJobId());
+        assertEquals(courseId, job.getCourseId());
+        assertEquals(numberOfStudents, job.getNumberOfStudents());
+
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.ENROLLMENT_QUEUE_NAME, 1);
+        List<TaskWrapper> tasksAdded = action.getTaskQueuer().getTasksAdded();
+        Map<String, String[]> paramMap = tasksAdded.get(0).getParamMap();
+        assertEquals(output.getJobId(), paramMap.get(Const.ParamsNames.ENROLLMENT_JOB_ID)[0]);
     }
 
     @Override
@@ -6,6 +6,7 @@ import org.testng.annotations.Test;
 import teammates.common.datatransfer.attributes.AccountAttributes;
 import teammates.common.exception.InvalidHttpRequestBodyException;
 import teammates.common.util.Const;
+import teammates.common.util.GoogleCloudStorageHelper;
 import teammates.ui.webapi.action.JsonResult;
 import teammates.ui.webapi.action.PostStudentProfilePictureAction;
 import teammates.ui.webapi.output.StudentProfilePictureResults;
@@ -45,6 +46,19 @@ public class PostStudentProfilePictureActionTest extends BaseActionTest<PostStud
         assertNotNull(resultPictureKey);
         assertNotEquals(resultPictureKey, "");
         assertEquals(resultPictureKey, newPictureKey);
+        assertTrue(doesFileExistInGcs(resultPictureKey));
+        assertTrue(doesFileExistInGcs(GoogleCloudStorageHelper.getThumbnailKey(resultPictureKey)));
+
+        ______TS("Typical case: uploading another picture replaces the old one under a new key");
+
+        String updatedFilePath = "src/test/resources/images/profile_pic_updated.png";
+        action = getActionWithParts("studentprofilephoto", updatedFilePath);
+        output = (StudentProfilePictureResults) getJsonResult(action).getOutput();
+
+        assertNotEquals(resultPictureKey, output.getPictureKey());
+        assertEquals(output.getPictureKey(), logic.getStudentProfile(student1.googleId).pictureKey);
+        assertFalse(doesFileExistInGcs(resultPictureKey));
+        assertFalse(doesFileExistInGcs(GoogleCloudStorageHelper.getThumbnailKey(resultPictureKey)));
 
         ______TS("Typical case: profile picture is null");
 
@@ -120,4 +120,45 @@ public class WebApiServletTest extends BaseTestCaseWithObjectifyAccess {
 
     }
 
+    @Test
+    public void testCachedResponses() throws Exception {
+
+        ______TS("Typical case: response is served with its entity tag");
+
+        setupMocks(HttpGet.METHOD_NAME, Const.ResourceURIs.NATIONALITIES);
+
+        SERVLET.doGet(mockRequest, mockResponse);
+        assertEquals(HttpStatus.SC_OK, mockResponse.getStatus());
+        String eTag = mockResponse.getHeader("ETag");
+        assertNotNull(eTag);
+
+        ______TS("Typical case: browser already has the version of the response");
+
+        setupMocks(HttpGet.METHOD_NAME, Const.ResourceURIs.NATIONALITIES);
+        mockRequest.addHeader("If-None-Match", eTag);
+
+        SERVLET.doGet(mockRequest, mockResponse);
+        assertEquals(HttpStatus.SC_NOT_MODIFIED, mockResponse.getStatus());
+        assertEquals(eTag, mockResponse.getHeader("ETag"));
+
+        ______TS("Typical case: browser has another version of the response");
+
+        setupMocks(HttpGet.METHOD_NAME, Const.ResourceURIs.NATIONALITIES);
+        mockRequest.addHeader("If-None-Match", "W/\"outdated\"");
+
+        SERVLET.doGet(mockRequest, mockResponse);
+        assertEquals(HttpStatus.SC_OK, mockResponse.getStatus());
+        assertEquals(eTag, mockResponse.getHeader("ETag"));
+
+        ______TS("Typical case: response which is not stored is always served");
+
+        setupMocks(HttpGet.METHOD_NAME, Const.ResourceURIs.EXCEPTION);
+        mockRequest.addParam(Const.ParamsNames.ERROR, "NoException");
+        mockRequest.addHeader("If-None-Match", "*");
+
+        SERVLET.doGet(mockRequest, mockResponse);
+        assertEquals(HttpStatus.SC_OK, mockResponse.getStatus());
+        assertNull(mockResponse.getHeader("ETag"));
+    }
+
 }
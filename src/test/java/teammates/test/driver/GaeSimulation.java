@@ -17,6 +17,7 @@ import javax.servlet.http.Part;
 import com.google.appengine.tools.development.testing.LocalDatastoreServiceTestConfig;
 import com.google.appengine.tools.development.testing.LocalLogServiceTestConfig;
 import com.google.appengine.tools.development.testing.LocalMailServiceTestConfig;
+import com.google.appengine.tools.development.testing.LocalMemcacheServiceTestConfig;
 import com.google.appengine.tools.development.testing.LocalModulesServiceTestConfig;
 import com.google.appengine.tools.development.testing.LocalSearchServiceTestConfig;
 import com.google.appengine.tools.development.testing.LocalServiceTestHelper;
@@ -85,8 +86,9 @@ public class GaeSimulation {
             localSearch.setPersistent(false);
             LocalModulesServiceTestConfig localModules = new LocalModulesServiceTestConfig();
             LocalLogServiceTestConfig localLog = new LocalLogServiceTestConfig();
+            LocalMemcacheServiceTestConfig localMemcache = new LocalMemcacheServiceTestConfig();
             helper = new LocalServiceTestHelper(localDatastore, localMail, localUserServices,
-                                                localTasks, localSearch, localModules, localLog);
+                                                localTasks, localSearch, localModules, localLog, localMemcache);
 
             helper.setEnvAttributes(getEnvironmentAttributesWithApplicationHostname());
             helper.setUp();
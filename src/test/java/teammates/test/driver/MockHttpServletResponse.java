@@ -2,7 +2,9 @@ package teammates.test.driver;
 
 import java.io.PrintWriter;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
 
 import javax.servlet.ServletOutputStream;
 import javax.servlet.http.Cookie;
@@ -19,6 +21,7 @@ public class MockHttpServletResponse implements HttpServletResponse {
 
     private int statusCode = HttpStatus.SC_OK;
     private String redirectUrl;
+    private Map<String, String> headers = new HashMap<>();
 
     @Override
     public void addCookie(Cookie cookie) {
@@ -27,7 +30,7 @@ public class MockHttpServletResponse implements HttpServletResponse {
 
     @Override
     public boolean containsHeader(String name) {
-        return false;
+        return headers.containsKey(name);
     }
 
     @Override
@@ -81,7 +84,7 @@ public class MockHttpServletResponse implements HttpServletResponse {
 
     @Override
     public void setHeader(String name, String value) {
-        // not used
+        headers.put(name, value);
     }
 
     @Override
@@ -116,7 +119,7 @@ public class MockHttpServletResponse implements HttpServletResponse {
 
     @Override
     public String getHeader(String s) {
-        return null;
+        return headers.get(s);
     }
 
     @Override
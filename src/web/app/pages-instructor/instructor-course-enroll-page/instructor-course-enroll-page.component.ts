@@ -52,8 +52,14 @@ interface EnrollResultPanel {
   studentList: StudentAttributes[];
 }
 
-interface EnrollResultPanelList {
-  enrollResultPanelList: EnrollResultPanel[];
+interface EnrollmentJobData {
+  jobId: string;
+  courseId: string;
+  numberOfStudents: number;
+  numberOfProcessedStudents: number;
+  isCompleted: boolean;
+  enrollResultPanelList?: EnrollResultPanel[];
+  errorMessages?: { [email: string]: string };
 }
 
 interface StudentListResults {
@@ -75,6 +81,9 @@ export class InstructorCourseEnrollPageComponent implements OnInit {
   coursePresent?: boolean;
   showEnrollResults?: boolean = false;
   statusMessage: StatusMessage[] = [];
+  enrollErrorMessages: { [email: string]: string } = {};
+  isEnrolling: boolean = false;
+  enrollmentProgress: string = '';
 
   @ViewChild('moreInfo') moreInfo?: ElementRef;
   @ContentChild('pasteModalBox') pasteModalBox?: NgbModal;
@@ -97,6 +106,8 @@ export class InstructorCourseEnrollPageComponent implements OnInit {
       'make_read_only',
       'alignment'];
 
+  readonly enrollmentJobPollingInterval: number = 2000;
+
   hotRegisterer: HotTableRegisterer = new HotTableRegisterer();
   newStudentsHOT: string = 'newStudentsHOT';
 
@@ -174,16 +185,13 @@ export class InstructorCourseEnrollPageComponent implements OnInit {
       courseid: this.courseid,
       user: this.user,
     };
+    this.isEnrolling = true;
+    this.enrollmentProgress = '';
     this.httpRequestService.post('/course/enrollSave', paramMap, this.enrollData)
-        .subscribe((resp: EnrollResultPanelList) => {
-          this.showEnrollResults = true;
-          this.statusMessage.pop(); // removes any existing status message
-          this.statusMessage.push({
-            message: 'Enrollment Successful. Summary given below',
-            color: 'success',
-          });
-          this.enrollResultPanelList = resp.enrollResultPanelList;
+        .subscribe((resp: EnrollmentJobData) => {
+          this.handleEnrollmentJob(resp);
         }, (resp: ErrorMessageOutput) => {
+          this.isEnrolling = false;
           this.statusMessage.pop(); // removes any existing status message
           this.statusMessage.push({
             message: resp.error.message,
@@ -192,6 +200,47 @@ export class InstructorCourseEnrollPageComponent implements OnInit {
         });
   }
 
+  /**
+   * Shows the result of the enrollment job if it is completed, otherwise checks on it again after a while.
+   *
+   * The students are enrolled in the background, as the enrollment of a large class can take some time.
+   */
+  handleEnrollmentJob(job: EnrollmentJobData): void {
+    if (!job.isCompleted) {
+      this.enrollmentProgress = `Enrolled ${job.numberOfProcessedStudents} of ${job.numberOfStudents} students...`;
+      setTimeout(() => this.pollEnrollmentJob(job.jobId), this.enrollmentJobPollingInterval);
+      return;
+    }
+
+    this.isEnrolling = false;
+    this.showEnrollResults = true;
+    this.statusMessage.pop(); // removes any existing status message
+    this.statusMessage.push({
+      message: 'Enrollment Successful. Summary given below',
+      color: 'success',
+    });
+    this.enrollResultPanelList = job.enrollResultPanelList;
+    this.enrollErrorMessages = job.errorMessages || {};
+  }
+
+  /**
+   * Gets the progress of the enrollment job.
+   */
+  pollEnrollmentJob(jobId: string): void {
+    const paramMap: { [key: string]: string } = {
+      courseid: this.courseid,
+      enrollmentjobid: jobId,
+      user: this.user,
+    };
+    this.httpRequestService.get('/course/enroll/job', paramMap)
+        .subscribe((resp: EnrollmentJobData) => {
+          this.handleEnrollmentJob(resp);
+        }, (resp: ErrorMessageOutput) => {
+          this.isEnrolling = false;
+          this.statusMessageService.showErrorMessage(resp.error.message);
+        });
+  }
+
   /**
    * Adds new rows to the 'New students' spreadsheet interface
    * according to user input
@@ -78,7 +78,7 @@ export class StudentListComponent implements OnInit {
     if (!pictureKey) {
       return '/assets/images/profile_picture_default.png';
     }
-    return `${this.backendUrl}/webapi/students/profilePic?blob-key=${pictureKey}`;
+    return `${this.backendUrl}/webapi/students/profilePic?blob-key=${pictureKey}&thumbnail=true`;
   }
 
   /**
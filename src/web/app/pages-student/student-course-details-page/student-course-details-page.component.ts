@@ -112,7 +112,7 @@ export class StudentCourseDetailsPageComponent implements OnInit {
     if (!pictureKey) {
       return '/assets/images/profile_picture_default.png';
     }
-    return `${this.backendUrl}/webapi/students/profilePic?blob-key=${pictureKey}`;
+    return `${this.backendUrl}/webapi/students/profilePic?blob-key=${pictureKey}&thumbnail=true`;
   }
 
 }
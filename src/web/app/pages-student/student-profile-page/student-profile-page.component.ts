@@ -58,7 +58,6 @@ export class StudentProfilePageComponent implements OnInit {
 
   profilePicLink!: string;
   pictureKey!: string;
-  currentTime?: number;
 
   private backendUrl: string = environment.backendUrl;
 
@@ -87,8 +86,7 @@ export class StudentProfilePageComponent implements OnInit {
     if (!pictureKey) {
       return '/assets/images/profile_picture_default.png';
     }
-    this.currentTime = (new Date()).getTime(); // forces image reload in HTML template
-    return `${this.backendUrl}/webapi/students/profilePic?blob-key=${pictureKey}&time=${this.currentTime}`;
+    return `${this.backendUrl}/webapi/students/profilePic?blob-key=${pictureKey}`;
   }
 
   /**